@@ -1,13 +1,16 @@
 package com.factoreal.backend.domain.abnormalLog.api;
 
-import com.factoreal.backend.domain.abnormalLog.application.AbnormalLogRepoService;
+import com.factoreal.backend.domain.abnormalLog.application.AbnormalLogExportService;
 import com.factoreal.backend.domain.abnormalLog.application.AbnormalLogService;
 import com.factoreal.backend.domain.abnormalLog.application.ReportMailService;
 import com.factoreal.backend.domain.abnormalLog.application.ReportService;
+import com.factoreal.backend.domain.abnormalLog.application.UnreadAlarmCounter;
 import com.factoreal.backend.domain.abnormalLog.dto.TargetType;
+import com.factoreal.backend.domain.abnormalLog.dto.request.AbnormalLogExportRequest;
 import com.factoreal.backend.domain.abnormalLog.dto.request.AbnormalPagingRequest;
 import com.factoreal.backend.domain.abnormalLog.dto.response.AbnormalLogResponse;
 import com.factoreal.backend.domain.abnormalLog.dto.response.MonthlyGradeSummaryResponse;
+import com.factoreal.backend.domain.abnormalLog.dto.response.ReportMailResultResponse;
 import com.factoreal.backend.domain.abnormalLog.dto.response.reportDetailResponse.PeriodDetailReportResponse;
 import com.factoreal.backend.domain.abnormalLog.dto.response.reportGraphResponse.GraphSummaryResponse;
 import com.factoreal.backend.messaging.sender.WebSocketSender;
@@ -16,9 +19,15 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
 
 @Slf4j
 @RestController
@@ -28,9 +37,10 @@ import org.springframework.web.bind.annotation.*;
 public class AbnormalController {
     private final AbnormalLogService abnormalLogService;
     private final WebSocketSender webSocketSender;
-    private final AbnormalLogRepoService abnormalLogRepoService;
+    private final UnreadAlarmCounter unreadAlarmCounter;
     private final ReportService reportService;
     private final ReportMailService reportMailService;
+    private final AbnormalLogExportService abnormalLogExportService;
 
     // 전체 로그 조회
     @GetMapping
@@ -69,8 +79,7 @@ public class AbnormalController {
     @Operation(summary = "로그 읽음 처리", description = "abnormalId와 일치하는 로그를 읽음 처리합니다.")
     public ResponseEntity<Void> markAlarmAsRead(@PathVariable Long abnormalId) {
         boolean success = abnormalLogService.readCheck(abnormalId);
-        Long count = abnormalLogRepoService.countByIsReadFalse();
-        webSocketSender.sendUnreadCount(count);
+        unreadAlarmCounter.requestPush();
         return success ? ResponseEntity.ok().build() : ResponseEntity.notFound().build();
     }
 
@@ -79,7 +88,7 @@ public class AbnormalController {
     @GetMapping("/unread-count")
     @Operation(summary = "미확인 로그 개수 조회", description = "미확인 로그 개수를 반환합니다. 페이지이 첫 렌더링 시(웹소켓으로 정보를 받기전) 호출합니다.")
     public ResponseEntity<Long> getUnreadAlarmCount() {
-        Long count = abnormalLogRepoService.countByIsReadFalse();
+        long count = unreadAlarmCounter.get();
         webSocketSender.sendUnreadCount(count);
         return ResponseEntity.ok(count);
     }
@@ -106,9 +115,8 @@ public class AbnormalController {
     @Scheduled(cron = "0 0 17 * * *", zone = "Asia/Seoul")
     @GetMapping("/send-report")
     @Operation(summary = "공간 담당자들에게 이상치 리포트를 전송하는 테스트용 api", description = "메일 전송 체크를 위한 api")
-    public ResponseEntity<Void> sendReport() throws Exception {
-        reportMailService.sendMonthlyDetailReports();
-        return ResponseEntity.ok().build();
+    public ResponseEntity<List<ReportMailResultResponse>> sendReport() {
+        return ResponseEntity.ok(reportMailService.sendMonthlyDetailReports());
     }
 
     @GetMapping("/graph-report")
@@ -117,4 +125,21 @@ public class AbnormalController {
         return reportService.buildLast30DaysGraph();
     }
 
+    @GetMapping("/export")
+    @Operation(summary = "이상치 로그 내보내기", description = "기간/공간 조건의 이상치 로그를 CSV 또는 NDJSON 으로 내려받습니다. (gzip 선택)")
+    public ResponseEntity<StreamingResponseBody> export(@ModelAttribute AbnormalLogExportRequest request) {
+        abnormalLogExportService.validate(request);
+        String fileName = abnormalLogExportService.fileName(request);
+        MediaType contentType = request.isGzip()
+                ? MediaType.parseMediaType("application/gzip")
+                : MediaType.parseMediaType(request.getFormat().getContentType() + ";charset=UTF-8");
+
+        StreamingResponseBody body = out -> abnormalLogExportService.export(request, out);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(fileName).build().toString())
+                .contentType(contentType)
+                .body(body);
+    }
+
 }
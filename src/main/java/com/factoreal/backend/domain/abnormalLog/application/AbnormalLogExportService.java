@@ -0,0 +1,264 @@
+package com.factoreal.backend.domain.abnormalLog.application;
+
+import com.factoreal.backend.domain.abnormalLog.dto.ExportFormat;
+import com.factoreal.backend.domain.abnormalLog.dto.request.AbnormalLogExportRequest;
+import com.factoreal.backend.global.exception.dto.BadRequestException;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.opencsv.CSVWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 이상치 로그 내보내기 (CSV / NDJSON)
+ * - 임시 파일이나 리포트 객체 없이 DB 에서 한 행씩 스트리밍(forward-only)으로 읽은 행을 바로 응답 스트림에 기록
+ * - 행마다 객체를 만들지 않도록 CSV 는 셀 배열, NDJSON 은 JsonGenerator 를 재사용
+ * - 대응(제어) 로그, 공간/작업자/설비 이름은 같은 쿼리에서 JOIN 으로 함께 읽음
+ */
+@Slf4j
+@Service
+public class AbnormalLogExportService {
+
+    private static final String SELECT_SQL = """
+            SELECT a.id, a.zone_id, z.zone_name, a.target_type, a.target_id,
+                   COALESCE(w.name, e.equip_name) AS target_name, a.target_detail,
+                   a.detected_at, a.abnormal_type, a.danger_level, a.abn_val,
+                   c.control_type, c.control_val, c.executed_at, c.control_stat
+            FROM abn_log a
+            LEFT JOIN zone_info z ON z.zone_id = a.zone_id
+            LEFT JOIN worker_info w ON a.target_type = 'Worker' AND w.worker_id = a.target_id
+            LEFT JOIN equip_info e ON a.target_type = 'Equip' AND e.equip_id = a.target_id
+            LEFT JOIN control_log c ON c.abnormal_id = a.id
+            WHERE a.detected_at >= ? AND a.detected_at < ?
+            """;
+    private static final String ORDER_BY = " ORDER BY a.detected_at, a.id";
+
+    private static final String[] HEADER = {"로그 ID", "공간Id", "공간 이름", "이상치 유형", "타겟 ID",
+            "작업자/설비 이름", "타겟 상세", "발생 시간", "이상치 내용", "위험 레벨", "이상치 값",
+            "제어 타입", "제어 값", "점검일", "제어여부"};
+    private static final String[] FIELDS = {"id", "zoneId", "zoneName", "targetType", "targetId",
+            "targetName", "targetDetail", "detectedAt", "abnormalType", "dangerLevel", "abnVal",
+            "controlType", "controlVal", "executedAt", "controlStat"};
+    private static final int BUFFER_SIZE = 64 * 1024;
+    // MySQL 드라이버의 행 단위 스트리밍 (URL 의 useCursorFetch 없이 이 쿼리에만 적용)
+    private static final int STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public AbnormalLogExportService(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 요청 검증 (응답 스트림을 열기 전에 호출해 잘못된 요청은 400 으로 응답)
+     */
+    public void validate(AbnormalLogExportRequest request) {
+        if (request.getFrom() == null || request.getTo() == null) {
+            throw new BadRequestException("조회 기간(from, to)을 입력해주세요.");
+        }
+        if (request.getFrom().isAfter(request.getTo())) {
+            throw new BadRequestException("조회 시작일이 종료일보다 늦습니다.");
+        }
+        if (request.getFormat() == null) {
+            request.setFormat(ExportFormat.CSV);
+        }
+    }
+
+    public String fileName(AbnormalLogExportRequest request) {
+        return "abnormal-log_" + request.getFrom() + "_" + request.getTo() + "."
+                + request.getFormat().getExtension() + (request.isGzip() ? ".gz" : "");
+    }
+
+    /**
+     * 조건에 맞는 로그를 out 에 기록 (out 은 호출 측에서 닫음)
+     *
+     * @return 기록한 행 수
+     */
+    public long export(AbnormalLogExportRequest request, OutputStream out) throws IOException {
+        validate(request);
+        LocalDateTime start = request.getFrom().atStartOfDay();
+        LocalDateTime end = request.getTo().plusDays(1).atStartOfDay();
+        List<String> zoneIds = request.getZoneIds() == null ? List.of() : request.getZoneIds();
+
+        GZIPOutputStream gzip = request.isGzip() ? new GZIPOutputStream(out, BUFFER_SIZE) : null;
+        Writer writer = new BufferedWriter(
+                new OutputStreamWriter(gzip != null ? gzip : out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        RowWriter rowWriter = request.getFormat() == ExportFormat.NDJSON
+                ? new NdjsonRowWriter(objectMapper.getFactory().createGenerator(writer))
+                : new CsvRowWriter(new CSVWriter(writer));
+
+        long[] rows = {0};
+        try {
+            rowWriter.begin();
+            query(start, end, zoneIds, rs -> {
+                try {
+                    rowWriter.write(rs);
+                    rows[0]++;
+                } catch (IOException e) {
+                    // 클라이언트 연결 종료 등 → 커서 조회 중단
+                    throw new UncheckedIOException(e);
+                }
+            });
+            rowWriter.end();
+        } catch (UncheckedIOException e) {
+            log.warn("⚠️ 이상치 로그 내보내기 중단: rows={}, {}", rows[0], e.getCause().getMessage());
+            throw e.getCause();
+        }
+        writer.flush();
+        if (gzip != null) {
+            gzip.finish();
+        }
+        log.info("✅ 이상치 로그 내보내기 완료: {} ~ {}, zones={}, format={}, rows={}",
+                request.getFrom(), request.getTo(), zoneIds, request.getFormat(), rows[0]);
+        return rows[0];
+    }
+
+    private void query(LocalDateTime start, LocalDateTime end, List<String> zoneIds, RowCallbackHandler handler) {
+        String sql = zoneIds.isEmpty()
+                ? SELECT_SQL + ORDER_BY
+                : SELECT_SQL + " AND a.zone_id IN (" + String.join(",", Collections.nCopies(zoneIds.size(), "?")) + ")"
+                + ORDER_BY;
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(STREAMING_FETCH_SIZE);
+            ps.setTimestamp(1, Timestamp.valueOf(start));
+            ps.setTimestamp(2, Timestamp.valueOf(end));
+            for (int i = 0; i < zoneIds.size(); i++) {
+                ps.setString(3 + i, zoneIds.get(i));
+            }
+            return ps;
+        }, handler);
+    }
+
+    /* ── 형식별 행 기록 ─────────────────────────── */
+
+    private interface RowWriter {
+        void begin() throws IOException;
+
+        void write(ResultSet rs) throws SQLException, IOException;
+
+        void end() throws IOException;
+    }
+
+    private static String text(ResultSet rs, int column) throws SQLException {
+        return rs.getString(column);
+    }
+
+    private static String time(ResultSet rs, int column) throws SQLException {
+        Timestamp ts = rs.getTimestamp(column);
+        return ts == null ? null : ts.toLocalDateTime().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+    }
+
+    // CSV : 셀 배열 하나를 모든 행에서 재사용
+    private static final class CsvRowWriter implements RowWriter {
+        private final CSVWriter csv;
+        private final String[] cells = new String[FIELDS.length];
+
+        private CsvRowWriter(CSVWriter csv) {
+            this.csv = csv;
+        }
+
+        @Override
+        public void begin() {
+            csv.writeNext(HEADER);
+        }
+
+        @Override
+        public void write(ResultSet rs) throws SQLException, IOException {
+            for (int i = 0; i < cells.length; i++) {
+                String value = (i == 7 || i == 13) ? time(rs, i + 1) : text(rs, i + 1);
+                cells[i] = value == null ? "-" : value;
+            }
+            csv.writeNext(cells);
+            // CSVWriter 는 쓰기 오류를 삼키므로 직접 확인 (checkError 는 매번 flush 하므로 사용하지 않음)
+            if (csv.getException() != null) {
+                throw csv.getException();
+            }
+        }
+
+        @Override
+        public void end() throws IOException {
+            csv.flush();
+        }
+    }
+
+    // NDJSON : 한 줄에 로그 하나, JsonGenerator 로 바로 기록
+    private static final class NdjsonRowWriter implements RowWriter {
+        private final JsonGenerator json;
+
+        private NdjsonRowWriter(JsonGenerator json) {
+            this.json = json;
+            // 응답 스트림은 호출 측에서 닫음, 루트 값 사이 기본 구분자(공백) 대신 줄바꿈만 기록
+            this.json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.json.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void begin() {
+        }
+
+        @Override
+        public void write(ResultSet rs) throws SQLException, IOException {
+            json.writeStartObject();
+            json.writeNumberField(FIELDS[0], rs.getLong(1));
+            for (int i = 1; i < FIELDS.length; i++) {
+                switch (i) {
+                    case 7, 13 -> writeString(FIELDS[i], time(rs, i + 1));
+                    case 9, 14 -> {
+                        int value = rs.getInt(i + 1);
+                        if (rs.wasNull()) {
+                            json.writeNullField(FIELDS[i]);
+                        } else {
+                            json.writeNumberField(FIELDS[i], value);
+                        }
+                    }
+                    case 10, 12 -> {
+                        double value = rs.getDouble(i + 1);
+                        if (rs.wasNull()) {
+                            json.writeNullField(FIELDS[i]);
+                        } else {
+                            json.writeNumberField(FIELDS[i], value);
+                        }
+                    }
+                    default -> writeString(FIELDS[i], text(rs, i + 1));
+                }
+            }
+            json.writeEndObject();
+            json.writeRaw('\n');
+        }
+
+        private void writeString(String field, String value) throws IOException {
+            if (value == null) {
+                json.writeNullField(field);
+            } else {
+                json.writeStringField(field, value);
+            }
+        }
+
+        @Override
+        public void end() throws IOException {
+            json.flush();
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.factoreal.backend.domain.abnormalLog.application;
+
+import com.factoreal.backend.domain.abnormalLog.dto.TargetType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * abn_log_hourly (시간 × 공간 × 대상 유형 × 위험 등급) 집계 테이블 관리
+ * - 로그 저장 시 AbnormalLogWriteBehind 가 같은 트랜잭션 안에서 increment 로 증분 반영
+ * - 기존 로그는 V19 마이그레이션에서 초기 적재, 이후 매일 최근 구간을 abn_log 원본으로 재계산(백필)해 누락/중복 보정
+ * - 리포트(그래프/등급)는 원본 대신 이 테이블을 읽음
+ */
+@Slf4j
+@Component
+public class AbnormalLogHourlyRollup {
+
+    // 공간 정보가 없는 로그의 zone_id (PK 컬럼이라 NULL 대신 사용)
+    private static final String NO_ZONE = "";
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO abn_log_hourly (bucket_hour, zone_id, target_type, danger_level, cnt)
+            VALUES (?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE cnt = cnt + VALUES(cnt)
+            """;
+    private static final String DELETE_RANGE_SQL = """
+            DELETE FROM abn_log_hourly
+            WHERE bucket_hour >= ? AND bucket_hour < ?
+            """;
+    private static final String BACKFILL_SQL = """
+            INSERT INTO abn_log_hourly (bucket_hour, zone_id, target_type, danger_level, cnt)
+            SELECT DATE_FORMAT(detected_at, '%Y-%m-%d %H:00:00'), COALESCE(zone_id, ''), target_type, danger_level, COUNT(*)
+            FROM abn_log
+            WHERE detected_at >= ? AND detected_at < ?
+              AND target_type IS NOT NULL
+              AND danger_level IS NOT NULL
+            GROUP BY DATE_FORMAT(detected_at, '%Y-%m-%d %H:00:00'), COALESCE(zone_id, ''), target_type, danger_level
+            """;
+    private static final String SELECT_SQL = """
+            SELECT h.bucket_hour, h.zone_id, z.zone_name, h.target_type, h.danger_level, h.cnt
+            FROM abn_log_hourly h
+            LEFT JOIN zone_info z ON z.zone_id = h.zone_id
+            WHERE h.bucket_hour >= ? AND h.bucket_hour < ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int backfillDays;
+
+    public AbnormalLogHourlyRollup(JdbcTemplate jdbcTemplate,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${abnormal-log.rollup.backfill-days:3}") int backfillDays) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.backfillDays = backfillDays;
+    }
+
+    /**
+     * 새로 저장된 로그를 집계 테이블에 반영 (호출 측 트랜잭션 안에서 실행)
+     * 같은 버킷의 로그는 묶어서 한 번에 증가시킴
+     */
+    void increment(List<AbnormalLogWriteBehind.AbnormalLogRow> rows) {
+        Map<BucketKey, Long> buckets = new LinkedHashMap<>();
+        for (AbnormalLogWriteBehind.AbnormalLogRow row : rows) {
+            if (row.getDetectedAt() == null || row.getTargetType() == null || row.getDangerLevel() == null) {
+                continue;
+            }
+            LocalDateTime hour = LocalDateTime.parse(row.getDetectedAt()).truncatedTo(ChronoUnit.HOURS);
+            String zoneId = row.getZoneId() == null ? NO_ZONE : row.getZoneId();
+            buckets.merge(new BucketKey(hour, zoneId, row.getTargetType(), row.getDangerLevel()), 1L, Long::sum);
+        }
+        if (buckets.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<BucketKey, Long>> entries = new ArrayList<>(buckets.entrySet());
+        jdbcTemplate.batchUpdate(UPSERT_SQL, entries, entries.size(), (ps, e) -> {
+            ps.setTimestamp(1, Timestamp.valueOf(e.getKey().bucketHour));
+            ps.setString(2, e.getKey().zoneId);
+            ps.setString(3, e.getKey().targetType);
+            ps.setInt(4, e.getKey().dangerLevel);
+            ps.setLong(5, e.getValue());
+        });
+    }
+
+    /**
+     * [from, to) 구간의 집계를 abn_log 원본으로 다시 계산
+     */
+    public void backfill(LocalDateTime from, LocalDateTime to) {
+        LocalDateTime start = from.truncatedTo(ChronoUnit.HOURS);
+        LocalDateTime end = to.truncatedTo(ChronoUnit.HOURS);
+        if (!start.isBefore(end)) {
+            return;
+        }
+        Integer inserted = transactionTemplate.execute(status -> {
+            jdbcTemplate.update(DELETE_RANGE_SQL, Timestamp.valueOf(start), Timestamp.valueOf(end));
+            return jdbcTemplate.update(BACKFILL_SQL, Timestamp.valueOf(start), Timestamp.valueOf(end));
+        });
+        log.info("✅ abn_log_hourly 백필 완료: {} ~ {}, buckets={}", start, end, inserted);
+    }
+
+    /**
+     * 매일 최근 backfill-days 일(현재 시각 이전 구간)을 재계산
+     * 늦게 도착한 로그나 증분 반영 누락을 보정
+     */
+    @Scheduled(cron = "${abnormal-log.rollup.backfill-cron:0 30 3 * * *}", zone = "Asia/Seoul")
+    public void backfillRecent() {
+        LocalDateTime to = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+        try {
+            backfill(to.minusDays(backfillDays), to);
+        } catch (Exception e) {
+            log.error("❌ abn_log_hourly 백필 실패", e);
+        }
+    }
+
+    /**
+     * [from, to) 구간의 시간 단위 집계 조회
+     */
+    public List<HourlyCount> findCounts(LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.query(SELECT_SQL, (rs, rowNum) -> new HourlyCount(
+                        rs.getTimestamp("bucket_hour").toLocalDateTime(),
+                        NO_ZONE.equals(rs.getString("zone_id")) ? null : rs.getString("zone_id"),
+                        rs.getString("zone_name"),
+                        TargetType.valueOf(rs.getString("target_type")),
+                        rs.getInt("danger_level"),
+                        rs.getLong("cnt")),
+                Timestamp.valueOf(from), Timestamp.valueOf(to));
+    }
+
+    /**
+     * 시간 × 공간 × 대상 유형 × 위험 등급 한 칸
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class HourlyCount {
+        private LocalDateTime bucketHour;
+        private String zoneId;
+        private String zoneName;
+        private TargetType targetType;
+        private int dangerLevel;
+        private long count;
+    }
+
+    private record BucketKey(LocalDateTime bucketHour, String zoneId, String targetType, int dangerLevel) {
+    }
+}
@@ -0,0 +1,59 @@
+package com.factoreal.backend.domain.abnormalLog.application;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * abn_log ID 블록 할당기
+ * - abn_log_id_seq.next_val 을 block-size 만큼 올려 [next_val, next_val + block-size) 구간을 선점
+ * - 구간 안에서는 DB 접근 없이 메모리에서 ID 발급
+ * 선점은 호출한 쪽 트랜잭션과 분리(REQUIRES_NEW)하여 바로 커밋하므로 롤백되어도 같은 ID 가 다시 나가지 않음
+ * (사용하지 않은 구간의 ID 는 재기동 시 버려짐)
+ */
+@Slf4j
+@Component
+public class AbnormalLogIdAllocator {
+
+    private static final String SEQUENCE_NAME = "abn_log";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int blockSize;
+
+    private long nextId;
+    private long limit; // 선점 구간의 끝 (미포함)
+
+    public AbnormalLogIdAllocator(JdbcTemplate jdbcTemplate,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${abnormal-log.write-behind.id-block-size:500}") int blockSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.blockSize = blockSize;
+    }
+
+    public synchronized long nextId() {
+        if (nextId >= limit) {
+            reserveBlock();
+        }
+        return nextId++;
+    }
+
+    private void reserveBlock() {
+        Long start = transactionTemplate.execute(status -> {
+            Long current = jdbcTemplate.queryForObject(
+                    "SELECT next_val FROM abn_log_id_seq WHERE name = ? FOR UPDATE", Long.class, SEQUENCE_NAME);
+            jdbcTemplate.update(
+                    "UPDATE abn_log_id_seq SET next_val = ? WHERE name = ?", current + blockSize, SEQUENCE_NAME);
+            return current;
+        });
+        nextId = start;
+        limit = start + blockSize;
+        log.debug("abn_log ID 구간 선점: [{}, {})", nextId, limit);
+    }
+}
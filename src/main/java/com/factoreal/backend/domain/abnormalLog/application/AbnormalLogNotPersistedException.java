@@ -0,0 +1,12 @@
+package com.factoreal.backend.domain.abnormalLog.application;
+
+/**
+ * 참조하려는 AbnormalLog 가 대기 시간 안에 DB 에 저장되지 않은 경우
+ * (DB 지연/장애로 spill 파일에 보관 중이거나 대기 중 인터럽트)
+ * abn_log 를 FK 로 참조하는 notify_log / control_log 는 저장하지 않는다
+ */
+public class AbnormalLogNotPersistedException extends RuntimeException {
+    public AbnormalLogNotPersistedException(Long abnormalLogId) {
+        super("AbnormalLog 가 아직 저장되지 않아 참조할 수 없습니다: id=" + abnormalLogId);
+    }
+}
@@ -6,25 +6,38 @@ import com.factoreal.backend.domain.abnormalLog.entity.AbnormalLog;
 import com.factoreal.backend.domain.zone.entity.Zone;
 import com.factoreal.backend.global.exception.dto.BadRequestException;
 import com.factoreal.backend.global.exception.dto.NotFoundException;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class AbnormalLogRepoService{
 
+    private static final int LATEST_LOG_CHUNK_SIZE = 1000;
+
     private final AbnLogRepository abnLogRepository;
+    private final AbnormalLogWriteBehind abnormalLogWriteBehind;
+    private final UnreadAlarmCounter unreadAlarmCounter;
+    private final LatestAbnormalLogIndex latestAbnormalLogIndex;
+    private final EntityManager entityManager;
 
     public Page<AbnormalLog> findByZone_ZoneIdOrderByDetectedAtDesc(String zoneId, Pageable pageable) {
         return abnLogRepository.findByZone_ZoneIdOrderByDetectedAtDesc(zoneId, pageable);
@@ -70,15 +83,40 @@ public class AbnormalLogRepoService{
                 .toList();
     }
 
+    /**
+     * 신규 로그(id 없음)는 쓰기 지연 파이프라인으로 저장 (ID 즉시 할당, INSERT 는 비동기)
+     * 기존 로그(읽음 처리 등)는 JPA 로 갱신하고, 대상별 최신 로그 인덱스가 이 로그를 가리키면 함께 갱신
+     */
     public AbnormalLog save(AbnormalLog abnormalLog) {
-        return  abnLogRepository.save(abnormalLog);
+        if (abnormalLog.getId() == null) {
+            AbnormalLog saved = abnormalLogWriteBehind.enqueue(abnormalLog);
+            unreadAlarmCounter.increment(Boolean.TRUE.equals(saved.getIsRead()) ? 0 : 1);
+            latestAbnormalLogIndex.update(saved);
+            return saved;
+        }
+        AbnormalLog saved = abnLogRepository.save(abnormalLog);
+        latestAbnormalLogIndex.refresh(saved);
+        return saved;
+    }
+
+    // 신규 로그 일괄 저장 (쓰기 지연 파이프라인)
+    public List<AbnormalLog> saveAll(List<AbnormalLog> abnormalLogs) {
+        List<AbnormalLog> saved = abnormalLogWriteBehind.enqueueAll(abnormalLogs);
+        unreadAlarmCounter.increment((int) saved.stream().filter(abn -> !Boolean.TRUE.equals(abn.getIsRead())).count());
+        saved.forEach(latestAbnormalLogIndex::update);
+        return saved;
     }
 
     public Page<AbnormalLog> findAll(Pageable pageable) {
         return abnLogRepository.findAll(pageable);
     }
 
+    /**
+     * @throws AbnormalLogNotPersistedException 방금 생성되어 아직 INSERT 전인 로그가 대기 시간 안에 저장되지 않은 경우
+     */
     public AbnormalLog findById(Long id) {
+        // 방금 생성되어 아직 INSERT 전인 로그일 수 있으므로 저장 완료를 먼저 기다림
+        abnormalLogWriteBehind.requirePersisted(id);
         return abnLogRepository.findById(id).orElseThrow(() -> new NotFoundException("AbnLog not found"));
     }
 
@@ -93,11 +131,37 @@ public class AbnormalLogRepoService{
     public Optional<AbnormalLog> findFirstByTargetTypeAndTargetIdOrderByDetectedAtDesc(TargetType targetType, String targetId) {
         return abnLogRepository.findFirstByTargetTypeAndTargetIdOrderByDetectedAtDesc(targetType, targetId);
     }
+    /**
+     * 여러 대상의 가장 최근 로그 조회 (IN 목록이 너무 길어지지 않도록 나눠서 조회)
+     */
+    public List<AbnormalLog> findLatestLogsByTargetIds(TargetType targetType, List<String> targetIds) {
+        List<AbnormalLog> result = new ArrayList<>();
+        for (int from = 0; from < targetIds.size(); from += LATEST_LOG_CHUNK_SIZE) {
+            List<String> chunk = targetIds.subList(from, Math.min(from + LATEST_LOG_CHUNK_SIZE, targetIds.size()));
+            result.addAll(abnLogRepository.findLatestLogsByTargetIds(targetType, chunk));
+        }
+        return result;
+    }
+
+    /**
+     * 로그 ID 별 대상 ID 조회 (IN 목록이 너무 길어지지 않도록 나눠서 조회)
+     */
+    public Map<Long, String> findTargetIds(List<Long> abnormalLogIds) {
+        Map<Long, String> result = new HashMap<>();
+        for (int from = 0; from < abnormalLogIds.size(); from += LATEST_LOG_CHUNK_SIZE) {
+            List<Long> chunk = abnormalLogIds.subList(from, Math.min(from + LATEST_LOG_CHUNK_SIZE, abnormalLogIds.size()));
+            abnLogRepository.findTargetIdsByIdIn(chunk)
+                    .forEach(row -> result.put((Long) row[0], (String) row[1]));
+        }
+        return result;
+    }
+
     public Page<AbnormalLog> findAbnormalLogsByTargetTypeAndTargetId(Pageable pageable, TargetType targetType, String targetId) {
         return abnLogRepository.findAbnormalLogsByTargetTypeAndTargetId(targetType, targetId,pageable);
     }
+    // 읽지 않은 로그 개수 (COUNT 쿼리 대신 메모리 카운터)
     public Long countByIsReadFalse(){
-        return abnLogRepository.countByIsReadFalse();
+        return unreadAlarmCounter.get();
     }
 
     /**
@@ -113,7 +177,30 @@ public class AbnormalLogRepoService{
         return abnormalLog.get();
     }
 
+    /**
+     * since 이후 기록된 로그 중 대상별 가장 최근 로그 조회 (상태 스토어 재구성용)
+     */
+    public List<AbnormalLog> findLatestLogsPerTarget(List<TargetType> targetTypes, LocalDateTime since) {
+        return abnLogRepository.findLatestLogsPerTarget(targetTypes, since);
+    }
+
     public List<AbnormalLog> findByDetectedAtBetweenAndDangerLevelIn(LocalDateTime start, LocalDateTime end, List<Integer> integers) {
         return abnLogRepository.findByDetectedAtBetweenAndDangerLevelIn(start, end, integers);
     }
+
+    /**
+     * 기간 내 위험 등급 로그를 한 건씩 전달 (커서 조회, 전달이 끝난 엔티티는 영속성 컨텍스트에서 분리)
+     * 로그 수와 관계없이 메모리에 한 번에 올라가는 로그는 fetch size 이내로 유지됨
+     */
+    @Transactional(readOnly = true)
+    public void streamByDetectedAtBetweenAndDangerLevelIn(LocalDateTime start, LocalDateTime end,
+                                                          List<Integer> dangerLevels,
+                                                          Consumer<AbnormalLog> consumer) {
+        try (Stream<AbnormalLog> logs = abnLogRepository.streamByDetectedAtBetweenAndDangerLevelIn(start, end, dangerLevels)) {
+            logs.forEach(abnormalLog -> {
+                consumer.accept(abnormalLog);
+                entityManager.detach(abnormalLog);
+            });
+        }
+    }
 }
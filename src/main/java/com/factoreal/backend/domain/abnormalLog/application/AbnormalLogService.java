@@ -32,7 +32,6 @@ import org.springframework.web.server.ResponseStatusException;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
 
 @Service
 @Slf4j
@@ -44,6 +43,8 @@ public class AbnormalLogService {
     private final ZoneRepoService zoneRepoService;
     private final InMemoryZoneWorkerStateStore zoneWorkerStateStore;
     private final WorkerRepoService workerRepoService;
+    private final UnreadAlarmCounter unreadAlarmCounter;
+    private final LatestAbnormalLogIndex latestAbnormalLogIndex;
 
     /**
      * 센서 데이터 기반의 알람 로그 생성.
@@ -62,7 +63,7 @@ public class AbnormalLogService {
             RiskLevel riskLevel,
             TargetType targetType
     ) throws Exception {
-        Zone zone = zoneRepoService.findById(sensorKafkaDto.getZoneId());
+        Zone zone = zoneRepoService.findCachedById(sensorKafkaDto.getZoneId());
 
         if (zone == null) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "존재하지 않는 공간 ID: " + sensorKafkaDto.getZoneId());
@@ -105,8 +106,8 @@ public class AbnormalLogService {
             TargetType targetType
     ) {
         // workerId에 해당되는 사람이 제일 최근에 있던 공간 조회
-        Zone zone = zoneRepoService.findById(zoneWorkerStateStore.getZoneId(wearableKafkaDto.getWorkerId()));
-        Worker worker = workerRepoService.findById(wearableKafkaDto.getWorkerId());
+        Zone zone = zoneRepoService.findCachedById(zoneWorkerStateStore.getZoneId(wearableKafkaDto.getWorkerId()));
+        Worker worker = workerRepoService.findCachedById(wearableKafkaDto.getWorkerId());
 
         AbnormalLog abnormalLog = AbnormalLog.builder()
                 .targetId(wearableKafkaDto.getWorkerId())
@@ -145,18 +146,24 @@ public class AbnormalLogService {
     }
 
     public List<AbnormalLogResponse> findLatestAbnormalLogsForTargets(TargetType targetType, List<String> targetIds) {
-        log.info("findLatestAbnormalLogsForTargets 호출 - targetType: {}, targetIds: {}", targetType, targetIds);
-        List<AbnormalLogResponse> responses = targetIds.stream()
-                .map(targetId -> {
-                    Optional<AbnormalLog> latestLog = abnormalLogRepoService.findFirstByTargetTypeAndTargetIdOrderByDetectedAtDesc(targetType, targetId);
-                    log.info("작업자 ID: {} 의 최신 로그: {}", targetId, latestLog.orElse(null));
-                    return latestLog
-                            .map(AbnormalLogResponse::from)
-                            .orElse(null);
-                })
+        List<String> distinctIds = targetIds.stream().distinct().toList();
+
+        // 1. 인덱스에 없는 대상만 DB 에서 한 번에 조회해 적재
+        List<String> missingIds = distinctIds.stream()
+                .filter(targetId -> !latestAbnormalLogIndex.contains(targetType, targetId))
+                .toList();
+        if (!missingIds.isEmpty()) {
+            latestAbnormalLogIndex.load(targetType, missingIds,
+                    abnormalLogRepoService.findLatestLogsByTargetIds(targetType, missingIds));
+        }
+
+        // 2. 인덱스에서 대상별 최신 로그 반환 (로그가 없는 대상은 제외)
+        List<AbnormalLogResponse> responses = distinctIds.stream()
+                .map(targetId -> latestAbnormalLogIndex.get(targetType, targetId))
                 .filter(Objects::nonNull)
                 .toList();
-        log.info("최종 반환되는 응답 목록: {}", responses);
+        log.debug("findLatestAbnormalLogsForTargets - targetType: {}, targets: {}, dbLoaded: {}, found: {}",
+                targetType, distinctIds.size(), missingIds.size(), responses.size());
         return responses;
     }
 
@@ -179,8 +186,12 @@ public class AbnormalLogService {
             return false;
         }
 
+        boolean wasUnread = !Boolean.TRUE.equals(abnormalLog.getIsRead());
         abnormalLog.setIsRead(true);
         abnormalLogRepoService.save(abnormalLog);
+        if (wasUnread) {
+            unreadAlarmCounter.decrement();
+        }
         return true;
     }
 
@@ -207,6 +218,12 @@ public class AbnormalLogService {
         return abnormalLogRepoService.save(abnormalLog);
     }
 
+    // Kafka 배치 처리에서 발생한 이상 로그 일괄 저장
+    @Transactional(rollbackFor = Exception.class,propagation = Propagation.REQUIRED)
+    public List<AbnormalLog> saveAbnormalLogs(List<AbnormalLog> abnormalLogs) {
+        return abnormalLogRepoService.saveAll(abnormalLogs);
+    }
+
     private Pageable getPageable(AbnormalPagingRequest abnormalPagingRequest) {
         return PageRequest.of(
                 abnormalPagingRequest.getPage(),
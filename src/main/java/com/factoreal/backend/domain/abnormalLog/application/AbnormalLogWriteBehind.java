@@ -0,0 +1,493 @@
+package com.factoreal.backend.domain.abnormalLog.application;
+
+import com.factoreal.backend.domain.abnormalLog.entity.AbnormalLog;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * AbnormalLog 쓰기 지연(write-behind) 파이프라인
+ * - enqueue : 블록 할당된 ID 를 바로 부여하고 고정 크기 버퍼에 넣은 뒤 즉시 반환 (알람 전송이 커밋을 기다리지 않음)
+ * - 전용 스레드가 버퍼를 batch-size / flush-interval-ms 단위로 모아 JDBC 배치 INSERT
+ * - 버퍼가 가득 찼거나 DB 저장에 실패하면 로컬 spill 파일(JSON Lines, append-only)에 기록 후 여유가 생기면 재적재
+ * - 배치 저장이 DB 장애(연결 실패·타임아웃 등)가 아닌 이유로 실패하면 한 건씩 다시 저장하고,
+ *   단독으로도 실패하는 행(FK 위반, 잘못된 값 등)은 dead-letter 파일(spill-path + .dead)로 옮기고 실패로 완료
+ *   (잘못된 행 하나 때문에 배치 전체나 spill 재적재가 계속 막히지 않도록)
+ * - 종료 시 버퍼에 남은 로그를 모두 저장 (실패 시 spill 파일에 기록되어 다음 기동 때 재적재)
+ * 배치 INSERT 와 abn_log_hourly 집계 증분은 한 트랜잭션으로 함께 커밋/롤백됨
+ * INSERT 는 ON DUPLICATE KEY 로 멱등 처리되고, spill 재적재 시에는 이미 저장된 ID 를 걸러내 집계가 중복되지 않음
+ * notify_log / control_log 처럼 abn_log 를 참조하는 INSERT 는 requirePersisted 로 먼저 저장을 기다려야 함
+ * flusher 스레드는 빈 초기화가 끝난 뒤(@PostConstruct) 시작
+ */
+@Slf4j
+@Component
+public class AbnormalLogWriteBehind {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO abn_log (id, target_type, target_id, target_detail, abnormal_type, abn_val,
+                                 danger_level, detected_at, zone_id, is_read)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE id = id
+            """;
+    private static final String EXISTING_IDS_SQL = "SELECT id FROM abn_log WHERE id IN (%s)";
+    private static final long REPLAY_RETRY_MS = 5_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final AbnormalLogHourlyRollup hourlyRollup;
+    private final AbnormalLogIdAllocator idAllocator;
+    private final ObjectMapper objectMapper;
+    private final BlockingQueue<AbnormalLogRow> buffer;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final long awaitTimeoutMs;
+    private final Path spillPath;
+    private final Path replayPath;
+    private final Path deadLetterPath;
+    private final Thread flusher;
+
+    // 아직 DB 에 저장되지 않은 로그 ID → 저장 완료 시 완료되는 future
+    private final ConcurrentMap<Long, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+    private volatile boolean running = true;
+    private long nextReplayAt; // flusher 스레드 전용: spill 재적재 실패 시 재시도 시각
+    private final Set<Long> deadLettered = new HashSet<>(); // flusher 스레드 전용: 재적재 재시도 시 중복 기록 방지
+
+    public AbnormalLogWriteBehind(JdbcTemplate jdbcTemplate,
+                                  PlatformTransactionManager transactionManager,
+                                  AbnormalLogHourlyRollup hourlyRollup,
+                                  AbnormalLogIdAllocator idAllocator,
+                                  ObjectMapper objectMapper,
+                                  @Value("${abnormal-log.write-behind.buffer-capacity:10000}") int bufferCapacity,
+                                  @Value("${abnormal-log.write-behind.batch-size:200}") int batchSize,
+                                  @Value("${abnormal-log.write-behind.flush-interval-ms:50}") long flushIntervalMs,
+                                  @Value("${abnormal-log.write-behind.await-timeout-ms:5000}") long awaitTimeoutMs,
+                                  @Value("${abnormal-log.write-behind.spill-path:./data/abn-log-spill.jsonl}") String spillPath) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.hourlyRollup = hourlyRollup;
+        this.idAllocator = idAllocator;
+        this.objectMapper = objectMapper;
+        this.buffer = new ArrayBlockingQueue<>(bufferCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.awaitTimeoutMs = awaitTimeoutMs;
+        this.spillPath = Path.of(spillPath);
+        this.replayPath = Path.of(spillPath + ".replay");
+        this.deadLetterPath = Path.of(spillPath + ".dead");
+        this.flusher = new Thread(this::runFlusher, "abn-log-writer");
+        this.flusher.setDaemon(true);
+    }
+
+    @PostConstruct
+    public void start() {
+        flusher.start();
+    }
+
+    /**
+     * 로그 저장 요청 (ID 를 부여해 즉시 반환, 실제 INSERT 는 비동기)
+     */
+    public AbnormalLog enqueue(AbnormalLog abnormalLog) {
+        if (abnormalLog.getId() == null) {
+            abnormalLog.setId(idAllocator.nextId());
+        }
+        if (abnormalLog.getIsRead() == null) {
+            abnormalLog.setIsRead(false);
+        }
+        if (abnormalLog.getDetectedAt() == null) {
+            abnormalLog.setDetectedAt(LocalDateTime.now());
+        }
+        AbnormalLogRow row = AbnormalLogRow.from(abnormalLog);
+        inFlight.put(row.getId(), new CompletableFuture<>());
+
+        // 종료 중이거나 버퍼가 가득 찬 경우(DB 지연) spill 파일로 보냄
+        if (!running || !buffer.offer(row)) {
+            spill(List.of(row));
+        }
+        return abnormalLog;
+    }
+
+    public List<AbnormalLog> enqueueAll(List<AbnormalLog> abnormalLogs) {
+        abnormalLogs.forEach(this::enqueue);
+        return abnormalLogs;
+    }
+
+    /**
+     * 해당 ID 의 로그가 DB 에 저장될 때까지 대기 (이미 저장됐거나 모르는 ID 면 즉시 반환)
+     *
+     * @return 저장 완료 여부 (대기 시간 초과 시 false)
+     */
+    public boolean awaitPersisted(Long abnormalLogId) {
+        if (abnormalLogId == null) {
+            return true;
+        }
+        CompletableFuture<Void> future = inFlight.get(abnormalLogId);
+        if (future == null) {
+            return true;
+        }
+        try {
+            future.get(awaitTimeoutMs, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException | TimeoutException e) {
+            log.warn("⚠️ AbnormalLog 저장 대기 실패: id={}", abnormalLogId);
+            return false;
+        }
+    }
+
+    /**
+     * 해당 ID 의 로그가 DB 에 저장될 때까지 대기하고, 저장되지 않았으면 예외
+     * (abn_log 를 FK 로 참조하는 INSERT 전에 호출)
+     *
+     * @throws AbnormalLogNotPersistedException 대기 시간 초과·spill·인터럽트로 저장을 확인하지 못한 경우
+     */
+    public void requirePersisted(Long abnormalLogId) {
+        if (!awaitPersisted(abnormalLogId)) {
+            throw new AbnormalLogNotPersistedException(abnormalLogId);
+        }
+    }
+
+    int pendingCount() {
+        return inFlight.size();
+    }
+
+    private void runFlusher() {
+        List<AbnormalLogRow> batch = new ArrayList<>(batchSize);
+        while (running || !buffer.isEmpty()) {
+            try {
+                AbnormalLogRow first = buffer.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    // 한가할 때 spill 파일 재적재
+                    replaySpill();
+                    continue;
+                }
+                batch.add(first);
+                buffer.drainTo(batch, batchSize - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // 배치 INSERT, DB 장애로 실패하면 spill 파일로 보관 (그 외 실패는 한 건씩 재시도)
+    private void flush(List<AbnormalLogRow> rows) {
+        List<AbnormalLogRow> remaining;
+        try {
+            insert(rows, false);
+            return;
+        } catch (Exception e) {
+            if (isTransient(e)) {
+                log.error("❌ AbnormalLog 배치 저장 실패 → spill 파일 기록: count={}", rows.size(), e);
+                remaining = rows;
+            } else {
+                log.warn("⚠️ AbnormalLog 배치 저장 실패 → 한 건씩 재시도: count={}, {}", rows.size(), e.getMessage());
+                remaining = insertOneByOne(rows, false);
+            }
+        }
+        if (!remaining.isEmpty()) {
+            spill(remaining);
+        }
+    }
+
+    /**
+     * 한 건씩 INSERT (단독으로도 실패한 행은 dead-letter 로 보냄)
+     *
+     * @return DB 장애로 저장하지 못해 다시 시도해야 하는 행 (장애가 난 행부터 끝까지)
+     */
+    private List<AbnormalLogRow> insertOneByOne(List<AbnormalLogRow> rows, boolean replay) {
+        for (int i = 0; i < rows.size(); i++) {
+            AbnormalLogRow row = rows.get(i);
+            try {
+                insert(List.of(row), replay);
+            } catch (Exception e) {
+                if (isTransient(e)) {
+                    return rows.subList(i, rows.size());
+                }
+                deadLetter(row, e);
+            }
+        }
+        return List.of();
+    }
+
+    // 연결 실패·타임아웃처럼 다시 시도하면 성공할 수 있는 오류 (행 자체의 문제가 아님)
+    private boolean isTransient(Exception e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException
+                || e instanceof CannotCreateTransactionException;
+    }
+
+    /**
+     * 배치 INSERT + 시간 단위 집계 증분 (한 트랜잭션)
+     *
+     * @param replay spill 재적재 여부 (이미 저장된 행은 INSERT/집계에서 제외)
+     */
+    private void insert(List<AbnormalLogRow> rows, boolean replay) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<AbnormalLogRow> fresh = replay ? excludePersisted(rows) : rows;
+            if (fresh.isEmpty()) {
+                return;
+            }
+            batchInsert(fresh);
+            hourlyRollup.increment(fresh);
+        });
+        rows.forEach(row -> {
+            CompletableFuture<Void> future = inFlight.remove(row.getId());
+            if (future != null) {
+                future.complete(null);
+            }
+        });
+    }
+
+    private List<AbnormalLogRow> excludePersisted(List<AbnormalLogRow> rows) {
+        String placeholders = String.join(",", Collections.nCopies(rows.size(), "?"));
+        Set<Long> persisted = new HashSet<>(jdbcTemplate.queryForList(
+                EXISTING_IDS_SQL.formatted(placeholders), Long.class,
+                rows.stream().map(AbnormalLogRow::getId).toArray()));
+        if (persisted.isEmpty()) {
+            return rows;
+        }
+        return rows.stream().filter(row -> !persisted.contains(row.getId())).toList();
+    }
+
+    private void batchInsert(List<AbnormalLogRow> rows) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setLong(1, row.getId());
+            ps.setString(2, row.getTargetType());
+            ps.setString(3, row.getTargetId());
+            ps.setString(4, row.getTargetDetail());
+            ps.setString(5, row.getAbnormalType());
+            if (row.getAbnVal() == null) {
+                ps.setNull(6, Types.DOUBLE);
+            } else {
+                ps.setDouble(6, row.getAbnVal());
+            }
+            if (row.getDangerLevel() == null) {
+                ps.setNull(7, Types.SMALLINT);
+            } else {
+                ps.setInt(7, row.getDangerLevel());
+            }
+            ps.setTimestamp(8, row.getDetectedAt() == null ? null : Timestamp.valueOf(LocalDateTime.parse(row.getDetectedAt())));
+            ps.setString(9, row.getZoneId());
+            ps.setBoolean(10, Boolean.TRUE.equals(row.getIsRead()));
+        });
+    }
+
+    private synchronized void spill(List<AbnormalLogRow> rows) {
+        try {
+            List<String> lines = new ArrayList<>(rows.size());
+            for (AbnormalLogRow row : rows) {
+                lines.add(objectMapper.writeValueAsString(row));
+            }
+            append(spillPath, lines);
+        } catch (IOException e) {
+            // 마지막 보루까지 실패한 경우: 로그로 남겨 수동 복구할 수 있도록 함
+            log.error("❌ AbnormalLog spill 기록 실패 (유실): ids={}",
+                    rows.stream().map(AbnormalLogRow::getId).toList(), e);
+        }
+    }
+
+    // 단독으로도 저장되지 않는 행 → dead-letter 파일에 보관하고 대기 중인 참조(notify_log 등)는 실패로 완료
+    private void deadLetter(AbnormalLogRow row, Exception cause) {
+        log.error("❌ AbnormalLog 저장 불가 → dead-letter 기록: id={}, {}", row.getId(), cause.getMessage());
+        try {
+            deadLetterLine(objectMapper.writeValueAsString(row));
+        } catch (IOException e) {
+            log.error("❌ AbnormalLog dead-letter 직렬화 실패 (유실): id={}", row.getId(), e);
+        }
+        deadLettered.add(row.getId());
+        CompletableFuture<Void> future = inFlight.remove(row.getId());
+        if (future != null) {
+            future.completeExceptionally(cause);
+        }
+    }
+
+    private void deadLetterLine(String line) {
+        try {
+            append(deadLetterPath, List.of(line));
+        } catch (IOException e) {
+            log.error("❌ AbnormalLog dead-letter 기록 실패 (유실): {}", line, e);
+        }
+    }
+
+    private synchronized void append(Path path, List<String> lines) throws IOException {
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (String line : lines) {
+                writer.write(line);
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * spill 파일을 replay 파일로 옮긴 뒤 배치 단위로 재적재
+     * DB 장애로 도중에 실패하면 replay 파일을 남겨 두고 다음 유휴 시점에 다시 시도
+     * (읽을 수 없는 줄과 단독으로도 저장되지 않는 행은 dead-letter 로 보내고 계속 진행)
+     */
+    private void replaySpill() {
+        if (System.currentTimeMillis() < nextReplayAt) {
+            return;
+        }
+        try {
+            synchronized (this) {
+                if (!Files.exists(replayPath)) {
+                    if (!Files.exists(spillPath)) {
+                        return;
+                    }
+                    Files.move(spillPath, replayPath, StandardCopyOption.ATOMIC_MOVE);
+                }
+            }
+            List<AbnormalLogRow> rows = new ArrayList<>(batchSize);
+            int replayed = 0;
+            try (BufferedReader reader = Files.newBufferedReader(replayPath, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    AbnormalLogRow row;
+                    try {
+                        row = objectMapper.readValue(line, AbnormalLogRow.class);
+                    } catch (IOException e) {
+                        log.error("❌ AbnormalLog spill 줄 파싱 실패 → dead-letter 기록: {}", e.getMessage());
+                        deadLetterLine(line);
+                        continue;
+                    }
+                    if (deadLettered.contains(row.getId())) {
+                        continue;
+                    }
+                    rows.add(row);
+                    if (rows.size() >= batchSize) {
+                        replayBatch(rows);
+                        replayed += rows.size();
+                        rows.clear();
+                    }
+                }
+            }
+            if (!rows.isEmpty()) {
+                replayBatch(rows);
+                replayed += rows.size();
+            }
+            Files.delete(replayPath);
+            deadLettered.clear();
+            log.info("✅ AbnormalLog spill 재적재 완료: count={}", replayed);
+        } catch (Exception e) {
+            nextReplayAt = System.currentTimeMillis() + REPLAY_RETRY_MS;
+            log.warn("⚠️ AbnormalLog spill 재적재 실패 ({}ms 후 재시도): {}", REPLAY_RETRY_MS, e.getMessage());
+        }
+    }
+
+    // 재적재 배치 저장 (DB 장애면 예외를 던져 replay 파일을 남김)
+    private void replayBatch(List<AbnormalLogRow> rows) {
+        try {
+            insert(rows, true);
+        } catch (Exception e) {
+            if (isTransient(e)) {
+                throw e;
+            }
+            if (!insertOneByOne(rows, true).isEmpty()) {
+                throw new IllegalStateException("AbnormalLog 재적재 중 DB 장애");
+            }
+        }
+    }
+
+    /**
+     * 종료 시 버퍼에 남은 로그 저장 (제한 시간 안에 끝나지 않으면 spill 파일로 보관)
+     */
+    @PreDestroy
+    public void shutdown() {
+        // 플래그만 내리고 flusher 가 남은 버퍼를 비울 때까지 대기 (INSERT 도중 인터럽트하지 않음)
+        running = false;
+        try {
+            flusher.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        List<AbnormalLogRow> remaining = new ArrayList<>();
+        buffer.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            log.warn("⚠️ 종료 시 저장하지 못한 AbnormalLog spill 파일 기록: count={}", remaining.size());
+            spill(remaining);
+        }
+    }
+
+    /**
+     * abn_log INSERT 한 행 (spill 파일 직렬화 형식 겸용)
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class AbnormalLogRow {
+        private Long id;
+        private String targetType;
+        private String targetId;
+        private String targetDetail;
+        private String abnormalType;
+        private Double abnVal;
+        private Integer dangerLevel;
+        private String detectedAt;
+        private String zoneId;
+        private Boolean isRead;
+
+        static AbnormalLogRow from(AbnormalLog abnormalLog) {
+            return new AbnormalLogRow(
+                    abnormalLog.getId(),
+                    abnormalLog.getTargetType() == null ? null : abnormalLog.getTargetType().name(),
+                    abnormalLog.getTargetId(),
+                    abnormalLog.getTargetDetail(),
+                    abnormalLog.getAbnormalType(),
+                    abnormalLog.getAbnVal(),
+                    abnormalLog.getDangerLevel(),
+                    abnormalLog.getDetectedAt() == null ? null : abnormalLog.getDetectedAt().toString(),
+                    abnormalLog.getZone() == null ? null : abnormalLog.getZone().getZoneId(),
+                    abnormalLog.getIsRead());
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.factoreal.backend.domain.abnormalLog.application;
+
+import com.factoreal.backend.domain.abnormalLog.dto.TargetType;
+import com.factoreal.backend.domain.abnormalLog.dto.response.AbnormalLogResponse;
+import com.factoreal.backend.domain.abnormalLog.entity.AbnormalLog;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 대상(targetType, targetId)별 가장 최근 AbnormalLog 인덱스
+ * - 신규 로그 저장 시 update 로 갱신 (더 최근 로그만 반영)
+ * - 기존 로그 수정(읽음 처리 등) 시 refresh 로 같은 로그를 가리키는 항목만 교체
+ * - 처음 조회되는 대상은 DB 에서 한 번에 읽어 load 로 채움 (로그가 없는 대상도 "없음"으로 기억)
+ */
+@Component
+public class LatestAbnormalLogIndex {
+
+    // 로그가 없는 대상 표시용
+    private static final AbnormalLogResponse ABSENT = AbnormalLogResponse.builder().build();
+
+    private final ConcurrentMap<String, AbnormalLogResponse> latest = new ConcurrentHashMap<>();
+
+    public boolean contains(TargetType targetType, String targetId) {
+        return latest.containsKey(key(targetType, targetId));
+    }
+
+    /**
+     * 대상의 최신 로그 (로그가 없거나 아직 적재되지 않은 대상이면 null)
+     */
+    public AbnormalLogResponse get(TargetType targetType, String targetId) {
+        AbnormalLogResponse response = latest.get(key(targetType, targetId));
+        return response == ABSENT ? null : response;
+    }
+
+    // 신규 로그 반영
+    public void update(AbnormalLog abnormalLog) {
+        if (abnormalLog.getTargetType() == null || abnormalLog.getTargetId() == null) {
+            return;
+        }
+        AbnormalLogResponse response = AbnormalLogResponse.from(abnormalLog);
+        latest.merge(key(abnormalLog.getTargetType(), abnormalLog.getTargetId()), response,
+                (prev, next) -> isNewer(next, prev) ? next : prev);
+    }
+
+    /**
+     * 기존 로그 수정 반영
+     * 대상의 최신 로그가 바로 이 로그일 때만 교체 (더 최근 로그가 있거나 아직 적재되지 않은 대상은 그대로 둠)
+     */
+    public void refresh(AbnormalLog abnormalLog) {
+        if (abnormalLog.getId() == null || abnormalLog.getTargetType() == null || abnormalLog.getTargetId() == null) {
+            return;
+        }
+        latest.computeIfPresent(key(abnormalLog.getTargetType(), abnormalLog.getTargetId()),
+                (k, prev) -> abnormalLog.getId().equals(prev.getId()) ? AbnormalLogResponse.from(abnormalLog) : prev);
+    }
+
+    /**
+     * DB 에서 읽은 대상별 최신 로그 적재
+     * 조회 도중 update 로 더 최근 로그가 들어왔다면 그 값을 유지
+     *
+     * @param targetIds  조회한 대상 ID (로그가 없으면 "없음"으로 기록)
+     * @param latestLogs 대상별 최신 로그
+     */
+    public void load(TargetType targetType, Collection<String> targetIds, Collection<AbnormalLog> latestLogs) {
+        latestLogs.forEach(this::update);
+        targetIds.forEach(targetId -> latest.putIfAbsent(key(targetType, targetId), ABSENT));
+    }
+
+    private static boolean isNewer(AbnormalLogResponse next, AbnormalLogResponse prev) {
+        if (prev == ABSENT || prev.getDetectedAt() == null) {
+            return true;
+        }
+        if (next.getDetectedAt() == null) {
+            return false;
+        }
+        int compare = next.getDetectedAt().compareTo(prev.getDetectedAt());
+        if (compare != 0) {
+            return compare > 0;
+        }
+        // 같은 시각이면 나중에 발급된 ID 우선
+        return next.getId() != null && (prev.getId() == null || next.getId() >= prev.getId());
+    }
+
+    private static String key(TargetType targetType, String targetId) {
+        return targetType.name() + ':' + targetId;
+    }
+}
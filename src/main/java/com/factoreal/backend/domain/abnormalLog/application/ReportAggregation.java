@@ -0,0 +1,265 @@
+package com.factoreal.backend.domain.abnormalLog.application;
+
+import com.factoreal.backend.domain.abnormalLog.dto.TargetType;
+import com.factoreal.backend.domain.abnormalLog.dto.response.reportDetailResponse.AbnDetailResponse;
+import com.factoreal.backend.domain.abnormalLog.dto.response.reportDetailResponse.EquipBlockResponse;
+import com.factoreal.backend.domain.abnormalLog.dto.response.reportDetailResponse.WorkerBlockResponse;
+import com.factoreal.backend.domain.abnormalLog.dto.response.reportDetailResponse.ZoneBlockResponse;
+import com.factoreal.backend.domain.abnormalLog.dto.response.reportGraphResponse.BarResponse;
+import com.factoreal.backend.domain.abnormalLog.entity.AbnormalLog;
+import com.factoreal.backend.domain.worker.entity.Worker;
+import com.factoreal.backend.domain.zone.dto.response.ZoneDetailResponse;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 기간 리포트 단일 패스 집계기
+ * - 로그를 한 건씩 accept 로 받아 상세(공간/설비/작업자 블록), 그래프(유형/날짜/공간), 등급(유형×등급 건수)을 함께 누적
+ * - 그래프/등급만 필요하면 abn_log_hourly 집계 행을 add 로 누적
+ * - 건수는 유형 ordinal × 위험 등급, 기간 시작일 기준 일(day) 오프셋 배열에 누적하므로 로그 수와 관계없이 크기가 고정됨
+ * - 상세 목록이 필요 없는 경우(detail == null) 로그별 객체를 만들지 않음
+ */
+final class ReportAggregation {
+
+    private static final TargetType[] TYPES = TargetType.values();
+    private static final int LEVELS = 3; // 0(INFO), 1(WARNING), 2(CRITICAL)
+
+    private final LocalDate startDay;
+    private final long[][] typeLevelCounts = new long[TYPES.length][LEVELS];
+    private final long[] dayCounts;
+    // 조회 기간 밖의 로그(경계값 등)는 별도로 집계
+    private final Map<LocalDate, Long> outOfRangeDays = new TreeMap<>();
+    private final Map<String, ZoneAccumulator> zones = new HashMap<>();
+    private final Set<String> workerIds = new LinkedHashSet<>();
+    private long totalCount;
+
+    ReportAggregation(LocalDate startDay, LocalDate endDay) {
+        this.startDay = startDay;
+        this.dayCounts = new long[(int) ChronoUnit.DAYS.between(startDay, endDay) + 1];
+    }
+
+    /**
+     * 로그 한 건 누적
+     *
+     * @param detail 상세 리포트용 변환 결과 (상세가 필요 없으면 null)
+     */
+    void accept(AbnormalLog log, AbnDetailResponse detail) {
+        Integer level = log.getDangerLevel();
+        TargetType type = log.getTargetType();
+        if (level == null || type == null) {
+            return;
+        }
+        LocalDate day = log.getDetectedAt() == null ? null : log.getDetectedAt().toLocalDate();
+        String zoneId = log.getZone() == null ? null : log.getZone().getZoneId();
+        String zoneName = log.getZone() == null ? null : log.getZone().getZoneName();
+        ZoneAccumulator zone = accumulate(day, zoneId, zoneName, type, level, 1);
+        if (zone == null) {
+            return;
+        }
+        if (type == TargetType.Worker) {
+            workerIds.add(log.getTargetId());
+        }
+        if (detail != null) {
+            zone.add(type, log.getTargetId(), detail);
+        }
+    }
+
+    /**
+     * 미리 집계된 건수 누적 (abn_log_hourly 한 칸)
+     * 그래프/등급용 건수만 반영하며 상세 목록과 작업자 목록은 채우지 않음
+     */
+    void add(LocalDate day, String zoneId, String zoneName, TargetType type, int level, long count) {
+        accumulate(day, zoneId, zoneName, type, level, count);
+    }
+
+    // 건수 누적 후 해당 공간 누적 결과 반환 (공간 정보가 없거나 유효하지 않은 등급이면 null)
+    private ZoneAccumulator accumulate(LocalDate day, String zoneId, String zoneName,
+                                       TargetType type, int level, long count) {
+        if (level < 0 || level >= LEVELS || count <= 0) {
+            return null;
+        }
+        totalCount += count;
+        typeLevelCounts[type.ordinal()][level] += count;
+
+        if (day != null) {
+            long offset = ChronoUnit.DAYS.between(startDay, day);
+            if (offset >= 0 && offset < dayCounts.length) {
+                dayCounts[(int) offset] += count;
+            } else {
+                outOfRangeDays.merge(day, count, Long::sum);
+            }
+        }
+
+        if (zoneId == null) {
+            return null;
+        }
+        ZoneAccumulator zone = zones.computeIfAbsent(zoneId, id -> new ZoneAccumulator(zoneName));
+        zone.count += count;
+        return zone;
+    }
+
+    long count(TargetType type, int dangerLevel) {
+        return typeLevelCounts[type.ordinal()][dangerLevel];
+    }
+
+    long levelCount(int dangerLevel) {
+        long sum = 0;
+        for (long[] levels : typeLevelCounts) {
+            sum += levels[dangerLevel];
+        }
+        return sum;
+    }
+
+    long totalCount() {
+        return totalCount;
+    }
+
+    // 상세 리포트의 작업자 정보 조회 대상
+    List<String> workerIds() {
+        return new ArrayList<>(workerIds);
+    }
+
+    /* ── 그래프 ─────────────────────────────── */
+
+    // TargetType 별 건수 (항상 3종, 건수 내림차순)
+    List<BarResponse> typeStats() {
+        return Arrays.stream(TYPES)
+                .map(tp -> {
+                    long cnt = 0;
+                    for (long c : typeLevelCounts[tp.ordinal()]) {
+                        cnt += c;
+                    }
+                    return new BarResponse(tp.name(), cnt);
+                })
+                .sorted(Comparator.comparingLong(BarResponse::getCnt).reversed())
+                .toList();
+    }
+
+    // 날짜(월-일) 별 건수 (로그가 있는 날만, 날짜 오름차순)
+    List<BarResponse> dateStats() {
+        Map<LocalDate, Long> byDay = new TreeMap<>(outOfRangeDays);
+        for (int i = 0; i < dayCounts.length; i++) {
+            if (dayCounts[i] > 0) {
+                byDay.merge(startDay.plusDays(i), dayCounts[i], Long::sum);
+            }
+        }
+        DateTimeFormatter mmdd = DateTimeFormatter.ofPattern("MM-dd");
+        return byDay.entrySet().stream()
+                .map(e -> new BarResponse(mmdd.format(e.getKey()), e.getValue()))
+                .toList();
+    }
+
+    // 공간(이름) 별 건수 (건수 내림차순)
+    List<BarResponse> zoneStats() {
+        Map<String, Long> byName = new LinkedHashMap<>();
+        zones.values().forEach(z -> byName.merge(z.zoneName, z.count, Long::sum));
+        return byName.entrySet().stream()
+                .map(e -> new BarResponse(e.getKey(), e.getValue()))
+                .sorted(Comparator.comparingLong(BarResponse::getCnt).reversed())
+                .toList();
+    }
+
+    /* ── 상세 ───────────────────────────────── */
+
+    ZoneBlockResponse zoneBlock(ZoneDetailResponse zm, Map<String, Worker> workerMap) {
+        ZoneAccumulator zone = zones.getOrDefault(zm.getZoneId(), ZoneAccumulator.EMPTY);
+
+        // ① 환경
+        List<AbnDetailResponse> envAbn = sorted(zone.env);
+
+        // ② 작업자
+        List<AbnDetailResponse> workerAbn = List.copyOf(zone.worker);
+
+        // ③ 설비별 (공간에 등록된 설비 기준)
+        List<EquipBlockResponse> equipBlockResponses = zm.getEquipList().stream()
+                .map(em -> {
+                    List<AbnDetailResponse> fac = sorted(zone.byEquip.getOrDefault(em.getEquipId(), List.of()));
+                    return EquipBlockResponse.builder()
+                            .equipId(em.getEquipId())
+                            .equipName(em.getEquipName())
+                            .facCnt(fac.size())
+                            .facAbnormals(fac)
+                            .build();
+                })
+                .toList();
+
+        // ④ 작업자별
+        List<WorkerBlockResponse> workerBlockResponses = zone.byWorker.entrySet().stream()
+                .map(e -> {
+                    String wid = e.getKey();
+                    Worker w = workerMap.get(wid);        // null possible
+                    List<AbnDetailResponse> workerDetails = sorted(e.getValue());
+                    return WorkerBlockResponse.builder()
+                            .workerId(wid)
+                            .name(w != null ? w.getName() : null)
+                            .phone(w != null ? w.getPhoneNumber() : null)
+                            .workerCnt(workerDetails.size())
+                            .workerAbnormals(workerDetails)
+                            .build();
+                })
+                .toList();
+
+        int envCnt = envAbn.size();
+        int workerCnt = workerAbn.size();
+        int facCnt = equipBlockResponses.stream().mapToInt(EquipBlockResponse::getFacCnt).sum();
+
+        return ZoneBlockResponse.builder()
+                .zoneId(zm.getZoneId())
+                .zoneName(zm.getZoneName())
+                .envCnt(envCnt)
+                .workerCnt(workerCnt)
+                .facCnt(facCnt)
+                .totalCnt(envCnt + workerCnt + facCnt)
+                .envAbnormals(envAbn)
+                .workers(workerBlockResponses)
+                .equips(equipBlockResponses)
+                .build();
+    }
+
+    // 로그가 시간순으로 들어오면 이미 정렬된 상태이므로 안정 정렬 비용이 거의 없음
+    private static List<AbnDetailResponse> sorted(List<AbnDetailResponse> details) {
+        List<AbnDetailResponse> copy = new ArrayList<>(details);
+        copy.sort(Comparator.comparing(AbnDetailResponse::getDetectedAt,
+                Comparator.nullsFirst(Comparator.naturalOrder())));
+        return copy;
+    }
+
+    // 공간 하나의 누적 결과
+    private static final class ZoneAccumulator {
+        private static final ZoneAccumulator EMPTY = new ZoneAccumulator(null);
+
+        private final String zoneName;
+        private long count;
+        private final List<AbnDetailResponse> env = new ArrayList<>();
+        private final List<AbnDetailResponse> worker = new ArrayList<>();
+        private final Map<String, List<AbnDetailResponse>> byEquip = new HashMap<>();
+        private final Map<String, List<AbnDetailResponse>> byWorker = new LinkedHashMap<>();
+
+        private ZoneAccumulator(String zoneName) {
+            this.zoneName = zoneName;
+        }
+
+        private void add(TargetType type, String targetId, AbnDetailResponse detail) {
+            switch (type) {
+                case Sensor -> env.add(detail);
+                case Worker -> {
+                    worker.add(detail);
+                    byWorker.computeIfAbsent(targetId, k -> new ArrayList<>()).add(detail);
+                }
+                case Equip -> byEquip.computeIfAbsent(targetId, k -> new ArrayList<>()).add(detail);
+            }
+        }
+    }
+}
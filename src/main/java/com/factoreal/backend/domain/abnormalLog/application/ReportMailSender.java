@@ -0,0 +1,129 @@
+package com.factoreal.backend.domain.abnormalLog.application;
+
+import com.factoreal.backend.domain.abnormalLog.dto.response.ReportMailResultResponse;
+import com.factoreal.backend.domain.abnormalLog.dto.response.ReportMailResultResponse.Status;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessagePreparator;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 리포트 메일 발송기
+ * - 최대 concurrency 개의 메일을 동시에 발송 (SMTP 연결 수 제한)
+ * - 전송 실패(MailSendException)는 retry-backoff-ms 부터 2배씩 늘려가며 max-attempts 까지 재시도
+ * - 인증/메시지 작성 오류처럼 재시도해도 같은 결과인 오류는 바로 실패 처리
+ * - 결과는 공간별 ReportMailResultResponse 로 반환 (예외를 던지지 않음)
+ */
+@Slf4j
+@Component
+public class ReportMailSender {
+
+    private final JavaMailSender mailSender;
+    private final int maxAttempts;
+    private final long retryBackoffMs;
+    private final ExecutorService executor;
+
+    public ReportMailSender(JavaMailSender mailSender,
+                            @Value("${report-mail.concurrency:4}") int concurrency,
+                            @Value("${report-mail.max-attempts:3}") int maxAttempts,
+                            @Value("${report-mail.retry-backoff-ms:1000}") long retryBackoffMs) {
+        this.mailSender = mailSender;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBackoffMs = retryBackoffMs;
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Math.max(1, concurrency), r -> {
+            Thread t = new Thread(r, "report-mail-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * 메일 발송 요청
+     *
+     * @param preparator 메시지 작성 (재시도마다 새 메시지에 다시 작성됨)
+     */
+    public CompletableFuture<ReportMailResultResponse> send(String zoneId, String zoneName, String recipient,
+                                                            MimeMessagePreparator preparator) {
+        return CompletableFuture.supplyAsync(() -> deliver(zoneId, zoneName, recipient, preparator), executor);
+    }
+
+    /**
+     * 리포트 발송 작업용 executor (report-mail-* 스레드, 메일 작성 전 CSV 생성 등에 사용)
+     */
+    Executor executor() {
+        return executor;
+    }
+
+    private ReportMailResultResponse deliver(String zoneId, String zoneName, String recipient,
+                                             MimeMessagePreparator preparator) {
+        MailException last = null;
+        int attempt = 0;
+        while (attempt < maxAttempts) {
+            attempt++;
+            try {
+                mailSender.send(preparator);
+                log.info("[{}] 리포트 메일 발송 완료 → {} (시도 {}회)", zoneName, recipient, attempt);
+                return result(zoneId, zoneName, recipient, Status.SENT, attempt, null);
+            } catch (MailSendException e) {
+                last = e;
+                log.warn("⚠️ [{}] 리포트 메일 발송 실패 ({}/{}): {}", zoneName, attempt, maxAttempts, e.getMessage());
+                if (attempt < maxAttempts && !backoff(attempt)) {
+                    break;
+                }
+            } catch (MailException e) {
+                last = e;
+                break;
+            }
+        }
+        log.error("❌ [{}] 리포트 메일 발송 실패 → {}", zoneName, recipient, last);
+        return result(zoneId, zoneName, recipient, Status.FAILED, attempt, last == null ? null : last.getMessage());
+    }
+
+    // 재시도 대기 (인터럽트되면 false)
+    private boolean backoff(int attempt) {
+        try {
+            Thread.sleep(retryBackoffMs * (1L << (attempt - 1)));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static ReportMailResultResponse result(String zoneId, String zoneName, String recipient,
+                                                   Status status, int attempts, String error) {
+        return ReportMailResultResponse.builder()
+                .zoneId(zoneId)
+                .zoneName(zoneName)
+                .recipient(recipient)
+                .status(status)
+                .attempts(attempts)
+                .error(error)
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,9 +1,10 @@
 package com.factoreal.backend.domain.abnormalLog.application;
 
+import com.factoreal.backend.domain.abnormalLog.dto.response.ReportMailResultResponse;
+import com.factoreal.backend.domain.abnormalLog.dto.response.ReportMailResultResponse.Status;
 import com.factoreal.backend.domain.abnormalLog.dto.response.reportDetailResponse.AbnDetailResponse;
 import com.factoreal.backend.domain.abnormalLog.dto.response.reportDetailResponse.PeriodDetailReportResponse;
-import com.factoreal.backend.domain.controlLog.entity.ControlLog;
-import com.factoreal.backend.domain.controlLog.application.ControlLogRepoService;
+import com.factoreal.backend.domain.abnormalLog.dto.response.reportDetailResponse.ZoneBlockResponse;
 import com.factoreal.backend.domain.worker.application.WorkerService;
 import com.factoreal.backend.domain.worker.dto.response.WorkerInfoResponse;
 import com.factoreal.backend.domain.zone.application.ZoneRepoService;
@@ -11,19 +12,22 @@ import com.factoreal.backend.domain.zone.entity.Zone;
 import com.factoreal.backend.global.fileUtil.CsvUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ByteArrayResource;
 import org.springframework.http.HttpStatus;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.format.TextStyle;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -36,64 +40,104 @@ public class ReportMailService {
     private final ReportService reportService;
     private final CsvUtil csvUtil;
     //    private final Html2PdfUtil pdfUtil;
-    private final JavaMailSender mailSender;
-    private final ControlLogRepoService controlLogRepoService;
-
+    private final ReportMailSender reportMailSender;
+    private final AbnormalLogRepoService abnormalLogRepoService;
+
+    /**
+     * 공간 담당자들에게 지난달 이상치 리포트 발송
+     * - 리포트는 한 번만 계산해 공간별로 나눠 사용
+     * - 공간별 CSV 생성과 메일 발송은 병렬로 진행 (둘 다 ReportMailSender 의 executor 에서 실행, 발송 동시성/재시도는 ReportMailSender 가 관리)
+     *
+     * @return 공간별 발송 결과
+     */
 //    @Scheduled(cron = "0 30 2 1 * *")   // ← 실운영용
-public void sendMonthlyDetailReports() throws Exception {
+    public List<ReportMailResultResponse> sendMonthlyDetailReports() {
 
         // 전체 존 목록 추출
         List<Zone> zones = zoneRepoService.findAll();
 
-        boolean hasManager = false;
+        List<ReportMailResultResponse> skipped = new ArrayList<>();
+        Map<Zone, WorkerInfoResponse> recipients = new LinkedHashMap<>();
 
         for (Zone zone : zones) {
-            String zoneId = zone.getZoneId();
-            String zoneName = zone.getZoneName();
-
             // 공간의 매니저 탐색 후
-            WorkerInfoResponse manager = workerService.getZoneManager(zoneId);
+            WorkerInfoResponse manager = workerService.getZoneManager(zone.getZoneId());
 
             // 담당자가 없거나 메일이 없으면 skip
             if (manager == null || manager.getEmail() == null || manager.getEmail().isBlank()) {
-                log.info("[{}] 담당자 없음 → 메일 발송 생략", zoneName);
+                log.info("[{}] 담당자 없음 → 메일 발송 생략", zone.getZoneName());
+                skipped.add(ReportMailResultResponse.builder()
+                        .zoneId(zone.getZoneId())
+                        .zoneName(zone.getZoneName())
+                        .status(Status.SKIPPED)
+                        .build());
                 continue;
             }
+            recipients.put(zone, manager);
+        }
 
-            hasManager = true;
-
-            // for문으로 공간마다 한명인 매니저를 탐색하므로 List of를 사용함
-            List<String> managerEmail = List.of(manager.getEmail());
-
-
-
-            /* ── 1. 상세 API → CSV ───────────────────────────── */
-            PeriodDetailReportResponse detail = reportService.buildLastMonthReport(/* …필요파라미터… */);
-
-            List<Long> abnIds = detail.getZones().stream()
-                    .flatMap(z -> Stream.concat(
-                            z.getEnvAbnormals().stream(),
-                            Stream.concat(
-                                    z.getWorkers().stream().flatMap(w -> w.getWorkerAbnormals().stream()),
-                                    z.getEquips().stream().flatMap(e -> e.getFacAbnormals().stream())
-                            )
-                    ))
-                    .map(AbnDetailResponse::getAbnormalId)
-                    .collect(Collectors.toList());
-
-            Map<Long, ControlLog> ctlMap = controlLogRepoService.getControlLogs(abnIds);
-            Path csv = csvUtil.writeReportAsCsv(detail, ctlMap);
+        // 모든 Zone 에서 한 번도 메일을 못 보냈다면 404
+        if (recipients.isEmpty()) {
+            throw new ResponseStatusException(
+                    HttpStatus.NOT_FOUND, "모든 공간에 담당자가 존재하지 않습니다.");
+        }
 
-            LocalDate now = LocalDate.now();
-            String prevMonthStr = now.minusMonths(1)
-                    .getMonth()
-                    .getDisplayName(TextStyle.FULL, Locale.KOREAN);
+        /* ── 1. 상세 리포트 1회 계산 → 공간별 분할 ─────────────── */
+        PeriodDetailReportResponse detail = reportService.buildLastMonthReport();
+        Map<String, ZoneBlockResponse> blocks = detail.getZones().stream()
+                .collect(Collectors.toMap(ZoneBlockResponse::getZoneId, Function.identity(), (a, b) -> a));
+
+        // CSV 의 대상 ID 는 발송 대상 공간의 로그만 한 번에 조회
+        List<Long> abnIds = recipients.keySet().stream()
+                .map(zone -> blocks.get(zone.getZoneId()))
+                .filter(block -> block != null)
+                .flatMap(ReportMailService::abnormals)
+                .map(AbnDetailResponse::getAbnormalId)
+                .toList();
+        Map<Long, String> targetIds = abnormalLogRepoService.findTargetIds(abnIds);
+
+        String prevMonthStr = LocalDate.now().minusMonths(1)
+                .getMonth()
+                .getDisplayName(TextStyle.FULL, Locale.KOREAN);
+
+        /* ── 2. 공간별 CSV 생성 → 메일 발송 (병렬) ─────────────── */
+        List<CompletableFuture<ReportMailResultResponse>> futures = recipients.entrySet().stream()
+                .map(e -> {
+                    Zone zone = e.getKey();
+                    WorkerInfoResponse manager = e.getValue();
+                    ZoneBlockResponse block = blocks.getOrDefault(zone.getZoneId(), emptyBlock(zone));
+                    return CompletableFuture
+                            .supplyAsync(() -> csvUtil.writeZoneReportCsv(block, targetIds), reportMailSender.executor())
+                            .thenCompose(csv -> send(zone, manager, prevMonthStr, csv))
+                            .exceptionally(ex -> ReportMailResultResponse.builder()
+                                    .zoneId(zone.getZoneId())
+                                    .zoneName(zone.getZoneName())
+                                    .recipient(manager.getEmail())
+                                    .status(Status.FAILED)
+                                    .error(ex.getMessage())
+                                    .build());
+                })
+                .toList();
+
+        List<ReportMailResultResponse> results = new ArrayList<>(futures.stream()
+                .map(CompletableFuture::join)
+                .toList());
+        results.addAll(skipped);
+
+        Map<Status, Long> summary = results.stream()
+                .collect(Collectors.groupingBy(ReportMailResultResponse::getStatus, Collectors.counting()));
+        log.info("✅ 월간 리포트 메일 발송 결과: {}", summary);
+        return results;
+    }
 
-            /* ── 3. 메일 발송 ──────────────────────────────── */
-            MimeMessageHelper helper =
-                    new MimeMessageHelper(mailSender.createMimeMessage(), true, "UTF-8");
+    private CompletableFuture<ReportMailResultResponse> send(Zone zone, WorkerInfoResponse manager,
+                                                             String prevMonthStr, byte[] csv) {
+        String zoneName = zone.getZoneName();
+        return reportMailSender.send(zone.getZoneId(), zoneName, manager.getEmail(), mimeMessage -> {
+            /* ── 3. 메일 작성 ──────────────────────────────── */
+            MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true, "UTF-8");
             helper.setSubject("[모니토리 " + prevMonthStr + " 이상치 리포트] " + zoneName);
-            helper.setTo(managerEmail.toArray(String[]::new));
+            helper.setTo(manager.getEmail());
             helper.setText("""
                     <p>%s - %s 담당자님, 안녕하세요. 모니토리 서비스입니다.</p>
                     <p>%s의 이상치 및 대응 현황을 첨부 드립니다.</p>
@@ -101,16 +145,27 @@ public void sendMonthlyDetailReports() throws Exception {
                       <li>CSV : %s 이상치 데이터</li>
                     </ul>
                     """.formatted(zoneName, manager.getName(), prevMonthStr, prevMonthStr), true);
-            helper.addAttachment(csv.getFileName().toString(), csv.toFile());
+            helper.addAttachment("PreviewMonthReport-" + zone.getZoneId() + ".csv", new ByteArrayResource(csv));
+        });
+    }
 
-            mailSender.send(helper.getMimeMessage());
-            log.info("[{}] 리포트 메일 발송 완료 → {}", zoneName, managerEmail);
-        }
+    private static Stream<AbnDetailResponse> abnormals(ZoneBlockResponse z) {
+        return Stream.concat(
+                z.getEnvAbnormals().stream(),
+                Stream.concat(
+                        z.getWorkers().stream().flatMap(w -> w.getWorkerAbnormals().stream()),
+                        z.getEquips().stream().flatMap(e -> e.getFacAbnormals().stream())
+                ));
+    }
 
-        // 모든 Zone 에서 한 번도 메일을 못 보냈다면 404
-        if (!hasManager) {
-            throw new ResponseStatusException(
-                    HttpStatus.NOT_FOUND, "모든 공간에 담당자가 존재하지 않습니다.");
-        }
+    // 리포트에 없는 공간 (공간 목록 조회 이후 추가된 경우 등)
+    private static ZoneBlockResponse emptyBlock(Zone zone) {
+        return ZoneBlockResponse.builder()
+                .zoneId(zone.getZoneId())
+                .zoneName(zone.getZoneName())
+                .envAbnormals(List.of())
+                .workers(List.of())
+                .equips(List.of())
+                .build();
     }
 }
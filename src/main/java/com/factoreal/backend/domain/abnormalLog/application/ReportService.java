@@ -23,18 +23,21 @@ import org.springframework.stereotype.Service;
 import java.time.*;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class ReportService {
+    // 리포트 집계 대상 위험 등급 (경고, 위험)
+    private static final List<Integer> REPORT_DANGER_LEVELS = List.of(1, 2);
+
     private final AbnormalLogRepoService abnLogRepoService;
     private final ZoneService zoneService;
     private final AbnormalLogRepoService abnormalLogRepoService;
     private final ControlLogRepoService controlLogRepoService;
     private final SensorRepoService sensorRepoService;
     private final WorkerRepoService workerRepoService;
+    private final AbnormalLogHourlyRollup abnormalLogHourlyRollup;
 
 
     /**
@@ -42,25 +45,19 @@ public class ReportService {
      * 각 타입별 경고 횟수, 위험 횟수를 반환합니다.
      */
     public MonthlyDetailResponse getPrevMonth() {
+        LocalDate end = LocalDate.now().minusDays(1);          // 오늘
+        LocalDate start = end.minusDays(30);        // 30일 전
 
-        List<AbnormalLog> logs = abnLogRepoService.findPreview30daysLog();
-
-        Map<TargetType, List<AbnormalLog>> byType =
-                logs.stream().collect(Collectors.groupingBy(AbnormalLog::getTargetType));
+        ReportAggregation aggregation = aggregateCounts(start, end);
 
         List<DangerStatResponse> stats = Arrays.stream(TargetType.values()).map(
-                        t -> {
-                            List<AbnormalLog> list = byType.getOrDefault(t, List.of());
-                            long warn = list.stream().filter(l -> l.getDangerLevel() == 1).count();
-                            long danger = list.stream().filter(l -> l.getDangerLevel() == 2).count();
-                            return DangerStatResponse.builder()
-                                    .type(koreanName(t)).warnCnt(warn).dangerCnt(danger).build();
-                        })
+                        t -> DangerStatResponse.builder()
+                                .type(koreanName(t))
+                                .warnCnt(aggregation.count(t, 1))
+                                .dangerCnt(aggregation.count(t, 2))
+                                .build())
                 .toList();
 
-        LocalDate end = LocalDate.now().minusDays(1);          // 오늘
-        LocalDate start = end.minusDays(30);        // 30일 전
-
         DateTimeFormatter fmt = DateTimeFormatter.ofPattern("yyyy.MM.dd");
 
         // 2️⃣ 문자열 생성  →  2025.04.30 ~ 2025.05.30
@@ -121,14 +118,10 @@ public class ReportService {
      * 전날 기준 최근 30일 이상치 조회
      */
     public PeriodDetailReportResponse buildLast30DaysReport() {
-        LocalDate endBeforeFormat = LocalDate.now().minusDays(1);          // 오늘
-        LocalDate startBeforeFormat = endBeforeFormat.minusDays(30);        // 30일 전
-        LocalDateTime start = startBeforeFormat.atStartOfDay();
-        LocalDateTime end = endBeforeFormat.atTime(LocalTime.MAX);
+        LocalDate endDay = LocalDate.now().minusDays(1);          // 오늘
+        LocalDate startDay = endDay.minusDays(30);        // 30일 전
 
-        List<AbnormalLog> logs = abnormalLogRepoService.findPreview30daysLog();
-
-        return buildPeriodDetailReport(start, end, logs);
+        return buildPeriodDetailReport(startDay, endDay, aggregateDetails(startDay, endDay));
     }
 
     /**
@@ -139,139 +132,53 @@ public class ReportService {
         LocalDate firstDay = today.minusMonths(1).withDayOfMonth(1);
         LocalDate lastDay = firstDay.withDayOfMonth(firstDay.lengthOfMonth());
 
-        LocalDateTime start = firstDay.atStartOfDay();
-        LocalDateTime end = lastDay.atTime(LocalTime.MAX);
+        return buildPeriodDetailReport(firstDay, lastDay, aggregateDetails(firstDay, lastDay));
+    }
+
+    /**
+     * 기간 로그를 한 번만 읽어(커서 스트리밍) 상세 리포트 집계를 누적
+     */
+    private ReportAggregation aggregateDetails(LocalDate startDay, LocalDate endDay) {
+        LocalDateTime start = startDay.atStartOfDay();
+        LocalDateTime end = endDay.atTime(LocalTime.MAX);
 
-        List<AbnormalLog> logs = abnormalLogRepoService.findPreviousMonthLogs();
+        // 대응(제어) 로그는 기간 단위로 먼저 한 번에 조회
+        Map<Long, ControlLog> ctlMap = controlLogRepoService.getControlLogsBetween(start, end);
 
-        return buildPeriodDetailReport(start, end, logs);
+        ReportAggregation aggregation = new ReportAggregation(startDay, endDay);
+        abnormalLogRepoService.streamByDetectedAtBetweenAndDangerLevelIn(start, end, REPORT_DANGER_LEVELS,
+                l -> aggregation.accept(l, toDetail(l, ctlMap.get(l.getId()))));
+        return aggregation;
     }
 
-    private PeriodDetailReportResponse buildPeriodDetailReport(LocalDateTime start, LocalDateTime end, List<AbnormalLog> logs) {
-        List<ZoneDetailResponse> zoneMeta = zoneService.getZoneItems();
+    /**
+     * 그래프/등급용 건수 집계 (원본 로그 대신 abn_log_hourly 시간 단위 집계를 읽음)
+     */
+    private ReportAggregation aggregateCounts(LocalDate startDay, LocalDate endDay) {
+        ReportAggregation aggregation = new ReportAggregation(startDay, endDay);
+        abnormalLogHourlyRollup.findCounts(startDay.atStartOfDay(), endDay.plusDays(1).atStartOfDay()).stream()
+                .filter(c -> REPORT_DANGER_LEVELS.contains(c.getDangerLevel()))
+                .forEach(c -> aggregation.add(c.getBucketHour().toLocalDate(), c.getZoneId(), c.getZoneName(),
+                        c.getTargetType(), c.getDangerLevel(), c.getCount()));
+        return aggregation;
+    }
 
-        List<Long> abnIds = logs.stream()
-                .map(AbnormalLog::getId)
-                .toList();
+    private PeriodDetailReportResponse buildPeriodDetailReport(LocalDate startDay, LocalDate endDay,
+                                                               ReportAggregation aggregation) {
+        List<ZoneDetailResponse> zoneMeta = zoneService.getZoneItems();
 
-        Map<Long, ControlLog> ctlMap = controlLogRepoService.getControlLogs(abnIds);
-
-//        Map<String, String> sensorToEquip = sensorRepoService.sensorIdToEquipId(
-//
-//        );
-        List<String> equipIds = logs.stream()
-            .filter(l -> l.getTargetType() == TargetType.Equip)
-            .map(AbnormalLog::getTargetId)
-            .distinct()
-            .toList();
-
-        Map<String, Worker> workerMap = workerRepoService.findWorkersMap(
-                logs.stream()
-                        .filter(l -> l.getTargetType() == TargetType.Worker)
-                        .map(AbnormalLog::getTargetId)
-                        .distinct()
-                        .toList()
-        );
+        Map<String, Worker> workerMap = workerRepoService.findWorkersMap(aggregation.workerIds());
 
         List<ZoneBlockResponse> zones = zoneMeta.stream()
-                .map(zm -> buildZoneBlock(zm, logs, ctlMap, equipIds, workerMap))
+                .map(zm -> aggregation.zoneBlock(zm, workerMap))
                 .toList();
 
         DateTimeFormatter f = DateTimeFormatter.ofPattern("yyyy.MM.dd");
-        String period = f.format(start.toLocalDate()) + " ~ " + f.format(end.toLocalDate());
+        String period = f.format(startDay) + " ~ " + f.format(endDay);
 
         return new PeriodDetailReportResponse(period, zones);
     }
 
-    private ZoneBlockResponse buildZoneBlock(ZoneDetailResponse zm,
-                                             List<AbnormalLog> allLogs,
-                                             Map<Long, ControlLog> ctlMap,
-                                             List<String> equipIds,
-                                             Map<String, Worker> workerMap) {
-
-        String zid = zm.getZoneId();
-        List<AbnormalLog> zLogs = allLogs.stream()
-                .filter(l -> l.getZone().getZoneId().equals(zid))
-                .toList();
-
-        // ① 환경
-        List<AbnDetailResponse> envAbn = zLogs.stream()
-                .filter(l -> l.getTargetType() == TargetType.Sensor)
-                .map(l -> toDetail(l, ctlMap.get(l.getId())))
-                .sorted(Comparator.comparing(AbnDetailResponse::getDetectedAt))
-                .toList();
-
-        // ② 작업자
-        List<AbnDetailResponse> workerAbn = zLogs.stream()
-                .filter(l -> l.getTargetType() == TargetType.Worker)
-                .map(l -> toDetail(l, ctlMap.get(l.getId())))
-                .toList();
-
-        // ③ 설비별
-        Map<String, List<AbnormalLog>> byEquip = zLogs.stream()
-                .filter(l -> l.getTargetType() == TargetType.Equip)
-                .collect(Collectors.groupingBy(
-                    AbnormalLog::getTargetId
-                ));
-
-        List<EquipBlockResponse> equipBlockResponses = zm.getEquipList().stream()
-                .map(em -> {
-                    List<AbnormalLog> eLogs = byEquip.getOrDefault(em.getEquipId(), List.of());
-                    List<AbnDetailResponse> fac = eLogs.stream()
-                            .map(l -> toDetail(l, ctlMap.get(l.getId())))
-                            .sorted(Comparator.comparing(AbnDetailResponse::getDetectedAt))
-                            .toList();
-                    return EquipBlockResponse.builder()
-                            .equipId(em.getEquipId())
-                            .equipName(em.getEquipName())
-                            .facCnt(fac.size())
-                            .facAbnormals(fac)
-                            .build();
-                })
-                .toList();
-
-        Map<String, List<AbnormalLog>> byWorker = zLogs.stream()
-                .filter(l -> l.getTargetType() == TargetType.Worker)
-                .collect(Collectors.groupingBy(AbnormalLog::getTargetId)); // key = workerId
-
-        List<WorkerBlockResponse> workerBlockResponses = byWorker.entrySet().stream()
-                .map(e -> {
-                    String wid = e.getKey();
-                    Worker w = workerMap.get(wid);        // null possible
-
-                    List<AbnDetailResponse> workerDetails = e.getValue().stream()
-                            .map(l -> toDetail(l, ctlMap.get(l.getId())))
-                            .sorted(Comparator.comparing(AbnDetailResponse::getDetectedAt))
-                            .toList();
-
-                    return WorkerBlockResponse.builder()
-                            .workerId(wid)
-                            .name(w != null ? w.getName() : null)
-                            .phone(w != null ? w.getPhoneNumber() : null)
-                            .workerCnt(workerDetails.size())
-                            .workerAbnormals(workerDetails)
-                            .build();
-                })
-                .toList();
-
-        int envCnt = envAbn.size();
-        int workerCnt = workerAbn.size();
-        int facCnt = equipBlockResponses.stream().mapToInt(EquipBlockResponse::getFacCnt).sum();
-        int total = envCnt + workerCnt + facCnt;
-
-        return ZoneBlockResponse.builder()
-                .zoneId(zid)
-                .zoneName(zm.getZoneName())
-                .envCnt(envCnt)
-                .workerCnt(workerCnt)
-                .facCnt(facCnt)
-                .totalCnt(total)
-                .envAbnormals(envAbn)
-                .workers(workerBlockResponses)
-                .equips(equipBlockResponses)
-                .build();
-    }
-
     // ────────────────────────────────────────────────
     // 2-4. AbnormalLog + ControlLog → AbnDetail 로 변환하는 헬퍼
     // ────────────────────────────────────────────────
@@ -300,47 +207,21 @@ public class ReportService {
         LocalDate yesterday = LocalDate.now().minusDays(1);
         LocalDate startDay = yesterday.minusDays(30);     // 총 30일
 
-        LocalDateTime start = startDay.atStartOfDay();
-        LocalDateTime end = yesterday.atTime(LocalTime.MAX);
-
-        /* ② 로그 조회 (dangerLevel 1 | 2 만) */
-        List<AbnormalLog> logs = abnormalLogRepoService.findByDetectedAtBetweenAndDangerLevelIn(
-                start, end, List.of(1, 2));
-
-        int totalAbnCnt = logs.size();
-        int warnCnt = (int) logs.stream()
-                .filter(l -> l.getDangerLevel() == 1)
-                .count();
-        int dangerCnt = (int) logs.stream()
-                .filter(l -> l.getDangerLevel() == 2)
-                .count();
-
-        /* ③ 그래프 1 : TargetType 별 ─ 항상 3개(SENSOR/EQUIP/WORKER) 보장 */
-        Map<TargetType, Long> typeCntMap = logs.stream()
-                .collect(Collectors.groupingBy(AbnormalLog::getTargetType, Collectors.counting()));
-
-        /* ③ 그래프 1 : TargetType 별 */
-        List<BarResponse> typeStats = Arrays.stream(TargetType.values())
-                .map(tp -> new BarResponse(tp.name(), typeCntMap.getOrDefault(tp, 0L)))
-                .sorted(Comparator.comparingLong(BarResponse::getCnt).reversed())   // 큰 순서
-                .toList();
+        /* ② 로그 집계 (dangerLevel 1 | 2 만, 시간 단위 집계 테이블에서 읽음) */
+        ReportAggregation aggregation = aggregateCounts(startDay, yesterday);
 
-        /* ④ 그래프 2 : 날짜(월-일) 별 */
-        DateTimeFormatter mmdd = DateTimeFormatter.ofPattern("MM-dd");
-        List<BarResponse> dateStats = logs.stream()
-                .collect(Collectors.groupingBy(l -> l.getDetectedAt().toLocalDate(), Collectors.counting()))
-                .entrySet().stream()
-                .map(e -> new BarResponse(mmdd.format(e.getKey()), e.getValue()))
-                .sorted(Comparator.comparing(BarResponse::getLabel))           // x축 순서 보장
-                .toList();
+        int totalAbnCnt = (int) aggregation.totalCount();
+        int warnCnt = (int) aggregation.levelCount(1);
+        int dangerCnt = (int) aggregation.levelCount(2);
 
-        /* ⑤ 그래프 3 : Zone 별 */
-        List<BarResponse> zoneStats = logs.stream()
-                .collect(Collectors.groupingBy(l -> l.getZone().getZoneName(), Collectors.counting()))
-                .entrySet().stream()
-                .map(e -> new BarResponse(e.getKey(), e.getValue()))
-                .sorted(Comparator.comparingLong(BarResponse::getCnt).reversed())
-                .toList();
+        /* ③ 그래프 1 : TargetType 별 ─ 항상 3개(SENSOR/EQUIP/WORKER) 보장, 큰 순서 */
+        List<BarResponse> typeStats = aggregation.typeStats();
+
+        /* ④ 그래프 2 : 날짜(월-일) 별, x축 순서 보장 */
+        List<BarResponse> dateStats = aggregation.dateStats();
+
+        /* ⑤ 그래프 3 : Zone 별, 큰 순서 */
+        List<BarResponse> zoneStats = aggregation.zoneStats();
 
         /* ⑥ 기간 문자열 */
         DateTimeFormatter f = DateTimeFormatter.ofPattern("yyyy.MM.dd");
@@ -0,0 +1,125 @@
+package com.factoreal.backend.domain.abnormalLog.application;
+
+import com.factoreal.backend.domain.abnormalLog.dao.AbnLogRepository;
+import com.factoreal.backend.messaging.sender.WebSocketSender;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 읽지 않은 알람 개수 카운터 (abn_log COUNT(*) 대체)
+ * - 최초 조회 시 DB 에서 한 번 읽어 초기화
+ * - 신규 로그(isRead=false) 저장 시 증가, 읽음 처리 시 감소
+ * - 주기적으로 DB 값과 맞춰 보정 (보정 도중 카운터가 바뀌었거나 저장 대기 중인 로그가 있으면 다음 주기로 미룸)
+ * - /topic/unread-count 전송은 requestPush 로 표시만 하고 push-interval-ms 주기로 모아서 1회 전송
+ */
+@Slf4j
+@Component
+public class UnreadAlarmCounter {
+
+    private final AbnLogRepository abnLogRepository;
+    private final AbnormalLogWriteBehind abnormalLogWriteBehind;
+    private final WebSocketSender webSocketSender;
+
+    private final AtomicLong count = new AtomicLong();
+    // 증감이 일어날 때마다 올라가는 변경 번호 (보정 중 경합 감지용)
+    private final AtomicLong modifications = new AtomicLong();
+    private final AtomicBoolean pushRequested = new AtomicBoolean(false);
+    private volatile boolean seeded = false;
+    private long lastSent = -1; // 스케줄러 스레드 전용
+
+    public UnreadAlarmCounter(AbnLogRepository abnLogRepository,
+                              AbnormalLogWriteBehind abnormalLogWriteBehind,
+                              WebSocketSender webSocketSender) {
+        this.abnLogRepository = abnLogRepository;
+        this.abnormalLogWriteBehind = abnormalLogWriteBehind;
+        this.webSocketSender = webSocketSender;
+    }
+
+    /**
+     * 현재 읽지 않은 알람 개수
+     */
+    public long get() {
+        ensureSeeded();
+        return count.get();
+    }
+
+    // 신규 미확인 로그 저장
+    public void increment(int delta) {
+        if (delta <= 0) {
+            return;
+        }
+        ensureSeeded();
+        modifications.incrementAndGet();
+        count.addAndGet(delta);
+    }
+
+    // 미확인 로그 읽음 처리
+    public void decrement() {
+        ensureSeeded();
+        modifications.incrementAndGet();
+        count.updateAndGet(value -> Math.max(0, value - 1));
+    }
+
+    /**
+     * 읽지 않은 알람 개수 전송 요청 (다음 전송 주기에 한 번만 전송)
+     */
+    public void requestPush() {
+        pushRequested.set(true);
+    }
+
+    @Scheduled(fixedDelayString = "${abnormal-log.unread.push-interval-ms:500}")
+    public void flushPush() {
+        if (!pushRequested.getAndSet(false)) {
+            return;
+        }
+        long current = get();
+        if (current == lastSent) {
+            return;
+        }
+        webSocketSender.sendUnreadCount(current);
+        lastSent = current;
+    }
+
+    /**
+     * DB 값과 카운터 보정
+     * 아직 INSERT 되지 않은 로그는 DB 값에 없으므로, COUNT 전후 모두 저장 대기 중인 로그가 없고
+     * COUNT 도중 카운터 변경(신규 로그, 읽음 처리)도 없었을 때만 보정
+     */
+    @Scheduled(fixedDelayString = "${abnormal-log.unread.reconcile-interval-ms:60000}",
+            initialDelayString = "${abnormal-log.unread.reconcile-interval-ms:60000}")
+    public void reconcile() {
+        if (!seeded) {
+            return;
+        }
+        long before = modifications.get();
+        if (abnormalLogWriteBehind.pendingCount() > 0) {
+            return;
+        }
+        long dbCount = abnLogRepository.countByIsReadFalse();
+        if (abnormalLogWriteBehind.pendingCount() > 0 || modifications.get() != before) {
+            return;
+        }
+        long current = count.get();
+        if (current != dbCount && count.compareAndSet(current, dbCount)) {
+            log.warn("⚠️ 미확인 알람 카운터 보정: {} -> {}", current, dbCount);
+            requestPush();
+        }
+    }
+
+    private void ensureSeeded() {
+        if (seeded) {
+            return;
+        }
+        synchronized (this) {
+            if (!seeded) {
+                count.set(abnLogRepository.countByIsReadFalse());
+                seeded = true;
+                log.info("✅ 미확인 알람 카운터 초기화: {}", count.get());
+            }
+        }
+    }
+}
@@ -3,15 +3,20 @@ package com.factoreal.backend.domain.abnormalLog.dao;
 import com.factoreal.backend.domain.abnormalLog.dto.TargetType;
 import com.factoreal.backend.domain.abnormalLog.entity.AbnormalLog;
 import com.factoreal.backend.domain.zone.entity.Zone;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface AbnLogRepository extends JpaRepository<AbnormalLog,Long> {
     Page<AbnormalLog> findAbnormalLogsByAbnormalType(String abnormalType, Pageable pageable);
@@ -50,9 +55,85 @@ public interface AbnLogRepository extends JpaRepository<AbnormalLog,Long> {
         @Param("dangerLevel") Integer dangerLevel
     );
 
+    /**
+     * 대상(targetType, targetId)별 가장 최근 로그 조회 (상태 스토어 재구성용)
+     * 로그는 위험 등급이 바뀔 때만 쌓이므로 대상별 최신 로그의 dangerLevel 이 곧 현재 등급
+     */
+    @Query("""
+        SELECT a
+        FROM AbnormalLog a
+        JOIN FETCH a.zone
+        WHERE a.targetType IN :targetTypes
+          AND a.detectedAt >= :since
+          AND a.detectedAt = (
+              SELECT MAX(b.detectedAt)
+              FROM AbnormalLog b
+              WHERE b.targetType = a.targetType
+                AND b.targetId = a.targetId
+          )
+        ORDER BY a.id
+    """)
+    List<AbnormalLog> findLatestLogsPerTarget(
+        @Param("targetTypes") List<TargetType> targetTypes,
+        @Param("since") LocalDateTime since
+    );
+
+    /**
+     * 여러 대상의 가장 최근 로그를 한 번에 조회
+     * (target_type, target_id, detected_at) 복합 인덱스로 대상별 MAX(detected_at) 를 인덱스 탐색만으로 구함
+     * 같은 시각의 로그가 여러 건이면 모두 반환되므로 호출 측에서 하나만 사용
+     */
+    @Query("""
+        SELECT a
+        FROM AbnormalLog a
+        LEFT JOIN FETCH a.zone
+        WHERE a.targetType = :targetType
+          AND a.targetId IN :targetIds
+          AND a.detectedAt = (
+              SELECT MAX(b.detectedAt)
+              FROM AbnormalLog b
+              WHERE b.targetType = a.targetType
+                AND b.targetId = a.targetId
+          )
+    """)
+    List<AbnormalLog> findLatestLogsByTargetIds(
+        @Param("targetType") TargetType targetType,
+        @Param("targetIds") Collection<String> targetIds
+    );
+
     /**
      * 30일 기간의 이상치(위험도 1과 2) 에 해당되는 ABN 로그를 불러오는 기능
      */
     List<AbnormalLog> findByDetectedAtBetweenAndDangerLevelIn(
             LocalDateTime start, LocalDateTime end, List<Integer> dangerLevels);
-}
\ No newline at end of file
+
+    /**
+     * 리포트 집계용 기간 로그 스트림 (전체를 List 로 올리지 않고 한 행씩 스트리밍 조회)
+     * fetch size Integer.MIN_VALUE : MySQL 드라이버의 행 단위 스트리밍 (URL 의 useCursorFetch 없이 이 쿼리에만 적용)
+     * 스트림이 열려 있는 동안 같은 커넥션으로 다른 쿼리를 실행할 수 없으므로 연관관계는 JOIN FETCH 로 함께 읽음
+     * 반드시 트랜잭션 안에서 try-with-resources 로 사용하고, 읽은 엔티티는 호출 측에서 detach
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+        SELECT a
+        FROM AbnormalLog a
+        LEFT JOIN FETCH a.zone
+        WHERE a.detectedAt BETWEEN :start AND :end
+          AND a.dangerLevel IN :dangerLevels
+        ORDER BY a.detectedAt
+    """)
+    Stream<AbnormalLog> streamByDetectedAtBetweenAndDangerLevelIn(
+        @Param("start") LocalDateTime start,
+        @Param("end") LocalDateTime end,
+        @Param("dangerLevels") List<Integer> dangerLevels
+    );
+
+    /**
+     * 로그 ID → 대상 ID (리포트 CSV 용, 엔티티를 올리지 않고 두 컬럼만 조회)
+     */
+    @Query("SELECT a.id, a.targetId FROM AbnormalLog a WHERE a.id IN :ids")
+    List<Object[]> findTargetIdsByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,15 @@
+package com.factoreal.backend.domain.abnormalLog.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 이상치 로그 내보내기 형식
+@Getter
+@RequiredArgsConstructor
+public enum ExportFormat {
+    CSV("text/csv", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String extension;
+}
@@ -0,0 +1,30 @@
+package com.factoreal.backend.domain.abnormalLog.dto.request;
+
+import com.factoreal.backend.domain.abnormalLog.dto.ExportFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Schema(description = "이상치 로그 내보내기 조건 DTO")
+public class AbnormalLogExportRequest {
+    @Schema(description = "조회 시작일 (포함)", example = "2025-01-01")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate from;
+
+    @Schema(description = "조회 종료일 (포함)", example = "2025-12-31")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate to;
+
+    @Schema(description = "공간 ID 필터 (비어 있으면 전체 공간)", example = "[\"zone-1\", \"zone-2\"]")
+    private List<String> zoneIds;
+
+    @Schema(description = "파일 형식 (CSV | NDJSON)", example = "CSV")
+    private ExportFormat format = ExportFormat.CSV;
+
+    @Schema(description = "gzip 압축 여부", example = "false")
+    private boolean gzip;
+}
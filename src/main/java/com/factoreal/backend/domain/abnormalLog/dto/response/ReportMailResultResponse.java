@@ -0,0 +1,23 @@
+package com.factoreal.backend.domain.abnormalLog.dto.response;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReportMailResultResponse {
+    private String zoneId;
+    private String zoneName;
+    private String recipient;  // 담당자 메일 (없으면 null)
+    private Status status;
+    private int attempts;      // 발송 시도 횟수
+    private String error;      // 실패 사유
+
+    public enum Status {
+        SENT,     // 발송 완료
+        SKIPPED,  // 담당자/메일 없음
+        FAILED    // 재시도 후에도 실패
+    }
+}
@@ -18,8 +18,8 @@ import java.time.LocalDateTime;
 @Builder
 public class AbnormalLog {
 
+    // ID 는 AbnormalLogIdAllocator 가 블록 단위로 할당 (AbnormalLogWriteBehind 에서 직접 INSERT)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "id", nullable = false)
     private Long id;
 
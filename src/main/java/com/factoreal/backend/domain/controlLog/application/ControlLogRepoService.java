@@ -6,6 +6,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -28,4 +29,17 @@ public class ControlLogRepoService {
         return controlLogs;
     }
 
+    /**
+     * 기간 내 AbnormalLog 의 제어 로그를 AbnormalLog ID 기준 Map 으로 조회
+     */
+    public Map<Long, ControlLog> getControlLogsBetween(LocalDateTime start, LocalDateTime end) {
+        return controlLogRepository
+                .findByAbnormalLogDetectedAtBetween(start, end)
+                .stream()
+                .collect(Collectors.toMap(
+                        c -> c.getAbnormalLog().getId(),
+                        c -> c
+                ));
+    }
+
 }
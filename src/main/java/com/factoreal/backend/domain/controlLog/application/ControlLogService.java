@@ -5,6 +5,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.factoreal.backend.domain.abnormalLog.application.AbnormalLogWriteBehind;
 import com.factoreal.backend.domain.abnormalLog.entity.AbnormalLog;
 import com.factoreal.backend.domain.controlLog.entity.ControlLog;
 import com.factoreal.backend.domain.controlLog.dao.ControlLogRepository;
@@ -15,6 +16,7 @@ import com.factoreal.backend.messaging.sender.WebSocketSender;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Service
@@ -25,6 +27,7 @@ public class ControlLogService {
     private final ControlLogRepository controlLogRepository;
     private final MqttPublishService mqttPublishService;
     private final WebSocketSender webSocketSender;
+    private final AbnormalLogWriteBehind abnormalLogWriteBehind;
 
     @Transactional
     public ControlLog saveControlLog(AbnormalLog abnormalLog, String controlType, Double controlVal, Integer controlStat,
@@ -38,31 +41,37 @@ public class ControlLogService {
                 .zone(zone)
                 .build();
 
-        // 제어 로그 저장
+        // 제어 로그 저장 (abnormal_id FK: 참조하는 AbnormalLog 가 아직 INSERT 전이면 먼저 저장을 기다림,
+        // 대기 시간 안에 저장되지 않으면 AbnormalLogNotPersistedException)
+        abnormalLogWriteBehind.requirePersisted(abnormalLog.getId());
         ControlLog savedLog = controlLogRepository.save(controlLog);
 
-        // 발송 여부를 포함할 맵
-        Map<String, Boolean> deliveryStatus = new HashMap<>();
-
+        // MQTT 메시지 발행 (브로커 응답을 기다리지 않음, 수신 확인/실패 시 제어 상태 전송)
+        CompletableFuture<Void> delivery;
         try {
-            // MQTT 메시지 발행
-            mqttPublishService.publishControlMessage(savedLog);
-            deliveryStatus.put("mqttDelivered", true);
+            delivery = mqttPublishService.publishControlMessage(savedLog);
         } catch (Exception e) {
             log.error("❌ MQTT 메시지 발행 실패: {}", e.getMessage(), e);
-            deliveryStatus.put("mqttDelivered", false);
+            delivery = CompletableFuture.failedFuture(e);
         }
+        delivery.whenComplete((ignored, e) -> sendControlStatus(savedLog, e == null));
+
+        return savedLog;
+    }
+
+    // WebSocket으로 제어 상태 전송 (발송 상태 포함)
+    private void sendControlStatus(ControlLog savedLog, boolean mqttDelivered) {
+        // 발송 여부를 포함할 맵
+        Map<String, Boolean> deliveryStatus = new HashMap<>();
+        deliveryStatus.put("mqttDelivered", mqttDelivered);
 
         try {
-            // WebSocket으로 제어 상태 전송 (발송 상태 포함)
             webSocketSender.sendControlStatus(savedLog, deliveryStatus);
 
             log.info("✅ 제어 로그 저장 및 알림 전송 완료: controlId={}, abnormalId={}, status={}",
-                    savedLog.getId(), abnormalLog.getId(), deliveryStatus);
+                    savedLog.getId(), savedLog.getAbnormalLog().getId(), deliveryStatus);
         } catch (Exception e) {
             log.error("❌ WebSocket 메시지 전송 실패: {}", e.getMessage(), e);
         }
-
-        return savedLog;
     }
 }
@@ -1,8 +1,11 @@
 package com.factoreal.backend.domain.controlLog.dao;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import com.factoreal.backend.domain.controlLog.entity.ControlLog;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 
@@ -14,4 +17,18 @@ public interface ControlLogRepository extends JpaRepository<ControlLog, Long> {
      * AbnormalLog ID 목록으로 대응(제어) 로그 조회
      */
     List<ControlLog> findByAbnormalLog_IdIn(Collection<Long> abnormalIds);
+
+    /**
+     * 기간 내 AbnormalLog 에 대한 대응(제어) 로그 조회 (리포트 집계 전에 한 번에 조회)
+     */
+    @Query("""
+        SELECT c
+        FROM ControlLog c
+        JOIN c.abnormalLog a
+        WHERE a.detectedAt BETWEEN :start AND :end
+    """)
+    List<ControlLog> findByAbnormalLogDetectedAtBetween(
+        @Param("start") LocalDateTime start,
+        @Param("end") LocalDateTime end
+    );
 }
\ No newline at end of file
@@ -56,6 +56,12 @@ public class EquipController {
         return service.getEquipsByZoneId(zoneId);
     }
 
+    @GetMapping("/with-sensors")
+    @Operation(summary = "전체 설비 목록 조회 (점검 대시보드)", description = "공장 전체 설비 목록과 각 설비의 최근 점검일자 및 설비에 연결된 센서 정보를 한 번에 조회합니다.")
+    public List<EquipWithSensorsResponse> getAllEquipsWithSensors() {
+        return service.getAllEquipsWithSensors();
+    }
+
 //    // 공간별로 구분된 설비 조회
 //    @GetMapping("/zones")
 //    @Operation(summary = "공간별 설비·센서 매핑 조회", description = "모든 공간(zone)마다 환경센서·설비·설비센서를 구조화해 반환합니다.")
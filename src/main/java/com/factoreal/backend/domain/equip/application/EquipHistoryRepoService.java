@@ -7,6 +7,11 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -46,4 +51,34 @@ public class EquipHistoryRepoService {
     public Optional<EquipHistory> findLatestByEquipId(String equipId) {
         return equipHistoryRepository.findFirstByEquip_EquipIdOrderByIdDesc(equipId);
     }
+
+    /**
+     * SELECT equip_id, MAX(check_date)
+     * FROM equip_hist
+     * WHERE check_date IS NOT NULL
+     *   AND equip_id IN (:equipIds)
+     * GROUP BY equip_id;
+     */
+    // 여러 설비의 가장 최근 실제 점검일자를 한 번에 조회 (점검 이력이 없는 설비는 포함되지 않음)
+    @Transactional(readOnly = true)
+    public Map<String, LocalDate> findLatestCheckDates(Collection<String> equipIds) {
+        if (equipIds.isEmpty()) {
+            return Map.of();
+        }
+        return toCheckDateMap(equipHistoryRepository.findLatestCheckDatesByEquipIdIn(equipIds));
+    }
+
+    // 전체 설비의 가장 최근 실제 점검일자 조회 (설비 점검 대시보드용)
+    @Transactional(readOnly = true)
+    public Map<String, LocalDate> findAllLatestCheckDates() {
+        return toCheckDateMap(equipHistoryRepository.findLatestCheckDates());
+    }
+
+    private static Map<String, LocalDate> toCheckDateMap(List<Object[]> rows) {
+        Map<String, LocalDate> result = new HashMap<>();
+        for (Object[] row : rows) {
+            result.put((String) row[0], (LocalDate) row[1]);
+        }
+        return result;
+    }
 } 
\ No newline at end of file
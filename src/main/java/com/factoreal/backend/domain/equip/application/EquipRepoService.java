@@ -4,10 +4,15 @@ import com.factoreal.backend.domain.equip.dao.EquipRepository;
 import com.factoreal.backend.domain.equip.dto.response.EquipInfoResponse;
 import com.factoreal.backend.domain.equip.entity.Equip;
 import com.factoreal.backend.domain.zone.application.ZoneRepoService;
+import com.factoreal.backend.domain.zone.application.ZoneTopologyChangedEvent;
 import com.factoreal.backend.domain.zone.entity.Zone;
+import com.factoreal.backend.global.config.CacheConfig;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
@@ -21,13 +26,25 @@ import java.util.stream.Collectors;
 public class EquipRepoService {
     private final ZoneRepoService zoneRepoService;
     private final EquipRepository equipRepo;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 설비 정보 저장 레포지토리 접근 메서드
+     * 공간 구성 조회 스냅샷(ZoneTopologyReadModel)도 무효화한다.
      */
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.EQUIP, key = "#equip.equipId")
     public Equip save(Equip equip) {
-        return equipRepo.save(equip);
+        Equip saved = equipRepo.save(equip);
+        eventPublisher.publishEvent(new ZoneTopologyChangedEvent("equip"));
+        return saved;
+    }
+
+    /**
+     * 전체 설비를 공간과 함께 한 번에 조회 (공간 구성 조회용)
+     */
+    public List<Equip> findAllWithZone() {
+        return equipRepo.findAllWithZone();
     }
 
 
@@ -48,6 +65,18 @@ public class EquipRepoService {
                         HttpStatus.NOT_FOUND, "존재하지 않는 설비 ID: " + equipId));
     }
 
+    /**
+     * 설비 캐시 조회 (SQS 예측 처리 등 읽기 전용 경로)
+     * 반환된 엔티티는 여러 스레드가 공유하므로 수정하지 않는다. (수정은 findById 로 조회한 엔티티로)
+     * 캐시된 엔티티는 영속성 컨텍스트 밖에서 사용되므로 공간을 함께 로딩한다.
+     */
+    @Cacheable(cacheNames = CacheConfig.EQUIP, key = "#equipId")
+    public Equip findCachedById(String equipId) {
+        return equipRepo.findWithZoneByEquipId(equipId)
+                .orElseThrow(() -> new ResponseStatusException(
+                        HttpStatus.NOT_FOUND, "존재하지 않는 설비 ID: " + equipId));
+    }
+
     public List<EquipInfoResponse> findAll(){
         return equipRepo.findAll().stream()
                 .map(equip -> {
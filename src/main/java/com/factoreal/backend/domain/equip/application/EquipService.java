@@ -7,6 +7,7 @@ import com.factoreal.backend.domain.equip.dto.response.EquipInfoResponse;
 import com.factoreal.backend.domain.equip.dto.response.EquipWithSensorsResponse;
 import com.factoreal.backend.domain.equip.entity.Equip;
 import com.factoreal.backend.domain.equip.entity.EquipHistory;
+import com.factoreal.backend.domain.sensor.dto.response.SensorInfoResponse;
 import com.factoreal.backend.domain.zone.application.ZoneRepoService;
 import com.factoreal.backend.domain.zone.entity.Zone;
 import com.factoreal.backend.domain.sensor.application.SensorService;
@@ -19,6 +20,7 @@ import org.slf4j.LoggerFactory;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.Optional;
 
@@ -104,26 +106,48 @@ public class EquipService {
     }
 
     // 설비 정보와 센서 정보를 함께 반환하는 메서드 (BE -> FE)
+    // 최근 점검일자와 센서는 공간의 설비 전체에 대해 각각 한 번씩 조회한다
     public List<EquipWithSensorsResponse> getEquipsByZoneId(String zoneId) {
         Zone zone = findByZoneId(zoneId);
-        return equipRepoService.findEquipsByZone(zone).stream()
-            .map(equip -> {
-                // 최근 실제 점검일자 조회 (checkDate가 null이 아닌 것 중에서 가장 최근 날짜)
-                LocalDate lastCheckDate = equipHistoryRepoService
-                    .findLatestCheckedByEquipId(equip.getEquipId())
-                    .map(EquipHistory::getCheckDate)
-                    .orElse(null);
-
-                return EquipWithSensorsResponse.fromEntity(
-                    equip,
-                    zone,
-                    lastCheckDate,
-                    sensorService.findSensorsByEquipId(equip.getEquipId())
-                );
-            })
+        List<Equip> equips = equipRepoService.findEquipsByZone(zone);
+        List<String> equipIds = equips.stream().map(Equip::getEquipId).toList();
+
+        Map<String, LocalDate> lastCheckDates = equipHistoryRepoService.findLatestCheckDates(equipIds);
+        Map<String, List<SensorInfoResponse>> sensors = sensorService.findSensorsByEquipIds(equipIds);
+
+        return equips.stream()
+            .map(equip -> toEquipWithSensors(equip, zone, lastCheckDates, sensors))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * 공장 전체 설비 정보와 센서 정보, 최근 점검일자를 함께 반환 (설비 점검 대시보드용)
+     * 공간 구성용 empty 설비는 제외한다
+     */
+    public List<EquipWithSensorsResponse> getAllEquipsWithSensors() {
+        List<Equip> equips = equipRepoService.findAllWithZone().stream()
+            .filter(equip -> !equip.getEquipId().equals(equip.getZone().getZoneId()))
+            .toList();
+
+        Map<String, LocalDate> lastCheckDates = equipHistoryRepoService.findAllLatestCheckDates();
+        Map<String, List<SensorInfoResponse>> sensors = sensorService.findAllSensorsByEquipId();
+
+        return equips.stream()
+            .map(equip -> toEquipWithSensors(equip, equip.getZone(), lastCheckDates, sensors))
             .collect(Collectors.toList());
     }
 
+    private EquipWithSensorsResponse toEquipWithSensors(Equip equip, Zone zone,
+                                                        Map<String, LocalDate> lastCheckDates,
+                                                        Map<String, List<SensorInfoResponse>> sensors) {
+        return EquipWithSensorsResponse.fromEntity(
+            equip,
+            zone,
+            lastCheckDates.get(equip.getEquipId()),
+            sensors.getOrDefault(equip.getEquipId(), List.of())
+        );
+    }
+
     /**
      * 이름으로 공간 탐색
      */
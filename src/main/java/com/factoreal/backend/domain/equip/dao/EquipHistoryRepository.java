@@ -2,7 +2,11 @@ package com.factoreal.backend.domain.equip.dao;
 
 import com.factoreal.backend.domain.equip.entity.EquipHistory;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface EquipHistoryRepository extends JpaRepository<EquipHistory, Long> {
@@ -14,4 +18,22 @@ public interface EquipHistoryRepository extends JpaRepository<EquipHistory, Long
 
     // 설비의 가장 최근 이력 조회 (점검 여부 상관없이)
     Optional<EquipHistory> findFirstByEquip_EquipIdOrderByIdDesc(String equipId);
+
+    // 설비별 가장 최근 실제 점검일자 일괄 조회 : [설비 ID, 점검일자]
+    @Query("""
+            SELECT h.equip.equipId, MAX(h.checkDate)
+            FROM EquipHistory h
+            WHERE h.checkDate IS NOT NULL AND h.equip.equipId IN :equipIds
+            GROUP BY h.equip.equipId
+            """)
+    List<Object[]> findLatestCheckDatesByEquipIdIn(@Param("equipIds") Collection<String> equipIds);
+
+    // 전체 설비의 가장 최근 실제 점검일자 조회 : [설비 ID, 점검일자]
+    @Query("""
+            SELECT h.equip.equipId, MAX(h.checkDate)
+            FROM EquipHistory h
+            WHERE h.checkDate IS NOT NULL
+            GROUP BY h.equip.equipId
+            """)
+    List<Object[]> findLatestCheckDates();
 }
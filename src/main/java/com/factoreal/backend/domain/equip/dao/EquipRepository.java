@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Optional;
 
 import com.factoreal.backend.domain.zone.entity.Zone;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import com.factoreal.backend.domain.equip.entity.Equip;
@@ -16,6 +17,10 @@ import org.springframework.data.repository.query.Param;
 public interface EquipRepository extends JpaRepository<Equip, String> {
     Optional<Equip> findByEquipId(String equipId);
 
+    // 캐시용 단건 조회: 지연 로딩 연관관계(공간)를 함께 조회
+    @EntityGraph(attributePaths = {"zone"})
+    Optional<Equip> findWithZoneByEquipId(String equipId);
+
     @Query("select e.equipName from Equip e where e.equipId = :equipId")
     String findEquipNameByEquipId(@Param("equipId") String equipId);
 
@@ -24,6 +29,11 @@ public interface EquipRepository extends JpaRepository<Equip, String> {
 
     List<Equip> findEquipsByZone(@Param("zone") Zone zone);
 
+    // 공간 구성 조회용 전체 조회: 공간을 함께 조회
+    @EntityGraph(attributePaths = {"zone"})
+    @Query("SELECT e FROM Equip e")
+    List<Equip> findAllWithZone();
+
     // equipId와 zone.zoneId가 다른 설비만 조회하는 JPA 쿼리
     @Query("SELECT e FROM Equip e WHERE e.equipId <> e.zone.zoneId")
     List<Equip> findAllWhereEquipIdNotEqualsZoneId();
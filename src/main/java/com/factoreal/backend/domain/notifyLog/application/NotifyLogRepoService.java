@@ -1,20 +1,81 @@
 package com.factoreal.backend.domain.notifyLog.application;
 
+import com.factoreal.backend.domain.abnormalLog.application.AbnormalLogNotPersistedException;
+import com.factoreal.backend.domain.abnormalLog.application.AbnormalLogWriteBehind;
 import com.factoreal.backend.domain.notifyLog.dao.NotifyLogRepository;
 import com.factoreal.backend.domain.notifyLog.entity.NotifyLog;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+import java.util.Objects;
+
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class NotifyLogRepoService {
+    // trigger_type 은 엔티티 매핑(@Enumerated 없음)과 같이 ordinal 로 저장
+    private static final String INSERT_SQL = """
+            INSERT INTO notify_log (notify_type, target, status, trigger_type, notified_at, abnormal_id)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
     private final NotifyLogRepository notifyLogRepository;
+    private final AbnormalLogWriteBehind abnormalLogWriteBehind;
+    private final JdbcTemplate jdbcTemplate;
 
+    /**
+     * 알림 기록 저장
+     * abnormal_id FK: 참조하는 AbnormalLog 가 아직 INSERT 전이면 먼저 저장을 기다림
+     *
+     * @throws AbnormalLogNotPersistedException 참조하는 AbnormalLog 가 대기 시간 안에 저장되지 않은 경우
+     */
     @Transactional
     public NotifyLog saveNotifyLog(NotifyLog notifyLog) {
+        abnormalLogWriteBehind.requirePersisted(notifyLog.getAbnormalLogId());
         return notifyLogRepository.save(notifyLog);
     }
+
+    /**
+     * 알림 기록 일괄 저장 (IDENTITY 키라 JPA 배치가 되지 않으므로 JDBC 배치 INSERT 사용)
+     *
+     * @throws AbnormalLogNotPersistedException 참조하는 AbnormalLog 가 대기 시간 안에 저장되지 않은 경우
+     */
+    @Transactional
+    public void saveAllNotifyLogs(List<NotifyLog> notifyLogs) {
+        if (notifyLogs.isEmpty()) {
+            return;
+        }
+        notifyLogs.stream()
+                .map(NotifyLog::getAbnormalLogId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .forEach(abnormalLogWriteBehind::requirePersisted);
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, notifyLogs, notifyLogs.size(), (ps, notifyLog) -> {
+            ps.setString(1, notifyLog.getNotifyType() == null ? null : notifyLog.getNotifyType().name());
+            ps.setString(2, notifyLog.getTarget());
+            if (notifyLog.getStatus() == null) {
+                ps.setNull(3, Types.BIT);
+            } else {
+                ps.setBoolean(3, notifyLog.getStatus());
+            }
+            if (notifyLog.getTriggerType() == null) {
+                ps.setNull(4, Types.SMALLINT);
+            } else {
+                ps.setInt(4, notifyLog.getTriggerType().ordinal());
+            }
+            ps.setTimestamp(5, notifyLog.getNotifiedAt() == null ? null : Timestamp.valueOf(notifyLog.getNotifiedAt()));
+            if (notifyLog.getAbnormalLogId() == null) {
+                ps.setNull(6, Types.BIGINT);
+            } else {
+                ps.setLong(6, notifyLog.getAbnormalLogId());
+            }
+        });
+    }
 }
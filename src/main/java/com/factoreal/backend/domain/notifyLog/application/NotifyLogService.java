@@ -8,6 +8,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -100,5 +102,32 @@ public class NotifyLogService {
                 .build();
         return notifyLogRepoService.saveNotifyLog(notifyLog);
     }
+
+    /**
+     * 여러 작업자에게 한 번에 보낸 FCM 전송 결과를 한 번의 배치 INSERT 로 기록 -> 공간 위험 알림에서 사용
+     *
+     * @param resultsByWorkerId 작업자 ID -> 전송 성공 여부
+     * @param triggerType
+     * @param triggerTime
+     * @param abnormalLogId
+     */
+    public void saveNotifyLogsFromFCM(
+            Map<String, Boolean> resultsByWorkerId,
+            TriggerType triggerType,
+            LocalDateTime triggerTime,
+            Long abnormalLogId
+    ) {
+        List<NotifyLog> notifyLogs = resultsByWorkerId.entrySet().stream()
+                .map(e -> NotifyLog.builder()
+                        .notifyType(NotifyType.AppPush)
+                        .target(e.getKey()) // fcm workerId
+                        .status(e.getValue()) // 전송 성공 여부
+                        .triggerType(triggerType)
+                        .notifiedAt(triggerTime)
+                        .abnormalLogId(abnormalLogId)
+                        .build())
+                .toList();
+        notifyLogRepoService.saveAllNotifyLogs(notifyLogs);
+    }
 }
 
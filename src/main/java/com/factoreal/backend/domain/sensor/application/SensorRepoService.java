@@ -3,15 +3,27 @@ package com.factoreal.backend.domain.sensor.application;
 import com.factoreal.backend.domain.sensor.dao.SensorRepository;
 import com.factoreal.backend.domain.sensor.dto.response.SensorInfoResponse;
 import com.factoreal.backend.domain.sensor.entity.Sensor;
+import com.factoreal.backend.domain.zone.application.ZoneTopologyChangedEvent;
 import com.factoreal.backend.domain.zone.entity.Zone;
+import com.factoreal.backend.global.config.CacheConfig;
 import com.factoreal.backend.global.exception.dto.NotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -19,7 +31,18 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class SensorRepoService {
 
+    // 공간/설비가 존재할 때만 INSERT (FK 위반 없이 건너뜀), 이미 있는 센서는 그대로 둠
+    private static final String INSERT_IF_ABSENT_SQL = """
+            INSERT INTO sensor_info (sensor_id, sensor_type, created_at, zone_id, equip_id, iszone)
+            SELECT ?, ?, ?, z.zone_id, e.equip_id, ?
+            FROM zone_info z JOIN equip_info e ON e.equip_id = ?
+            WHERE z.zone_id = ?
+            ON DUPLICATE KEY UPDATE sensor_id = sensor_info.sensor_id
+            """;
+
     private final SensorRepository sensorRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JdbcTemplate jdbcTemplate;
 
     /**
      * 공간에 존재하는 센서 리스트를 조회하는 레포 접근 메서드
@@ -52,10 +75,76 @@ public class SensorRepoService {
 
     /**
      * 센서 정보 저장을 위한 레포 접근 메서드
+     * 공간 구성 조회 스냅샷(ZoneTopologyReadModel)도 무효화한다.
      */
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.SENSOR, key = "#sensor.sensorId")
     protected Sensor save(Sensor sensor) {
-        return sensorRepository.save(sensor);
+        Sensor saved = sensorRepository.save(sensor);
+        eventPublisher.publishEvent(new ZoneTopologyChangedEvent("sensor"));
+        return saved;
+    }
+
+    /**
+     * 센서 일괄 등록 (JDBC 배치, 중복 키 예외 없이 처리)
+     * - 이미 있는 센서는 변경하지 않고, 공간/설비가 없는 센서는 저장하지 않음
+     * - rewriteBatchedStatements 등으로 드라이버가 행별 결과 대신 SUCCESS_NO_INFO(-2) 를 주면
+     *   저장 후 실제로 등록된 ID 를 다시 조회해 건너뛴 센서와 구분
+     * - 공간 구성 조회 스냅샷(ZoneTopologyReadModel)도 무효화한다.
+     *
+     * @return 저장됐거나 이미 존재하는 센서 ID (공간/설비가 없어 건너뛴 센서는 제외)
+     */
+    @Transactional
+    public Set<String> insertAllIfAbsent(List<Sensor> sensors) {
+        Set<String> stored = new HashSet<>();
+        if (sensors.isEmpty()) {
+            return stored;
+        }
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT_IF_ABSENT_SQL, sensors, sensors.size(), (ps, sensor) -> {
+            ps.setString(1, sensor.getSensorId());
+            ps.setString(2, sensor.getSensorType().name());
+            ps.setTimestamp(3, sensor.getCreatedAt() == null ? null : Timestamp.valueOf(sensor.getCreatedAt()));
+            ps.setObject(4, sensor.getIsZone());
+            ps.setString(5, sensor.getEquip().getEquipId());
+            ps.setString(6, sensor.getZone().getZoneId());
+        });
+        boolean noInfo = Arrays.stream(counts).flatMapToInt(Arrays::stream)
+                .anyMatch(count -> count == Statement.SUCCESS_NO_INFO);
+        if (noInfo) {
+            stored.addAll(sensorRepository.findExistingSensorIds(
+                    sensors.stream().map(Sensor::getSensorId).toList()));
+        } else {
+            for (int i = 0; i < sensors.size(); i++) {
+                if (counts[0][i] > 0) { // 0 : 공간/설비가 없어 건너뜀
+                    stored.add(sensors.get(i).getSensorId());
+                }
+            }
+        }
+        if (!stored.isEmpty()) {
+            eventPublisher.publishEvent(new ZoneTopologyChangedEvent("sensor"));
+        }
+        return stored;
+    }
+
+    /**
+     * 등록된 센서 ID 전체
+     */
+    public List<String> findAllSensorIds() {
+        return sensorRepository.findAllSensorIds();
+    }
+
+    /**
+     * 전체 센서를 공간/설비와 함께 한 번에 조회 (공간 구성 조회용)
+     */
+    public List<Sensor> findAllWithZoneAndEquip() {
+        return sensorRepository.findAllWithZoneAndEquip();
+    }
+
+    /**
+     * 설비 ID 목록으로 설비에 달린 센서들을 일괄 조회하는 메서드
+     */
+    public List<Sensor> findByEquipIdIn(Collection<String> equipIds) {
+        return sensorRepository.findByEquip_EquipIdIn(equipIds);
     }
 
     public Sensor findById(String sensorId) {
@@ -63,6 +152,17 @@ public class SensorRepoService {
             .orElseThrow(() -> new NotFoundException("존재하지 않는 센서 ID: "+ sensorId));
     }
 
+    /**
+     * 센서 캐시 조회 (Kafka 처리 등 읽기 전용 경로)
+     * 반환된 엔티티는 여러 스레드가 공유하므로 수정하지 않는다. (수정은 findById 로 조회한 엔티티로)
+     * 캐시된 엔티티는 영속성 컨텍스트 밖에서 사용되므로 공간/설비를 함께 로딩한다.
+     */
+    @Cacheable(cacheNames = CacheConfig.SENSOR, key = "#sensorId")
+    public Sensor findCachedById(String sensorId) {
+        return sensorRepository.findWithZoneAndEquipBySensorId(sensorId)
+            .orElseThrow(() -> new NotFoundException("존재하지 않는 센서 ID: "+ sensorId));
+    }
+
     public List<Sensor> findByZone_ZoneId(String zoneId) {
         return sensorRepository.findByZone_ZoneId(zoneId);
     }
@@ -76,6 +176,13 @@ public class SensorRepoService {
     }
 
 
+    /**
+     * 센서 ID 목록으로 센서들을 일괄 조회하는 메서드
+     */
+    public List<Sensor> findBySensorIdIn(Collection<String> sensorIds) {
+        return sensorRepository.findBySensorIdIn(sensorIds);
+    }
+
     /**
      * Abnormal에서의 target_id(센서_id)로 매칭되는 설비별 센서들을 탐색하는 메서드
      */
@@ -15,7 +15,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -71,6 +73,30 @@ public class SensorService {
                 && !sensor.getEquipId().equals(sensor.getZoneId()))
             .collect(Collectors.toList());
     }
+
+    /**
+     * 여러 설비에 달린 센서 정보를 한 번에 조회해 설비 ID별로 묶는 메서드 (환경 센서 제외)
+     */
+    public Map<String, List<SensorInfoResponse>> findSensorsByEquipIds(Collection<String> equipIds) {
+        if (equipIds.isEmpty()) {
+            return Map.of();
+        }
+        return groupByEquipId(sensorRepoService.findByEquipIdIn(equipIds));
+    }
+
+    /**
+     * 전체 설비의 센서 정보를 설비 ID별로 묶는 메서드 (환경 센서 제외)
+     */
+    public Map<String, List<SensorInfoResponse>> findAllSensorsByEquipId() {
+        return groupByEquipId(sensorRepoService.findAllWithZoneAndEquip());
+    }
+
+    private Map<String, List<SensorInfoResponse>> groupByEquipId(List<Sensor> sensors) {
+        return sensors.stream()
+            .map(SensorInfoResponse::fromEntity)
+            .filter(sensor -> !sensor.getEquipId().equals(sensor.getZoneId()))
+            .collect(Collectors.groupingBy(SensorInfoResponse::getEquipId));
+    }
     
     /**
      * 공간 Id로 공간 조회하는 메서드
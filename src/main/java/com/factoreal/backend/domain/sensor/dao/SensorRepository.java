@@ -4,7 +4,10 @@ import java.util.Collection;
 import java.util.Optional;
 
 import com.factoreal.backend.domain.zone.entity.Zone;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.factoreal.backend.domain.sensor.entity.Sensor;
 
@@ -18,4 +21,25 @@ public interface SensorRepository extends JpaRepository<Sensor, String> {
     List<Sensor> findBySensorIdIn(Collection<String> sensorIds);
 
     Boolean existsSensorBySensorId(String sensorId);
+
+    // 캐시용 단건 조회: 지연 로딩 연관관계(공간, 설비)를 함께 조회
+    @EntityGraph(attributePaths = {"zone", "equip"})
+    Optional<Sensor> findWithZoneAndEquipBySensorId(String sensorId);
+
+    // 공간 구성 조회용 전체 조회: 공간/설비를 함께 조회
+    @EntityGraph(attributePaths = {"zone", "equip"})
+    @Query("SELECT s FROM Sensor s")
+    List<Sensor> findAllWithZoneAndEquip();
+
+    // 설비 ID 목록으로 설비에 달린 센서 일괄 조회
+    @EntityGraph(attributePaths = {"zone", "equip"})
+    List<Sensor> findByEquip_EquipIdIn(Collection<String> equipIds);
+
+    // 등록된 센서 ID 전체 (MQTT shadow 등록 중복 확인용)
+    @Query("SELECT s.sensorId FROM Sensor s")
+    List<String> findAllSensorIds();
+
+    // 주어진 ID 중 등록된 센서 ID (JDBC 배치가 행별 결과를 주지 않을 때 저장 여부 확인용)
+    @Query("SELECT s.sensorId FROM Sensor s WHERE s.sensorId IN :sensorIds")
+    List<String> findExistingSensorIds(@Param("sensorIds") Collection<String> sensorIds);
 }
\ No newline at end of file
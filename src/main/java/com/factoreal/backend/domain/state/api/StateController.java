@@ -1,11 +1,13 @@
 package com.factoreal.backend.domain.state.api;
 
+import com.factoreal.backend.domain.state.dto.response.ZoneStateResponse;
 import com.factoreal.backend.domain.state.service.StateService;
 import com.factoreal.backend.messaging.common.dto.ZoneDangerDto;
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -21,4 +23,16 @@ public class StateController {
     public List<ZoneDangerDto> getAllZoneStates() {
         return service.getAllZoneStates();
     }
+
+    @GetMapping("/zones/snapshot")
+    @Operation(summary = "공간 상태 스냅샷 조회", description = "버전과 함께 위험 공간 전체 상태를 조회합니다. 이후 변경분은 /topic/zone-state 또는 /zones/changes 로 동기화합니다.")
+    public ZoneStateResponse getZoneStateSnapshot() {
+        return service.getZoneStateSnapshot();
+    }
+
+    @GetMapping("/zones/changes")
+    @Operation(summary = "공간 상태 변경분 조회", description = "since 버전 이후 바뀐 공간 상태만 조회합니다. level 0 은 정상 복귀를 의미하며, full 이 true 이면 전체 상태로 교체해야 합니다.")
+    public ZoneStateResponse getZoneStateChanges(@RequestParam long since) {
+        return service.getZoneStateChanges(since);
+    }
 }
@@ -0,0 +1,22 @@
+package com.factoreal.backend.domain.state.dto.response;
+
+import com.factoreal.backend.messaging.common.dto.ZoneDangerDto;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 버전이 붙은 공간 상태 응답
+ * - 전체 조회 : 위험(level > 0) 공간 전체
+ * - 변경분 조회/STOMP 델타 : since 이후 바뀐 공간 (level 0 은 정상 복귀)
+ * full 이 true 이면 zones 가 전체 상태이므로 클라이언트는 기존 상태를 교체해야 함
+ */
+@Builder
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ZoneStateResponse {
+    private long version;
+    private boolean full;
+    private List<ZoneDangerDto> zones;
+}
@@ -1,11 +1,9 @@
 package com.factoreal.backend.domain.state.service;
 
-import com.factoreal.backend.domain.state.store.ZoneSensorStateStore;
-import com.factoreal.backend.domain.state.store.ZoneWorkerStateStore;
-import com.factoreal.backend.domain.zone.application.ZoneRepoService;
+import com.factoreal.backend.domain.state.dto.response.ZoneStateResponse;
+import com.factoreal.backend.domain.zone.application.ZoneTopologyReadModel;
+import com.factoreal.backend.domain.zone.dto.response.ZoneDetailResponse;
 import com.factoreal.backend.messaging.common.dto.ZoneDangerDto;
-import com.factoreal.backend.messaging.kafka.strategy.enums.RiskLevel;
-import com.factoreal.backend.messaging.kafka.strategy.enums.WearableDataType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -14,33 +12,36 @@ import java.util.*;
 @Service
 @RequiredArgsConstructor
 public class StateService {
-    private final ZoneRepoService zoneRepoService;
-    private final ZoneSensorStateStore zoneSensorStateStore;
-    private final ZoneWorkerStateStore zoneWorkerStateStore;
+    private final ZoneStateView zoneStateView;
+    private final ZoneTopologyReadModel zoneTopologyReadModel;
 
+    // 위험(level > 0) 공간 상태 목록 - 버전 뷰의 캐시된 스냅샷 중 현재 등록된 공간만
     public List<ZoneDangerDto> getAllZoneStates() {
-        return zoneRepoService.findAll().stream()
-                .map(zone -> {
-                    String zoneId = zone.getZoneId();
-                    RiskLevel zoneSensorLevel = zoneSensorStateStore.getZoneRiskLevel(zoneId);
-                    RiskLevel zoneWorkerLevel = zoneWorkerStateStore.getZoneRiskLevel(zoneId);
+        return existingZonesOnly(zoneStateView.getSnapshot()).getZones();
+    }
+
+    // 버전이 포함된 전체 공간 상태
+    public ZoneStateResponse getZoneStateSnapshot() {
+        return existingZonesOnly(zoneStateView.getSnapshot());
+    }
+
+    // since 버전 이후 바뀐 공간 상태
+    public ZoneStateResponse getZoneStateChanges(long since) {
+        return existingZonesOnly(zoneStateView.getChangesSince(since));
+    }
 
-                    ZoneDangerDto zoneDangerDto = new ZoneDangerDto();
-                    if (zoneSensorLevel == RiskLevel.INFO && zoneWorkerLevel == RiskLevel.INFO) {
-                        return null;
-                    } else if (zoneSensorLevel.getPriority() >= zoneWorkerLevel.getPriority()) {
-                        zoneDangerDto.setZoneId(zoneId);
-                        zoneDangerDto.setLevel(zoneSensorLevel.getPriority());
-                        zoneDangerDto.setSensorType(zoneSensorStateStore.getHighestRiskSensor(zoneId).getSensorType().name());
-                        return zoneDangerDto;
-                    } else {
-                        zoneDangerDto.setZoneId(zoneId);
-                        zoneDangerDto.setLevel(zoneWorkerLevel.getPriority());
-                        zoneDangerDto.setSensorType(WearableDataType.heartRate.name());
-                        return zoneDangerDto;
-                    }
-                })
-                .filter(Objects::nonNull)
+    // 상태 스토어에는 삭제되었거나 등록되지 않은 공간이 남아 있을 수 있으므로 공간 구성 스냅샷 기준으로 거름
+    private ZoneStateResponse existingZonesOnly(ZoneStateResponse response) {
+        Set<String> zoneIds = new HashSet<>();
+        for (ZoneDetailResponse zone : zoneTopologyReadModel.getZoneItems()) {
+            zoneIds.add(zone.getZoneId());
+        }
+        List<ZoneDangerDto> zones = response.getZones().stream()
+                .filter(zone -> zoneIds.contains(zone.getZoneId()))
                 .toList();
+        if (zones.size() == response.getZones().size()) {
+            return response;
+        }
+        return new ZoneStateResponse(response.getVersion(), response.isFull(), zones);
     }
 }
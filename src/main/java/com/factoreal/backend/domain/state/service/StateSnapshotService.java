@@ -0,0 +1,207 @@
+package com.factoreal.backend.domain.state.service;
+
+import com.factoreal.backend.domain.abnormalLog.application.AbnormalLogRepoService;
+import com.factoreal.backend.domain.abnormalLog.dto.TargetType;
+import com.factoreal.backend.domain.abnormalLog.entity.AbnormalLog;
+import com.factoreal.backend.domain.sensor.application.SensorRepoService;
+import com.factoreal.backend.domain.sensor.entity.Sensor;
+import com.factoreal.backend.domain.state.store.InMemoryZoneSensorStateStore;
+import com.factoreal.backend.domain.state.store.InMemoryZoneWorkerStateStore;
+import com.factoreal.backend.domain.state.store.ZoneStateSnapshot;
+import com.factoreal.backend.messaging.kafka.strategy.enums.RiskLevel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 센서/작업자 상태 스토어 스냅샷 저장 및 기동 시 복원
+ * - 주기적으로 두 스토어 상태를 바이너리 파일로 저장 (임시 파일 기록 후 원자적 교체)
+ * - 기동 시 Kafka 리스너 컨테이너보다 먼저 스냅샷을 읽어 상태 복원
+ * - 스냅샷이 없거나 손상/만료된 경우 대상별 최신 AbnormalLog 로 재구성
+ * - 종료 시 Kafka 리스너가 멈춘 뒤 마지막 스냅샷 저장
+ */
+@Slf4j
+@Service
+public class StateSnapshotService implements SmartLifecycle {
+
+    // Kafka 리스너 컨테이너(phase = Integer.MAX_VALUE - 100) 보다 먼저 시작하고 나중에 종료
+    private static final int PHASE = 0;
+
+    private final InMemoryZoneSensorStateStore sensorStateStore;
+    private final InMemoryZoneWorkerStateStore workerStateStore;
+    private final AbnormalLogRepoService abnormalLogRepoService;
+    private final SensorRepoService sensorRepoService;
+    private final boolean enabled;
+    private final Path snapshotPath;
+    private final Duration maxAge;
+    private final Duration rebuildLookback;
+
+    private volatile boolean running;
+
+    public StateSnapshotService(InMemoryZoneSensorStateStore sensorStateStore,
+                                InMemoryZoneWorkerStateStore workerStateStore,
+                                AbnormalLogRepoService abnormalLogRepoService,
+                                SensorRepoService sensorRepoService,
+                                @Value("${state.snapshot.enabled:true}") boolean enabled,
+                                @Value("${state.snapshot.path:./data/zone-state.snap}") String snapshotPath,
+                                @Value("${state.snapshot.max-age:PT30M}") Duration maxAge,
+                                @Value("${state.snapshot.rebuild-lookback:P7D}") Duration rebuildLookback) {
+        this.sensorStateStore = sensorStateStore;
+        this.workerStateStore = workerStateStore;
+        this.abnormalLogRepoService = abnormalLogRepoService;
+        this.sensorRepoService = sensorRepoService;
+        this.enabled = enabled;
+        this.snapshotPath = Path.of(snapshotPath);
+        this.maxAge = maxAge;
+        this.rebuildLookback = rebuildLookback;
+    }
+
+    @Override
+    public void start() {
+        if (enabled) {
+            restore();
+        }
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        if (running && enabled) {
+            saveSnapshot();
+        }
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    @Scheduled(fixedDelayString = "${state.snapshot.interval-ms:30000}",
+            initialDelayString = "${state.snapshot.interval-ms:30000}")
+    public void scheduledSnapshot() {
+        if (running && enabled) {
+            saveSnapshot();
+        }
+    }
+
+    /**
+     * 현재 스토어 상태를 스냅샷 파일로 저장
+     * 같은 디렉터리의 임시 파일에 먼저 기록한 뒤 교체하므로 기록 도중 종료되어도 이전 스냅샷은 유지됨
+     */
+    public synchronized void saveSnapshot() {
+        ZoneStateSnapshot snapshot = new ZoneStateSnapshot(
+                System.currentTimeMillis(),
+                sensorStateStore.exportSensorStates(),
+                workerStateStore.exportWorkerStates());
+        try {
+            Path dir = snapshotPath.toAbsolutePath().getParent();
+            Files.createDirectories(dir);
+            Path tmp = Files.createTempFile(dir, snapshotPath.getFileName().toString(), ".tmp");
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tmp))) {
+                snapshot.writeTo(out);
+            }
+            Files.move(tmp, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.debug("상태 스냅샷 저장: sensors={}, workers={}",
+                    snapshot.getSensors().size(), snapshot.getWorkers().size());
+        } catch (IOException e) {
+            log.error("❌ 상태 스냅샷 저장 실패: {}", snapshotPath, e);
+        }
+    }
+
+    /**
+     * 스냅샷 파일로 복원, 불가하면 AbnormalLog 기반 재구성
+     */
+    void restore() {
+        ZoneStateSnapshot snapshot = readSnapshot();
+        if (snapshot != null) {
+            snapshot.getSensors().forEach(e ->
+                    sensorStateStore.setSensorRiskLevel(e.getZoneId(), e.getSensorId(), e.getSensorType(), e.getRiskLevel()));
+            snapshot.getWorkers().forEach(e ->
+                    workerStateStore.setWorkerRiskLevel(e.getZoneId(), e.getWorkerId(), e.getRiskLevel()));
+            log.info("✅ 상태 스냅샷 복원: sensors={}, workers={}",
+                    snapshot.getSensors().size(), snapshot.getWorkers().size());
+            return;
+        }
+        rebuildFromAbnormalLogs();
+    }
+
+    private ZoneStateSnapshot readSnapshot() {
+        if (!Files.exists(snapshotPath)) {
+            log.info("상태 스냅샷 없음: {}", snapshotPath);
+            return null;
+        }
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(snapshotPath))) {
+            ZoneStateSnapshot snapshot = ZoneStateSnapshot.readFrom(in);
+            Duration age = Duration.ofMillis(System.currentTimeMillis() - snapshot.getCreatedAt());
+            if (age.compareTo(maxAge) > 0) {
+                log.warn("⚠️ 상태 스냅샷 만료 (age={}, max-age={}) → AbnormalLog 기반 재구성", age, maxAge);
+                return null;
+            }
+            return snapshot;
+        } catch (IOException | RuntimeException e) {
+            log.warn("⚠️ 상태 스냅샷 읽기 실패 → AbnormalLog 기반 재구성: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    // 대상별 최신 AbnormalLog 의 dangerLevel 로 상태 재구성
+    private void rebuildFromAbnormalLogs() {
+        List<AbnormalLog> latestLogs = abnormalLogRepoService.findLatestLogsPerTarget(
+                List.of(TargetType.Sensor, TargetType.Worker), LocalDateTime.now().minus(rebuildLookback));
+
+        // 센서 타입은 센서 테이블에서 한 번에 조회
+        List<String> sensorIds = latestLogs.stream()
+                .filter(abnLog -> abnLog.getTargetType() == TargetType.Sensor)
+                .map(AbnormalLog::getTargetId)
+                .distinct()
+                .toList();
+        Map<String, Sensor> sensors = sensorIds.isEmpty() ? Map.of()
+                : sensorRepoService.findBySensorIdIn(sensorIds).stream()
+                .collect(Collectors.toMap(Sensor::getSensorId, Function.identity()));
+
+        int sensorCount = 0;
+        int workerCount = 0;
+        for (AbnormalLog abnLog : latestLogs) {
+            if (abnLog.getDangerLevel() == null) {
+                continue;
+            }
+            RiskLevel riskLevel = RiskLevel.fromPriority(abnLog.getDangerLevel());
+            String zoneId = abnLog.getZone().getZoneId();
+            if (abnLog.getTargetType() == TargetType.Sensor) {
+                Sensor sensor = sensors.get(abnLog.getTargetId());
+                if (sensor == null) {
+                    continue; // 삭제된 센서
+                }
+                sensorStateStore.setSensorRiskLevel(zoneId, abnLog.getTargetId(), sensor.getSensorType(), riskLevel);
+                sensorCount++;
+            } else {
+                workerStateStore.setWorkerRiskLevel(zoneId, abnLog.getTargetId(), riskLevel);
+                workerCount++;
+            }
+        }
+        log.info("✅ AbnormalLog 기반 상태 재구성: sensors={}, workers={}", sensorCount, workerCount);
+    }
+}
@@ -0,0 +1,121 @@
+package com.factoreal.backend.domain.state.service;
+
+import com.factoreal.backend.domain.state.dto.response.ZoneStateResponse;
+import com.factoreal.backend.domain.state.store.ZoneSensorStateStore;
+import com.factoreal.backend.domain.state.store.ZoneWorkerStateStore;
+import com.factoreal.backend.messaging.common.dto.ZoneDangerDto;
+import com.factoreal.backend.messaging.kafka.strategy.enums.RiskLevel;
+import com.factoreal.backend.messaging.kafka.strategy.enums.SensorType;
+import com.factoreal.backend.messaging.kafka.strategy.enums.WearableDataType;
+import com.factoreal.backend.messaging.sender.WebSocketSender;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 버전이 붙은 공간 상태 뷰
+ * - 상태 스토어의 변경 리스너로 등록되어, 바뀐 공간만 다시 계산 (DB 조회 없음)
+ * - 상태가 실제로 바뀐 경우에만 버전을 올리고 /topic/zone-state 로 델타 전송
+ *   (락 안에서 단일 스레드 전송 큐에 넣으므로 버전 순서대로 전송됨)
+ * - 전체 상태는 버전이 바뀔 때만 다시 만드는 캐시된 스냅샷으로 제공
+ * 공간 상태 변경은 등급 전환 시에만 일어나므로 단일 락으로 버전/상태를 함께 갱신해 일관성 보장
+ * 버전은 기동 시각(ms)에서 시작하여 재기동 이후에도 이전 버전보다 커지도록 함
+ */
+@Component
+public class ZoneStateView {
+
+    private final ZoneSensorStateStore zoneSensorStateStore;
+    private final ZoneWorkerStateStore zoneWorkerStateStore;
+    private final WebSocketSender webSocketSender;
+
+    private final Map<String, VersionedZoneState> zoneStates = new HashMap<>();
+    private long version = System.currentTimeMillis();
+    private ZoneStateResponse cachedSnapshot;
+
+    public ZoneStateView(ZoneSensorStateStore zoneSensorStateStore,
+                         ZoneWorkerStateStore zoneWorkerStateStore,
+                         WebSocketSender webSocketSender) {
+        this.zoneSensorStateStore = zoneSensorStateStore;
+        this.zoneWorkerStateStore = zoneWorkerStateStore;
+        this.webSocketSender = webSocketSender;
+        zoneSensorStateStore.addZoneStateChangeListener(this::onZoneStateChanged);
+        zoneWorkerStateStore.addZoneStateChangeListener(this::onZoneStateChanged);
+    }
+
+    /**
+     * 스토어에서 공간 상태가 바뀌었을 때 해당 공간만 다시 계산
+     */
+    synchronized void onZoneStateChanged(String zoneId) {
+        ZoneDangerDto now = computeZoneState(zoneId);
+        VersionedZoneState prev = zoneStates.get(zoneId);
+        if (prev == null ? now.getLevel() == 0 : sameState(prev.state, now)) {
+            return;
+        }
+        version++;
+        zoneStates.put(zoneId, new VersionedZoneState(version, now));
+        webSocketSender.sendZoneStateDelta(new ZoneStateResponse(version, false, List.of(now)));
+    }
+
+    /**
+     * 위험(level > 0) 공간 전체 상태 (버전이 바뀐 경우에만 다시 생성)
+     */
+    public synchronized ZoneStateResponse getSnapshot() {
+        if (cachedSnapshot == null || cachedSnapshot.getVersion() != version) {
+            List<ZoneDangerDto> zones = new ArrayList<>();
+            zoneStates.values().forEach(zoneState -> {
+                if (zoneState.state.getLevel() > 0) {
+                    zones.add(zoneState.state);
+                }
+            });
+            cachedSnapshot = new ZoneStateResponse(version, true, List.copyOf(zones));
+        }
+        return cachedSnapshot;
+    }
+
+    /**
+     * since 버전 이후 바뀐 공간 목록 (level 0 은 정상 복귀)
+     * since 가 현재 버전보다 크면(다른 인스턴스/재기동 전 버전) 전체 상태를 반환
+     */
+    public synchronized ZoneStateResponse getChangesSince(long since) {
+        if (since > version) {
+            return getSnapshot();
+        }
+        List<ZoneDangerDto> zones = new ArrayList<>();
+        zoneStates.values().forEach(zoneState -> {
+            if (zoneState.version > since) {
+                zones.add(zoneState.state);
+            }
+        });
+        return new ZoneStateResponse(version, false, zones);
+    }
+
+    // 센서/작업자 중 높은 쪽 등급으로 공간 상태 계산 (같으면 센서 우선)
+    private ZoneDangerDto computeZoneState(String zoneId) {
+        RiskLevel sensorLevel = zoneSensorStateStore.getZoneRiskLevel(zoneId);
+        RiskLevel workerLevel = zoneWorkerStateStore.getZoneRiskLevel(zoneId);
+        if (sensorLevel == RiskLevel.INFO && workerLevel == RiskLevel.INFO) {
+            return new ZoneDangerDto(zoneId, null, 0);
+        }
+        if (sensorLevel.getPriority() >= workerLevel.getPriority()) {
+            SensorType sensorType = zoneSensorStateStore.getHighestRiskSensorType(zoneId);
+            return new ZoneDangerDto(zoneId, sensorType == null ? null : sensorType.name(), sensorLevel.getPriority());
+        }
+        return new ZoneDangerDto(zoneId, WearableDataType.heartRate.name(), workerLevel.getPriority());
+    }
+
+    private boolean sameState(ZoneDangerDto a, ZoneDangerDto b) {
+        return a.getLevel() == b.getLevel() && Objects.equals(a.getSensorType(), b.getSensorType());
+    }
+
+    // 공간 상태와 마지막으로 바뀐 버전
+    @AllArgsConstructor
+    private static final class VersionedZoneState {
+        private final long version;
+        private final ZoneDangerDto state;
+    }
+}
@@ -1,84 +1,136 @@
 package com.factoreal.backend.domain.state.store;
 
-import com.factoreal.backend.domain.sensor.application.SensorRepoService;
-import com.factoreal.backend.domain.sensor.entity.Sensor;
 import com.factoreal.backend.messaging.kafka.strategy.enums.RiskLevel;
+import com.factoreal.backend.messaging.kafka.strategy.enums.SensorType;
 import org.springframework.stereotype.Component;
 
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 @Component
 public class InMemoryZoneSensorStateStore implements ZoneSensorStateStore {
-    private final ConcurrentMap<String, AtomicIntegerArray> zoneStateCounts = new ConcurrentHashMap<>();
-    private final ConcurrentMap<String, ConcurrentMap<String, RiskLevel>> zoneSensorStates = new ConcurrentHashMap<>();
-    private static final RiskLevel[] PRIORITY_TO_LEVEL = RiskLevel.values();
+    private static final RiskLevel[] LEVELS = RiskLevel.values();
 
-    private final SensorRepoService sensorRepoService;
-
-    public InMemoryZoneSensorStateStore(SensorRepoService sensorRepoService) {
-        this.sensorRepoService = sensorRepoService;
-    }
+    private final ConcurrentMap<String, ZoneSensorState> zoneStates = new ConcurrentHashMap<>();
+    private final List<ZoneStateChangeListener> listeners = new CopyOnWriteArrayList<>();
 
     @Override
     public RiskLevel getZoneRiskLevel(String zoneId) {
-        AtomicIntegerArray levelCount = zoneStateCounts.get(zoneId);
-        if (levelCount == null) {
+        ZoneSensorState state = zoneStates.get(zoneId);
+        if (state == null) {
             return RiskLevel.INFO;
         }
-
-        // 우선순위 높은 순서대로(거꾸로) 루프 돌기
-        for (int p = levelCount.length() - 1; p >= 0; p--) {
-            if (levelCount.get(p) > 0) {
-                return PRIORITY_TO_LEVEL[p];
-            }
-        }
-
-        return RiskLevel.INFO;
+        return PackedLevelCounts.highestLevel(state.counts.get());
     }
 
     @Override
     public RiskLevel getSensorRiskLevel(String zoneId, String sensorId) {
-        ConcurrentMap<String, RiskLevel> sensorStates = zoneSensorStates.get(zoneId);
-        if (sensorStates == null) {
+        ZoneSensorState state = zoneStates.get(zoneId);
+        if (state == null) {
             return RiskLevel.INFO;
         }
 
-        return sensorStates.getOrDefault(sensorId, RiskLevel.INFO);
+        return state.sensorLevels.getOrDefault(sensorId, RiskLevel.INFO);
     }
 
     @Override
-    public Sensor getHighestRiskSensor(String zoneId) {
-        ConcurrentMap<String, RiskLevel> sensorStates = zoneSensorStates.get(zoneId);
+    public SensorType getHighestRiskSensorType(String zoneId) {
+        ZoneSensorState state = zoneStates.get(zoneId);
 
         // 1) 해당 존(zone)에 센서가 없으면 바로 null
-        if (sensorStates == null || sensorStates.isEmpty()) {
+        if (state == null) {
             return null;
         }
-        return sensorStates.entrySet().stream()
-                .max(Comparator.comparingInt(e -> e.getValue().getPriority()))
-                .map(e -> sensorRepoService.findById(e.getKey())) // Optional<Sensor>
-                .orElseThrow();
+
+        // 2) 카운트 워드로 최고 등급을 구하고, 해당 등급 인덱스에서 센서 하나를 꺼냄 (DB 조회 없음)
+        //    갱신 도중 인덱스가 잠깐 비어 보일 수 있으므로 아래 등급으로 내려가며 확인
+        RiskLevel highest = PackedLevelCounts.highestLevel(state.counts.get());
+        for (int i = highest.ordinal(); i >= 0; i--) {
+            Iterator<SensorType> types = state.levelIndex[i].values().iterator();
+            if (types.hasNext()) {
+                return types.next();
+            }
+        }
+        return null;
     }
 
     @Override
-    public void setSensorRiskLevel(String zoneId, String sensorId, RiskLevel riskLevel) {
-        // 1) zoneStateCounts, zoneSensorStates에 zoneId 없으면 생성
-        if (!zoneStateCounts.containsKey(zoneId)) {
-            zoneStateCounts.put(zoneId, new AtomicIntegerArray(PRIORITY_TO_LEVEL.length));
-        }
-        if (!zoneSensorStates.containsKey(zoneId)) {
-            zoneSensorStates.put(zoneId, new ConcurrentHashMap<>());
+    public RiskLevelTransition setSensorRiskLevel(String zoneId, String sensorId, SensorType sensorType, RiskLevel riskLevel) {
+        // 1) zoneId 상태 없으면 원자적으로 생성
+        ZoneSensorState state = zoneStates.computeIfAbsent(zoneId, k -> new ZoneSensorState());
+
+        // 2) 센서 단위 compute 안에서 등급 교체 + 등급 인덱스 이동 + 카운트 증감(CAS 1회)
+        //    같은 센서의 전환은 compute 로 직렬화되므로 카운트가 음수로 내려가지 않음
+        //    인덱스는 "새 등급에 추가 → 카운트 반영 → 이전 등급에서 제거" 순서로 바꿔
+        //    카운트상 존재하는 등급의 인덱스가 비어 보이지 않도록 함
+        long[] prevWord = new long[1];
+        RiskLevel[] prevLevel = new RiskLevel[1];
+        state.sensorLevels.compute(sensorId, (id, prev) -> {
+            prevLevel[0] = prev;
+            state.levelIndex[riskLevel.ordinal()].put(sensorId, sensorType);
+            prevWord[0] = state.counts.getAndAdd(PackedLevelCounts.delta(prev, riskLevel));
+            if (prev != null && prev != riskLevel) {
+                state.levelIndex[prev.ordinal()].remove(sensorId);
+            }
+            return riskLevel;
+        });
+
+        long delta = PackedLevelCounts.delta(prevLevel[0], riskLevel);
+        RiskLevelTransition transition = new RiskLevelTransition(
+                prevLevel[0] == null ? RiskLevel.INFO : prevLevel[0],
+                riskLevel,
+                PackedLevelCounts.highestLevel(prevWord[0]),
+                PackedLevelCounts.highestLevel(prevWord[0] + delta));
+
+        // 3) 센서 등급이 바뀐 경우에만 공간 상태(등급, 최고 위험 센서) 변경 가능
+        if (transition.isLevelChanged()) {
+            listeners.forEach(listener -> listener.onZoneStateChanged(zoneId));
         }
+        return transition;
+    }
+
+    @Override
+    public void addZoneStateChangeListener(ZoneStateChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * 공간의 특정 위험 등급 센서 수 (모니터링/검증용)
+     */
+    public int getLevelCount(String zoneId, RiskLevel riskLevel) {
+        ZoneSensorState state = zoneStates.get(zoneId);
+        return state == null ? 0 : PackedLevelCounts.count(state.counts.get(), riskLevel);
+    }
+
+    /**
+     * 스냅샷용 현재 센서 상태 목록 (갱신 중인 센서는 다음 스냅샷에 반영)
+     */
+    public List<ZoneStateSnapshot.SensorEntry> exportSensorStates() {
+        List<ZoneStateSnapshot.SensorEntry> entries = new ArrayList<>();
+        zoneStates.forEach((zoneId, state) -> state.sensorLevels.forEach((sensorId, level) -> {
+            SensorType sensorType = state.levelIndex[level.ordinal()].get(sensorId);
+            if (sensorType != null) {
+                entries.add(new ZoneStateSnapshot.SensorEntry(zoneId, sensorId, sensorType, level));
+            }
+        }));
+        return entries;
+    }
+
+    // 공간 하나의 센서별 등급 + 등급별 센서 인덱스(sensorId → SensorType) + 등급별 카운트
+    private static final class ZoneSensorState {
+        private final ConcurrentMap<String, RiskLevel> sensorLevels = new ConcurrentHashMap<>();
+        @SuppressWarnings("unchecked")
+        private final ConcurrentMap<String, SensorType>[] levelIndex = new ConcurrentMap[LEVELS.length];
+        private final PackedLevelCounts counts = new PackedLevelCounts();
 
-        // 2) zoneSensorStates -> zoneId에 sensorId 없으면 생성
-        if (zoneSensorStates.get(zoneId).containsKey(sensorId)) {
-            RiskLevel prevState = zoneSensorStates.get(zoneId).get(sensorId);
-            zoneStateCounts.get(zoneId).decrementAndGet(prevState.ordinal());
+        private ZoneSensorState() {
+            for (int i = 0; i < levelIndex.length; i++) {
+                levelIndex[i] = new ConcurrentHashMap<>();
+            }
         }
-        zoneStateCounts.get(zoneId).incrementAndGet(riskLevel.ordinal());
-        zoneSensorStates.get(zoneId).put(sensorId, riskLevel);
     }
 }
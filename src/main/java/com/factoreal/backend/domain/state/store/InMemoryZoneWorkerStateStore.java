@@ -1,78 +1,116 @@
 package com.factoreal.backend.domain.state.store;
 
 import com.factoreal.backend.messaging.kafka.strategy.enums.RiskLevel;
+import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 @Slf4j
 @Component
 public class InMemoryZoneWorkerStateStore implements ZoneWorkerStateStore {
-    private final ConcurrentMap<String, RiskLevel> workerRiskLevels = new ConcurrentHashMap<>();
-    private final ConcurrentMap<String, AtomicIntegerArray> zoneStateCounts = new ConcurrentHashMap<>();
-    private final ConcurrentMap<String, String> workerZoneStates = new ConcurrentHashMap<>();
-    private static final RiskLevel[] PRIORITY_TO_LEVEL = RiskLevel.values();
+    private final ConcurrentMap<String, WorkerState> workerStates = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, PackedLevelCounts> zoneStateCounts = new ConcurrentHashMap<>();
+    private final List<ZoneStateChangeListener> listeners = new CopyOnWriteArrayList<>();
 
     @Override
     public RiskLevel getZoneRiskLevel(String zoneId) {
-        AtomicIntegerArray levelCount = zoneStateCounts.get(zoneId);
-        if (levelCount == null) {
+        PackedLevelCounts counts = zoneStateCounts.get(zoneId);
+        if (counts == null) {
             return RiskLevel.INFO;
         }
-
-        // 우선순위 높은 순서대로(거꾸로) 루프 돌기
-        for (int p = levelCount.length() - 1; p >= 0; p--) {
-            if (levelCount.get(p) > 0) {
-                return PRIORITY_TO_LEVEL[p];
-            }
-        }
-
-        return RiskLevel.INFO;
+        return PackedLevelCounts.highestLevel(counts.get());
     }
 
     @Override
     public RiskLevel getWorkerRiskLevel(String workerId) {
-        RiskLevel workerRiskLevel = workerRiskLevels.get(workerId);
-        if (workerRiskLevel == null) {
+        WorkerState workerState = workerStates.get(workerId);
+        if (workerState == null) {
             return RiskLevel.INFO;
         }
 
-        return workerRiskLevel;
+        return workerState.riskLevel;
     }
 
     @Override
     public String getZoneId(String workerId) {
-        return workerZoneStates.get(workerId);
+        WorkerState workerState = workerStates.get(workerId);
+        return workerState == null ? null : workerState.zoneId;
     }
 
     @Override
-    public void setWorkerRiskLevel(String zoneId, String workerId, RiskLevel riskLevel) {
-        // 1) zoneStateCounts에 zoneId 없으면 생성
-        if (!zoneStateCounts.containsKey(zoneId)) {
-            zoneStateCounts.put(zoneId, new AtomicIntegerArray(PRIORITY_TO_LEVEL.length));
-        }
+    public RiskLevelTransition setWorkerRiskLevel(String zoneId, String workerId, RiskLevel riskLevel) {
+        // 1) zoneStateCounts에 zoneId 없으면 원자적으로 생성
+        PackedLevelCounts counts = zoneStateCounts.computeIfAbsent(zoneId, k -> new PackedLevelCounts());
 
-        // 2) workerZoneStates에 workerId 없으면 생성, zoneId 불일치시 이동
-        if (!workerZoneStates.containsKey(workerId)) {
-            workerZoneStates.put(workerId, zoneId);
-        } else if (!workerZoneStates.get(workerId).equals(zoneId)) {
-            log.info("Zone 이동 {} -> {}", workerZoneStates.get(workerId), zoneId);
-            String prevZoneId = workerZoneStates.get(workerId);
-            if (prevZoneId != null) {
-                zoneStateCounts.get(prevZoneId).decrementAndGet(workerRiskLevels.get(workerId).ordinal());
+        // 2) 작업자 단위 compute 안에서 위치/등급 교체 + 공간 카운트 증감
+        //    같은 작업자의 전환은 compute 로 직렬화되므로 카운트가 음수로 내려가지 않음
+        long[] prevWord = new long[1];
+        long[] delta = new long[1];
+        WorkerState[] prevState = new WorkerState[1];
+        workerStates.compute(workerId, (id, prev) -> {
+            prevState[0] = prev;
+            if (prev != null && !prev.zoneId.equals(zoneId)) {
+                // zoneId 불일치시 이동: 이전 공간에서 빼고 새 공간에 추가
+                log.info("Zone 이동 {} -> {}", prev.zoneId, zoneId);
+                zoneStateCounts.get(prev.zoneId).getAndAdd(-PackedLevelCounts.unit(prev.riskLevel));
+                delta[0] = PackedLevelCounts.unit(riskLevel);
+            } else {
+                delta[0] = PackedLevelCounts.delta(prev == null ? null : prev.riskLevel, riskLevel);
             }
-            workerZoneStates.put(workerId, zoneId);
-        }
+            prevWord[0] = counts.getAndAdd(delta[0]);
+            return new WorkerState(zoneId, riskLevel);
+        });
+
+        RiskLevelTransition transition = new RiskLevelTransition(
+                prevState[0] == null ? RiskLevel.INFO : prevState[0].riskLevel,
+                riskLevel,
+                PackedLevelCounts.highestLevel(prevWord[0]),
+                PackedLevelCounts.highestLevel(prevWord[0] + delta[0]));
 
-        // 3) workerRiskLevels 설정, zoneStateCounts value 증감
-        if (workerRiskLevels.containsKey(workerId)) {
-            RiskLevel prevRiskLevel = workerRiskLevels.get(workerId);
-            zoneStateCounts.get(zoneId).decrementAndGet(prevRiskLevel.ordinal());
+        // 3) 공간 이동 시 이전/새 공간 모두, 아니면 등급이 바뀐 경우에만 리스너 호출
+        boolean moved = prevState[0] != null && !prevState[0].zoneId.equals(zoneId);
+        if (moved) {
+            listeners.forEach(listener -> listener.onZoneStateChanged(prevState[0].zoneId));
         }
-        workerRiskLevels.put(workerId, riskLevel);
-        zoneStateCounts.get(zoneId).incrementAndGet(riskLevel.ordinal());
+        if (moved || transition.isLevelChanged()) {
+            listeners.forEach(listener -> listener.onZoneStateChanged(zoneId));
+        }
+        return transition;
+    }
+
+    @Override
+    public void addZoneStateChangeListener(ZoneStateChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * 공간의 특정 위험 등급 작업자 수 (모니터링/검증용)
+     */
+    public int getLevelCount(String zoneId, RiskLevel riskLevel) {
+        PackedLevelCounts counts = zoneStateCounts.get(zoneId);
+        return counts == null ? 0 : PackedLevelCounts.count(counts.get(), riskLevel);
+    }
+
+    /**
+     * 스냅샷용 현재 작업자 상태 목록
+     */
+    public List<ZoneStateSnapshot.WorkerEntry> exportWorkerStates() {
+        List<ZoneStateSnapshot.WorkerEntry> entries = new ArrayList<>();
+        workerStates.forEach((workerId, state) ->
+                entries.add(new ZoneStateSnapshot.WorkerEntry(workerId, state.zoneId, state.riskLevel)));
+        return entries;
+    }
+
+    // 작업자의 현재 위치와 위험 등급
+    @AllArgsConstructor
+    private static final class WorkerState {
+        private final String zoneId;
+        private final RiskLevel riskLevel;
     }
 }
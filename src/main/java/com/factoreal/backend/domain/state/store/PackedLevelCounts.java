@@ -0,0 +1,56 @@
+package com.factoreal.backend.domain.state.store;
+
+import com.factoreal.backend.messaging.kafka.strategy.enums.RiskLevel;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 공간 하나의 위험 등급별 카운트를 long 하나에 압축해서 보관하는 카운터
+ * - 등급마다 21비트 (INFO | WARNING | CRITICAL 순서로 하위 비트부터 배치)
+ * - 증감은 getAndAdd 한 번(CAS)으로 처리되어 모든 등급 카운트가 항상 같은 시점의 값으로 읽힘
+ * 카운트가 음수가 되지 않도록, 같은 대상(센서/작업자)의 증감은 호출 측에서 직렬화해야 한다.
+ */
+final class PackedLevelCounts {
+    private static final int BITS = 21;
+    private static final long MASK = (1L << BITS) - 1;
+    private static final RiskLevel[] PRIORITY_TO_LEVEL = RiskLevel.values();
+
+    private final AtomicLong word = new AtomicLong();
+
+    // 해당 등급 카운트 1 에 해당하는 값
+    static long unit(RiskLevel level) {
+        return level == null ? 0L : 1L << (level.ordinal() * BITS);
+    }
+
+    // 등급 전환(prev -> now)에 해당하는 증감값, prev 가 null 이면 신규 등록
+    static long delta(RiskLevel prev, RiskLevel now) {
+        return unit(now) - unit(prev);
+    }
+
+    // 압축된 값에서 카운트가 남아있는 가장 높은 등급 조회
+    static RiskLevel highestLevel(long word) {
+        for (int p = PRIORITY_TO_LEVEL.length - 1; p >= 0; p--) {
+            if (count(word, PRIORITY_TO_LEVEL[p]) > 0) {
+                return PRIORITY_TO_LEVEL[p];
+            }
+        }
+        return RiskLevel.INFO;
+    }
+
+    static int count(long word, RiskLevel level) {
+        return (int) ((word >>> (level.ordinal() * BITS)) & MASK);
+    }
+
+    /**
+     * 증감값 적용
+     *
+     * @return 적용 이전의 압축 값 (적용 이후 값은 반환값 + delta)
+     */
+    long getAndAdd(long delta) {
+        return word.getAndAdd(delta);
+    }
+
+    long get() {
+        return word.get();
+    }
+}
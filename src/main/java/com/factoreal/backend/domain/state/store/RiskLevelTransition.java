@@ -0,0 +1,23 @@
+package com.factoreal.backend.domain.state.store;
+
+import com.factoreal.backend.messaging.kafka.strategy.enums.RiskLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 상태 스토어 갱신 결과
+ * 대상(센서/작업자)과 공간의 이전/현재 위험 등급을 같은 시점 기준으로 반환
+ */
+@Getter
+@AllArgsConstructor
+public class RiskLevelTransition {
+    private final RiskLevel prevLevel;      // 대상의 이전 위험 등급 (처음 등록되면 INFO)
+    private final RiskLevel nowLevel;       // 대상의 현재 위험 등급
+    private final RiskLevel prevZoneLevel;  // 갱신 직전 공간 위험 등급
+    private final RiskLevel nowZoneLevel;   // 갱신 직후 공간 위험 등급
+
+    // 대상의 위험 등급이 바뀌었는지 여부
+    public boolean isLevelChanged() {
+        return prevLevel != nowLevel;
+    }
+}
@@ -1,14 +1,19 @@
 package com.factoreal.backend.domain.state.store;
 
-import com.factoreal.backend.domain.sensor.entity.Sensor;
 import com.factoreal.backend.messaging.kafka.strategy.enums.RiskLevel;
+import com.factoreal.backend.messaging.kafka.strategy.enums.SensorType;
 
 public interface ZoneSensorStateStore {
     RiskLevel getZoneRiskLevel(String zoneId);
 
     RiskLevel getSensorRiskLevel(String zoneId, String sensorId);
 
-    Sensor getHighestRiskSensor(String zoneId);
+    // 공간에서 위험 등급이 가장 높은 센서의 타입 (센서가 없으면 null)
+    SensorType getHighestRiskSensorType(String zoneId);
 
-    void setSensorRiskLevel(String zoneId, String sensorId, RiskLevel riskLevel);
+    // 센서 위험 등급 갱신, 센서와 공간의 이전/현재 등급을 함께 반환
+    RiskLevelTransition setSensorRiskLevel(String zoneId, String sensorId, SensorType sensorType, RiskLevel riskLevel);
+
+    // 공간 상태 변경 리스너 등록 (등급이 바뀐 공간 ID 로 호출)
+    void addZoneStateChangeListener(ZoneStateChangeListener listener);
 }
@@ -0,0 +1,9 @@
+package com.factoreal.backend.domain.state.store;
+
+/**
+ * 상태 스토어에서 공간 상태(센서/작업자 등급)가 바뀌었을 때 호출되는 리스너
+ */
+@FunctionalInterface
+public interface ZoneStateChangeListener {
+    void onZoneStateChanged(String zoneId);
+}
@@ -0,0 +1,126 @@
+package com.factoreal.backend.domain.state.store;
+
+import com.factoreal.backend.messaging.kafka.strategy.enums.RiskLevel;
+import com.factoreal.backend.messaging.kafka.strategy.enums.SensorType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * 센서/작업자 상태 스토어 스냅샷 (바이너리 직렬화)
+ * <pre>
+ * int   MAGIC, short VERSION, long createdAt(epoch ms)
+ * int   센서 수, [zoneId, sensorId, sensorType(UTF), level(byte)] ...
+ * int   작업자 수, [workerId, zoneId(UTF), level(byte)] ...
+ * long  CRC32 (위 본문 전체)
+ * </pre>
+ * 위험 등급은 enum 순서가 아닌 priority 값으로 기록하여 enum 변경에도 호환되도록 함
+ */
+@Getter
+@AllArgsConstructor
+public class ZoneStateSnapshot {
+    private static final int MAGIC = 0x5A535331; // "ZSS1"
+    private static final short VERSION = 1;
+
+    private final long createdAt;
+    private final List<SensorEntry> sensors;
+    private final List<WorkerEntry> workers;
+
+    public void writeTo(OutputStream out) throws IOException {
+        CheckedOutputStream checked = new CheckedOutputStream(out, new CRC32());
+        DataOutputStream data = new DataOutputStream(checked);
+        data.writeInt(MAGIC);
+        data.writeShort(VERSION);
+        data.writeLong(createdAt);
+
+        data.writeInt(sensors.size());
+        for (SensorEntry entry : sensors) {
+            data.writeUTF(entry.zoneId);
+            data.writeUTF(entry.sensorId);
+            data.writeUTF(entry.sensorType.name());
+            data.writeByte(entry.riskLevel.getPriority());
+        }
+
+        data.writeInt(workers.size());
+        for (WorkerEntry entry : workers) {
+            data.writeUTF(entry.workerId);
+            data.writeUTF(entry.zoneId);
+            data.writeByte(entry.riskLevel.getPriority());
+        }
+        data.flush();
+
+        // 체크섬은 본문에 포함되지 않도록 원본 스트림에 직접 기록
+        new DataOutputStream(out).writeLong(checked.getChecksum().getValue());
+        out.flush();
+    }
+
+    /**
+     * 스냅샷 읽기
+     *
+     * @throws IOException 형식/버전 불일치 또는 체크섬 불일치(파일 손상)
+     */
+    public static ZoneStateSnapshot readFrom(InputStream in) throws IOException {
+        CheckedInputStream checked = new CheckedInputStream(in, new CRC32());
+        DataInputStream data = new DataInputStream(checked);
+        if (data.readInt() != MAGIC) {
+            throw new IOException("상태 스냅샷 형식이 아닙니다.");
+        }
+        short version = data.readShort();
+        if (version != VERSION) {
+            throw new IOException("지원하지 않는 상태 스냅샷 버전: " + version);
+        }
+        long createdAt = data.readLong();
+
+        int sensorCount = data.readInt();
+        List<SensorEntry> sensors = new ArrayList<>(sensorCount);
+        for (int i = 0; i < sensorCount; i++) {
+            sensors.add(new SensorEntry(
+                    data.readUTF(),
+                    data.readUTF(),
+                    SensorType.valueOf(data.readUTF()),
+                    RiskLevel.fromPriority(data.readByte())));
+        }
+
+        int workerCount = data.readInt();
+        List<WorkerEntry> workers = new ArrayList<>(workerCount);
+        for (int i = 0; i < workerCount; i++) {
+            workers.add(new WorkerEntry(
+                    data.readUTF(),
+                    data.readUTF(),
+                    RiskLevel.fromPriority(data.readByte())));
+        }
+
+        long expected = checked.getChecksum().getValue();
+        if (new DataInputStream(in).readLong() != expected) {
+            throw new IOException("상태 스냅샷 체크섬 불일치 (파일 손상)");
+        }
+        return new ZoneStateSnapshot(createdAt, sensors, workers);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class SensorEntry {
+        private final String zoneId;
+        private final String sensorId;
+        private final SensorType sensorType;
+        private final RiskLevel riskLevel;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class WorkerEntry {
+        private final String workerId;
+        private final String zoneId;
+        private final RiskLevel riskLevel;
+    }
+}
@@ -9,5 +9,9 @@ public interface ZoneWorkerStateStore {
 
     String getZoneId(String workerId);
 
-    void setWorkerRiskLevel(String zoneId, String workerId, RiskLevel riskLevel);
+    // 작업자 위치/위험 등급 갱신, 작업자와 공간의 이전/현재 등급을 함께 반환
+    RiskLevelTransition setWorkerRiskLevel(String zoneId, String workerId, RiskLevel riskLevel);
+
+    // 공간 상태 변경 리스너 등록 (등급이 바뀐 공간 ID 로 호출)
+    void addZoneStateChangeListener(ZoneStateChangeListener listener);
 }
@@ -3,14 +3,47 @@ package com.factoreal.backend.domain.wearable.application;
 import com.factoreal.backend.domain.wearable.dao.WearableRepository;
 import com.factoreal.backend.domain.wearable.entity.Wearable;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class WearableRepoService {
+    // 이미 있는 웨어러블은 그대로 둠 (최초 등록 시각 유지)
+    private static final String INSERT_IF_ABSENT_SQL = """
+            INSERT INTO wearable_info (wearable_id, created_at) VALUES (?, ?)
+            ON DUPLICATE KEY UPDATE wearable_id = wearable_id
+            """;
+
     private final WearableRepository wearableRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     public Wearable saveWearable(Wearable wearable) {
         return wearableRepository.save(wearable);
     }
+
+    /**
+     * 웨어러블 일괄 등록 (JDBC 배치, 중복 키 예외 없이 처리)
+     */
+    @Transactional
+    public void insertAllIfAbsent(List<Wearable> wearables) {
+        if (wearables.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_IF_ABSENT_SQL, wearables, wearables.size(), (ps, wearable) -> {
+            ps.setString(1, wearable.getWearableId());
+            ps.setTimestamp(2, Timestamp.valueOf(wearable.getCreatedAt()));
+        });
+    }
+
+    /**
+     * 등록된 웨어러블 ID 전체
+     */
+    public List<String> findAllWearableIds() {
+        return wearableRepository.findAllWearableIds();
+    }
 }
@@ -2,7 +2,13 @@ package com.factoreal.backend.domain.wearable.dao;
 
 import com.factoreal.backend.domain.wearable.entity.Wearable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
 
 public interface WearableRepository extends JpaRepository<Wearable, Long> {
 
+    // 등록된 웨어러블 ID 전체 (MQTT shadow 등록 중복 확인용)
+    @Query("SELECT w.wearableId FROM Wearable w")
+    List<String> findAllWearableIds();
 }
@@ -2,9 +2,13 @@ package com.factoreal.backend.domain.worker.application;
 
 import com.factoreal.backend.domain.worker.dao.WorkerRepository;
 import com.factoreal.backend.domain.worker.entity.Worker;
+import com.factoreal.backend.global.config.CacheConfig;
 import com.factoreal.backend.global.exception.dto.NotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,7 +27,22 @@ public class WorkerRepoService {
                 .orElseThrow(() -> new NotFoundException("작업자를 찾을 수 없습니다: " + workerId));
     }
 
+    /**
+     * 작업자 캐시 조회 (Kafka 처리 등 읽기 전용 경로)
+     * 반환된 엔티티는 여러 스레드가 공유하므로 수정하지 않는다. (수정은 findById 로 조회한 엔티티로)
+     * Worker 는 연관관계가 없어 PK 조회만으로 모든 컬럼이 로딩되므로 별도 엔티티 그래프는 두지 않고,
+     * 작업자-공간(WorkerZone) 등의 지연 로딩으로 호출 측 영속성 컨텍스트에 프록시가 먼저 만들어졌으면
+     * 그 프록시가 반환되므로 실제 엔티티로 풀어서 캐시한다.
+     */
+    @Cacheable(cacheNames = CacheConfig.WORKER, key = "#workerId")
+    public Worker findCachedById(String workerId) {
+        return workerRepository.findById(workerId)
+                .map(worker -> (Worker) Hibernate.unproxy(worker))
+                .orElseThrow(() -> new NotFoundException("작업자를 찾을 수 없습니다: " + workerId));
+    }
+
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.WORKER, key = "#worker.workerId")
     public Worker save(Worker worker) {
         return workerRepository.save(worker);
     }
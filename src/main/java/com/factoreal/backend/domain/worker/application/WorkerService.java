@@ -41,6 +41,7 @@ public class WorkerService {
 
     /**
      * 모든 작업자 리스트 조회
+     * 작업자 수와 관계없이 고정된 쿼리 수로 조회 (작업자 / 현재 위치 / 작업자-공간 매핑 / 최신 상태 각 1회)
      */
     @Transactional(readOnly = true)
     public List<WorkerDetailResponse> getAllWorkers() {
@@ -70,76 +71,66 @@ public class WorkerService {
                         )
                 );
 
-        // 위치 Map<workerId, zoneName>
-        Map<String, Map<String, String>> zoneMap = workerIds.stream()
-                .collect(Collectors.toMap(
-                        workerId -> workerId,
-                        workerId -> {
-                            Map<String, String> zone = new HashMap<>();
-                            try {
-                                ZoneHist zh = zoneHistoryRepoService.findByWorker_WorkerIdAndExistFlag(workerId, 1);
-                                if (zh != null && zh.getZone() != null) {
-                                    zone.put("zoneId", zh.getZone().getZoneId());
-                                    zone.put("zoneName", zh.getZone().getZoneName());
-                                } else {
-                                    zone.put("zoneId", "00000000000000-000");
-                                    zone.put("zoneName", "대기실");
-                                }
-                            } catch (Exception e) {
-                                log.error("작업자 위치 조회 중 오류 발생. workerId: {}, error: {}", workerId, e.getMessage());
-                                zone.put("zoneId", "00000000000000-000");
-                                zone.put("zoneName", "대기실");
-                            }
-                            return zone;
-                        }
-                ));
+        // 위치 Map<workerId, 현재 위치 이력> (existFlag = 1 전체를 한 번에 조회)
+        Map<String, ZoneHist> locationMap = new HashMap<>();
+        try {
+            for (ZoneHist zh : zoneHistoryRepoService.getAllCurrentWorkerLocations()) {
+                // 현재 위치가 여러 건인 비정상 데이터는 가장 최근 입장 기록 사용
+                locationMap.merge(zh.getWorker().getWorkerId(), zh, (prev, next) -> isLaterEntry(next, prev) ? next : prev);
+            }
+        } catch (Exception e) {
+            log.error("작업자 위치 조회 중 오류 발생. error: {}", e.getMessage());
+        }
+
+        // 작업자-공간 Map<workerId, 매핑 목록> (전체를 한 번에 조회)
+        Map<String, List<WorkerZone>> workerZoneMap = new HashMap<>();
+        try {
+            workerZoneMap = workerZoneRepoService.findAllWithZone().stream()
+                    .collect(Collectors.groupingBy(wz -> wz.getId().getWorkerId()));
+        } catch (Exception e) {
+            log.error("작업자 공간 권한 조회 중 오류 발생. error: {}", e.getMessage());
+        }
 
+        Map<String, List<WorkerZone>> finalWorkerZoneMap = workerZoneMap;
         return workers.stream()
                 .map(worker -> {
-                    try {
-                        // 잭슨 직렬화 문제로 ZoneInfo DTO 필요함 -> Zone 엔티티를 직접 사용 불가
-                        // 1) 출입 권한 zone 전부
-                        List<ZoneInfoResponse> accessZones = workerZoneRepoService
-                                .findByWorker_WorkerId(worker.getWorkerId())  // List<WorkerZone>
-                                .stream()
-                                .map(wz -> new ZoneInfoResponse(
-                                        wz.getZone().getZoneId(),
-                                        wz.getZone().getZoneName()))
-                                .toList();
-
-                        // 2) 담당 zone (있으면 1개) → List<Zone>
-                        List<ZoneInfoResponse> managedZones = workerZoneRepoService
-                                .findByWorkerWorkerIdAndManageYnIsTrue(worker.getWorkerId())
-                                .map(wz -> List.of(new ZoneInfoResponse(
-                                        wz.getZone().getZoneId(),
-                                        wz.getZone().getZoneName())))
-                                .orElse(List.of());
-                        Map<String, String> zoneInfo = zoneMap.getOrDefault(worker.getWorkerId(), new HashMap<>());
-                        return WorkerDetailResponse.fromEntity(
-                                worker,
-                                workerZoneRepoService.findByWorkerWorkerIdAndManageYnIsTrue(worker.getWorkerId())
-                                        .isPresent(),
-                                statusMap.getOrDefault(worker.getWorkerId(), 0),
-                                zoneInfo.getOrDefault("zoneId", "00000000000000-000"),
-                                zoneInfo.getOrDefault("zoneName", "대기실"),
-                                accessZones,
-                                managedZones
-                        );
-                    } catch (Exception e) {
-                        log.error("작업자 정보 변환 중 오류 발생. worker: {}, error: {}", worker.getWorkerId(), e.getMessage());
-                        return WorkerDetailResponse.fromEntity(
-                                worker,
-                                false,
-                                0,
-                                "00000000000000-000",
-                                "대기실",
-                                List.of(), List.of()
-                        );
-                    }
+                    // 잭슨 직렬화 문제로 ZoneInfo DTO 필요함 -> Zone 엔티티를 직접 사용 불가
+                    List<WorkerZone> workerZones = finalWorkerZoneMap.getOrDefault(worker.getWorkerId(), List.of());
+
+                    // 1) 출입 권한 zone 전부
+                    List<ZoneInfoResponse> accessZones = workerZones.stream()
+                            .map(wz -> ZoneInfoResponse.fromEntity(wz.getZone()))
+                            .toList();
+
+                    // 2) 담당 zone
+                    List<ZoneInfoResponse> managedZones = workerZones.stream()
+                            .filter(wz -> Boolean.TRUE.equals(wz.getManageYn()))
+                            .map(wz -> ZoneInfoResponse.fromEntity(wz.getZone()))
+                            .toList();
+
+                    // 3) 현재 위치 (없으면 대기실)
+                    ZoneHist location = locationMap.get(worker.getWorkerId());
+                    boolean located = location != null && location.getZone() != null;
+                    return WorkerDetailResponse.fromEntity(
+                            worker,
+                            !managedZones.isEmpty(),
+                            statusMap.getOrDefault(worker.getWorkerId(), 0),
+                            located ? location.getZone().getZoneId() : "00000000000000-000",
+                            located ? location.getZone().getZoneName() : "대기실",
+                            accessZones,
+                            managedZones
+                    );
                 })
                 .collect(Collectors.toList());
     }
 
+    private static boolean isLaterEntry(ZoneHist next, ZoneHist prev) {
+        if (prev.getStartTime() == null) {
+            return true;
+        }
+        return next.getStartTime() != null && next.getStartTime().isAfter(prev.getStartTime());
+    }
+
     /**
      * 특정 공간에 현재 들어가있는 작업자 목록 조회
      */
@@ -289,6 +280,8 @@ public class WorkerService {
         worker.setName(r.getName());
         worker.setPhoneNumber(r.getPhoneNumber());
         worker.setEmail(r.getEmail());
+        // 변경 감지로도 반영되지만, 작업자 캐시 무효화(@CacheEvict)는 save 에 걸려 있으므로 save 를 거친다
+        workerRepoService.save(worker);
 
         /* 4) 출입-권한(WorkerZone) 재설정 -------------- */
         // 4-1. 현재 담당자(manageYn=true)인 공간 KEEP
@@ -54,6 +54,12 @@ public class WorkerZoneRepoService {
         return workerZoneRepository.findByWorker_WorkerId(workerId);
     }
 
+    /**
+     * 전체 작업자-공간 매핑 조회 (공간 정보 포함, 쿼리 1회)
+     */
+    public List<WorkerZone> findAllWithZone() {
+        return workerZoneRepository.findAllWithZone();
+    }
 
     public void deleteByWorkerWorkerId(String workerId) {
         workerZoneRepository.deleteByWorkerWorkerId(workerId);
@@ -3,6 +3,7 @@ package com.factoreal.backend.domain.worker.dao;
 import com.factoreal.backend.domain.worker.entity.WorkerZone;
 import com.factoreal.backend.domain.worker.entity.WorkerZoneId;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 import java.util.Optional;
@@ -24,4 +25,8 @@ public interface WorkerZoneRepository extends JpaRepository<WorkerZone, WorkerZo
     List<WorkerZone> findByWorker_WorkerId(String workerId);
 
     void deleteByWorkerWorkerId(String workerId);
+
+    // 전체 작업자-공간 매핑을 공간 정보와 함께 한 번에 조회 (작업자 목록 화면용)
+    @Query("SELECT wz FROM WorkerZone wz JOIN FETCH wz.zone")
+    List<WorkerZone> findAllWithZone();
 }
\ No newline at end of file
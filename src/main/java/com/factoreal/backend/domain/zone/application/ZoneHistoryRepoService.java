@@ -66,4 +66,11 @@ public class ZoneHistoryRepoService {
     public List<ZoneHist> findByZone_ZoneIdAndExistFlag(String zoneId, Integer existFlag) {
         return zoneHistoryRepository.findByZone_ZoneIdAndExistFlag(zoneId, existFlag);
     }
+
+    /**
+     * 모든 작업자의 현재 위치 조회 (공간 정보 포함, 쿼리 1회)
+     */
+    public List<ZoneHist> getAllCurrentWorkerLocations() {
+        return zoneHistoryRepository.findAllByExistFlagWithZone(1);
+    }
 }
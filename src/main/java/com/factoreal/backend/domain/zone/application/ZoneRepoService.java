@@ -2,11 +2,16 @@ package com.factoreal.backend.domain.zone.application;
 
 import com.factoreal.backend.domain.zone.dao.ZoneRepository;
 import com.factoreal.backend.domain.zone.entity.Zone;
+import com.factoreal.backend.global.config.CacheConfig;
 import com.factoreal.backend.global.exception.dto.BadRequestException;
 import com.factoreal.backend.global.exception.dto.NotFoundException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
@@ -19,6 +24,7 @@ import java.util.List;
 public class ZoneRepoService {
 
     private final ZoneRepository zoneRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 모든 zone을 조회하는 레포지토리 접근 서비스
@@ -38,10 +44,14 @@ public class ZoneRepoService {
 
     /**
      * 존 데이터 저장하는 레포지토리 접근 서비스
+     * 공간 구성 조회 스냅샷(ZoneTopologyReadModel)도 무효화한다.
      */
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.ZONE, key = "#zone.zoneId")
     public Zone save(Zone zone) {
-        return zoneRepository.save(zone);
+        Zone saved = zoneRepository.save(zone);
+        eventPublisher.publishEvent(new ZoneTopologyChangedEvent("zone"));
+        return saved;
     }
 
     /**
@@ -58,6 +68,19 @@ public class ZoneRepoService {
                 .orElseThrow(() -> new NotFoundException("공간을 찾을 수 없습니다: " + zoneId));
     }
 
+    /**
+     * 공간 캐시 조회 (Kafka 처리 등 읽기 전용 경로)
+     * 반환된 엔티티는 여러 스레드가 공유하므로 수정하지 않는다. (수정은 findById 로 조회한 엔티티로)
+     * Zone 은 연관관계가 없어 PK 조회만으로 모든 컬럼이 로딩되지만, 센서/설비의 지연 로딩 등으로
+     * 호출 측 영속성 컨텍스트에 프록시가 먼저 만들어졌으면 그 프록시가 반환되므로 실제 엔티티로 풀어서 캐시한다.
+     */
+    @Cacheable(cacheNames = CacheConfig.ZONE, key = "#zoneId")
+    public Zone findCachedById(String zoneId) {
+        return zoneRepository.findById(zoneId)
+                .map(zone -> (Zone) Hibernate.unproxy(zone))
+                .orElseThrow(() -> new NotFoundException("공간을 찾을 수 없습니다: " + zoneId));
+    }
+
     public Zone findByZoneName(String zoneName) {
         return zoneRepository.findByZoneName(zoneName)
                 .orElseThrow(() -> new BadRequestException("존재하지 않는 공간명: " + zoneName));
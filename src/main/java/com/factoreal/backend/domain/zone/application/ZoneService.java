@@ -4,11 +4,8 @@ import com.factoreal.backend.domain.abnormalLog.application.AbnormalLogRepoServi
 import com.factoreal.backend.domain.abnormalLog.dto.request.AbnormalPagingRequest;
 import com.factoreal.backend.domain.abnormalLog.entity.AbnormalLog;
 import com.factoreal.backend.domain.equip.application.EquipRepoService;
-import com.factoreal.backend.domain.equip.dto.response.EquipDetailResponse;
 import com.factoreal.backend.domain.equip.entity.Equip;
 import com.factoreal.backend.domain.sensor.application.SensorRepoService;
-import com.factoreal.backend.domain.sensor.dto.response.SensorInfoResponse;
-import com.factoreal.backend.domain.sensor.entity.Sensor;
 import com.factoreal.backend.domain.zone.dto.request.ZoneCreateRequest;
 import com.factoreal.backend.domain.zone.dto.request.ZoneUpdateRequest;
 import com.factoreal.backend.domain.zone.dto.response.ZoneDetailResponse;
@@ -27,8 +24,6 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.Map;
-import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Service
@@ -40,6 +35,7 @@ public class ZoneService {
     private final ZoneRepoService zoneRepoService;
     private final EquipRepoService equipRepoService;
     private final AbnormalLogRepoService abnormalLogRepoService;
+    private final ZoneTopologyReadModel zoneTopologyReadModel;
 
     /**
      * 존 생성 서비스
@@ -95,69 +91,10 @@ public class ZoneService {
 
     /**
      * Zone별 환경‧설비 센서를 모아 ZoneDetailResponse DTO로 반환하는 서비스
-     *
-     * <pre>
-     *  ① Zone 조회
-     *  ② 각 Zone에 대한 센서·설비 매핑
-     *  ③ env, fac 센서 DTO 변환 및 그룹핑
-     *  </pre>
+     * 조립은 ZoneTopologyReadModel 이 고정 횟수 쿼리로 수행하고, 결과 스냅샷을 재사용한다.
      */
     public List<ZoneDetailResponse> getZoneItems() {
-        // ① 전체 Zone 조회
-        return zoneRepoService.findAll().stream()          // Repository 직접 접근 대신 Reader 사용 예
-                .map(this::buildZoneDetailResponse)        // ② 변환 (깊이 1 유지)
-                .toList();
-    }
-
-    /**
-     * ② 각 Zone에 대한 센서·설비 매핑
-     */
-    private ZoneDetailResponse buildZoneDetailResponse(Zone zone) {
-        List<SensorInfoResponse> envDtos = getEnvSensorDtos(zone);       // ③-1
-        List<EquipDetailResponse> facDtos = getEquipDetailDtos(zone);     // ③-2
-
-        return ZoneDetailResponse.builder()
-                .zoneId(zone.getZoneId())
-                .zoneName(zone.getZoneName())
-                .envList(envDtos)
-                .equipList(facDtos)
-                .build();
-    }
-
-    /**
-     * ③-1 환경 센서 DTO 목록 생성
-     */
-    private List<SensorInfoResponse> getEnvSensorDtos(Zone zone) {
-        List<Sensor> envSensors = sensorRepoService.findByZone(zone)
-                .stream().filter(s -> Objects.equals(s.getZone().getZoneId(), s.getEquip().getEquipId()))
-                .toList();
-        return envSensors.stream().map(SensorInfoResponse::fromEntity).toList();
-    }
-
-    /**
-     * ③-2 설비 + 설비센서 DTO 목록 생성
-     */
-    private List<EquipDetailResponse> getEquipDetailDtos(Zone zone) {
-        // 1) 설비 조회 (환경센서 empty 인 경우는 제외한다)
-        List<Equip> equips = findEquipsByZone(zone).stream()
-                .filter(e -> !e.getEquipName().equalsIgnoreCase("empty"))
-                .toList();   // empty이름을 가진 설비(환경센서)는 설비 목록에서 제외하기
-
-        // 2) 설비센서 그룹핑
-        Map<String, List<SensorInfoResponse>> facGroup = sensorRepoService.findByZone(zone)
-                .stream()
-                .filter(s -> !Objects.equals(s.getZone().getZoneId(), s.getEquip().getEquipId()))
-                .map(SensorInfoResponse::fromEntity)                 // ★ Sensor → SensorDto
-                .collect(Collectors.groupingBy(SensorInfoResponse::getEquipId));
-
-        // 3) DTO 변환
-        return equips.stream()
-                .map(e -> EquipDetailResponse.builder()
-                        .equipId(e.getEquipId())
-                        .equipName(e.getEquipName())
-                        .facSensor(facGroup.getOrDefault(e.getEquipId(), List.of()))
-                        .build())
-                .toList();
+        return zoneTopologyReadModel.getZoneItems();
     }
 
     /**
@@ -172,16 +109,6 @@ public class ZoneService {
         return logs.map(ZoneLogResponse::fromEntity);
     }
 
-    /**
-     * getZoneItems 서비스를 위한 레포지토리 접근 서비스 2
-     */
-    private List<Equip> findEquipsByZone(Zone zone) {
-        return equipRepoService.findEquipsByZone(zone).stream()
-                .filter(e -> e.getEquipName() != null &&
-                        !"empty".equalsIgnoreCase(e.getEquipName()))
-                .toList();
-    }
-
     private Pageable getPageable(AbnormalPagingRequest abnormalPagingDto) {
         return PageRequest.of(
                 abnormalPagingDto.getPage(),
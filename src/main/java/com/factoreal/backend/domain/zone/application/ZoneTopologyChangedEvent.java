@@ -0,0 +1,9 @@
+package com.factoreal.backend.domain.zone.application;
+
+/**
+ * 공간/설비/센서 구성 변경 이벤트 (ZoneTopologyReadModel 무효화용)
+ *
+ * @param source 변경된 대상 (zone, equip, sensor)
+ */
+public record ZoneTopologyChangedEvent(String source) {
+}
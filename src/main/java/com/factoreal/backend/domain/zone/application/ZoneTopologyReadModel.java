@@ -0,0 +1,135 @@
+package com.factoreal.backend.domain.zone.application;
+
+import com.factoreal.backend.domain.equip.application.EquipRepoService;
+import com.factoreal.backend.domain.equip.dto.response.EquipDetailResponse;
+import com.factoreal.backend.domain.equip.entity.Equip;
+import com.factoreal.backend.domain.sensor.application.SensorRepoService;
+import com.factoreal.backend.domain.sensor.dto.response.SensorInfoResponse;
+import com.factoreal.backend.domain.sensor.entity.Sensor;
+import com.factoreal.backend.domain.zone.dto.response.ZoneDetailResponse;
+import com.factoreal.backend.domain.zone.entity.Zone;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 공간 구성(공간 → 환경센서 / 설비 → 설비센서) 조회 모델
+ * - 공간/설비/센서를 각각 한 번씩, 총 3번의 쿼리로 읽어 메모리에서 조립 (공간 수와 무관)
+ * - 조립한 결과는 수정 불가능한 스냅샷으로 보관하고 /api/zones/zoneitems 와 리포트 생성이 함께 사용
+ * - 공간/설비/센서 저장 시 ZoneTopologyChangedEvent 로 스냅샷을 버리고 다음 조회에서 다시 만든다
+ * - 반환하는 DTO 는 공유 객체이므로 호출 측에서 수정하지 않는다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ZoneTopologyReadModel {
+
+    private final ZoneRepoService zoneRepoService;
+    private final EquipRepoService equipRepoService;
+    private final SensorRepoService sensorRepoService;
+
+    // 변경 이벤트마다 증가, 조립 도중 변경이 있었으면 그 결과는 보관하지 않는다
+    private final AtomicLong version = new AtomicLong();
+    private volatile List<ZoneDetailResponse> snapshot;
+
+    /**
+     * 공간별 환경/설비 센서 구성 조회 (스냅샷이 없으면 새로 조립)
+     */
+    public List<ZoneDetailResponse> getZoneItems() {
+        List<ZoneDetailResponse> current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            current = snapshot;
+            if (current != null) {
+                return current;
+            }
+            long loadedVersion = version.get();
+            current = load();
+            if (version.get() == loadedVersion) {
+                snapshot = current;
+            }
+            return current;
+        }
+    }
+
+    /**
+     * 공간/설비/센서 변경 시 스냅샷 무효화 (트랜잭션 커밋 이후, 트랜잭션 밖 저장은 즉시)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTopologyChanged(ZoneTopologyChangedEvent event) {
+        version.incrementAndGet();
+        snapshot = null;
+        log.debug("공간 구성 스냅샷 무효화: {}", event.source());
+    }
+
+    private List<ZoneDetailResponse> load() {
+        // ① 3번의 쿼리로 전체 조회
+        List<Zone> zones = zoneRepoService.findAll();
+        List<Equip> equips = equipRepoService.findAllWithZone();
+        List<Sensor> sensors = sensorRepoService.findAllWithZoneAndEquip();
+
+        // ② 공간별 설비 (환경센서용 empty 설비는 제외)
+        Map<String, List<Equip>> equipsByZone = new HashMap<>();
+        for (Equip e : equips) {
+            if (e.getEquipName() == null || "empty".equalsIgnoreCase(e.getEquipName())) {
+                continue;
+            }
+            equipsByZone.computeIfAbsent(e.getZone().getZoneId(), k -> new ArrayList<>()).add(e);
+        }
+
+        // ③ 공간별 환경센서 / (공간, 설비)별 설비센서
+        Map<String, List<SensorInfoResponse>> envByZone = new HashMap<>();
+        Map<String, Map<String, List<SensorInfoResponse>>> facByZone = new HashMap<>();
+        for (Sensor s : sensors) {
+            String zoneId = s.getZone().getZoneId();
+            String equipId = s.getEquip().getEquipId();
+            SensorInfoResponse dto = SensorInfoResponse.fromEntity(s);
+            if (Objects.equals(zoneId, equipId)) {
+                envByZone.computeIfAbsent(zoneId, k -> new ArrayList<>()).add(dto);
+            } else {
+                facByZone.computeIfAbsent(zoneId, k -> new HashMap<>())
+                        .computeIfAbsent(equipId, k -> new ArrayList<>()).add(dto);
+            }
+        }
+
+        // ④ DTO 조립
+        List<ZoneDetailResponse> result = zones.stream()
+                .map(zone -> {
+                    Map<String, List<SensorInfoResponse>> facGroup =
+                            facByZone.getOrDefault(zone.getZoneId(), Map.of());
+                    List<EquipDetailResponse> equipList = equipsByZone.getOrDefault(zone.getZoneId(), List.of())
+                            .stream()
+                            .map(e -> EquipDetailResponse.builder()
+                                    .equipId(e.getEquipId())
+                                    .equipName(e.getEquipName())
+                                    .facSensor(unmodifiable(facGroup.get(e.getEquipId())))
+                                    .build())
+                            .toList();
+                    return ZoneDetailResponse.builder()
+                            .zoneId(zone.getZoneId())
+                            .zoneName(zone.getZoneName())
+                            .envList(unmodifiable(envByZone.get(zone.getZoneId())))
+                            .equipList(equipList)
+                            .build();
+                })
+                .toList();
+
+        log.info("공간 구성 스냅샷 생성: zones={}, equips={}, sensors={}", zones.size(), equips.size(), sensors.size());
+        return result;
+    }
+
+    private static <T> List<T> unmodifiable(List<T> list) {
+        return list == null ? List.of() : Collections.unmodifiableList(list);
+    }
+}
@@ -5,6 +5,8 @@ import jakarta.persistence.LockModeType;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
@@ -16,4 +18,8 @@ public interface ZoneHistoryRepository extends JpaRepository<ZoneHist, Long> {
     ZoneHist findByWorker_WorkerIdAndExistFlag(String workerId, Integer existFlag);
 
     List<ZoneHist> findByWorker_WorkerId(String workerId);
+
+    // existFlag 기준 전체 작업자 위치를 공간 정보와 함께 한 번에 조회
+    @Query("SELECT zh FROM ZoneHist zh JOIN FETCH zh.zone WHERE zh.existFlag = :existFlag")
+    List<ZoneHist> findAllByExistFlagWithZone(@Param("existFlag") Integer existFlag);
 }
\ No newline at end of file
@@ -1,5 +1,14 @@
 package com.factoreal.backend.global.config;
 
+import com.factoreal.backend.global.config.async.BoundedPriorityBlockingQueue;
+import com.factoreal.backend.global.config.async.ChannelRejectionHandler;
+import com.factoreal.backend.global.config.async.ChannelRejectionHandler.Policy;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
@@ -7,20 +16,106 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
 
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Executor;
 
+/**
+ * 채널별 비동기 executor (bulkhead)
+ * - websocketExecutor : STOMP 전송 (@Async 기본), 큐가 차면 가장 오래된 전송을 버림
+ *                       (버려져도 되는 전송만 사용, 알람·제어 상태·미확인 개수는 호출 스레드에서 바로 전송)
+ * - zoneStateExecutor : 공간 상태 델타 STOMP 전송, 단일 스레드로 버전 순서대로 전송
+ * - alarmExecutor     : 웹소켓 알람 전략, 위험도 우선순위 큐 (CRITICAL 이 INFO 보다 먼저 처리)
+ * - pushExecutor      : FCM 앱 푸시, 위험도 우선순위 큐
+ * 한 채널이 느려져도(예: Firebase 지연) 다른 채널의 스레드/큐를 점유하지 않음
+ * 각 executor 는 executor_* 메트릭(channel 태그)과 executor.rejected 카운터로 관찰
+ */
 @Configuration
 @EnableAsync   // <-- @Async를 사용할 수 있도록 활성화
 public class AsyncConfig implements AsyncConfigurer {
+    public static final String WEBSOCKET_EXECUTOR = "websocketExecutor";
+    public static final String ALARM_EXECUTOR = "alarmExecutor";
+    public static final String PUSH_EXECUTOR = "pushExecutor";
+    public static final String ZONE_STATE_EXECUTOR = "zoneStateExecutor";
 
-    @Bean(name = "websocketExecutor")
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    @Value("${async.websocket.core-size:5}")
+    private int websocketCoreSize;       // 동시에 실행할 기본 스레드 개수
+    @Value("${async.websocket.max-size:20}")
+    private int websocketMaxSize;        // 최대 스레드 개수
+    @Value("${async.websocket.queue-capacity:100}")
+    private int websocketQueueCapacity;  // 대기 큐 크기
+
+    @Value("${async.alarm.core-size:4}")
+    private int alarmCoreSize;
+    @Value("${async.alarm.max-size:8}")
+    private int alarmMaxSize;
+    @Value("${async.alarm.queue-capacity:200}")
+    private int alarmQueueCapacity;
+
+    @Value("${async.push.core-size:4}")
+    private int pushCoreSize;
+    @Value("${async.push.max-size:16}")
+    private int pushMaxSize;
+    @Value("${async.push.queue-capacity:200}")
+    private int pushQueueCapacity;
+
+    @Value("${async.zone-state.queue-capacity:200}")
+    private int zoneStateQueueCapacity;
+
+    public AsyncConfig(ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.meterRegistryProvider = meterRegistryProvider;
+    }
+
+    @Bean(name = WEBSOCKET_EXECUTOR)
     public Executor websocketExecutor() {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(5);      // 동시에 실행할 기본 스레드 개수
-        executor.setMaxPoolSize(20);      // 최대 스레드 개수
-        executor.setQueueCapacity(100);   // 대기 큐 크기
-        executor.setThreadNamePrefix("ws-async-");
+        return channelExecutor("websocket", "ws-async-",
+                websocketCoreSize, websocketMaxSize, websocketQueueCapacity, false, Policy.DROP_OLDEST);
+    }
+
+    @Bean(name = ALARM_EXECUTOR)
+    public Executor alarmExecutor() {
+        return channelExecutor("alarm", "alarm-async-",
+                alarmCoreSize, alarmMaxSize, alarmQueueCapacity, true, Policy.EVICT_LOWER_OR_CALLER_RUNS);
+    }
+
+    @Bean(name = PUSH_EXECUTOR)
+    public Executor pushExecutor() {
+        return channelExecutor("push", "push-async-",
+                pushCoreSize, pushMaxSize, pushQueueCapacity, true, Policy.EVICT_LOWER_OR_CALLER_RUNS);
+    }
+
+    // 델타는 순서가 중요하므로 스레드 1개 (큐가 차서 버려진 델타는 클라이언트가 version 으로 누락을 확인 후 보정)
+    @Bean(name = ZONE_STATE_EXECUTOR)
+    public Executor zoneStateExecutor() {
+        return channelExecutor("zone-state", "zone-state-async-",
+                1, 1, zoneStateQueueCapacity, false, Policy.DROP_OLDEST);
+    }
+
+    private ThreadPoolTaskExecutor channelExecutor(String channel, String threadNamePrefix,
+                                                   int coreSize, int maxSize, int queueCapacity,
+                                                   boolean priorityQueue, Policy policy) {
+        MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new);
+        ThreadPoolTaskExecutor executor = priorityQueue
+                ? new ThreadPoolTaskExecutor() {
+                    @Override
+                    protected BlockingQueue<Runnable> createQueue(int capacity) {
+                        return new BoundedPriorityBlockingQueue(capacity);
+                    }
+                }
+                : new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(Math.max(coreSize, maxSize));
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setRejectedExecutionHandler(new ChannelRejectionHandler(channel, policy, meterRegistry));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
         executor.initialize();
+
+        // 스레드 수, 활성/대기/완료 작업 수 메트릭 (executor_* {name=channel})
+        new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), channel, Tags.of("channel", channel))
+                .bindTo(meterRegistry);
         return executor;
     }
 
@@ -38,4 +133,4 @@ public class AsyncConfig implements AsyncConfigurer {
             System.err.printf("Async error in method %s: %s%n", method.getName(), throwable.getMessage());
         };
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,42 @@
+package com.factoreal.backend.global.config;
+
+import com.github.benmanes.caffeine.cache.CaffeineSpec;
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+/**
+ * 메타데이터(공간, 센서, 설비, 작업자) 캐시 설정
+ * 캐시 크기/TTL 은 application.yml 의 spring.cache.caffeine.spec 에서 관리
+ * - 조회 : 각 RepoService.findCachedById (@Cacheable, Kafka 처리 등 읽기 전용 경로)
+ * - 무효화 : 각 RepoService.save (@CacheEvict)
+ *   트랜잭션 안에서 호출되면 커밋 이후에 무효화 (커밋 전에 다른 스레드가 이전 값을 다시 캐시하지 않도록)
+ */
+@Configuration
+@EnableCaching
+@EnableConfigurationProperties(CacheProperties.class)
+public class CacheConfig {
+    public static final String ZONE = "zone";
+    public static final String SENSOR = "sensor";
+    public static final String EQUIP = "equip";
+    public static final String WORKER = "worker";
+
+    @Bean
+    public CacheManager cacheManager(CacheProperties cacheProperties) {
+        CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
+        String spec = cacheProperties.getCaffeine().getSpec();
+        if (StringUtils.hasText(spec)) {
+            caffeineCacheManager.setCaffeineSpec(CaffeineSpec.parse(spec));
+        }
+        if (!cacheProperties.getCacheNames().isEmpty()) {
+            caffeineCacheManager.setCacheNames(cacheProperties.getCacheNames());
+        }
+        return new TransactionAwareCacheManagerProxy(caffeineCacheManager);
+    }
+}
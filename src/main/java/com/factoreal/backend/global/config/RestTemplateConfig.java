@@ -1,16 +1,163 @@
 package com.factoreal.backend.global.config;
 
+import com.factoreal.backend.global.config.http.CircuitBreaker;
+import com.factoreal.backend.global.config.http.CircuitBreakerInterceptor;
+import com.factoreal.backend.global.config.http.HttpClientSettings;
+import com.slack.api.Slack;
+import com.slack.api.SlackConfig;
+import com.slack.api.util.http.SlackHttpClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import io.micrometer.core.instrument.binder.okhttp3.OkHttpConnectionPoolMetrics;
+import io.micrometer.core.instrument.binder.okhttp3.OkHttpMetricsEventListener;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.ConnectionPool;
+import okhttp3.OkHttpClient;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 외부 API(downstream)별 HTTP 클라이언트
+ * - fastApiRestTemplate / grafanaRestTemplate / slackClient 는 각자 연결 풀과 timeout, circuit breaker 를 가짐
+ *   (한 downstream 이 느려져도 다른 downstream 의 연결을 점유하지 않음)
+ * - 설정은 http-client.{fastapi|grafana|slack}.*
+ * - 한정자 없이 RestTemplate 을 주입받으면 기본 호출용 restTemplate (@Primary)
+ * - 종료 시 연결 풀(CloseableHttpClient + 커넥션 매니저)을 닫음
+ * - 메트릭 (/actuator/prometheus)
+ *   - 요청 지연 : http.client.requests (RestTemplate), okhttp.requests{client=slack}
+ *   - 풀 포화   : httpcomponents.httpclient.pool.*{httpclient}, okhttp.pool.connection.count{client=slack}
+ *   - circuit   : http.client.circuit.state{client}, http.client.circuit.rejected{client}
+ */
+@Slf4j
 @Configuration
 public class RestTemplateConfig {
 
+    private final Environment env;
+    private final MeterRegistry meterRegistry;
+    // 종료 시 닫을 연결 풀 (fastApi / grafana)
+    private final List<HttpComponentsClientHttpRequestFactory> pooledRequestFactories = new CopyOnWriteArrayList<>();
+
+    public RestTemplateConfig(Environment env, ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.env = env;
+        this.meterRegistry = meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new);
+    }
+
     @Bean
+    @Primary
     public RestTemplate restTemplate(RestTemplateBuilder builder) {
-        // RestTemplateBuilder를 사용해 RestTemplate 인스턴스를 생성해서 빈으로 등록
-        return builder.build();
+        // RestTemplateBuilder를 사용해 RestTemplate 인스턴스를 생성해서 빈으로 등록 (downstream 전용이 아닌 기본 호출용)
+        return builder
+                .connectTimeout(Duration.ofSeconds(5))
+                .readTimeout(Duration.ofSeconds(30))
+                .build();
+    }
+
+    @Bean
+    public RestTemplate fastApiRestTemplate(RestTemplateBuilder builder) {
+        return pooledRestTemplate(builder, HttpClientSettings.of(env, "fastapi"));
+    }
+
+    @Bean
+    public RestTemplate grafanaRestTemplate(RestTemplateBuilder builder,
+                                            @Value("${grafana.url.inter}") String grafanaUrl) {
+        return pooledRestTemplate(builder.rootUri(grafanaUrl), HttpClientSettings.of(env, "grafana"));
+    }
+
+    @Bean
+    public Slack slackClient() {
+        HttpClientSettings settings = HttpClientSettings.of(env, "slack");
+        ConnectionPool pool = new ConnectionPool(settings.maxTotal(), settings.keepAliveMs(), TimeUnit.MILLISECONDS);
+        Tags tags = Tags.of("client", settings.name());
+
+        OkHttpClient okHttpClient = new OkHttpClient.Builder()
+                .connectionPool(pool)
+                .connectTimeout(Duration.ofMillis(settings.connectTimeoutMs()))
+                .readTimeout(Duration.ofMillis(settings.readTimeoutMs()))
+                .writeTimeout(Duration.ofMillis(settings.readTimeoutMs()))
+                .addInterceptor(circuitBreakerInterceptor(settings))
+                // URI 에 webhook secret 이 있으므로 uri 태그는 기본값(none) 유지
+                .eventListener(OkHttpMetricsEventListener.builder(meterRegistry, "okhttp.requests")
+                        .tags(tags)
+                        .build())
+                .build();
+        new OkHttpConnectionPoolMetrics(pool, "okhttp.pool", tags, settings.maxTotal()).bindTo(meterRegistry);
+
+        return Slack.getInstance(new SlackConfig(), new SlackHttpClient(okHttpClient));
+    }
+
+    private RestTemplate pooledRestTemplate(RestTemplateBuilder builder, HttpClientSettings settings) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(settings.maxTotal())
+                .setMaxConnPerRoute(settings.maxPerRoute())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(settings.connectTimeoutMs()))
+                        .setSocketTimeout(Timeout.ofMilliseconds(settings.readTimeoutMs()))
+                        .build())
+                .build();
+
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(settings.acquireTimeoutMs()))
+                        .setResponseTimeout(Timeout.ofMilliseconds(settings.readTimeoutMs()))
+                        .build())
+                // 서버가 Keep-Alive 를 알려주지 않아도 keepAliveMs 동안 연결 재사용, 유휴 연결은 정리
+                .setKeepAliveStrategy((response, context) -> TimeValue.ofMilliseconds(settings.keepAliveMs()))
+                .evictIdleConnections(TimeValue.ofMilliseconds(settings.keepAliveMs()))
+                .evictExpiredConnections()
+                .build();
+
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, settings.name()).bindTo(meterRegistry);
+
+        HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(httpClient);
+        pooledRequestFactories.add(requestFactory);
+        return builder
+                .requestFactory(() -> requestFactory)
+                .additionalInterceptors(circuitBreakerInterceptor(settings))
+                .build();
+    }
+
+    /**
+     * 연결 풀 종료 (CloseableHttpClient 를 닫으면 커넥션 매니저와 유휴 연결 정리 스레드도 함께 종료)
+     */
+    @PreDestroy
+    public void closeHttpClients() {
+        for (HttpComponentsClientHttpRequestFactory requestFactory : pooledRequestFactories) {
+            try {
+                requestFactory.destroy();
+            } catch (Exception e) {
+                log.warn("⚠️ HTTP 연결 풀 종료 실패: {}", e.getMessage());
+            }
+        }
+        pooledRequestFactories.clear();
+    }
+
+    private CircuitBreakerInterceptor circuitBreakerInterceptor(HttpClientSettings settings) {
+        CircuitBreaker circuitBreaker =
+                new CircuitBreaker(settings.name(), settings.failureThreshold(), settings.openMs());
+        return new CircuitBreakerInterceptor(circuitBreaker, meterRegistry);
     }
-}
\ No newline at end of file
+}
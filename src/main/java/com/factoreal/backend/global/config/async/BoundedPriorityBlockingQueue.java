@@ -0,0 +1,55 @@
+package com.factoreal.backend.global.config.async;
+
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 용량 제한이 있는 우선순위 작업 큐 (ThreadPoolExecutor 작업 큐용)
+ * - 들어오는 작업을 호출 스레드의 TaskPriority 로 PriorityTask 에 감싸서 보관
+ * - 용량이 차면 offer 가 false 를 반환해 executor 가 스레드를 늘리거나 거부 정책을 실행하도록 함
+ * - 용량 확인과 추가가 원자적이지 않아 동시에 들어오면 용량을 몇 개 넘길 수 있음
+ */
+public class BoundedPriorityBlockingQueue extends PriorityBlockingQueue<Runnable> {
+    private final int capacity;
+    private final AtomicLong seq = new AtomicLong();
+
+    public BoundedPriorityBlockingQueue(int capacity) {
+        super(Math.max(1, Math.min(capacity, 1024)));
+        this.capacity = capacity;
+    }
+
+    @Override
+    public boolean offer(Runnable task) {
+        if (size() >= capacity) {
+            return false;
+        }
+        return super.offer(wrap(task));
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return Math.max(0, capacity - size());
+    }
+
+    /**
+     * 밀어내기 가능한 작업 중 priority 보다 낮은 가장 낮은 우선순위(그중 가장 늦게 들어온) 작업을 큐에서 제거
+     */
+    Optional<PriorityTask> evictLowerThan(int priority) {
+        Optional<PriorityTask> lowest = stream()
+                .map(PriorityTask.class::cast)
+                .filter(task -> task.isEvictable() && task.getPriority() < priority)
+                .max(Comparator.naturalOrder());
+        return lowest.filter(this::remove);
+    }
+
+    private PriorityTask wrap(Runnable task) {
+        if (task instanceof PriorityTask priorityTask) {
+            return priorityTask;
+        }
+        Integer priority = TaskPriority.current();
+        return new PriorityTask(priority == null ? TaskPriority.DEFAULT : priority, priority != null,
+                seq.getAndIncrement(), task);
+    }
+}
@@ -0,0 +1,104 @@
+package com.factoreal.backend.global.config.async;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Optional;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 채널 executor 거부 정책 (스레드와 큐가 모두 찬 경우)
+ * - DROP_OLDEST : 가장 오래된 대기 작업을 버리고 새 작업을 넣음 (웹소켓 화면 갱신처럼 최신 값만 의미 있는 경우)
+ * - EVICT_LOWER_OR_CALLER_RUNS : 새 작업보다 우선순위가 낮은 대기 작업이 있으면 버리고 넣고,
+ * 없으면 호출 스레드에서 바로 실행 (알람은 버리지 않고 호출 측에 역압을 걸음)
+ * 버리거나 호출 스레드에서 실행한 작업은 executor.rejected{channel, action} 카운터와 로그로 남김
+ */
+@Slf4j
+public class ChannelRejectionHandler implements RejectedExecutionHandler {
+
+    public enum Policy {
+        DROP_OLDEST,
+        EVICT_LOWER_OR_CALLER_RUNS
+    }
+
+    private final String channel;
+    private final Policy policy;
+    private final Counter dropped;
+    private final Counter evicted;
+    private final Counter callerRuns;
+
+    public ChannelRejectionHandler(String channel, Policy policy, MeterRegistry meterRegistry) {
+        this.channel = channel;
+        this.policy = policy;
+        this.dropped = counter(meterRegistry, "dropped");
+        this.evicted = counter(meterRegistry, "evicted");
+        this.callerRuns = counter(meterRegistry, "caller_runs");
+    }
+
+    private Counter counter(MeterRegistry meterRegistry, String action) {
+        return Counter.builder("executor.rejected")
+                .description("채널 executor 포화 시 처리된 작업 수")
+                .tag("channel", channel)
+                .tag("action", action)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+        if (executor.isShutdown()) {
+            dropped.increment();
+            log.warn("⚠️ [{}] 종료 중인 executor 로 들어온 작업을 버립니다.", channel);
+            return;
+        }
+        switch (policy) {
+            case DROP_OLDEST -> dropOldest(task, executor);
+            case EVICT_LOWER_OR_CALLER_RUNS -> evictLowerOrCallerRuns(task, executor);
+        }
+    }
+
+    private void dropOldest(Runnable task, ThreadPoolExecutor executor) {
+        Runnable oldest = executor.getQueue().poll();
+        if (oldest != null) {
+            cancel(oldest);
+            dropped.increment();
+            log.warn("⚠️ [{}] 작업 큐 포화 → 가장 오래된 작업을 버립니다. (queue={})", channel, executor.getQueue().size());
+        }
+        if (!executor.getQueue().offer(task)) {
+            runInCaller(task);
+        }
+    }
+
+    private void evictLowerOrCallerRuns(Runnable task, ThreadPoolExecutor executor) {
+        if (executor.getQueue() instanceof BoundedPriorityBlockingQueue queue) {
+            Integer priority = TaskPriority.current();
+            Optional<PriorityTask> victim = queue.evictLowerThan(priority == null ? TaskPriority.DEFAULT : priority);
+            if (victim.isPresent()) {
+                cancel(victim.get());
+                evicted.increment();
+                log.warn("⚠️ [{}] 작업 큐 포화 → 우선순위 {} 작업을 밀어내고 우선순위 {} 작업을 넣습니다.",
+                        channel, victim.get().getPriority(), priority);
+                if (queue.offer(task)) {
+                    return;
+                }
+            }
+        }
+        runInCaller(task);
+    }
+
+    private void runInCaller(Runnable task) {
+        callerRuns.increment();
+        log.warn("⚠️ [{}] 작업 큐 포화 → 호출 스레드({})에서 직접 실행합니다.", channel, Thread.currentThread().getName());
+        task.run();
+    }
+
+    // 버린 작업이 Future 면 취소해 기다리는 쪽이 멈추지 않도록 함
+    private static void cancel(Runnable task) {
+        Runnable target = task instanceof PriorityTask priorityTask ? priorityTask.getDelegate() : task;
+        if (target instanceof Future<?> future) {
+            future.cancel(false);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.factoreal.backend.global.config.async;
+
+import lombok.Getter;
+
+/**
+ * 우선순위 큐에 들어가는 작업 래퍼
+ * 우선순위가 높은 작업이 먼저, 같은 우선순위는 들어온 순서(seq)대로 처리
+ */
+@Getter
+final class PriorityTask implements Runnable, Comparable<PriorityTask> {
+    private final int priority;
+    private final boolean evictable; // TaskPriority 로 우선순위가 지정된 작업만 밀어내기 대상
+    private final long seq;
+    private final Runnable delegate;
+
+    PriorityTask(int priority, boolean evictable, long seq, Runnable delegate) {
+        this.priority = priority;
+        this.evictable = evictable;
+        this.seq = seq;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void run() {
+        delegate.run();
+    }
+
+    @Override
+    public int compareTo(PriorityTask other) {
+        int byPriority = Integer.compare(other.priority, priority);
+        return byPriority != 0 ? byPriority : Long.compare(seq, other.seq);
+    }
+}
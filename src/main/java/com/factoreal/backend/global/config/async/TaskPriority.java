@@ -0,0 +1,46 @@
+package com.factoreal.backend.global.config.async;
+
+import java.util.function.Supplier;
+
+/**
+ * 비동기 작업 우선순위 지정
+ * - run/call 안에서 @Async 메서드를 호출하면 해당 작업이 우선순위 큐에서 priority 순서로 처리됨
+ * - 우선순위는 작업을 큐에 넣는 호출 스레드에서 읽으므로 비동기 호출 직전에 감싸야 함
+ * - 우선순위를 지정하지 않은 작업은 DEFAULT 로 처리되고 밀어내기(evict) 대상이 되지 않음
+ */
+public final class TaskPriority {
+    public static final int DEFAULT = 1; // RiskLevel.WARNING 과 같은 수준
+
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    private TaskPriority() {
+    }
+
+    /**
+     * 현재 스레드에 지정된 우선순위 (없으면 null)
+     */
+    static Integer current() {
+        return CURRENT.get();
+    }
+
+    public static void run(int priority, Runnable action) {
+        call(priority, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    public static <T> T call(int priority, Supplier<T> action) {
+        Integer previous = CURRENT.get();
+        CURRENT.set(priority);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
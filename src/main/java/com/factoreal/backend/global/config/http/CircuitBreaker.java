@@ -0,0 +1,98 @@
+package com.factoreal.backend.global.config.http;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 외부 API 호출용 단순 circuit breaker
+ * - CLOSED    : 정상 호출, 연속 실패가 failureThreshold 에 도달하면 OPEN
+ * - OPEN      : openMs 동안 호출하지 않고 바로 실패
+ * - HALF_OPEN : openMs 가 지나면 한 건만 시험 호출, 성공하면 CLOSED / 실패하면 다시 OPEN
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED(0), HALF_OPEN(1), OPEN(2);
+
+        @Getter
+        private final int code; // 메트릭 값
+
+        State(int code) {
+            this.code = code;
+        }
+    }
+
+    @Getter
+    private final String name;
+    private final int failureThreshold;
+    private final long openMs;
+    private final LongSupplier clock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    public CircuitBreaker(String name, int failureThreshold, long openMs) {
+        this(name, failureThreshold, openMs, System::currentTimeMillis);
+    }
+
+    CircuitBreaker(String name, int failureThreshold, long openMs, LongSupplier clock) {
+        this.name = name;
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openMs = openMs;
+        this.clock = clock;
+    }
+
+    /**
+     * 호출 가능 여부 (true 를 받았으면 반드시 onSuccess/onFailure 중 하나를 호출)
+     */
+    public synchronized boolean tryAcquire() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (clock.getAsLong() - openedAt < openMs) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                log.info("[{}] circuit half-open → 시험 호출", name);
+                trialInFlight = true;
+                return true;
+            default: // HALF_OPEN
+                if (trialInFlight) {
+                    return false;
+                }
+                trialInFlight = true;
+                return true;
+        }
+    }
+
+    public synchronized void onSuccess() {
+        if (state != State.CLOSED) {
+            log.info("[{}] circuit closed", name);
+        }
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        trialInFlight = false;
+    }
+
+    public synchronized void onFailure() {
+        trialInFlight = false;
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            if (state != State.OPEN) {
+                log.warn("⚠️ [{}] circuit open ({}회 연속 실패) → {}ms 동안 호출 차단", name, consecutiveFailures, openMs);
+            }
+            state = State.OPEN;
+            openedAt = clock.getAsLong();
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+}
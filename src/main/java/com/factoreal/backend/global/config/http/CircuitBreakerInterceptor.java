@@ -0,0 +1,79 @@
+package com.factoreal.backend.global.config.http;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import okhttp3.Interceptor;
+import okhttp3.Response;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+
+/**
+ * circuit breaker 를 HTTP 호출에 적용 (RestTemplate / Slack SDK 의 OkHttp 공용)
+ * - 연결 실패·타임아웃(IOException)과 5xx 응답을 실패로 집계
+ * - circuit 이 열려 있으면 요청을 보내지 않고 CircuitOpenException 발생
+ * - http.client.circuit.state{client} (0=closed, 1=half-open, 2=open), http.client.circuit.rejected{client} 메트릭
+ */
+public class CircuitBreakerInterceptor implements ClientHttpRequestInterceptor, Interceptor {
+
+    private final CircuitBreaker circuitBreaker;
+    private final Counter rejected;
+
+    public CircuitBreakerInterceptor(CircuitBreaker circuitBreaker, MeterRegistry meterRegistry) {
+        this.circuitBreaker = circuitBreaker;
+        Gauge.builder("http.client.circuit.state", circuitBreaker, cb -> cb.getState().getCode())
+                .description("외부 API circuit 상태 (0=closed, 1=half-open, 2=open)")
+                .tag("client", circuitBreaker.getName())
+                .register(meterRegistry);
+        this.rejected = Counter.builder("http.client.circuit.rejected")
+                .description("circuit open 으로 보내지 않은 요청 수")
+                .tag("client", circuitBreaker.getName())
+                .register(meterRegistry);
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body,
+                                        ClientHttpRequestExecution execution) throws IOException {
+        acquire();
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            record(response.getStatusCode().is5xxServerError());
+            return response;
+        } catch (IOException | RuntimeException e) {
+            circuitBreaker.onFailure();
+            throw e;
+        }
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        acquire();
+        try {
+            Response response = chain.proceed(chain.request());
+            record(response.code() >= 500);
+            return response;
+        } catch (IOException | RuntimeException e) {
+            circuitBreaker.onFailure();
+            throw e;
+        }
+    }
+
+    private void acquire() throws CircuitOpenException {
+        if (!circuitBreaker.tryAcquire()) {
+            rejected.increment();
+            throw new CircuitOpenException(circuitBreaker.getName());
+        }
+    }
+
+    private void record(boolean failed) {
+        if (failed) {
+            circuitBreaker.onFailure();
+        } else {
+            circuitBreaker.onSuccess();
+        }
+    }
+}
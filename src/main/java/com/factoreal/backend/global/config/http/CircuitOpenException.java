@@ -0,0 +1,13 @@
+package com.factoreal.backend.global.config.http;
+
+import java.io.IOException;
+
+/**
+ * circuit 이 열려 있어 호출하지 않고 바로 실패한 경우
+ * (RestTemplate 에서는 ResourceAccessException 의 cause 로 전달됨)
+ */
+public class CircuitOpenException extends IOException {
+    public CircuitOpenException(String name) {
+        super("[" + name + "] circuit open → 호출 생략");
+    }
+}
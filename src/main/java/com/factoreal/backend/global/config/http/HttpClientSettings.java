@@ -0,0 +1,42 @@
+package com.factoreal.backend.global.config.http;
+
+import org.springframework.core.env.Environment;
+
+/**
+ * 외부 API(downstream)별 HTTP 연결 풀 설정 (http-client.{name}.*)
+ *
+ * @param maxTotal           풀 전체 최대 연결 수
+ * @param maxPerRoute        호스트당 최대 연결 수
+ * @param connectTimeoutMs   연결 대기 시간
+ * @param readTimeoutMs      응답 대기 시간
+ * @param acquireTimeoutMs   풀에서 연결을 얻기까지 대기 시간 (풀 포화 시)
+ * @param keepAliveMs        유휴 연결 유지 시간
+ * @param failureThreshold   연속 실패가 이 횟수에 도달하면 circuit open
+ * @param openMs             circuit open 유지 시간 (이후 한 건만 시험 호출)
+ */
+public record HttpClientSettings(
+        String name,
+        int maxTotal,
+        int maxPerRoute,
+        long connectTimeoutMs,
+        long readTimeoutMs,
+        long acquireTimeoutMs,
+        long keepAliveMs,
+        int failureThreshold,
+        long openMs
+) {
+    public static HttpClientSettings of(Environment env, String name) {
+        String prefix = "http-client." + name + ".";
+        return new HttpClientSettings(
+                name,
+                env.getProperty(prefix + "max-total", Integer.class, 20),
+                env.getProperty(prefix + "max-per-route", Integer.class, 20),
+                env.getProperty(prefix + "connect-timeout-ms", Long.class, 2000L),
+                env.getProperty(prefix + "read-timeout-ms", Long.class, 5000L),
+                env.getProperty(prefix + "acquire-timeout-ms", Long.class, 1000L),
+                env.getProperty(prefix + "keep-alive-ms", Long.class, 30000L),
+                env.getProperty(prefix + "circuit-breaker.failure-threshold", Integer.class, 5),
+                env.getProperty(prefix + "circuit-breaker.open-ms", Long.class, 30000L)
+        );
+    }
+}
@@ -1,77 +1,71 @@
 package com.factoreal.backend.global.fileUtil;
 
-import com.factoreal.backend.domain.abnormalLog.application.AbnormalLogRepoService;
 import com.factoreal.backend.domain.abnormalLog.dto.response.reportDetailResponse.*;
-import com.factoreal.backend.domain.abnormalLog.entity.AbnormalLog;
-import com.factoreal.backend.domain.controlLog.entity.ControlLog;
 import com.opencsv.CSVWriter;
 import org.springframework.stereotype.Component;
 
-import java.io.FileWriter;
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 
 @Component
 public class CsvUtil {
 
-    private final AbnormalLogRepoService abnormalLogRepoService;
+    private static final String[] HEADER = {"공간Id", "공간 이름", "이상치 유형",
+            "타겟 ID", "작업자/설비 이름", "발생 시간", "이상치 내용",
+            "위험 레벨", "이상치 값", "제어 타입", "제어 값", "점검일", "제어여부"};
 
-    public CsvUtil(AbnormalLogRepoService abnormalLogRepoService) {
-        this.abnormalLogRepoService = abnormalLogRepoService;
-    }
-
-    public Path writeReportAsCsv(PeriodDetailReportResponse rpt, Map<Long, ControlLog> ctlMap) throws IOException {
-        Path tmp = Files.createTempFile("PreviewMonthReport-", ".csv");
-
-        try (CSVWriter w = new CSVWriter(new FileWriter(tmp.toFile()))) {
-            // 헤더에 targetName 추가
-            w.writeNext(new String[]{"공간Id", "공간 이름", "이상치 유형",
-                    "타겟 ID", "작업자/설비 이름", "발생 시간", "이상치 내용",
-                    "위험 레벨", "이상치 값", "제어 타입", "제어 값", "점검일", "제어여부"
-            });
+    /**
+     * 공간 하나의 리포트 블록을 CSV 로 변환 (임시 파일 없이 메모리에서 생성, 메일 첨부용)
+     * 대응(제어) 정보는 리포트 상세에 포함된 값을 사용
+     *
+     * @param targetIds 로그 ID → 대상 ID (한 번에 조회한 값)
+     */
+    public byte[] writeZoneReportCsv(ZoneBlockResponse z, Map<Long, String> targetIds) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (CSVWriter w = new CSVWriter(new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8)))) {
+            w.writeNext(HEADER);
+            String[] cells = new String[HEADER.length];
 
+            for (AbnDetailResponse d : z.getEnvAbnormals())
+                write(z, d, w, cells, "ENV", targetIds, "-");
 
-            for (ZoneBlockResponse z : rpt.getZones()) {
-                for (AbnDetailResponse d : z.getEnvAbnormals())
-                    write(z, d, w, "ENV", d.getAbnormalId(), ctlMap, "-");
+            for (WorkerBlockResponse wb : z.getWorkers())
+                for (AbnDetailResponse d : wb.getWorkerAbnormals())
+                    write(z, d, w, cells, "WORKER", targetIds, wb.getName());
 
-                for (WorkerBlockResponse wb : z.getWorkers())
-                    for (AbnDetailResponse d : wb.getWorkerAbnormals())
-                        write(z, d, w, "WORKER", d.getAbnormalId(), ctlMap, wb.getName());
-
-                for (EquipBlockResponse eb : z.getEquips())
-                    for (AbnDetailResponse d : eb.getFacAbnormals())
-                        write(z, d, w, "EQUIP", d.getAbnormalId(), ctlMap, eb.getEquipId());
-            }
+            for (EquipBlockResponse eb : z.getEquips())
+                for (AbnDetailResponse d : eb.getFacAbnormals())
+                    write(z, d, w, cells, "EQUIP", targetIds, eb.getEquipId());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
-
-        return tmp;
+        return out.toByteArray();
     }
 
     private void write(
-            ZoneBlockResponse z, AbnDetailResponse d, CSVWriter w, String tp,
-            Long abnId, Map<Long, ControlLog> ctlMap, String targetName
+            ZoneBlockResponse z, AbnDetailResponse d, CSVWriter w, String[] cells, String tp,
+            Map<Long, String> targetIds, String targetName
     ) {
-        ControlLog ctl = ctlMap.get(abnId);
-        AbnormalLog abn = abnormalLogRepoService.findById(abnId);
-        String targetId = abn.getTargetId();
+        ControlInfoResponse ctl = d.getControl();
 
-        w.writeNext(new String[]{
-                z.getZoneId(),
-                z.getZoneName(),
-                tp,
-                targetId,
-                targetName,
-                d.getDetectedAt().toString(),
-                String.valueOf(d.getAbnormalType()),
-                String.valueOf(d.getDangerLevel()),
-                String.valueOf(d.getAbnVal()),
-                ctl != null ? ctl.getControlType() : "-",
-                ctl != null ? String.valueOf(ctl.getControlVal()) : "-",
-                ctl != null ? ctl.getExecutedAt().toString() : "-",
-                ctl != null ? String.valueOf(ctl.getControlStat()) : "-"
-        });
+        cells[0] = z.getZoneId();
+        cells[1] = z.getZoneName();
+        cells[2] = tp;
+        cells[3] = targetIds.get(d.getAbnormalId());
+        cells[4] = targetName;
+        cells[5] = String.valueOf(d.getDetectedAt());
+        cells[6] = String.valueOf(d.getAbnormalType());
+        cells[7] = String.valueOf(d.getDangerLevel());
+        cells[8] = String.valueOf(d.getAbnVal());
+        cells[9] = ctl != null ? ctl.getControlType() : "-";
+        cells[10] = ctl != null ? String.valueOf(ctl.getControlVal()) : "-";
+        cells[11] = ctl != null ? String.valueOf(ctl.getExecutedAt()) : "-";
+        cells[12] = ctl != null ? String.valueOf(ctl.getControlStat()) : "-";
+        w.writeNext(cells);
     }
-}
\ No newline at end of file
+}
@@ -3,6 +3,7 @@ package com.factoreal.backend.messaging.api;
 import com.factoreal.backend.domain.abnormalLog.entity.AbnormalLog;
 import com.factoreal.backend.domain.sensor.dto.SensorKafkaDto;
 import com.factoreal.backend.domain.zone.application.ZoneRepoService;
+import com.factoreal.backend.global.config.async.TaskPriority;
 import com.factoreal.backend.messaging.kafka.dto.WearableKafkaDto;
 import com.factoreal.backend.messaging.kafka.strategy.NotificationStrategyFactory;
 import com.factoreal.backend.messaging.kafka.strategy.alarmList.NotificationStrategy;
@@ -72,7 +73,7 @@ public class AlarmEventService {
 
         String source = data.getZoneId().equals(data.getEquipId()) ? "공간 센서" : "설비 센서";
         SensorType sensorType = SensorType.valueOf(data.getSensorType());
-        String zoneName = zoneRepoService.findById(data.getZoneId()).getZoneName();
+        String zoneName = zoneRepoService.findCachedById(data.getZoneId()).getZoneName();
         // 알람 이벤트 객체 반환
         return AlarmEventResponse.builder()
                 .eventId(abnormalLog.getId())
@@ -103,7 +104,9 @@ public class AlarmEventService {
 
             log.info("💡Notification strategy executed for AlarmEvent. \n{}", alarmEventResponse.toString());
             // 4. 알람 객체의 값으로 전략별 알람 송신.
-            notificationStrategyList.forEach(notificationStrategy -> notificationStrategy.send(alarmEventResponse));
+            //    위험도를 작업 우선순위로 지정해 채널 큐에서 CRITICAL 알람이 INFO 보다 먼저 처리되도록 함
+            TaskPriority.run(alarmEventResponse.getRiskLevel().getPriority(), () ->
+                    notificationStrategyList.forEach(notificationStrategy -> notificationStrategy.send(alarmEventResponse)));
 
         } catch (Exception e) {
             log.error("Failed to execute notification strategy for AlarmEvent DTO: {}", alarmEventResponse, e);
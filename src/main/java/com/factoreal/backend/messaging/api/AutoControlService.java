@@ -39,7 +39,7 @@ public class AutoControlService {
             return;
         }
 
-        Sensor sensor = sensorRepoService.findById(dto.getSensorId());
+        Sensor sensor = sensorRepoService.findCachedById(dto.getSensorId());
         if (sensor == null) {
             log.warn("❌ 센서 정보 조회 실패: sensorId={}", dto.getSensorId());
             return;
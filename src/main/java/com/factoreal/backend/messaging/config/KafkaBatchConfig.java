@@ -0,0 +1,61 @@
+package com.factoreal.backend.messaging.config;
+
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.util.backoff.FixedBackOff;
+
+import java.util.Properties;
+
+/**
+ * ENVIRONMENT / WEARABLE 토픽을 배치 단위로 소비하기 위한 리스너 컨테이너 설정
+ * - max-records : 한 번의 poll 에서 가져올 최대 레코드 수 (배치 크기)
+ * - max-wait-ms : 브로커가 min-bytes 를 채우기 위해 대기하는 최대 시간 (배치 최대 지연)
+ * - retry-interval-ms / max-retries : 배치 처리 실패 시 재시도 간격과 횟수
+ */
+@Configuration
+public class KafkaBatchConfig {
+
+    @Value("${kafka.batch.max-records:500}")
+    private int maxRecords;
+
+    @Value("${kafka.batch.max-wait-ms:200}")
+    private int maxWaitMs;
+
+    @Value("${kafka.batch.min-bytes:1}")
+    private int minBytes;
+
+    @Value("${kafka.batch.retry-interval-ms:1000}")
+    private long retryIntervalMs;
+
+    @Value("${kafka.batch.max-retries:3}")
+    private long maxRetries;
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> batchKafkaListenerContainerFactory(
+            ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+            ConsumerFactory<Object, Object> kafkaConsumerFactory) {
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        // spring.kafka.* 공통 설정(ack-mode 등) 적용 후 배치 모드로 전환
+        configurer.configure(factory, kafkaConsumerFactory);
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        // 배치 처리 실패(BatchListenerFailedException) 시 실패 레코드부터 retry-interval-ms 간격으로 max-retries 회 재시도,
+        // 그래도 실패하면 해당 레코드는 로그만 남기고 건너뜀 (커밋이 멈추지 않도록)
+        factory.setCommonErrorHandler(new DefaultErrorHandler(new FixedBackOff(retryIntervalMs, maxRetries)));
+
+        // 컨슈머 속성 오버라이드 (Properties 는 문자열 값만 반영됨)
+        Properties overrides = new Properties();
+        overrides.setProperty(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, String.valueOf(maxRecords));
+        overrides.setProperty(ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG, String.valueOf(maxWaitMs));
+        overrides.setProperty(ConsumerConfig.FETCH_MIN_BYTES_CONFIG, String.valueOf(minBytes));
+        factory.getContainerProperties().setKafkaConsumerProperties(overrides);
+        return factory;
+    }
+}
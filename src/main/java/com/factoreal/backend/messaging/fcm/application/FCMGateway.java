@@ -0,0 +1,21 @@
+package com.factoreal.backend.messaging.fcm.application;
+
+import com.factoreal.backend.messaging.fcm.dto.FCMSendResult;
+
+import java.util.List;
+
+/**
+ * FCM 멀티캐스트 전송 창구
+ * - 운영에서는 FirebaseMessaging 을 사용하는 FirebaseFCMGateway, 테스트에서는 로컬 가짜 구현을 사용
+ */
+public interface FCMGateway {
+
+    /**
+     * 같은 알림을 여러 토큰에 한 번에 전송
+     *
+     * @param tokens 최대 FCMMulticastSender.MAX_BATCH_SIZE 개
+     * @return 토큰 순서와 같은 순서의 전송 결과
+     * @throws Exception 묶음 전체가 실패한 경우 (인증 오류, 네트워크 오류 등)
+     */
+    List<FCMSendResult> sendMulticast(List<String> tokens, String title, String body) throws Exception;
+}
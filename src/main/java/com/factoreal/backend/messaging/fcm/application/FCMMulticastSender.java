@@ -0,0 +1,90 @@
+package com.factoreal.backend.messaging.fcm.application;
+
+import com.factoreal.backend.messaging.fcm.dto.FCMSendResult;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * FCM 멀티캐스트 발송기
+ * - 토큰을 FCM 멀티캐스트 최대 크기(500개) 단위로 묶어 전송
+ * - 묶음들은 전용 스레드 풀(concurrency 개)에서 동시에 전송 (공용 @Async 풀을 점유하지 않음)
+ * - 묶음 전체가 실패하면 그 묶음의 토큰은 모두 실패로 처리 (예외를 던지지 않음)
+ */
+@Slf4j
+@Component
+public class FCMMulticastSender {
+    public static final int MAX_BATCH_SIZE = 500;
+
+    private final FCMGateway fcmGateway;
+    private final ExecutorService executor;
+
+    public FCMMulticastSender(FCMGateway fcmGateway,
+                              @Value("${fcm.multicast.concurrency:4}") int concurrency) {
+        this.fcmGateway = fcmGateway;
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Math.max(1, concurrency), r -> {
+            Thread t = new Thread(r, "fcm-multicast-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * 같은 알림을 여러 토큰에 전송
+     *
+     * @return 토큰 순서와 같은 순서의 전송 결과
+     */
+    public CompletableFuture<List<FCMSendResult>> send(List<String> tokens, String title, String body) {
+        if (tokens.isEmpty()) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+        List<CompletableFuture<List<FCMSendResult>>> batches = new ArrayList<>();
+        for (int from = 0; from < tokens.size(); from += MAX_BATCH_SIZE) {
+            List<String> batch = List.copyOf(tokens.subList(from, Math.min(from + MAX_BATCH_SIZE, tokens.size())));
+            batches.add(CompletableFuture.supplyAsync(() -> sendBatch(batch, title, body), executor));
+        }
+        return CompletableFuture.allOf(batches.toArray(CompletableFuture[]::new))
+            .thenApply(v -> {
+                List<FCMSendResult> results = new ArrayList<>(tokens.size());
+                batches.forEach(batch -> results.addAll(batch.join()));
+                return results;
+            });
+    }
+
+    private List<FCMSendResult> sendBatch(List<String> tokens, String title, String body) {
+        try {
+            List<FCMSendResult> results = fcmGateway.sendMulticast(tokens, title, body);
+            long failed = results.stream().filter(r -> !r.isSuccess()).count();
+            log.info("FCM 멀티캐스트 전송: {}건 (실패 {}건)", tokens.size(), failed);
+            return results;
+        } catch (Exception e) {
+            log.error("❌ FCM 멀티캐스트 전송 실패: {}건, {}", tokens.size(), e.getMessage());
+            return tokens.stream()
+                .map(token -> FCMSendResult.failure(token, e.getMessage()))
+                .toList();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
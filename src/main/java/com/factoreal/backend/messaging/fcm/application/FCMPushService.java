@@ -1,5 +1,6 @@
 package com.factoreal.backend.messaging.fcm.application;
 
+import com.factoreal.backend.global.config.AsyncConfig;
 import com.google.firebase.messaging.FirebaseMessaging;
 import com.google.firebase.messaging.FirebaseMessagingException;
 import com.google.firebase.messaging.Message;
@@ -18,7 +19,7 @@ public class FCMPushService {
     private final FirebaseMessaging firebaseMessaging;
 
 //   TODO 트러블 슈팅 -> 비동기에서 예외처리 방법
-    @Async
+    @Async(AsyncConfig.PUSH_EXECUTOR)
     public CompletableFuture<String> sendMessage(String token, String title, String body) {
         if (token == null) {
             return CompletableFuture.failedFuture(new IllegalArgumentException("fcm 토큰 없음"));
@@ -18,6 +18,7 @@ import com.factoreal.backend.domain.zone.entity.Zone;
 import com.factoreal.backend.domain.zone.entity.ZoneHist;
 import com.factoreal.backend.global.exception.dto.BadRequestException;
 import com.factoreal.backend.messaging.fcm.dto.FCMResponse;
+import com.factoreal.backend.messaging.fcm.dto.FCMSendResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.hibernate.jdbc.Work;
@@ -26,13 +27,16 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class FCMService {
     private final FCMPushService fcmService;
+    private final FCMMulticastSender fcmMulticastSender;
     private final WorkerRepoService workerRepoService;
     private final ZoneHistoryRepoService zoneHistoryRepoService;
     private final EquipRepoService equipRepoService;
@@ -129,6 +133,7 @@ public class FCMService {
 
     /**
      * 공간 위험 알람
+     * 공간 내 작업자 토큰을 FCMMulticastSender 로 묶어 전송하고, 알림 기록은 한 번에 저장
      */
     public List<FCMResponse> sendZoneSafety(
         String zoneId,
@@ -143,7 +148,7 @@ public class FCMService {
             abnormalLogRepoService.findLatestSensorLogInZoneWithDangerLevel(TargetType.Sensor, zone, dangerLevel)
             : abnormalLogOption;
 
-        Sensor sensor = sensorRepoService.getSensorById(abnormalLog.getTargetId());
+        Sensor sensor = sensorRepoService.findCachedById(abnormalLog.getTargetId());
         List<Worker> workerList = zoneHistoryRepoService.getCurrentWorkersByZoneId(zoneId).stream()
             .map(ZoneHist::getWorker)
             .toList();
@@ -151,27 +156,40 @@ public class FCMService {
         String title = "[주의] 수동 호출, 작업장 위험";
         String body = String.format("%s에 있는 작업자들은 %s 센서의 수치가 높으므로 주의하세요.",
             zone.getZoneName(), sensor.getSensorType());
+        // 토큰이 없는 작업자는 바로 실패 처리, 나머지는 멀티캐스트로 한 번에 전송
+        Map<String, Boolean> notifyResults = new LinkedHashMap<>();
         List<FCMResponse> sendResult = new ArrayList<>();
-
+        List<Worker> targets = new ArrayList<>();
         for (Worker worker : workerList) {
-            FCMResponse fcmResponse = workerFcmTokenCheck(worker);
-            if (fcmResponse != null) {
-                sendResult.add(fcmResponse); // 실패하면 FCMResponse에 객체가 생성되고, 해당 라인이 실행.
+            String fcmToken = worker.getFcmToken();
+            if (fcmToken == null || fcmToken.isBlank()) {
+                log.warn("❌ 작업자 {}의 FCM 토큰이 없습니다. 알림 전송 건너뜀", worker.getWorkerId());
+                notifyResults.put(worker.getWorkerId(), false);
+                sendResult.add(failSendWorker(worker, "❌ 작업자의 FCM 토큰이 없습니다."));
                 continue;
             }
+            targets.add(worker);
+        }
+
+        List<FCMSendResult> results = fcmMulticastSender.send(
+            targets.stream().map(Worker::getFcmToken).toList(), title, body
+        ).join();
+
+        // 결과는 토큰 순서와 같으므로 같은 위치의 작업자에 매핑
+        for (int i = 0; i < targets.size(); i++) {
+            Worker worker = targets.get(i);
+            FCMSendResult result = results.get(i);
+            notifyResults.put(worker.getWorkerId(), result.isSuccess());
+            if (result.isSuccess()) {
+                sendResult.add(successSendWorker(worker));
+            } else {
+                log.error("❌ 작업자 {}에게 FCM 전송 실패: {}", worker.getWorkerId(), result.getError());
+                sendResult.add(failSendWorker(worker, result.getError()));
+            }
+        }
 
-            fcmService.sendMessage(worker.getFcmToken(), title, body)
-                .thenAccept(messageId -> notifyLogService.saveNotifyLogFromFCM(
-                    worker.getWorkerId(), true, triggerType, time, abnormalLog.getId()
-                ))
-                .exceptionally(ex -> {
-                    log.error("❌ 작업자 {}에게 FCM 전송 실패: {}", worker.getWorkerId(), ex.getMessage());
-                    notifyLogService.saveNotifyLogFromFCM(
-                        worker.getWorkerId(), false, triggerType, time, abnormalLog.getId()
-                    );
-                    return null;
-                });
-            sendResult.add(successSendWorker(worker)); // private 메서드로 정의한 코드 재사용
+        if (!notifyResults.isEmpty()) {
+            notifyLogService.saveNotifyLogsFromFCM(notifyResults, triggerType, time, abnormalLog.getId());
         }
         return sendResult;
     }
@@ -245,6 +263,15 @@ public class FCMService {
         return null;
     }
 
+    private FCMResponse failSendWorker(Worker worker, String errorDescription){
+        return FCMResponse.builder()
+            .workerId(worker.getWorkerId())
+            .workerName(worker.getName())
+            .success(false)
+            .errorDescription(errorDescription)
+            .build();
+    }
+
     private FCMResponse successSendWorker(Worker worker){
         return FCMResponse.builder()
             .workerId(worker.getWorkerId())
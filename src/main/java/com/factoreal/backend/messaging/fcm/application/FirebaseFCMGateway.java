@@ -0,0 +1,49 @@
+package com.factoreal.backend.messaging.fcm.application;
+
+import com.factoreal.backend.messaging.fcm.dto.FCMSendResult;
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.MulticastMessage;
+import com.google.firebase.messaging.Notification;
+import com.google.firebase.messaging.SendResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class FirebaseFCMGateway implements FCMGateway {
+    private final FirebaseMessaging firebaseMessaging;
+
+    @Override
+    public List<FCMSendResult> sendMulticast(List<String> tokens, String title, String body)
+            throws FirebaseMessagingException {
+        BatchResponse response = firebaseMessaging.sendEachForMulticast(
+            MulticastMessage.builder()
+                .setNotification(Notification.builder().setTitle(title).setBody(body).build())
+                .addAllTokens(tokens)
+                .build()
+        );
+
+        // 응답은 토큰 순서와 같은 순서로 반환됨
+        List<SendResponse> responses = response.getResponses();
+        List<FCMSendResult> results = new ArrayList<>(tokens.size());
+        for (int i = 0; i < tokens.size(); i++) {
+            SendResponse r = responses.get(i);
+            results.add(r.isSuccessful()
+                ? FCMSendResult.success(tokens.get(i), r.getMessageId())
+                : FCMSendResult.failure(tokens.get(i), errorOf(r.getException())));
+        }
+        return results;
+    }
+
+    private static String errorOf(FirebaseMessagingException e) {
+        if (e == null) {
+            return "unknown";
+        }
+        return e.getMessagingErrorCode() != null ? e.getMessagingErrorCode().name() : e.getMessage();
+    }
+}
@@ -0,0 +1,25 @@
+package com.factoreal.backend.messaging.fcm.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 토큰 하나에 대한 FCM 전송 결과
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class FCMSendResult {
+    private final String token;
+    private final boolean success;
+    private final String messageId; // 성공 시 FCM 메시지 ID
+    private final String error;     // 실패 시 원인 (FCM 오류 코드 등)
+
+    public static FCMSendResult success(String token, String messageId) {
+        return new FCMSendResult(token, true, messageId, null);
+    }
+
+    public static FCMSendResult failure(String token, String error) {
+        return new FCMSendResult(token, false, null, error);
+    }
+}
@@ -1,9 +1,8 @@
 package com.factoreal.backend.messaging.grafana;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.*;
 import org.springframework.stereotype.Component;
@@ -13,10 +12,10 @@ import java.util.Map;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class GrafanaClient {
 
-    private final RestTemplateBuilder restTemplateBuilder;
+    // grafana.url.inter 를 rootUri 로 하는 Grafana 전용 연결 풀 (RestTemplateConfig)
+    private final RestTemplate restTemplate;
 
     @Value("${grafana.url.inter}")
     private String url;
@@ -24,13 +23,11 @@ public class GrafanaClient {
     @Value("${grafana.api-key}")
     private String apiKey;
 
-    private RestTemplate rest() {
-        return restTemplateBuilder.rootUri(url).build();
+    public GrafanaClient(@Qualifier("grafanaRestTemplate") RestTemplate restTemplate) {
+        this.restTemplate = restTemplate;
     }
 
     public String createDashboard(String dashboardJson) {
-        RestTemplate restTemplate = rest();
-
         // 1) 헤더 설정
         HttpHeaders headers = new HttpHeaders();
         headers.setBearerAuth(apiKey);
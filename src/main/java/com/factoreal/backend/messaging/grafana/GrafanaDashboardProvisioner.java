@@ -0,0 +1,163 @@
+package com.factoreal.backend.messaging.grafana;
+
+import com.factoreal.backend.domain.sensor.application.SensorRepoService;
+import com.factoreal.backend.domain.sensor.entity.Sensor;
+import com.factoreal.backend.domain.zone.application.ZoneTopologyChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 공간별 Grafana 대시보드 생성(provisioning) 캐시
+ * - 공간의 센서 구성(센서 ID·종류·순서) 해시별로 생성한 대시보드 UID 를 보관해, 구성이 같으면 Grafana 를 호출하지 않음
+ * - 같은 공간·구성에 대한 동시 요청은 하나의 생성 호출을 함께 기다림
+ * - 센서 변경 이벤트(ZoneTopologyChangedEvent) 가 오면 이미 생성한 공간 중 구성이 바뀐 공간만 백그라운드에서 다시 생성
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GrafanaDashboardProvisioner {
+
+    private final DashboardFactory dashboardFactory;
+    private final GrafanaClient grafanaClient;
+    private final SensorRepoService sensorRepoService;
+
+    @Value("${grafana.datasource-uid}")
+    private String datasourceUid;
+
+    private record Provisioned(String sensorHash, String dashboardUid) {
+    }
+
+    // 공간 ID → 마지막으로 생성한 대시보드
+    private final ConcurrentMap<String, Provisioned> dashboards = new ConcurrentHashMap<>();
+    // 공간 ID:센서 해시 → 진행 중인 생성 호출
+    private final ConcurrentMap<String, CompletableFuture<Provisioned>> inFlight = new ConcurrentHashMap<>();
+    // 진행 중인 생성 호출에 합류할 때 실행 (테스트에서 합류 시점을 확인하는 용도)
+    Runnable onJoinInFlight = () -> { };
+
+    private final ExecutorService refresher = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "grafana-provision");
+        t.setDaemon(true);
+        return t;
+    });
+
+    /**
+     * 대시보드에 표시할 공간 센서 목록 (isZone == 1), 순서가 패널 순서
+     */
+    public List<Sensor> findDashboardSensors(String zoneId) {
+        return sensorRepoService.findByZone_ZoneId(zoneId).stream()
+                .filter(sensor -> sensor.getIsZone() == 1)
+                .toList();
+    }
+
+    /**
+     * 센서 구성에 맞는 대시보드 UID (캐시에 없거나 구성이 바뀌었으면 생성)
+     */
+    public String dashboardUid(String zoneId, List<Sensor> sensors) throws JsonProcessingException {
+        String hash = sensorHash(sensors);
+        Provisioned current = dashboards.get(zoneId);
+        if (current != null && current.sensorHash().equals(hash)) {
+            return current.dashboardUid();
+        }
+        try {
+            return provision(zoneId, sensors, hash).join().dashboardUid();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof JsonProcessingException jsonException) {
+                throw jsonException;
+            }
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 센서 저장 시 이미 생성한 공간의 대시보드를 백그라운드에서 갱신 (트랜잭션 커밋 이후)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTopologyChanged(ZoneTopologyChangedEvent event) {
+        if (!"sensor".equals(event.source()) || dashboards.isEmpty()) {
+            return;
+        }
+        refresher.execute(this::refreshChangedZones);
+    }
+
+    void refreshChangedZones() {
+        for (String zoneId : dashboards.keySet()) {
+            try {
+                List<Sensor> sensors = findDashboardSensors(zoneId);
+                if (sensors.isEmpty()) {
+                    dashboards.remove(zoneId);
+                    continue;
+                }
+                String hash = sensorHash(sensors);
+                Provisioned current = dashboards.get(zoneId);
+                if (current != null && current.sensorHash().equals(hash)) {
+                    continue;
+                }
+                log.info("[{}] 센서 구성 변경 → Grafana 대시보드 재생성", zoneId);
+                provision(zoneId, sensors, hash).join();
+            } catch (Exception e) {
+                log.warn("⚠️ [{}] Grafana 대시보드 재생성 실패: {}", zoneId, e.getMessage());
+            }
+        }
+    }
+
+    // 같은 공간·구성의 생성 호출이 진행 중이면 그 결과를 함께 사용, 아니면 호출 스레드에서 생성
+    private CompletableFuture<Provisioned> provision(String zoneId, List<Sensor> sensors, String hash) {
+        CompletableFuture<Provisioned> mine = new CompletableFuture<>();
+        CompletableFuture<Provisioned> existing = inFlight.putIfAbsent(zoneId + ":" + hash, mine);
+        if (existing != null) {
+            onJoinInFlight.run();
+            return existing;
+        }
+        try {
+            String json = dashboardFactory.build(zoneId, sensors, datasourceUid);
+            Provisioned provisioned = new Provisioned(hash, grafanaClient.createDashboard(json));
+            dashboards.put(zoneId, provisioned);
+            log.info("[{}] Grafana 대시보드 생성: uid={}, sensors={}", zoneId, provisioned.dashboardUid(), sensors.size());
+            mine.complete(provisioned);
+        } catch (Exception e) {
+            mine.completeExceptionally(e);
+        } finally {
+            inFlight.remove(zoneId + ":" + hash, mine);
+        }
+        return mine;
+    }
+
+    // 센서 ID·종류를 패널 순서대로 이어 붙인 SHA-256
+    static String sensorHash(List<Sensor> sensors) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (Sensor sensor : sensors) {
+                digest.update((sensor.getSensorId() + ":" + sensor.getSensorType() + "\n")
+                        .getBytes(StandardCharsets.UTF_8));
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+}
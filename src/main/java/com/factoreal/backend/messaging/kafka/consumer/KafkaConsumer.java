@@ -1,6 +1,7 @@
 package com.factoreal.backend.messaging.kafka.consumer;
 
 import com.factoreal.backend.domain.sensor.dto.SensorKafkaDto;
+import com.factoreal.backend.messaging.kafka.dispatcher.KafkaLaneDispatcher;
 import com.factoreal.backend.messaging.kafka.processor.SensorEventProcessor;
 import com.factoreal.backend.messaging.kafka.dto.WearableKafkaDto;
 import com.factoreal.backend.messaging.kafka.processor.WearableEventProcessor;
@@ -8,10 +9,23 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
 
 /**
  * KafkaConsumer 클래스는 Kafka 토픽으로부터 메시지를 수신하고,
@@ -25,6 +39,11 @@ public class KafkaConsumer {
     private final ObjectMapper objectMapper;
     private final SensorEventProcessor sensorEventProcessor;
     private final WearableEventProcessor wearableEventProcessor;
+    private final KafkaLaneDispatcher kafkaLaneDispatcher;
+
+    // 배치의 레인 작업을 기다리는 최대 시간 (max.poll.interval.ms 보다 작아야 컨슈머가 그룹에서 제외되지 않음)
+    @Value("${kafka.batch.lane-timeout-ms:120000}")
+    private long laneTimeoutMs;
 
     // 설비 센서 관련 Kafka 메시지 처리
     // Todo : 설비 머신러닝 끝나고 수정 예정
@@ -35,7 +54,9 @@ public class KafkaConsumer {
     }
 
     // 공간 센서 관련 Kafka 메시지 처리
-    @KafkaListener(topics = "ENVIRONMENT", groupId = "${spring.kafka.consumer.group-id:env-group}")
+    // kafka.batch.enabled=false 인 경우에만 단건 리스너 사용
+    @KafkaListener(topics = "ENVIRONMENT", groupId = "${spring.kafka.consumer.group-id:env-group}",
+            autoStartup = "#{!${kafka.batch.enabled:true}}")
     public void consumeEnvironment(String message, Acknowledgment acknowledgment) {
         log.info("📩 [ENVIRONMENT] Kafka 메시지 수신: {}", message);
         try {
@@ -46,7 +67,8 @@ public class KafkaConsumer {
         }
     }
 
-    @KafkaListener(topics = "WEARABLE", groupId = "${spring.kafka.consumer.group-id:env-group}")
+    @KafkaListener(topics = "WEARABLE", groupId = "${spring.kafka.consumer.group-id:env-group}",
+            autoStartup = "#{!${kafka.batch.enabled:true}}")
     public void consumeWearable(String message, Acknowledgment acknowledgment) {
         log.info("📩 [WEARABLE] Kafka 메시지 수신: {}", message);
         try {
@@ -57,6 +79,113 @@ public class KafkaConsumer {
         }
     }
 
+    // 공간 센서 관련 Kafka 메시지 배치 처리
+    // zoneId 기준으로 레인에 분배 → 같은 공간은 순서대로, 다른 공간은 병렬로 처리
+    // 배치의 모든 레인 작업이 끝나면 리스너 스레드에서 ack (실패 시 컨테이너 에러 핸들러로 재시도)
+    @KafkaListener(id = "environmentBatchListener", idIsGroup = false,
+            topics = "ENVIRONMENT", groupId = "${spring.kafka.consumer.group-id:env-group}",
+            containerFactory = "batchKafkaListenerContainerFactory",
+            autoStartup = "${kafka.batch.enabled:true}")
+    public void consumeEnvironmentBatch(List<ConsumerRecord<String, String>> records, Acknowledgment acknowledgment) {
+        log.info("📩 [ENVIRONMENT] Kafka 배치 수신: {}건", records.size());
+        Map<String, LaneBatch<SensorKafkaDto>> batchesByZone = new LinkedHashMap<>();
+        for (int i = 0; i < records.size(); i++) {
+            SensorKafkaDto dto = parseRecord(records.get(i), SensorKafkaDto.class);
+            if (dto != null) {
+                int index = i;
+                batchesByZone.computeIfAbsent(dto.getZoneId(), k -> new LaneBatch<>(index)).dtos().add(dto);
+            }
+        }
+
+        Map<Integer, CompletableFuture<Void>> futures = new LinkedHashMap<>();
+        batchesByZone.forEach((zoneId, batch) -> futures.put(batch.firstIndex(),
+                kafkaLaneDispatcher.dispatch(zoneId, () -> sensorEventProcessor.processBatch(batch.dtos(), "ENVIRONMENT"))));
+        acknowledgeWhenDone(futures, acknowledgment, "ENVIRONMENT", records.size());
+    }
+
+    // 웨어러블 Kafka 메시지 배치 처리 (workerId 기준으로 레인에 분배)
+    @KafkaListener(id = "wearableBatchListener", idIsGroup = false,
+            topics = "WEARABLE", groupId = "${spring.kafka.consumer.group-id:env-group}",
+            containerFactory = "batchKafkaListenerContainerFactory",
+            autoStartup = "${kafka.batch.enabled:true}")
+    public void consumeWearableBatch(List<ConsumerRecord<String, String>> records, Acknowledgment acknowledgment) {
+        log.info("📩 [WEARABLE] Kafka 배치 수신: {}건", records.size());
+        Map<String, LaneBatch<WearableKafkaDto>> batchesByWorker = new LinkedHashMap<>();
+        for (int i = 0; i < records.size(); i++) {
+            WearableKafkaDto dto = parseRecord(records.get(i), WearableKafkaDto.class);
+            if (dto != null) {
+                int index = i;
+                batchesByWorker.computeIfAbsent(dto.getWorkerId(), k -> new LaneBatch<>(index)).dtos().add(dto);
+            }
+        }
+
+        Map<Integer, CompletableFuture<Void>> futures = new LinkedHashMap<>();
+        batchesByWorker.forEach((workerId, batch) -> futures.put(batch.firstIndex(),
+                kafkaLaneDispatcher.dispatch(workerId, () -> wearableEventProcessor.processBatch(batch.dtos(), "WEARABLE"))));
+        acknowledgeWhenDone(futures, acknowledgment, "WEARABLE", records.size());
+    }
+
+    // 한 레인에 넘길 레코드 묶음 (firstIndex : 배치 내 첫 레코드 위치)
+    private record LaneBatch<T>(int firstIndex, List<T> dtos) {
+        LaneBatch(int firstIndex) {
+            this(firstIndex, new ArrayList<>());
+        }
+    }
+
+    /**
+     * 배치의 레인 작업이 모두 끝날 때까지 리스너 스레드에서 대기한 뒤 ack
+     * - 하나라도 실패하면 BatchListenerFailedException 을 던져 컨테이너 에러 핸들러(DefaultErrorHandler)에 위임
+     *   → 실패한 레인의 첫 레코드 이전 오프셋은 커밋, 그 이후 레코드는 다시 poll 되어 재처리
+     *   (이미 성공한 다른 레인의 레코드도 함께 재처리될 수 있음 - at-least-once)
+     * - 배치 전체 대기 시간이 lane-timeout-ms 를 넘으면 끝나지 않은 레인도 실패로 보고 재처리에 맡김
+     *   (멈춘 레인 때문에 max.poll.interval.ms 를 넘겨 리밸런스가 일어나지 않도록,
+     *    재처리 레코드는 같은 레인 뒤에 등록되므로 키 단위 순서는 유지됨)
+     *
+     * @param futures 레인 작업 future (key : 해당 레인의 배치 내 첫 레코드 위치)
+     */
+    private void acknowledgeWhenDone(Map<Integer, CompletableFuture<Void>> futures, Acknowledgment acknowledgment,
+                                     String topic, int recordCount) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(laneTimeoutMs);
+        int failedIndex = -1;
+        Throwable failure = null;
+        for (Map.Entry<Integer, CompletableFuture<Void>> entry : futures.entrySet()) {
+            Throwable laneFailure = null;
+            try {
+                entry.getValue().get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (ExecutionException e) {
+                laneFailure = e.getCause() != null ? e.getCause() : e;
+            } catch (TimeoutException e) {
+                laneFailure = new TimeoutException("Kafka 레인 처리 시간 초과: " + laneTimeoutMs + "ms");
+            } catch (CancellationException e) {
+                laneFailure = e;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                laneFailure = e;
+            }
+            if (laneFailure != null && (failedIndex < 0 || entry.getKey() < failedIndex)) {
+                failedIndex = entry.getKey();
+                failure = laneFailure;
+            }
+        }
+        if (failure == null) {
+            acknowledgment.acknowledge();
+            return;
+        }
+        log.error("❌ Kafka 배치 처리 실패: topic={}, {}건 중 index={} 부터 재처리", topic, recordCount, failedIndex, failure);
+        throw new BatchListenerFailedException("Kafka 배치 처리 실패: topic=" + topic, failure, failedIndex);
+    }
+
+    // 배치 레코드 파싱 (파싱 실패 레코드는 로그만 남기고 null)
+    private <T> T parseRecord(ConsumerRecord<String, String> record, Class<T> type) {
+        try {
+            return objectMapper.readValue(record.value(), type);
+        } catch (JsonProcessingException e) {
+            log.error("❌ Kafka 메시지 파싱 실패: partition={}, offset={}, message={}",
+                    record.partition(), record.offset(), record.value(), e);
+            return null;
+        }
+    }
+
     // 공통 메시지 파싱 및 처리 전달
     private void handleMessage(String message, String topic) {
         try {
@@ -0,0 +1,114 @@
+package com.factoreal.backend.messaging.kafka.dispatcher;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Kafka 이벤트를 키(zoneId, workerId) 해시 기준으로 고정된 단일 스레드 레인에 분배하는 디스패처
+ * - 같은 키는 항상 같은 레인에서 순서대로 처리됨 (공간 단위 순서 보장)
+ * - 레인끼리는 병렬로 처리되어 멀티 코어 활용
+ * - 리스너 스레드가 자신의 배치가 끝날 때까지 대기하므로 레인 적체는 배치 크기(max.poll.records)로 제한됨
+ *   (별도 pause/resume 없이 다음 poll 이 늦어지는 것으로 역압 처리)
+ * - 레인 큐는 고정 크기이며, 가득 차면 버리지 않고 빈 자리가 날 때까지 등록 스레드가 대기
+ */
+@Slf4j
+@Component
+public class KafkaLaneDispatcher {
+
+    private final List<ThreadPoolExecutor> lanes;
+
+    public KafkaLaneDispatcher(@Value("${kafka.lane.count:0}") int laneCount,
+                               @Value("${kafka.lane.queue-capacity:1000}") int queueCapacity) {
+        // 레인 수 미지정 시 코어 수만큼 생성
+        int count = laneCount > 0 ? laneCount : Runtime.getRuntime().availableProcessors();
+        this.lanes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            this.lanes.add(newLane(i, queueCapacity));
+        }
+        log.info("✅ Kafka 레인 디스패처 초기화: lanes={}, queueCapacity={}", count, queueCapacity);
+    }
+
+    /**
+     * 키에 해당하는 레인에 작업을 등록
+     *
+     * @param key  순서를 보장할 키 (zoneId, workerId)
+     * @param task 레인에서 실행할 작업
+     * @return 작업 완료 시 완료되는 future (작업 예외 시 예외로 완료)
+     */
+    public CompletableFuture<Void> dispatch(String key, Runnable task) {
+        ThreadPoolExecutor lane = lanes.get(laneIndex(key));
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        lane.execute(() -> {
+            try {
+                task.run();
+                future.complete(null);
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        });
+        return future;
+    }
+
+    // 키 해시 기반 레인 선택 (null 키는 0번 레인)
+    int laneIndex(String key) {
+        if (key == null) {
+            return 0;
+        }
+        return Math.floorMod(key.hashCode(), lanes.size());
+    }
+
+    int laneCount() {
+        return lanes.size();
+    }
+
+    private ThreadPoolExecutor newLane(int index, int queueCapacity) {
+        AtomicInteger created = new AtomicInteger();
+        BlockingQueue<Runnable> queue = new ArrayBlockingQueue<>(queueCapacity);
+        return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, queue,
+                r -> {
+                    Thread thread = new Thread(r, "kafka-lane-" + index + "-" + created.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                // 큐가 가득 찬 경우: 순서 보장을 위해 버리지 않고 빈 자리가 날 때까지 대기
+                (r, executor) -> {
+                    if (executor.isShutdown()) {
+                        throw new RejectedExecutionException("Kafka 레인이 종료되었습니다.");
+                    }
+                    try {
+                        executor.getQueue().put(r);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new RejectedExecutionException("Kafka 레인 등록 중 인터럽트", e);
+                    }
+                });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        lanes.forEach(ThreadPoolExecutor::shutdown);
+        for (ThreadPoolExecutor lane : lanes) {
+            try {
+                if (!lane.awaitTermination(10, TimeUnit.SECONDS)) {
+                    log.warn("⚠️ Kafka 레인 종료 대기 시간 초과: 남은 작업={}", lane.getQueue().size());
+                    lane.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                lane.shutdownNow();
+            }
+        }
+    }
+}
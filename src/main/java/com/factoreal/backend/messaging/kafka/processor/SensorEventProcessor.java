@@ -12,6 +12,7 @@ import com.factoreal.backend.domain.zone.entity.Zone;
 import com.factoreal.backend.messaging.kafka.strategy.alarmMessage.RiskMessageProvider;
 import com.factoreal.backend.messaging.kafka.strategy.enums.RiskLevel;
 import com.factoreal.backend.messaging.kafka.strategy.enums.SensorType;
+import com.factoreal.backend.domain.state.store.RiskLevelTransition;
 import com.factoreal.backend.domain.state.store.ZoneSensorStateStore;
 import com.factoreal.backend.domain.state.store.ZoneWorkerStateStore;
 import com.factoreal.backend.messaging.kafka.strategy.enums.WearableDataType;
@@ -19,6 +20,8 @@ import com.factoreal.backend.messaging.sender.WebSocketSender;
 import com.factoreal.backend.messaging.api.AlarmEventService;
 import com.factoreal.backend.messaging.api.AutoControlService;
 import com.google.api.Http;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -28,6 +31,10 @@ import org.springframework.transaction.event.TransactionalEventListener;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * SensorEventProcessor 클래스는 Kafka로부터 전달받은 센서 데이터를 분석 및 처리하는 클래스입니다.
@@ -57,115 +64,225 @@ public class SensorEventProcessor {
     @Transactional
     public void process(SensorKafkaDto dto, String topic) {
         try {
-            String zoneId = dto.getZoneId();
-            String sensorId = dto.getSensorId();
-
-            // 유효성 검사: zoneId와 sensorId는 필수
-            if (zoneId == null || zoneId.isBlank()) {
-                log.warn("⚠️ 유효하지 않은 zoneId: null 또는 빈 문자열");
-                throw new ResponseStatusException(HttpStatus.NOT_FOUND, "유효하지 않은 zoneId");
-            } else if (sensorId == null || sensorId.isBlank()) {
-                log.warn("⚠️ 유효하지 않은 sensorId: null 또는 빈 문자열");
-                throw new ResponseStatusException(HttpStatus.NOT_FOUND, "유효하지 않은 sensorId");
+            Zone zone = findZone(dto.getZoneId());
+            PendingSensorLog pending = applySensorEvent(dto, topic, zone);
+            if (pending == null) {
+                return;
             }
-
-            Zone zone = zoneRepoService.findById(zoneId);
-            Sensor sensor = sensorRepoService.findById(sensorId);
-            if (zone == null) {
-                throw new ResponseStatusException(HttpStatus.NOT_FOUND, "존재하지 않는 공간 ID: " + zoneId);
-            } else if (sensor == null) {
-                throw new ResponseStatusException(HttpStatus.NOT_FOUND, "존재하지 않는 센서 ID: " + sensorId);
+            // 2-1. 이상 로그 저장 (실패 시 상태 스토어를 이벤트 이전 등급으로 되돌림)
+            AbnormalLog abnLog;
+            try {
+                abnLog = abnormalLogService.saveAbnormalLog(pending.getAbnormalLog());
+            } catch (RuntimeException e) {
+                rollbackStates(List.of(dto), List.of(pending));
+                throw e;
             }
+            dispatchAlarm(dto, abnLog);
+        } catch (Exception e) {
+            log.error("❌ 센서 이벤트 처리 실패: sensorId={}, zoneId={}", dto.getSensorId(), dto.getZoneId(), e);
+        }
+    }
 
-            // ENVIRONMENT 토픽인 경우에만 아래 처리 로직 수행
-            if ("ENVIRONMENT".equalsIgnoreCase(topic)) {
-                if (dto.getEquipId() == null || !dto.getEquipId().equals(zoneId)) {
-                    log.warn("⚠️ ENVIRONMENT 토픽이지만 equipId와 zoneId가 일치하지 않음: equipId={}, zoneId={}",
-                            dto.getEquipId(), zoneId);
-                    return;
-                }
+    /**
+     * 센서 Kafka 메시지 배치 처리
+     * - zone 단위로 묶어서 공간 조회는 zone 당 1회만 수행
+     * - 상태 스토어는 메시지 순서대로 메모리에서 갱신
+     * - 발생한 이상 로그는 하나의 트랜잭션에서 한 번에 저장한 뒤 알람 전송
+     * 로그 저장에 실패하면 상태 스토어를 배치 이전 등급으로 되돌린 뒤 예외를 그대로 던져 Kafka 오프셋이 커밋되지 않도록 한다.
+     * (되돌리지 않으면 재전달된 배치에서 등급 변경이 감지되지 않아 이상 로그가 유실됨)
+     * 잘못된 레코드(공간/센서 없음)는 건너뛰므로 배치 전체를 하나의 트랜잭션으로 묶지 않음
+     * (내부 트랜잭션의 예외를 잡고 넘어가면 커밋 시 UnexpectedRollbackException 이 발생하기 때문,
+     *  저장은 saveAbnormalLogs 의 트랜잭션에서 수행)
+     *
+     * @param dtos  센서 데이터 목록 (수신 순서)
+     * @param topic Kafka 토픽명 (EQUIPMENT, ENVIRONMENT)
+     */
+    public void processBatch(List<SensorKafkaDto> dtos, String topic) {
+        // zone 단위 그룹핑 (zone 내부의 메시지 순서는 유지)
+        Map<String, List<SensorKafkaDto>> dtosByZone = new LinkedHashMap<>();
+        for (SensorKafkaDto dto : dtos) {
+            dtosByZone.computeIfAbsent(String.valueOf(dto.getZoneId()), k -> new ArrayList<>()).add(dto);
+        }
 
-                // 위험도 계산
-                int dangerLevel = dto.getDangerLevel();
-                SensorType sensorType = SensorType.getSensorType(dto.getSensorType());
-                RiskLevel riskLevel = RiskLevel.fromPriority(dangerLevel);
-                TargetType targetType = topicToLogType(topic);
-
-                // 이전 위험도 계산
-                RiskLevel prevZoneSensorRiskLevel = zoneSensorStateStore.getZoneRiskLevel(zoneId);
-                RiskLevel prevSensorRiskLevel = zoneSensorStateStore.getSensorRiskLevel(zoneId, sensorId);
-
-                // 0. zoneSensorStateStore 업데이트
-                zoneSensorStateStore.setSensorRiskLevel(zoneId, sensorId, riskLevel);
-
-                // 현재 위험도 계산
-                RiskLevel nowZoneSensorRiskLevel = zoneSensorStateStore.getZoneRiskLevel(zoneId);
-                RiskLevel zoneWorkerRiskLevel = zoneWorkerStateStore.getZoneRiskLevel(zoneId);
-
-                // WebSocket 알림 전송
-                // 1. 히트맵 전송
-                // 만약 존의 현재 Sensor 위험도가 Worker 위험도보다 크거나 같을 경우
-                if (nowZoneSensorRiskLevel.getPriority() >= zoneWorkerRiskLevel.getPriority()) {
-                    // 존의 현재 Sensor 위험도가 이전 Sensor 위험도보다 크면
-                    if (nowZoneSensorRiskLevel.getPriority() >= prevZoneSensorRiskLevel.getPriority()) {
-                        // 클라이언트에게 이벤트가 발생한 센서를 기반으로 sendDangerLevel 보냄
-                        webSocketSender.sendDangerLevel(zoneId,
-                                dto.getSensorType(), nowZoneSensorRiskLevel.getPriority());
-                    }
-                    // 존의 현재 Sensor 위험도가 이전 Sensor 위험도보다 작다면
-                    else {
-                        // 클라이언트에게 존에서 RiskLevel 높은 센서를 기반으로 sendDangerLevel 보냄
-                        webSocketSender.sendDangerLevel(zoneId,
-                                zoneSensorStateStore.getHighestRiskSensor(zoneId).getSensorType().name(),
-                                nowZoneSensorRiskLevel.getPriority());
+        List<SensorKafkaDto> changedDtos = new ArrayList<>();
+        List<PendingSensorLog> pendingLogs = new ArrayList<>();
+        for (List<SensorKafkaDto> zoneDtos : dtosByZone.values()) {
+            Zone zone;
+            try {
+                zone = findZone(zoneDtos.get(0).getZoneId());
+            } catch (Exception e) {
+                log.error("❌ 센서 이벤트 배치 처리 실패: zoneId={}, count={}",
+                        zoneDtos.get(0).getZoneId(), zoneDtos.size(), e);
+                continue;
+            }
+
+            for (SensorKafkaDto dto : zoneDtos) {
+                try {
+                    PendingSensorLog pending = applySensorEvent(dto, topic, zone);
+                    if (pending != null) {
+                        changedDtos.add(dto);
+                        pendingLogs.add(pending);
                     }
+                } catch (Exception e) {
+                    log.error("❌ 센서 이벤트 처리 실패: sensorId={}, zoneId={}", dto.getSensorId(), dto.getZoneId(), e);
                 }
-                // 존의 현재 Sensor 위험도가 Worker 위험도보다 작고, 과거 Sensor 위험도가 Worker 위험도보다 크면
-                else if (prevZoneSensorRiskLevel.getPriority() >= zoneWorkerRiskLevel.getPriority()) {
-                    // 클라이언트에게 Worker 위험도를 기반으로 sendDangerLevel 보냄
-                    webSocketSender.sendDangerLevel(zoneId,
-                            WearableDataType.heartRate.name(), zoneWorkerRiskLevel.getPriority());
-                }
+            }
+        }
 
-                // 이벤트 Sensor에 대한 RiskLevel이 변경되면
-                if (prevSensorRiskLevel.getPriority() != riskLevel.getPriority()) {
-                    // abnormalLog 빌드
-                    AbnormalLog abnormalLog = AbnormalLog.builder()
-                            .targetId(sensorId)
-                            .targetType(targetType)
-                            .targetDetail(sensorType.getKoName())
-                            .abnormalType(riskMessageProvider.getRiskMessageBySensor(sensorType, riskLevel, dto.getVal()))
-                            .abnVal(dto.getVal())
-                            .dangerLevel(riskLevel.getPriority())
-                            .zone(zone)
-                            .detectedAt(LocalDateTime.parse(dto.getTime()))
-                            .isRead(false)
-                            .build();
-                    // 2-1. 이상 로그 저장
-                    AbnormalLog abnLog = abnormalLogService.saveAbnormalLog(abnormalLog);
-                    // 2-2. 자동 제어 메시지 판단
-                    try {
-                        autoControlService.evaluate(dto, abnLog, dangerLevel);
-                    } catch (Exception e) {
-                        log.info("자동 제어 기능은 제작중인 기능입니다. Todo 입니다.");
-                    }
-                    // 2-3. 위험 알림 전송 -> 위험도별 Websocket + wearable + Slack(SMS 대체)
-                    // Todo : (As-is) 전략 기반 startAlarm() 메서드 담당자 확인 필요 -> 확인됨
-                    alarmEventService.startAlarm(dto, abnLog, dangerLevel);
+        if (pendingLogs.isEmpty()) {
+            return;
+        }
 
+        // 2-1. 이상 로그 일괄 저장
+        List<AbnormalLog> savedLogs;
+        try {
+            savedLogs = abnormalLogService.saveAbnormalLogs(
+                    pendingLogs.stream().map(PendingSensorLog::getAbnormalLog).toList());
+        } catch (RuntimeException e) {
+            rollbackStates(changedDtos, pendingLogs);
+            throw e;
+        }
+        for (int i = 0; i < savedLogs.size(); i++) {
+            try {
+                dispatchAlarm(changedDtos.get(i), savedLogs.get(i));
+            } catch (Exception e) {
+                log.error("❌ 센서 알람 전송 실패: sensorId={}", changedDtos.get(i).getSensorId(), e);
+            }
+        }
+        log.info("✅ 센서 이벤트 배치 처리 완료: records={}, abnormalLogs={} ({} topic)",
+                dtos.size(), savedLogs.size(), topic);
+    }
 
+    // 유효성 검사 후 공간 조회
+    private Zone findZone(String zoneId) {
+        // 유효성 검사: zoneId는 필수
+        if (zoneId == null || zoneId.isBlank()) {
+            log.warn("⚠️ 유효하지 않은 zoneId: null 또는 빈 문자열");
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "유효하지 않은 zoneId");
+        }
+        Zone zone = zoneRepoService.findCachedById(zoneId);
+        if (zone == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "존재하지 않는 공간 ID: " + zoneId);
+        }
+        return zone;
+    }
 
+    /**
+     * 상태 스토어 갱신 및 히트맵 전송
+     *
+     * @return 이벤트 센서의 RiskLevel이 변경된 경우 저장할 AbnormalLog 와 센서의 이전 등급, 변경이 없으면 null
+     */
+    private PendingSensorLog applySensorEvent(SensorKafkaDto dto, String topic, Zone zone) {
+        String zoneId = dto.getZoneId();
+        String sensorId = dto.getSensorId();
 
-                }
+        // 유효성 검사: sensorId는 필수
+        if (sensorId == null || sensorId.isBlank()) {
+            log.warn("⚠️ 유효하지 않은 sensorId: null 또는 빈 문자열");
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "유효하지 않은 sensorId");
+        }
+
+        Sensor sensor = sensorRepoService.findCachedById(sensorId);
+        if (sensor == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "존재하지 않는 센서 ID: " + sensorId);
+        }
+
+        // ENVIRONMENT 토픽인 경우에만 아래 처리 로직 수행
+        if (!"ENVIRONMENT".equalsIgnoreCase(topic)) {
+            return null;
+        }
+        if (dto.getEquipId() == null || !dto.getEquipId().equals(zoneId)) {
+            log.warn("⚠️ ENVIRONMENT 토픽이지만 equipId와 zoneId가 일치하지 않음: equipId={}, zoneId={}",
+                    dto.getEquipId(), zoneId);
+            return null;
+        }
 
+        // 위험도 계산
+        int dangerLevel = dto.getDangerLevel();
+        SensorType sensorType = SensorType.getSensorType(dto.getSensorType());
+        RiskLevel riskLevel = RiskLevel.fromPriority(dangerLevel);
+        TargetType targetType = topicToLogType(topic);
 
+        // 0. zoneSensorStateStore 업데이트 (이전/현재 위험도를 한 번에 반환)
+        RiskLevelTransition transition = zoneSensorStateStore.setSensorRiskLevel(zoneId, sensorId, sensorType, riskLevel);
+        RiskLevel prevZoneSensorRiskLevel = transition.getPrevZoneLevel();
+        RiskLevel nowZoneSensorRiskLevel = transition.getNowZoneLevel();
+        RiskLevel zoneWorkerRiskLevel = zoneWorkerStateStore.getZoneRiskLevel(zoneId);
 
-                log.info("✅ 센서 이벤트 처리 완료: sensorId={}, zoneId={}, level={} ({} topic)",
-                        sensorId, zoneId, dangerLevel, topic);
+        // WebSocket 알림 전송
+        // 1. 히트맵 전송
+        // 만약 존의 현재 Sensor 위험도가 Worker 위험도보다 크거나 같을 경우
+        if (nowZoneSensorRiskLevel.getPriority() >= zoneWorkerRiskLevel.getPriority()) {
+            // 존의 현재 Sensor 위험도가 이전 Sensor 위험도보다 크면
+            if (nowZoneSensorRiskLevel.getPriority() >= prevZoneSensorRiskLevel.getPriority()) {
+                // 클라이언트에게 이벤트가 발생한 센서를 기반으로 sendDangerLevel 보냄
+                webSocketSender.sendDangerLevel(zoneId,
+                        dto.getSensorType(), nowZoneSensorRiskLevel.getPriority());
             }
+            // 존의 현재 Sensor 위험도가 이전 Sensor 위험도보다 작다면
+            else {
+                // 클라이언트에게 존에서 RiskLevel 높은 센서를 기반으로 sendDangerLevel 보냄
+                webSocketSender.sendDangerLevel(zoneId,
+                        zoneSensorStateStore.getHighestRiskSensorType(zoneId).name(),
+                        nowZoneSensorRiskLevel.getPriority());
+            }
+        }
+        // 존의 현재 Sensor 위험도가 Worker 위험도보다 작고, 과거 Sensor 위험도가 Worker 위험도보다 크면
+        else if (prevZoneSensorRiskLevel.getPriority() >= zoneWorkerRiskLevel.getPriority()) {
+            // 클라이언트에게 Worker 위험도를 기반으로 sendDangerLevel 보냄
+            webSocketSender.sendDangerLevel(zoneId,
+                    WearableDataType.heartRate.name(), zoneWorkerRiskLevel.getPriority());
+        }
+
+        log.info("✅ 센서 이벤트 처리 완료: sensorId={}, zoneId={}, level={} ({} topic)",
+                sensorId, zoneId, dangerLevel, topic);
+
+        // 이벤트 Sensor에 대한 RiskLevel이 변경되지 않았으면 로그 없음
+        if (!transition.isLevelChanged()) {
+            return null;
+        }
+
+        // abnormalLog 빌드
+        AbnormalLog abnormalLog = AbnormalLog.builder()
+                .targetId(sensorId)
+                .targetType(targetType)
+                .targetDetail(sensorType.getKoName())
+                .abnormalType(riskMessageProvider.getRiskMessageBySensor(sensorType, riskLevel, dto.getVal()))
+                .abnVal(dto.getVal())
+                .dangerLevel(riskLevel.getPriority())
+                .zone(zone)
+                .detectedAt(LocalDateTime.parse(dto.getTime()))
+                .isRead(false)
+                .build();
+        return new PendingSensorLog(abnormalLog, sensorType, transition.getPrevLevel());
+    }
+
+    /**
+     * 이상 로그 저장 실패 시 상태 스토어를 이벤트 이전 등급으로 되돌림
+     * 같은 센서가 배치 안에서 여러 번 바뀌었을 수 있으므로 역순으로 되돌려 가장 처음 등급이 남도록 한다.
+     * (히트맵은 재전달된 배치를 처리하면서 다시 전송됨)
+     */
+    private void rollbackStates(List<SensorKafkaDto> changedDtos, List<PendingSensorLog> pendingLogs) {
+        for (int i = pendingLogs.size() - 1; i >= 0; i--) {
+            SensorKafkaDto dto = changedDtos.get(i);
+            PendingSensorLog pending = pendingLogs.get(i);
+            zoneSensorStateStore.setSensorRiskLevel(
+                    dto.getZoneId(), dto.getSensorId(), pending.getSensorType(), pending.getPrevLevel());
+        }
+        log.warn("⚠️ 이상 로그 저장 실패로 센서 상태를 되돌림: count={}", pendingLogs.size());
+    }
+
+    // 저장된 이상 로그 기반 자동 제어 판단 및 위험 알림 전송
+    private void dispatchAlarm(SensorKafkaDto dto, AbnormalLog abnLog) {
+        int dangerLevel = dto.getDangerLevel();
+        // 2-2. 자동 제어 메시지 판단
+        try {
+            autoControlService.evaluate(dto, abnLog, dangerLevel);
         } catch (Exception e) {
-            log.error("❌ 센서 이벤트 처리 실패: sensorId={}, zoneId={}", dto.getSensorId(), dto.getZoneId(), e);
+            log.info("자동 제어 기능은 제작중인 기능입니다. Todo 입니다.");
         }
+        // 2-3. 위험 알림 전송 -> 위험도별 Websocket + wearable + Slack(SMS 대체)
+        alarmEventService.startAlarm(dto, abnLog, dangerLevel);
     }
 
     // topic enum 변경하기
@@ -176,4 +293,13 @@ public class SensorEventProcessor {
             default -> throw new IllegalArgumentException("지원하지 않는 Kafka 토픽: " + topic);
         };
     }
+
+    // 저장 대기 중인 이상 로그와 저장 실패 시 되돌릴 센서의 이전 등급
+    @Getter
+    @AllArgsConstructor
+    private static class PendingSensorLog {
+        private final AbnormalLog abnormalLog;
+        private final SensorType sensorType;
+        private final RiskLevel prevLevel;
+    }
 }
@@ -1,9 +1,10 @@
 package com.factoreal.backend.messaging.kafka.processor;
 
-import com.factoreal.backend.domain.abnormalLog.application.AbnormalLogRepoService;
 import com.factoreal.backend.domain.abnormalLog.application.AbnormalLogService;
+import com.factoreal.backend.domain.abnormalLog.application.UnreadAlarmCounter;
 import com.factoreal.backend.domain.abnormalLog.dto.TargetType;
 import com.factoreal.backend.domain.abnormalLog.entity.AbnormalLog;
+import com.factoreal.backend.domain.state.store.RiskLevelTransition;
 import com.factoreal.backend.domain.state.store.ZoneSensorStateStore;
 import com.factoreal.backend.domain.state.store.ZoneWorkerStateStore;
 import com.factoreal.backend.domain.worker.application.WorkerRepoService;
@@ -20,6 +21,8 @@ import com.factoreal.backend.messaging.kafka.strategy.enums.RiskLevel;
 import com.factoreal.backend.messaging.kafka.strategy.enums.WearableDataType;
 import com.factoreal.backend.messaging.sender.WebSocketSender;
 import com.factoreal.backend.messaging.api.AlarmEventService;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -28,6 +31,8 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 
@@ -39,7 +44,7 @@ import java.util.Optional;
 @Slf4j
 public class WearableEventProcessor {
     private final AbnormalLogService abnormalLogService;
-    private final AbnormalLogRepoService abnormalLogRepoService;
+    private final UnreadAlarmCounter unreadAlarmCounter;
     private final WebSocketSender webSocketSender;
     private final AlarmEventService alarmEventService;
     private final ZoneWorkerStateStore zoneWorkerStateStore;
@@ -61,96 +66,23 @@ public class WearableEventProcessor {
     @Transactional
     public void process(WearableKafkaDto dto, String topic) {
         try {
-            // 위험도는 0:정상, 2:비정상으로 나뉨
-            // wearable자체에서 rule-based 기반으로 할당되어 송신됨.
-            int dangerLevel = dto.getDangerLevel(); // 0: 정상, 2: 비정상
-
-            WearableDataType wearableDataType = WearableDataType.getWearableType(dto.getSensorType());
-            RiskLevel riskLevel = RiskLevel.fromPriority(dangerLevel);
-            String workerId = dto.getWorkerId();
-            if (workerId == null || workerId.isBlank()) {
-                log.warn("⚠️ 유효하지 않은 workerId: null 또는 빈 문자열");
-                throw new ResponseStatusException(HttpStatus.NOT_FOUND, "유효하지 않은 workerId");
-            }
-            String zoneId = Optional.ofNullable(zoneWorkerStateStore.getZoneId(workerId))
-                    .or(() ->
-                            Optional.ofNullable(zoneHistoryRepoService.getCurrentWorkerLocation(workerId))
-                                    .map(ZoneHist::getZone)
-                                    .map(Zone::getZoneId)
-                    ).orElseGet(() -> {
-                        zoneHistoryService.updateWorkerLocation(workerId, DEFAULT_ZONE_ID, LocalDateTime.now());
-                        return zoneWorkerStateStore.getZoneId(workerId);
-                    });
-
-            Zone zone = zoneRepoService.findById(zoneId);
-            Worker worker = workerRepoService.findById(workerId);
-            if (zone == null) {
-                throw new ResponseStatusException(HttpStatus.NOT_FOUND, "존재하지 않는 공간 ID: " + zoneId);
-            } else if (worker == null) {
-                throw new ResponseStatusException(HttpStatus.NOT_FOUND, "존재하지 않는 워커 ID: " + workerId);
-            }
-
-            // 이전 위험도 계산
-            RiskLevel prevZoneWorkerRiskLevel = zoneWorkerStateStore.getZoneRiskLevel(zoneId);
-            RiskLevel prevWorkerRiskLevel = zoneWorkerStateStore.getWorkerRiskLevel(workerId);
-
-            // 0. zoneWorkerStateStore 업데이트
-            zoneWorkerStateStore.setWorkerRiskLevel(zoneId, workerId, riskLevel);
-
-            // 현재 위험도 계산
-            RiskLevel nowZoneWorkerRiskLevel = zoneWorkerStateStore.getZoneRiskLevel(zoneId);
-            RiskLevel zoneSensorRiskLevel = zoneSensorStateStore.getZoneRiskLevel(zoneId);
-
-            // 타겟타입이 항상 WEARABLE이므로 TargetType.Worker 바로 사용
-            // WebSocket 알림 전송
-            // 1. 히트맵 전송
-            // 만약 존의 현재 Worker 위험도가 Sensor 위험도보다 크거나 같을 경우
-            if (nowZoneWorkerRiskLevel.getPriority() >= zoneSensorRiskLevel.getPriority()) {
-                // 존의 현재 Worker 위험도가 이전 Worker 위험도보다 크면
-                if (nowZoneWorkerRiskLevel.getPriority() >= prevZoneWorkerRiskLevel.getPriority()) {
-                    // 클라이언트에게 이벤트가 발생한 Worker 기반으로 sendDangerLevel 보냄
-                    webSocketSender.sendDangerLevel(zoneId, WearableDataType.heartRate.name(), nowZoneWorkerRiskLevel.getPriority());
-                }
-                // 존의 현재 Worker 위험도가 이전 Worker 위험도보다 작다면
-                else {
-                    // 클라이언트에게 존에서 RiskLevel 높은 Worker 기반으로 sendDangerLevel 보냄 <TODO: WearableDataType 추가시 변경 요망>
-                    webSocketSender.sendDangerLevel(zoneId, WearableDataType.heartRate.name(), nowZoneWorkerRiskLevel.getPriority());
-                }
-            }
-            // 존의 현재 Worker 위험도가 Sensor 위험도보다 작고, 과거 Worker 위험도가 Sensor 위험도보다 크면
-            else if (prevZoneWorkerRiskLevel.getPriority() >= zoneSensorRiskLevel.getPriority()) {
-                // 클라이언트에게 Sensor 위험도를 기반으로 sendDangerLevel 보냄
-                webSocketSender.sendDangerLevel(zoneId,
-                        zoneSensorStateStore.getHighestRiskSensor(zoneId).getSensorType().name(),
-                        zoneSensorRiskLevel.getPriority());
-            }
-
-            // 이벤트 Worker에 대한 RiskLevel이 변경되면
-            if (prevWorkerRiskLevel.getPriority() != riskLevel.getPriority()) {
-                // abnormalLog 빌드
-                AbnormalLog abnormalLog = AbnormalLog.builder()
-                        .targetId(workerId)
-                        .targetType(TargetType.Worker)
-                        .targetDetail(worker.getName())
-                        .abnormalType(riskMessageProvider.getRiskMessageByWearble(wearableDataType, riskLevel, dto.getVal()))
-                        .abnVal(Double.valueOf(dto.getVal()))
-                        .detectedAt(LocalDateTime.parse(dto.getTime()))
-                        .dangerLevel(riskLevel.getPriority())
-                        .zone(zone)
-                        .isRead(false)
-                        .build();
-
+            PendingWearableLog pending = applyWearableEvent(dto);
+            if (pending != null) {
                 // 2-1. 위험 알림 전송 -> 팝업으로 알려주기
-                AlarmEventResponse alarmEventResponse = alarmEventService.generateAlarmDto(dto, abnormalLog, riskLevel);
+                AlarmEventResponse alarmEventResponse = alarmEventService.generateAlarmDto(dto, pending.getAbnormalLog(), pending.getRiskLevel());
                 webSocketSender.sendDangerAlarm(alarmEventResponse);
 
-                // 2-2. abnormalLog 기록
-                abnormalLogService.saveAbnormalLog(abnormalLog);
+                // 2-2. abnormalLog 기록 (실패 시 상태 스토어를 이벤트 이전 등급으로 되돌림)
+                try {
+                    abnormalLogService.saveAbnormalLog(pending.getAbnormalLog());
+                } catch (RuntimeException e) {
+                    rollbackStates(List.of(dto), List.of(pending));
+                    throw e;
+                }
             }
 
-            // 3. 읽지 않은 알림 전송
-            Long count = abnormalLogRepoService.countByIsReadFalse();
-            webSocketSender.sendUnreadCount(count);
+            // 3. 읽지 않은 알림 전송 (카운터가 모아서 주기적으로 전송)
+            unreadAlarmCounter.requestPush();
 
         } catch (Exception e) {
             log.error(
@@ -160,4 +92,171 @@ public class WearableEventProcessor {
             );
         }
     }
+
+    /**
+     * kafka 메시지 배치 처리
+     * - 상태 스토어는 메시지 순서대로 메모리에서 갱신
+     * - 발생한 이상 로그는 하나의 트랜잭션에서 한 번에 저장한 뒤 팝업 알림 전송
+     * - 읽지 않은 알림 수는 배치당 1회만 전송
+     * 로그 저장에 실패하면 상태 스토어를 배치 이전 등급으로 되돌린 뒤 예외를 그대로 던져 Kafka 오프셋이 커밋되지 않도록 한다.
+     * 잘못된 레코드는 건너뛰므로 배치 전체를 하나의 트랜잭션으로 묶지 않음 (SensorEventProcessor.processBatch 참고)
+     *
+     * @param dtos  생체 데이터 목록 (수신 순서)
+     * @param topic Kafka 토픽명(WEARABLE)
+     */
+    public void processBatch(List<WearableKafkaDto> dtos, String topic) {
+        List<WearableKafkaDto> changedDtos = new ArrayList<>();
+        List<PendingWearableLog> pendingLogs = new ArrayList<>();
+        for (WearableKafkaDto dto : dtos) {
+            try {
+                PendingWearableLog pending = applyWearableEvent(dto);
+                if (pending != null) {
+                    changedDtos.add(dto);
+                    pendingLogs.add(pending);
+                }
+            } catch (Exception e) {
+                log.error(
+                        "❌ 웨어러블 이벤트 처리 실패: sensorId={}, zoneId={}",
+                        dto.getWearableDeviceId(),
+                        dto.getWorkerId()
+                );
+            }
+        }
+
+        if (!pendingLogs.isEmpty()) {
+            // 2-1. abnormalLog 일괄 기록
+            List<AbnormalLog> savedLogs;
+            try {
+                savedLogs = abnormalLogService.saveAbnormalLogs(
+                        pendingLogs.stream().map(PendingWearableLog::getAbnormalLog).toList());
+            } catch (RuntimeException e) {
+                rollbackStates(changedDtos, pendingLogs);
+                throw e;
+            }
+
+            // 2-2. 위험 알림 전송 -> 팝업으로 알려주기
+            for (int i = 0; i < savedLogs.size(); i++) {
+                try {
+                    AlarmEventResponse alarmEventResponse = alarmEventService.generateAlarmDto(
+                            changedDtos.get(i), savedLogs.get(i), pendingLogs.get(i).getRiskLevel());
+                    webSocketSender.sendDangerAlarm(alarmEventResponse);
+                } catch (Exception e) {
+                    log.error("❌ 웨어러블 알람 전송 실패: workerId={}", changedDtos.get(i).getWorkerId(), e);
+                }
+            }
+        }
+
+        // 3. 읽지 않은 알림 전송 요청 (카운터가 모아서 주기적으로 전송)
+        unreadAlarmCounter.requestPush();
+        log.info("✅ 웨어러블 이벤트 배치 처리 완료: records={}, abnormalLogs={} ({} topic)",
+                dtos.size(), pendingLogs.size(), topic);
+    }
+
+    /**
+     * 작업자 위치 확인, 상태 스토어 갱신 및 히트맵 전송
+     *
+     * @return 작업자의 RiskLevel이 변경된 경우 저장할 AbnormalLog 와 작업자의 이전 등급, 변경이 없으면 null
+     */
+    private PendingWearableLog applyWearableEvent(WearableKafkaDto dto) {
+        // 위험도는 0:정상, 2:비정상으로 나뉨
+        // wearable자체에서 rule-based 기반으로 할당되어 송신됨.
+        int dangerLevel = dto.getDangerLevel(); // 0: 정상, 2: 비정상
+
+        WearableDataType wearableDataType = WearableDataType.getWearableType(dto.getSensorType());
+        RiskLevel riskLevel = RiskLevel.fromPriority(dangerLevel);
+        String workerId = dto.getWorkerId();
+        if (workerId == null || workerId.isBlank()) {
+            log.warn("⚠️ 유효하지 않은 workerId: null 또는 빈 문자열");
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "유효하지 않은 workerId");
+        }
+        String zoneId = Optional.ofNullable(zoneWorkerStateStore.getZoneId(workerId))
+                .or(() ->
+                        Optional.ofNullable(zoneHistoryRepoService.getCurrentWorkerLocation(workerId))
+                                .map(ZoneHist::getZone)
+                                .map(Zone::getZoneId)
+                ).orElseGet(() -> {
+                    zoneHistoryService.updateWorkerLocation(workerId, DEFAULT_ZONE_ID, LocalDateTime.now());
+                    return zoneWorkerStateStore.getZoneId(workerId);
+                });
+
+        Zone zone = zoneRepoService.findCachedById(zoneId);
+        Worker worker = workerRepoService.findCachedById(workerId);
+        if (zone == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "존재하지 않는 공간 ID: " + zoneId);
+        } else if (worker == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "존재하지 않는 워커 ID: " + workerId);
+        }
+
+        // 0. zoneWorkerStateStore 업데이트 (이전/현재 위험도를 한 번에 반환)
+        RiskLevelTransition transition = zoneWorkerStateStore.setWorkerRiskLevel(zoneId, workerId, riskLevel);
+        RiskLevel prevZoneWorkerRiskLevel = transition.getPrevZoneLevel();
+        RiskLevel nowZoneWorkerRiskLevel = transition.getNowZoneLevel();
+        RiskLevel zoneSensorRiskLevel = zoneSensorStateStore.getZoneRiskLevel(zoneId);
+
+        // 타겟타입이 항상 WEARABLE이므로 TargetType.Worker 바로 사용
+        // WebSocket 알림 전송
+        // 1. 히트맵 전송
+        // 만약 존의 현재 Worker 위험도가 Sensor 위험도보다 크거나 같을 경우
+        if (nowZoneWorkerRiskLevel.getPriority() >= zoneSensorRiskLevel.getPriority()) {
+            // 존의 현재 Worker 위험도가 이전 Worker 위험도보다 크면
+            if (nowZoneWorkerRiskLevel.getPriority() >= prevZoneWorkerRiskLevel.getPriority()) {
+                // 클라이언트에게 이벤트가 발생한 Worker 기반으로 sendDangerLevel 보냄
+                webSocketSender.sendDangerLevel(zoneId, WearableDataType.heartRate.name(), nowZoneWorkerRiskLevel.getPriority());
+            }
+            // 존의 현재 Worker 위험도가 이전 Worker 위험도보다 작다면
+            else {
+                // 클라이언트에게 존에서 RiskLevel 높은 Worker 기반으로 sendDangerLevel 보냄 <TODO: WearableDataType 추가시 변경 요망>
+                webSocketSender.sendDangerLevel(zoneId, WearableDataType.heartRate.name(), nowZoneWorkerRiskLevel.getPriority());
+            }
+        }
+        // 존의 현재 Worker 위험도가 Sensor 위험도보다 작고, 과거 Worker 위험도가 Sensor 위험도보다 크면
+        else if (prevZoneWorkerRiskLevel.getPriority() >= zoneSensorRiskLevel.getPriority()) {
+            // 클라이언트에게 Sensor 위험도를 기반으로 sendDangerLevel 보냄
+            webSocketSender.sendDangerLevel(zoneId,
+                    zoneSensorStateStore.getHighestRiskSensorType(zoneId).name(),
+                    zoneSensorRiskLevel.getPriority());
+        }
+
+        // 이벤트 Worker에 대한 RiskLevel이 변경되지 않았으면 로그 없음
+        if (!transition.isLevelChanged()) {
+            return null;
+        }
+
+        // abnormalLog 빌드
+        AbnormalLog abnormalLog = AbnormalLog.builder()
+                .targetId(workerId)
+                .targetType(TargetType.Worker)
+                .targetDetail(worker.getName())
+                .abnormalType(riskMessageProvider.getRiskMessageByWearble(wearableDataType, riskLevel, dto.getVal()))
+                .abnVal(Double.valueOf(dto.getVal()))
+                .detectedAt(LocalDateTime.parse(dto.getTime()))
+                .dangerLevel(riskLevel.getPriority())
+                .zone(zone)
+                .isRead(false)
+                .build();
+        return new PendingWearableLog(abnormalLog, riskLevel, zoneId, transition.getPrevLevel());
+    }
+
+    /**
+     * 이상 로그 저장 실패 시 상태 스토어를 이벤트 이전 등급으로 되돌림
+     * (SensorEventProcessor.rollbackStates 참고)
+     */
+    private void rollbackStates(List<WearableKafkaDto> changedDtos, List<PendingWearableLog> pendingLogs) {
+        for (int i = pendingLogs.size() - 1; i >= 0; i--) {
+            PendingWearableLog pending = pendingLogs.get(i);
+            zoneWorkerStateStore.setWorkerRiskLevel(
+                    pending.getZoneId(), changedDtos.get(i).getWorkerId(), pending.getPrevLevel());
+        }
+        log.warn("⚠️ 이상 로그 저장 실패로 작업자 상태를 되돌림: count={}", pendingLogs.size());
+    }
+
+    // 저장 대기 중인 이상 로그와 알람 생성에 필요한 위험도, 저장 실패 시 되돌릴 작업자의 이전 등급
+    @Getter
+    @AllArgsConstructor
+    private static class PendingWearableLog {
+        private final AbnormalLog abnormalLog;
+        private final RiskLevel riskLevel;
+        private final String zoneId;
+        private final RiskLevel prevLevel;
+    }
 }
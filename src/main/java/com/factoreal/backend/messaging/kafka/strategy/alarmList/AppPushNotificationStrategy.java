@@ -5,6 +5,7 @@ import com.factoreal.backend.domain.abnormalLog.entity.AbnormalLog;
 import com.factoreal.backend.domain.notifyLog.dto.TriggerType;
 import com.factoreal.backend.domain.worker.application.WorkerService;
 import com.factoreal.backend.domain.worker.dto.response.WorkerInfoResponse;
+import com.factoreal.backend.global.config.AsyncConfig;
 import com.factoreal.backend.messaging.fcm.application.FCMService;
 import com.factoreal.backend.messaging.kafka.strategy.enums.AlarmEventResponse;
 import com.factoreal.backend.messaging.kafka.strategy.enums.RiskLevel;
@@ -25,7 +26,7 @@ public class AppPushNotificationStrategy implements NotificationStrategy {
     private final AbnormalLogRepoService abnormalLogRepoService;
 
     @Override
-    @Async
+    @Async(AsyncConfig.PUSH_EXECUTOR)
     public void send(AlarmEventResponse alarmEventResponse) {
         log.info("📲 App Push Notification Strategy.");
         // 1. 같은 공간에 있는 작업자에게 FCM 푸시 알람 전송
@@ -34,15 +35,14 @@ public class AppPushNotificationStrategy implements NotificationStrategy {
             return;
         }
         AbnormalLog abnormalLog = abnormalLogRepoService.findById(alarmEventResponse.getEventId());
-        workerList.forEach(worker -> {
-            fcmService.sendZoneSafety(
-                    alarmEventResponse.getZoneId(),
-                    alarmEventResponse.getRiskLevel().getPriority(),
-                    TriggerType.AUTOMATIC,
-                    LocalDateTime.parse(alarmEventResponse.getTime()),
-                    abnormalLog
-            );
-        });
+        // sendZoneSafety 가 공간 내 작업자 전체에게 멀티캐스트로 전송하므로 한 번만 호출
+        fcmService.sendZoneSafety(
+                alarmEventResponse.getZoneId(),
+                alarmEventResponse.getRiskLevel().getPriority(),
+                TriggerType.AUTOMATIC,
+                LocalDateTime.parse(alarmEventResponse.getTime()),
+                abnormalLog
+        );
     }
 
     @Override
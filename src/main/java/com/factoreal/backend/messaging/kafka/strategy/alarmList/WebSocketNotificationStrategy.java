@@ -1,8 +1,10 @@
 package com.factoreal.backend.messaging.kafka.strategy.alarmList;
 
-import com.factoreal.backend.domain.abnormalLog.application.AbnormalLogRepoService;
+import com.factoreal.backend.domain.abnormalLog.application.AbnormalLogNotPersistedException;
+import com.factoreal.backend.domain.abnormalLog.application.UnreadAlarmCounter;
 import com.factoreal.backend.domain.notifyLog.dto.TriggerType;
 import com.factoreal.backend.domain.notifyLog.application.NotifyLogService;
+import com.factoreal.backend.global.config.AsyncConfig;
 import com.factoreal.backend.messaging.sender.WebSocketSender;
 import com.factoreal.backend.messaging.kafka.strategy.enums.AlarmEventResponse;
 import com.factoreal.backend.messaging.kafka.strategy.enums.RiskLevel;
@@ -20,34 +22,36 @@ public class WebSocketNotificationStrategy implements NotificationStrategy {
     // SimpMessagingTemplate은 WebSocketConfig.java에 EnableWebSocketMessageBroker 어노테이션에 의해 빈이 등록됨.
     private final WebSocketSender webSocketSender;
     private final NotifyLogService notifyLogService;
-    private final AbnormalLogRepoService abnormalLogRepoService;
+    private final UnreadAlarmCounter unreadAlarmCounter;
     private static final String userId = "alarm-test";
 
     @Override
-    @Async
+    @Async(AsyncConfig.ALARM_EXECUTOR)
     public void send(AlarmEventResponse alarmEventResponse) {
         log.info("🌐WebSocket Notification Strategy");
         // /topic/userId로 메세지를 전송 => userId를 구분하여 웹 알람 발송
         // 대시보드 전체에서 보여져야 하는 로직이면 고정 토픽으로 구분없이 보여주는 것도 좋을 듯 -> 고정 토픽을 사용중
+        boolean sent;
         try {
             webSocketSender.sendDangerAlarm(alarmEventResponse);
-            Long count = abnormalLogRepoService.countByIsReadFalse();
-            webSocketSender.sendUnreadCount(count);
-            notifyLogService.saveNotifyLogFromWebsocket(
-                    "/topic/alarm",
-                    Boolean.TRUE,
-                    TriggerType.AUTOMATIC,
-                    LocalDateTime.parse(alarmEventResponse.getTime()),
-                    alarmEventResponse.getEventId()
-            );
+            unreadAlarmCounter.requestPush();
+            sent = true;
         } catch (Exception e) {
+            log.error("❌ WebSocket 알람 전송 실패: eventId={}", alarmEventResponse.getEventId(), e);
+            sent = false;
+        }
+
+        try {
             notifyLogService.saveNotifyLogFromWebsocket(
                     "/topic/alarm",
-                    Boolean.FALSE,
+                    sent,
                     TriggerType.AUTOMATIC,
                     LocalDateTime.parse(alarmEventResponse.getTime()),
                     alarmEventResponse.getEventId()
             );
+        } catch (AbnormalLogNotPersistedException e) {
+            // 알람은 이미 전송됨, 참조할 AbnormalLog 가 저장되지 않아 알림 기록만 남기지 못함
+            log.warn("⚠️ WebSocket 알림 기록 저장 생략: {}", e.getMessage());
         }
     }
 
@@ -0,0 +1,103 @@
+package com.factoreal.backend.messaging.mqtt;
+
+import com.factoreal.backend.domain.abnormalLog.entity.AbnormalLog;
+import com.factoreal.backend.domain.controlLog.entity.ControlLog;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * MQTT 제어 메시지 JSON 인코더
+ * - 필드가 고정된 메시지이므로 Map/ObjectMapper 를 거치지 않고 스레드별로 재사용하는 버퍼에 바로 기록
+ * - 출력 형식은 ObjectMapper 로 Map 을 직렬화한 결과와 같음 (필드 순서만 고정)
+ */
+final class ControlMessageEncoder {
+
+    private static final int INITIAL_CAPACITY = 512;
+    // 긴 메시지로 커진 버퍼는 재사용하지 않음
+    private static final int MAX_RETAINED_CAPACITY = 8 * 1024;
+
+    private static final ThreadLocal<StringBuilder> BUFFER =
+            ThreadLocal.withInitial(() -> new StringBuilder(INITIAL_CAPACITY));
+
+    private ControlMessageEncoder() {
+    }
+
+    static byte[] encode(ControlLog controlLog) {
+        AbnormalLog abnormalLog = controlLog.getAbnormalLog();
+        StringBuilder sb = BUFFER.get();
+        sb.setLength(0);
+        try {
+            sb.append('{');
+            field(sb, "controlId", controlLog.getId(), true);
+            field(sb, "controlType", controlLog.getControlType());
+            field(sb, "controlValue", controlLog.getControlVal());
+            field(sb, "controlStatus", controlLog.getControlStat(), false);
+            field(sb, "executedAt", controlLog.getExecutedAt().toString());
+            field(sb, "zoneId", controlLog.getZone().getZoneId());
+            field(sb, "abnormalId", abnormalLog.getId(), false);
+            field(sb, "abnormalType", abnormalLog.getAbnormalType());
+            field(sb, "abnormalValue", abnormalLog.getAbnVal());
+            sb.append('}');
+            return sb.toString().getBytes(StandardCharsets.UTF_8);
+        } finally {
+            if (sb.capacity() > MAX_RETAINED_CAPACITY) {
+                BUFFER.remove();
+            }
+        }
+    }
+
+    private static void field(StringBuilder sb, String name, Number value, boolean first) {
+        name(sb, name, first);
+        sb.append(value == null ? "null" : value.toString());
+    }
+
+    private static void field(StringBuilder sb, String name, Double value) {
+        name(sb, name, false);
+        if (value == null) {
+            sb.append("null");
+        } else if (value.isNaN() || value.isInfinite()) {
+            // Jackson 기본 설정(WRITE_NAN_AS_STRINGS)과 같이 문자열로 기록
+            sb.append('"').append(value).append('"');
+        } else {
+            sb.append(value.doubleValue());
+        }
+    }
+
+    private static void field(StringBuilder sb, String name, String value) {
+        name(sb, name, false);
+        if (value == null) {
+            sb.append("null");
+        } else {
+            string(sb, value);
+        }
+    }
+
+    private static void name(StringBuilder sb, String name, boolean first) {
+        if (!first) {
+            sb.append(',');
+        }
+        sb.append('"').append(name).append("\":");
+    }
+
+    private static void string(StringBuilder sb, String value) {
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04X", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        sb.append('"');
+    }
+}
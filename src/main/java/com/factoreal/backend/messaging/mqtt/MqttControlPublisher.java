@@ -0,0 +1,243 @@
+package com.factoreal.backend.messaging.mqtt;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.paho.client.mqttv3.IMqttActionListener;
+import org.eclipse.paho.client.mqttv3.IMqttToken;
+import org.eclipse.paho.client.mqttv3.MqttClient;
+import org.eclipse.paho.client.mqttv3.MqttDeliveryToken;
+import org.eclipse.paho.client.mqttv3.MqttException;
+import org.eclipse.paho.client.mqttv3.MqttMessage;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * MQTT 제어 메시지 비동기 발행기
+ * - 호출 스레드는 버퍼에 넣고 바로 반환, 전용 스레드(mqtt-control)가 브로커로 발행
+ * - 수신 확인(PUBACK)을 기다리지 않고 max-in-flight 개까지 연속 발행 (창이 차면 확인이 올 때까지 버퍼에서 대기)
+ * - 연결이 끊겨 있거나 끊겨서 실패한 메시지는 버퍼에 남겨 두었다가 재연결 후 순서대로 다시 발행
+ *   (buffer-capacity 를 넘으면 가장 오래된 메시지를 버리고 실패로 완료)
+ * - 메트릭
+ *   - 발행 지연 : mqtt.control.publish.latency (버퍼 등록 → 수신 확인)
+ *   - 처리 결과 : mqtt.control.publish{result=delivered|failed|dropped|requeued}
+ *   - 적체     : mqtt.control.in-flight, mqtt.control.buffered
+ */
+@Slf4j
+@Component
+public class MqttControlPublisher {
+
+    private record Pending(String topic, MqttMessage message, CompletableFuture<Void> result, long enqueuedAt) {
+    }
+
+    private final MqttClient mqttClient;
+    private final MeterRegistry meterRegistry;
+    private final int bufferCapacity;
+    private final Semaphore window;
+    private final Deque<Pending> buffer = new ArrayDeque<>(); // buffer 로 동기화
+    private final Timer latency;
+    private final ScheduledExecutorService sender;
+
+    public MqttControlPublisher(MqttClient mqttClient,
+                                ObjectProvider<MeterRegistry> meterRegistryProvider,
+                                @Value("${mqtt.control.max-in-flight:20}") int maxInFlight,
+                                @Value("${mqtt.control.buffer-capacity:1000}") int bufferCapacity,
+                                @Value("${mqtt.control.retry-interval-ms:1000}") long retryIntervalMs) {
+        this.mqttClient = mqttClient;
+        this.meterRegistry = meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new);
+        this.bufferCapacity = Math.max(1, bufferCapacity);
+        int windowSize = Math.max(1, maxInFlight);
+        this.window = new Semaphore(windowSize);
+        this.latency = Timer.builder("mqtt.control.publish.latency").register(meterRegistry);
+        Gauge.builder("mqtt.control.in-flight", window, w -> windowSize - w.availablePermits())
+                .register(meterRegistry);
+        Gauge.builder("mqtt.control.buffered", this, MqttControlPublisher::buffered)
+                .register(meterRegistry);
+
+        this.sender = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "mqtt-control");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // 재연결 후 남은 메시지 발행 (retry-interval-ms 가 0 이하면 새 메시지·수신 확인 때만 발행)
+        if (retryIntervalMs > 0) {
+            sender.scheduleWithFixedDelay(this::drainSafely, retryIntervalMs, retryIntervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 메시지 발행 요청
+     *
+     * @return 브로커 수신 확인 시 완료되는 future (버퍼 초과·발행 실패 시 예외로 완료)
+     */
+    public CompletableFuture<Void> publish(String topic, byte[] payload, int qos) {
+        MqttMessage message = new MqttMessage(payload);
+        message.setQos(qos);
+        Pending pending = new Pending(topic, message, new CompletableFuture<>(), System.nanoTime());
+
+        Pending dropped = null;
+        synchronized (buffer) {
+            if (buffer.size() >= bufferCapacity) {
+                dropped = buffer.pollFirst();
+            }
+            buffer.addLast(pending);
+        }
+        if (dropped != null) {
+            log.warn("⚠️ MQTT 제어 메시지 버퍼 초과 → 가장 오래된 메시지 버림: topic={}", dropped.topic());
+            count("dropped");
+            dropped.result().completeExceptionally(
+                    new MqttException(MqttException.REASON_CODE_DISCONNECTED_BUFFER_FULL));
+        }
+        scheduleDrain();
+        return pending.result();
+    }
+
+    /**
+     * 연결돼 있으면 창이 허용하는 만큼 버퍼의 메시지를 발행
+     */
+    synchronized void drain() {
+        while (mqttClient.isConnected() && window.tryAcquire()) {
+            Pending next;
+            synchronized (buffer) {
+                next = buffer.pollFirst();
+            }
+            if (next == null) {
+                window.release();
+                return;
+            }
+            if (!send(next)) {
+                return;
+            }
+        }
+    }
+
+    // 발행 요청 성공 여부 (연결 문제로 실패하면 버퍼 맨 앞으로 되돌리고 false)
+    private boolean send(Pending pending) {
+        AtomicBoolean settled = new AtomicBoolean();
+        try {
+            MqttDeliveryToken token = mqttClient.getTopic(pending.topic()).publish(pending.message());
+            token.setActionCallback(new IMqttActionListener() {
+                @Override
+                public void onSuccess(IMqttToken asyncActionToken) {
+                    settle(pending, settled, null);
+                }
+
+                @Override
+                public void onFailure(IMqttToken asyncActionToken, Throwable exception) {
+                    settle(pending, settled, exception);
+                }
+            });
+            // 콜백 등록 전에 이미 완료됐으면 콜백이 호출되지 않으므로 직접 처리
+            if (token.isComplete()) {
+                settle(pending, settled, token.getException());
+            }
+            return true;
+        } catch (MqttException e) {
+            window.release();
+            if (!mqttClient.isConnected() || e.getReasonCode() == MqttException.REASON_CODE_MAX_INFLIGHT) {
+                requeue(pending);
+                return false;
+            }
+            fail(pending, e);
+            return true;
+        } catch (RuntimeException e) {
+            window.release();
+            fail(pending, e);
+            return true;
+        }
+    }
+
+    // 수신 확인/실패 콜백 (Paho 콜백 스레드)
+    private void settle(Pending pending, AtomicBoolean settled, Throwable exception) {
+        if (!settled.compareAndSet(false, true)) {
+            return;
+        }
+        window.release();
+        if (exception == null) {
+            latency.record(System.nanoTime() - pending.enqueuedAt(), TimeUnit.NANOSECONDS);
+            count("delivered");
+            pending.result().complete(null);
+        } else if (!mqttClient.isConnected()) {
+            // 연결이 끊겨 실패 → 재연결 후 다시 발행
+            log.warn("⚠️ MQTT 연결 끊김으로 제어 메시지 미전달 → 재연결 후 재발행: topic={}", pending.topic());
+            requeue(pending);
+        } else {
+            fail(pending, exception);
+        }
+        scheduleDrain();
+    }
+
+    private void requeue(Pending pending) {
+        count("requeued");
+        synchronized (buffer) {
+            buffer.addFirst(pending);
+        }
+    }
+
+    private void fail(Pending pending, Throwable exception) {
+        count("failed");
+        pending.result().completeExceptionally(exception);
+    }
+
+    private void scheduleDrain() {
+        try {
+            sender.execute(this::drainSafely);
+        } catch (RejectedExecutionException e) {
+            // 종료 중에는 남은 메시지를 shutdown 에서 실패 처리
+        }
+    }
+
+    private void drainSafely() {
+        try {
+            drain();
+        } catch (Exception e) {
+            // 예외가 전파되면 스케줄이 중단되므로 로그만 남김
+            log.error("❌ MQTT 제어 메시지 발행 실패", e);
+        }
+    }
+
+    private int buffered() {
+        synchronized (buffer) {
+            return buffer.size();
+        }
+    }
+
+    private void count(String result) {
+        Counter.builder("mqtt.control.publish")
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdown();
+        List<Pending> remaining;
+        synchronized (buffer) {
+            remaining = new ArrayList<>(buffer);
+            buffer.clear();
+        }
+        if (!remaining.isEmpty()) {
+            log.warn("⚠️ 종료 시 발행하지 못한 MQTT 제어 메시지 {}건", remaining.size());
+        }
+        remaining.forEach(pending ->
+                fail(pending, new MqttException(MqttException.REASON_CODE_CLIENT_CLOSED)));
+    }
+}
@@ -1,54 +1,41 @@
 package com.factoreal.backend.messaging.mqtt;
 
 import com.factoreal.backend.domain.controlLog.entity.ControlLog;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.eclipse.paho.client.mqttv3.MqttClient;
-import org.eclipse.paho.client.mqttv3.MqttMessage;
 import org.springframework.stereotype.Service;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class MqttPublishService {
-  private final MqttClient mqttClient;
-  private final ObjectMapper objectMapper;
-
-  public void publishControlMessage(ControlLog controlLog) {
-    try {
-      // MQTT 메시지 페이로드 구성
-      Map<String, Object> payload = new HashMap<>();
-      payload.put("controlId", controlLog.getId());
-      payload.put("controlType", controlLog.getControlType());
-      payload.put("controlValue", controlLog.getControlVal());
-      payload.put("controlStatus", controlLog.getControlStat());
-      payload.put("executedAt", controlLog.getExecutedAt().toString());
-      payload.put("zoneId", controlLog.getZone().getZoneId());
-
-      // AbnormalLog 정보 추가
-      payload.put("abnormalId", controlLog.getAbnormalLog().getId());
-      payload.put("abnormalType", controlLog.getAbnormalLog().getAbnormalType());
-      payload.put("abnormalValue", controlLog.getAbnormalLog().getAbnVal());
-
-      // 토픽 구성 - control/{targetType}/{targetId} 형식
-      String targetType = controlLog.getAbnormalLog().getTargetType().name().toLowerCase();
-      String targetId = controlLog.getAbnormalLog().getTargetId();
-      String topic = String.format("control/%s/%s", targetType, targetId);
-
-      // JSON 변환 및 메시지 발행
-      String jsonPayload = objectMapper.writeValueAsString(payload);
-      MqttMessage message = new MqttMessage(jsonPayload.getBytes());
-      message.setQos(1); // QoS 레벨 설정 (최소 1회 전달 보장)
-
-      mqttClient.publish(topic, message);
-      log.info("✅ MQTT 제어 메시지 발행 완료: topic={}, payload={}", topic, jsonPayload);
-
-    } catch (Exception e) {
-      log.error("❌ MQTT 메시지 발행 실패: {}", e.getMessage(), e);
-    }
+  private final MqttControlPublisher controlPublisher;
+
+  /**
+   * 제어 메시지 발행 (브로커 응답을 기다리지 않음)
+   * - 페이로드·토픽은 호출 스레드에서 만들고, 발행은 MqttControlPublisher 가 비동기로 처리
+   *
+   * @return 브로커 수신 확인(QoS 1) 시 완료되는 future, 발행 실패 시 예외로 완료
+   */
+  public CompletableFuture<Void> publishControlMessage(ControlLog controlLog) {
+    // 토픽 구성 - control/{targetType}/{targetId} 형식
+    String targetType = controlLog.getAbnormalLog().getTargetType().name().toLowerCase();
+    String targetId = controlLog.getAbnormalLog().getTargetId();
+    String topic = String.format("control/%s/%s", targetType, targetId);
+
+    // JSON 페이로드 구성 및 발행 (QoS 1: 최소 1회 전달 보장)
+    byte[] payload = ControlMessageEncoder.encode(controlLog);
+    Long controlId = controlLog.getId();
+
+    return controlPublisher.publish(topic, payload, 1)
+        .whenComplete((ignored, e) -> {
+          if (e == null) {
+            log.info("✅ MQTT 제어 메시지 발행 완료: topic={}, controlId={}", topic, controlId);
+          } else {
+            log.error("❌ MQTT 메시지 발행 실패: topic={}, controlId={}, {}", topic, controlId, e.getMessage());
+          }
+        });
   }
 }
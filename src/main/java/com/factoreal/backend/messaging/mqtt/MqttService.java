@@ -1,9 +1,6 @@
 package com.factoreal.backend.messaging.mqtt;
 
-import com.factoreal.backend.domain.sensor.application.SensorService;
 import com.factoreal.backend.domain.sensor.dto.request.SensorCreateRequest;
-import com.factoreal.backend.domain.wearable.application.WearableRepoService;
-import com.factoreal.backend.domain.wearable.entity.Wearable;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.annotation.PostConstruct;
@@ -25,8 +22,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class MqttService {
     private final MqttClient mqttClient;
-    private final SensorService sensorService;
-    private final WearableRepoService wearableRepoService;
+    private final ShadowRegistrationBuffer registrationBuffer;
     private static final int MAX_RETRY_ATTEMPTS = 5;
     private static final long RETRY_DELAY_MS = 2000;
 
@@ -119,19 +115,13 @@ public class MqttService {
         Integer iszone = (equipId != null && equipId.equals(zoneId)) ? 1 : 0;
         LocalDateTime dateTime = LocalDateTime.ofInstant(Instant.ofEpochSecond(epochTime), ZoneId.systemDefault());
         SensorCreateRequest dto = new SensorCreateRequest(sensorId, type, zoneId, equipId, null, null, iszone);
-        log.info("저장할 센서 데이터 : {} 시간: {}",dto, dateTime);
-        log.info("저장된 결과 : {}",sensorService.saveSensor(dto, dateTime)); // 중복이면 예외 발생
-        log.info("✅ 센서 저장 완료: {}", sensorId);
+        log.debug("등록 대기 센서 데이터 : {} 시간: {}", dto, dateTime);
+        registrationBuffer.offerSensor(dto, dateTime); // 중복 확인·저장은 버퍼가 모아서 처리
     }
 
     private void processWearablePayload(JsonNode reported, Long epochTime) throws MqttException {
         String wearableId = reported.at("/wearableId").asText();
         LocalDateTime dateTime = LocalDateTime.ofInstant(Instant.ofEpochSecond(epochTime), ZoneId.systemDefault());
-        Wearable wearable = Wearable.builder()
-            .wearableId(wearableId)
-            .createdAt(dateTime)
-            .build();
-
-        wearableRepoService.saveWearable(wearable);
+        registrationBuffer.offerWearable(wearableId, dateTime);
     }
 }
@@ -0,0 +1,284 @@
+package com.factoreal.backend.messaging.mqtt;
+
+import com.factoreal.backend.domain.equip.entity.Equip;
+import com.factoreal.backend.domain.sensor.application.SensorRepoService;
+import com.factoreal.backend.domain.sensor.dto.request.SensorCreateRequest;
+import com.factoreal.backend.domain.sensor.entity.Sensor;
+import com.factoreal.backend.domain.wearable.application.WearableRepoService;
+import com.factoreal.backend.domain.wearable.entity.Wearable;
+import com.factoreal.backend.domain.zone.entity.Zone;
+import com.factoreal.backend.messaging.kafka.strategy.enums.SensorType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MQTT shadow 로 들어온 센서/웨어러블 등록 버퍼
+ * - 이미 등록된 ID 는 메모리의 ID 집합으로 걸러 DB 를 조회하지 않음 (최초 flush 때 한 번만 적재)
+ * - 같은 ID 가 flush 전에 여러 번 오면 하나만 등록 (shadow 재전송·재연결 시 같은 문서가 반복됨)
+ * - flush-interval-ms 주기마다 새 ID 를 batch-size 단위 JDBC 배치 upsert 로 저장
+ * - 메트릭
+ *   - 등록 지연 : mqtt.shadow.registration.latency{type} (수신 → 저장 완료)
+ *   - 처리 결과 : mqtt.shadow.registration{type, result=registered|duplicate|failed}
+ */
+@Slf4j
+@Component
+public class ShadowRegistrationBuffer {
+
+    static final String SENSOR = "sensor";
+    static final String WEARABLE = "wearable";
+
+    private record PendingSensor(Sensor sensor, long enqueuedAt) {
+    }
+
+    private record PendingWearable(Wearable wearable, long enqueuedAt) {
+    }
+
+    private final SensorRepoService sensorRepoService;
+    private final WearableRepoService wearableRepoService;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+
+    // 등록 완료된 ID (null 이면 아직 DB 에서 적재 전)
+    private volatile Set<String> knownSensorIds;
+    private volatile Set<String> knownWearableIds;
+    // ID → flush 대기 중인 등록 요청
+    private final ConcurrentMap<String, PendingSensor> pendingSensors = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, PendingWearable> pendingWearables = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService scheduler;
+
+    public ShadowRegistrationBuffer(SensorRepoService sensorRepoService,
+                                    WearableRepoService wearableRepoService,
+                                    ObjectProvider<MeterRegistry> meterRegistryProvider,
+                                    @Value("${mqtt.shadow-registration.flush-interval-ms:500}") long flushIntervalMs,
+                                    @Value("${mqtt.shadow-registration.batch-size:500}") int batchSize) {
+        this.sensorRepoService = sensorRepoService;
+        this.wearableRepoService = wearableRepoService;
+        this.meterRegistry = meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new);
+        this.batchSize = Math.max(1, batchSize);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "shadow-registration");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // flush-interval-ms 가 0 이하면 자동 저장 없음 (flush 직접 호출)
+        if (flushIntervalMs > 0) {
+            scheduler.scheduleWithFixedDelay(this::flushSafely, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 센서 등록 요청 (이미 등록됐거나 대기 중인 ID 는 중복으로 집계하고 무시)
+     */
+    public void offerSensor(SensorCreateRequest dto, LocalDateTime createdAt) {
+        String sensorId = dto.getSensorId();
+        if (isKnown(knownSensorIds, sensorId)) {
+            count(SENSOR, "duplicate", 1);
+            return;
+        }
+        SensorType sensorType;
+        try {
+            sensorType = SensorType.valueOf(dto.getSensorType());
+        } catch (IllegalArgumentException | NullPointerException e) {
+            log.warn("⚠️ 알 수 없는 센서 종류: sensorId={}, type={}", sensorId, dto.getSensorType());
+            count(SENSOR, "failed", 1);
+            return;
+        }
+        if (dto.getEquipId() == null) {
+            log.warn("⚠️ 설비 ID 가 없는 센서: sensorId={}", sensorId);
+            count(SENSOR, "failed", 1);
+            return;
+        }
+        Sensor sensor = Sensor.builder()
+                .sensorId(sensorId)
+                .sensorType(sensorType)
+                .zone(Zone.builder().zoneId(dto.getZoneId()).build())
+                .equip(Equip.builder().equipId(dto.getEquipId()).build())
+                .createdAt(createdAt)
+                .isZone(dto.getIsZone())
+                .build();
+        if (pendingSensors.putIfAbsent(sensorId, new PendingSensor(sensor, System.nanoTime())) != null) {
+            count(SENSOR, "duplicate", 1);
+        }
+    }
+
+    /**
+     * 웨어러블 등록 요청 (이미 등록됐거나 대기 중인 ID 는 중복으로 집계하고 무시)
+     */
+    public void offerWearable(String wearableId, LocalDateTime createdAt) {
+        if (isKnown(knownWearableIds, wearableId)) {
+            count(WEARABLE, "duplicate", 1);
+            return;
+        }
+        Wearable wearable = Wearable.builder()
+                .wearableId(wearableId)
+                .createdAt(createdAt)
+                .build();
+        if (pendingWearables.putIfAbsent(wearableId, new PendingWearable(wearable, System.nanoTime())) != null) {
+            count(WEARABLE, "duplicate", 1);
+        }
+    }
+
+    /**
+     * 대기 중인 등록 요청을 배치로 저장
+     */
+    public synchronized void flush() {
+        if (pendingSensors.isEmpty() && pendingWearables.isEmpty()) {
+            return;
+        }
+        loadKnownIds();
+        int sensors = flushSensors();
+        int wearables = flushWearables();
+        if (sensors + wearables > 0) {
+            log.info("✅ MQTT shadow 등록: 센서 {}건, 웨어러블 {}건", sensors, wearables);
+        }
+    }
+
+    private int flushSensors() {
+        List<PendingSensor> batch = new ArrayList<>();
+        int registered = 0;
+        for (String sensorId : pendingSensors.keySet()) {
+            // remove 이후 들어온 요청은 다음 flush 로 넘어감
+            PendingSensor pending = pendingSensors.remove(sensorId);
+            if (pending == null) {
+                continue;
+            }
+            if (knownSensorIds.contains(sensorId)) {
+                count(SENSOR, "duplicate", 1);
+                continue;
+            }
+            batch.add(pending);
+            if (batch.size() >= batchSize) {
+                registered += saveSensors(batch);
+                batch.clear();
+            }
+        }
+        return registered + saveSensors(batch);
+    }
+
+    private int saveSensors(List<PendingSensor> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        Set<String> stored = sensorRepoService.insertAllIfAbsent(batch.stream().map(PendingSensor::sensor).toList());
+        long now = System.nanoTime();
+        Timer latency = latency(SENSOR);
+        for (PendingSensor pending : batch) {
+            String sensorId = pending.sensor().getSensorId();
+            if (stored.contains(sensorId)) {
+                knownSensorIds.add(sensorId);
+                latency.record(now - pending.enqueuedAt(), TimeUnit.NANOSECONDS);
+            } else {
+                // 공간/설비가 아직 없는 센서 → 다음 shadow 갱신 때 다시 시도
+                log.warn("⚠️ 센서 등록 실패 (공간/설비 없음): sensorId={}, zoneId={}, equipId={}",
+                        sensorId, pending.sensor().getZone().getZoneId(), pending.sensor().getEquip().getEquipId());
+            }
+        }
+        count(SENSOR, "registered", stored.size());
+        count(SENSOR, "failed", batch.size() - stored.size());
+        return stored.size();
+    }
+
+    private int flushWearables() {
+        List<PendingWearable> batch = new ArrayList<>();
+        int registered = 0;
+        for (String wearableId : pendingWearables.keySet()) {
+            PendingWearable pending = pendingWearables.remove(wearableId);
+            if (pending == null) {
+                continue;
+            }
+            if (knownWearableIds.contains(wearableId)) {
+                count(WEARABLE, "duplicate", 1);
+                continue;
+            }
+            batch.add(pending);
+            if (batch.size() >= batchSize) {
+                registered += saveWearables(batch);
+                batch.clear();
+            }
+        }
+        return registered + saveWearables(batch);
+    }
+
+    private int saveWearables(List<PendingWearable> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        wearableRepoService.insertAllIfAbsent(batch.stream().map(PendingWearable::wearable).toList());
+        long now = System.nanoTime();
+        Timer latency = latency(WEARABLE);
+        for (PendingWearable pending : batch) {
+            knownWearableIds.add(pending.wearable().getWearableId());
+            latency.record(now - pending.enqueuedAt(), TimeUnit.NANOSECONDS);
+        }
+        count(WEARABLE, "registered", batch.size());
+        return batch.size();
+    }
+
+    // 등록된 ID 를 최초 한 번만 DB 에서 적재 (flush 스레드에서만 호출)
+    private void loadKnownIds() {
+        if (knownSensorIds == null) {
+            Set<String> ids = ConcurrentHashMap.newKeySet();
+            ids.addAll(sensorRepoService.findAllSensorIds());
+            knownSensorIds = ids;
+        }
+        if (knownWearableIds == null) {
+            Set<String> ids = ConcurrentHashMap.newKeySet();
+            ids.addAll(wearableRepoService.findAllWearableIds());
+            knownWearableIds = ids;
+        }
+    }
+
+    private static boolean isKnown(Set<String> knownIds, String id) {
+        return knownIds != null && knownIds.contains(id);
+    }
+
+    private void count(String type, String result, int amount) {
+        if (amount <= 0) {
+            return;
+        }
+        Counter.builder("mqtt.shadow.registration")
+                .tag("type", type)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment(amount);
+    }
+
+    private Timer latency(String type) {
+        return Timer.builder("mqtt.shadow.registration.latency")
+                .tag("type", type)
+                .register(meterRegistry);
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (Exception e) {
+            // 예외가 전파되면 스케줄이 중단되므로 로그만 남김 (꺼낸 요청은 다음 shadow 갱신 때 다시 들어옴)
+            log.error("❌ MQTT shadow 등록 저장 실패", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+        flushSafely();
+    }
+}
@@ -1,8 +1,9 @@
 package com.factoreal.backend.messaging.sender;
 
 import com.factoreal.backend.domain.controlLog.entity.ControlLog;
+import com.factoreal.backend.domain.state.dto.response.ZoneStateResponse;
+import com.factoreal.backend.global.config.AsyncConfig;
 import com.factoreal.backend.messaging.common.dto.SystemLogDto;
-import com.factoreal.backend.messaging.common.dto.ZoneDangerDto;
 import com.factoreal.backend.messaging.kafka.strategy.enums.AlarmEventResponse;
 import lombok.RequiredArgsConstructor;
 
@@ -18,44 +19,54 @@ import org.springframework.scheduling.annotation.Async;
 public class WebSocketSender { // 실제로 프론트에 메시지를 전송하는 클래스
 
     private final SimpMessagingTemplate messagingTemplate;
+    private final ZoneDangerPushBuffer zoneDangerPushBuffer;
 
     /**
      * zone 별로 위험도 메시지를 WebSocket으로 전송
+     * 공간별 최신 값만 버퍼에 남겨 두고 프레임 주기마다 모아서 전송 (ZoneDangerPushBuffer)
      */
-    @Async
     public void sendDangerLevel(String zoneId, String sensorType, int level) {
-        ZoneDangerDto dangerDto = new ZoneDangerDto(zoneId, sensorType, level);
-        messagingTemplate.convertAndSend("/topic/zone", dangerDto);
+        zoneDangerPushBuffer.offer(zoneId, sensorType, level);
+    }
+
+    /**
+     * 공간 상태 변경분(버전 포함)을 WebSocket으로 전송
+     * 단일 스레드 executor 에서 등록 순서(버전 순)대로 전송
+     * 큐가 차서 버려진 델타는 클라이언트가 version 으로 누락을 확인 후 /api/state/zones/changes 로 보정
+     */
+    @Async(AsyncConfig.ZONE_STATE_EXECUTOR)
+    public void sendZoneStateDelta(ZoneStateResponse delta) {
+        messagingTemplate.convertAndSend("/topic/zone-state", delta);
     }
 
     /**
      * Todo : 시스템 로그를 WebSocket으로 전송 -> restAPI 변경으로 삭제 예정
      */
-    @Async
+    @Async(AsyncConfig.WEBSOCKET_EXECUTOR)
     public void sendSystemLog(SystemLogDto logDto) {
         messagingTemplate.convertAndSend("/topic/system-log", logDto);
     }
 
     /**
      * 알람 이벤트를 WebSocket으로 전송
+     * 유실되면 안 되는 프레임이므로 websocketExecutor(큐가 차면 버림)를 거치지 않고 호출 스레드에서 바로 전송
+     * (웹소켓 알람 전략은 이미 alarmExecutor 에서 실행됨)
      */
-    @Async
     public void sendDangerAlarm(AlarmEventResponse alarmEventResponse) {
         messagingTemplate.convertAndSend("/topic/alarm", alarmEventResponse);
     }
 
     /**
-     * 읽지 않은 알람수 전송
+     * 읽지 않은 알람수 전송 (유실되면 안 되므로 호출 스레드에서 바로 전송)
      */
-    @Async
     public void sendUnreadCount(long count) {
         messagingTemplate.convertAndSend("/topic/unread-count", count);
     }
 
     /**
      * 제어 상태를 WebSocket으로 전송하고 FE에서 발송 여부를 확인할 수 있도록 함
+     * 유실되면 안 되므로 호출 스레드에서 바로 전송
      */
-    @Async
     public void sendControlStatus(ControlLog controlLog, Map<String, Boolean> deliveryStatus) {
         Map<String, Object> status = new HashMap<>();
         status.put("controlId", controlLog.getId());
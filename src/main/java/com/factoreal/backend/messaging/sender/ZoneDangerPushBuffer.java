@@ -0,0 +1,113 @@
+package com.factoreal.backend.messaging.sender;
+
+import com.factoreal.backend.messaging.common.dto.ZoneDangerDto;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * /topic/zone 히트맵 전송 버퍼
+ * - 공간별 마지막 값만 보관 (한 프레임 안의 중간 값은 버림)
+ * - interval-ms 주기(프레임)마다 모아서 전송, 직전에 보낸 값과 같으면 생략
+ * - /topic/zone 은 공간별 객체 메시지 (기존 형식 유지)
+ * - batch 모드에서는 대신 한 프레임의 여러 공간을 하나의 배열 메시지로 /topic/zone-batch 에 전송
+ *   (클라이언트가 /topic/zone-batch 를 구독하도록 바뀐 뒤에만 켤 것)
+ */
+@Slf4j
+@Component
+public class ZoneDangerPushBuffer {
+
+    static final String ZONE_TOPIC = "/topic/zone";
+    static final String ZONE_BATCH_TOPIC = "/topic/zone-batch";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final boolean batch;
+    private final ConcurrentMap<String, ZoneDangerDto> pending = new ConcurrentHashMap<>();
+    private final Map<String, ZoneDangerDto> lastSent = new HashMap<>(); // flush 에서만 접근
+    private final ScheduledExecutorService scheduler;
+
+    public ZoneDangerPushBuffer(SimpMessagingTemplate messagingTemplate,
+                                @Value("${websocket.zone-push.interval-ms:200}") long intervalMs,
+                                @Value("${websocket.zone-push.batch:false}") boolean batch) {
+        this.messagingTemplate = messagingTemplate;
+        this.batch = batch;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "zone-push");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // interval-ms 가 0 이하면 자동 전송 없음 (flush 직접 호출)
+        if (intervalMs > 0) {
+            scheduler.scheduleAtFixedRate(this::flushSafely, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 공간 위험도 등록 (같은 프레임 안에서는 마지막 값으로 덮어씀)
+     */
+    public void offer(String zoneId, String sensorType, int level) {
+        pending.put(zoneId, new ZoneDangerDto(zoneId, sensorType, level));
+    }
+
+    /**
+     * 모인 공간 위험도를 전송
+     */
+    synchronized void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<ZoneDangerDto> frames = new ArrayList<>(pending.size());
+        for (String zoneId : pending.keySet()) {
+            // remove 이후 들어온 값은 다음 프레임으로 넘어감
+            ZoneDangerDto latest = pending.remove(zoneId);
+            if (latest == null || isUnchanged(lastSent.get(zoneId), latest)) {
+                continue;
+            }
+            lastSent.put(zoneId, latest);
+            frames.add(latest);
+        }
+        if (frames.isEmpty()) {
+            return;
+        }
+
+        if (batch) {
+            messagingTemplate.convertAndSend(ZONE_BATCH_TOPIC, frames);
+        } else {
+            frames.forEach(frame -> messagingTemplate.convertAndSend(ZONE_TOPIC, frame));
+        }
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (Exception e) {
+            // 예외가 전파되면 스케줄이 중단되므로 로그만 남김
+            log.error("❌ 공간 위험도 WebSocket 전송 실패", e);
+        }
+    }
+
+    private boolean isUnchanged(ZoneDangerDto prev, ZoneDangerDto now) {
+        return prev != null
+                && prev.getLevel() == now.getLevel()
+                && Objects.equals(prev.getSensorType(), now.getSensorType());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+        flushSafely();
+    }
+}
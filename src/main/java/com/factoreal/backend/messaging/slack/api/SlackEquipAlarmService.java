@@ -24,12 +24,8 @@ public class SlackEquipAlarmService {
 
     private final Slack slackClient;
 
-    public SlackEquipAlarmService() {
-        this.slackClient = Slack.getInstance();
-    }
-
-    // For testing purposes
-    SlackEquipAlarmService(Slack slackClient) {
+    // Slack 전용 연결 풀/timeout/circuit breaker 가 적용된 클라이언트 (RestTemplateConfig)
+    public SlackEquipAlarmService(Slack slackClient) {
         this.slackClient = slackClient;
     }
 
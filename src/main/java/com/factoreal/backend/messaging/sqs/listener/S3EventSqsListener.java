@@ -74,6 +74,7 @@ public class S3EventSqsListener {
                     if (zoneId != null && equipId != null) {
 
                         log.info("👀 서비스 호출 예정 (zoneId={}, equipId={})", zoneId, equipId);
+                        // 예측은 비동기로 진행 (리스너 스레드는 다음 레코드로 바로 진행)
                         equipPredictProcessor.equipPredProcess(zoneId, equipId);
                     } else {
                         log.warn("⚠️ zone_id 또는 equip_id를 추출하지 못했습니다: {}", key);
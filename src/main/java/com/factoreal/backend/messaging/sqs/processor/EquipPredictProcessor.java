@@ -9,79 +9,122 @@ import com.factoreal.backend.domain.zone.application.ZoneRepoService;
 import com.factoreal.backend.domain.zone.entity.Zone;
 import com.factoreal.backend.messaging.slack.api.SlackEquipAlarmService;
 import com.factoreal.backend.domain.equip.dto.response.MaintenancePredictionResponse;
-import lombok.RequiredArgsConstructor;
+import com.factoreal.backend.global.config.AsyncConfig;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponentsBuilder;
-import org.springframework.web.server.ResponseStatusException;
-import org.springframework.http.ResponseEntity;
 
 import java.io.IOException;
 import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class EquipPredictProcessor {
 
     private final ZoneRepoService zoneRepoService;
     private final EquipRepoService equipRepoService;
-    private final RestTemplate restTemplate;
+    private final EquipPredictionClient equipPredictionClient;
     private final SlackEquipAlarmService slackEquipAlarmService;
     private final EquipMaintenanceService equipMaintenanceService;
     private final AbnormalLogService abnormalLogService;
+    // 예측 결과 처리(DB 저장, Slack, 이상 로그)는 FastAPI 호출 스레드가 아닌 알람 채널에서 실행
+    private final Executor alarmExecutor;
 
+    // 같은 설비의 예측 요청을 합치는 시간 (S3 업로드가 몰려도 설비당 한 번만 예측)
+    @Value("${fastapi.predict.dedup-window-ms:30000}")
+    private long dedupWindowMs;
 
-    @Value("${fastapi.base-url}")
-    private String fastApiBaseUrl;
+    // 설비 ID → 진행 중이거나 dedup 창 안에서 시작된 예측 작업
+    private final ConcurrentMap<String, PredictJob> jobs = new ConcurrentHashMap<>();
 
-    @Value("${fastapi.predict-endpoint}")
-    private String predictEndpoint;
+    private record PredictJob(CompletableFuture<Void> future, long startedAt) {
+    }
+
+    public EquipPredictProcessor(ZoneRepoService zoneRepoService,
+                                 EquipRepoService equipRepoService,
+                                 EquipPredictionClient equipPredictionClient,
+                                 SlackEquipAlarmService slackEquipAlarmService,
+                                 EquipMaintenanceService equipMaintenanceService,
+                                 AbnormalLogService abnormalLogService,
+                                 @Qualifier(AsyncConfig.ALARM_EXECUTOR) Executor alarmExecutor) {
+        this.zoneRepoService = zoneRepoService;
+        this.equipRepoService = equipRepoService;
+        this.equipPredictionClient = equipPredictionClient;
+        this.slackEquipAlarmService = slackEquipAlarmService;
+        this.equipMaintenanceService = equipMaintenanceService;
+        this.abnormalLogService = abnormalLogService;
+        this.alarmExecutor = alarmExecutor;
+    }
 
     /**
      * // fastAPI 호출 프로세스
-    1. zone, equip 여부 확인 후 잔존 수명 추론 (fastAPI)
+    1. zone, equip 여부 확인 후 잔존 수명 추론 (fastAPI, 비동기)
     2. 점검 잔존수명 기준으로 알림 발송 (D-5, D-3)
     3. 점검 잔존수명 기준으로 이상치 저장 (abnormalLog)
+     * 같은 설비의 요청이 진행 중이거나 dedup 창 안에서 이미 시작됐으면 새로 호출하지 않고 그 작업을 반환
+     *
+     * @return 예측 결과 처리까지 끝나면 완료 (실패해도 예외 없이 완료)
      */
-    public void equipPredProcess(String zoneId, String equipId){
+    public CompletableFuture<Void> equipPredProcess(String zoneId, String equipId){
+        long now = System.currentTimeMillis();
+        jobs.values().removeIf(job -> !isActive(job, now));
+
+        PredictJob mine = new PredictJob(new CompletableFuture<>(), now);
+        PredictJob current = jobs.merge(equipId, mine, (prev, next) -> isActive(prev, now) ? prev : next);
+        if (current != mine) {
+            log.info("⏭️ 같은 설비 예측 요청 병합 (equipId={})", equipId);
+            return current.future();
+        }
+
+        predict(zoneId, equipId).whenComplete((v, ex) -> mine.future().complete(null));
+        return mine.future();
+    }
+
+    private boolean isActive(PredictJob job, long now) {
+        return !job.future().isDone() || now - job.startedAt() < dedupWindowMs;
+    }
+
+    private CompletableFuture<Void> predict(String zoneId, String equipId) {
 
         log.info("=========================");
         Zone zone;
         Equip equip;
 
         try {
-            zone  = zoneRepoService.findById(zoneId);
-            equip = equipRepoService.findById(equipId);
+            zone  = zoneRepoService.findCachedById(zoneId);
+            equip = equipRepoService.findCachedById(equipId);
         } catch (Exception e) {
             log.warn("⚠️ 유효하지 않은 이벤트, 스킵 (zoneId={}, equipId={}): {}",
                     zoneId, equipId, e.getMessage());
-            return;
+            return CompletableFuture.completedFuture(null);
         }
 
         log.info("🔍 [{}] 설비 추론 시작 - [equipId={}]", equip.getEquipName(), equipId);
 
+        return equipPredictionClient.predict(zoneId, equipId)
+                // 응답 처리를 FastAPI 호출 풀(fastapi.predict.max-in-flight)에서 하면 다음 예측 요청이 밀림
+                .thenAcceptAsync(resp -> handlePrediction(zone, equip, resp), alarmExecutor)
+                .exceptionally(e -> {
+                    log.error("설비 [{}] 예상 점검일 조회 실패: {}", equip.getEquipName(), e.getMessage());
+                    return null;
+                });
+    }
+
+    private void handlePrediction(Zone zone, Equip equip, MaintenancePredictionResponse resp) {
+        String equipId = equip.getEquipId();
         try {
-            String url = UriComponentsBuilder
-                    .fromUriString(fastApiBaseUrl)
-                    .path(predictEndpoint)
-                    .queryParam("equipId", equipId)
-                    .queryParam("zoneId", zoneId)
-                    .toUriString();
-
-            log.info("💡FastAPI 호출 - URL: {}", url);
-            ResponseEntity<MaintenancePredictionResponse> resp =
-                    restTemplate.getForEntity(url, MaintenancePredictionResponse.class);
-
-            if (resp.getBody() == null || resp.getBody().getPredictions().isEmpty()) {
+            if (resp == null || resp.getPredictions() == null || resp.getPredictions().isEmpty()) {
                 log.warn("⚠️ FastAPI 예측값 없음 (equipId={})", equipId);
                 return;
             }
 
 
-            int remainDays = resp.getBody().getPredictions().get(0).intValue();
+            int remainDays = resp.getPredictions().get(0).intValue();
             log.info("➡️ FastAPI 예측 결과 (remainDays={}일)", remainDays);
 
             // 남은 일수를 예상 점검일자로 변환
@@ -0,0 +1,148 @@
+package com.factoreal.backend.messaging.sqs.processor;
+
+import com.factoreal.backend.domain.equip.dto.response.MaintenancePredictionResponse;
+import com.factoreal.backend.global.config.http.CircuitOpenException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * FastAPI 설비 잔존 수명 예측 비동기 클라이언트
+ * - 전용 스레드 풀로 동시에 max-in-flight 개까지만 호출, 나머지는 queue-capacity 만큼 대기 (넘치면 바로 실패)
+ * - 연결 풀/timeout/circuit breaker 는 FastAPI 전용 RestTemplate 이 담당 (http-client.fastapi.*)
+ * - 연결 실패·타임아웃·5xx·429 는 retry-backoff-ms 부터 2배씩 늘린 시간에 ±50% 지터를 더해 max-attempts 까지 재시도
+ *   (재시도 대기 중에는 스레드를 점유하지 않음)
+ * - 그 외 4xx 처럼 재시도해도 같은 결과인 오류와 circuit open 은 바로 실패 처리
+ */
+@Slf4j
+@Component
+public class EquipPredictionClient {
+
+    private final RestTemplate restTemplate;
+    private final String baseUrl;
+    private final String predictEndpoint;
+    private final int maxAttempts;
+    private final long retryBackoffMs;
+    private final ThreadPoolExecutor executor;
+
+    public EquipPredictionClient(@Qualifier("fastApiRestTemplate") RestTemplate restTemplate,
+                                 @Value("${fastapi.base-url}") String baseUrl,
+                                 @Value("${fastapi.predict-endpoint}") String predictEndpoint,
+                                 @Value("${fastapi.predict.max-in-flight:4}") int maxInFlight,
+                                 @Value("${fastapi.predict.queue-capacity:100}") int queueCapacity,
+                                 @Value("${fastapi.predict.max-attempts:3}") int maxAttempts,
+                                 @Value("${fastapi.predict.retry-backoff-ms:500}") long retryBackoffMs) {
+        this.restTemplate = restTemplate;
+        this.baseUrl = baseUrl;
+        this.predictEndpoint = predictEndpoint;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBackoffMs = retryBackoffMs;
+        AtomicInteger seq = new AtomicInteger();
+        int threads = Math.max(1, maxInFlight);
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(Math.max(1, queueCapacity)), r -> {
+            Thread t = new Thread(r, "equip-predict-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * 설비 잔존 수명 예측 요청
+     *
+     * @return 예측 응답 (재시도 후에도 실패하면 예외로 완료)
+     */
+    public CompletableFuture<MaintenancePredictionResponse> predict(String zoneId, String equipId) {
+        String url = UriComponentsBuilder
+                .fromUriString(baseUrl)
+                .path(predictEndpoint)
+                .queryParam("equipId", equipId)
+                .queryParam("zoneId", zoneId)
+                .toUriString();
+
+        CompletableFuture<MaintenancePredictionResponse> result = new CompletableFuture<>();
+        attempt(url, equipId, 1, result, submitTo(result));
+        return result;
+    }
+
+    private void attempt(String url, String equipId, int attempt,
+                         CompletableFuture<MaintenancePredictionResponse> result, Executor runner) {
+        CompletableFuture
+                .supplyAsync(() -> {
+                    log.info("💡FastAPI 호출 - URL: {} (시도 {}/{})", url, attempt, maxAttempts);
+                    return restTemplate.getForEntity(url, MaintenancePredictionResponse.class).getBody();
+                }, runner)
+                .whenComplete((body, ex) -> {
+                    if (ex == null) {
+                        result.complete(body);
+                        return;
+                    }
+                    Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                    if (attempt < maxAttempts && isRetryable(cause)) {
+                        long delay = backoff(attempt);
+                        log.warn("⚠️ FastAPI 예측 호출 실패 (equipId={}, {}/{}) → {}ms 후 재시도: {}",
+                                equipId, attempt, maxAttempts, delay, cause.getMessage());
+                        attempt(url, equipId, attempt + 1, result,
+                                CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS, submitTo(result)));
+                    } else {
+                        result.completeExceptionally(cause);
+                    }
+                });
+    }
+
+    // 풀이 가득 차 거부되면 결과를 실패로 완료 (지연 실행 시 거부 예외가 호출 측으로 전달되지 않으므로)
+    private Executor submitTo(CompletableFuture<?> result) {
+        return task -> {
+            try {
+                executor.execute(task);
+            } catch (RejectedExecutionException e) {
+                result.completeExceptionally(e);
+            }
+        };
+    }
+
+    private static boolean isRetryable(Throwable cause) {
+        if (cause instanceof ResourceAccessException && cause.getCause() instanceof CircuitOpenException) {
+            return false;
+        }
+        return cause instanceof ResourceAccessException            // 연결 실패, 타임아웃
+                || cause instanceof HttpServerErrorException        // 5xx
+                || cause instanceof HttpClientErrorException.TooManyRequests;
+    }
+
+    // retry-backoff-ms * 2^(attempt-1) 의 50% ~ 150%
+    private long backoff(int attempt) {
+        long base = retryBackoffMs * (1L << (attempt - 1));
+        return base / 2 + ThreadLocalRandom.current().nextLong(base + 1);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,10 @@
+-- abn_log ID 블록 할당용 시퀀스 테이블
+-- 애플리케이션이 next_val 을 block-size 만큼 올려 ID 구간을 선점한 뒤, 메모리에서 ID 를 발급하여 일괄 INSERT 함
+CREATE TABLE abn_log_id_seq (
+    name     VARCHAR(50) NOT NULL,
+    next_val BIGINT      NOT NULL,
+    PRIMARY KEY (name)
+);
+
+INSERT INTO abn_log_id_seq (name, next_val)
+SELECT 'abn_log', COALESCE(MAX(id), 0) + 1 FROM abn_log;
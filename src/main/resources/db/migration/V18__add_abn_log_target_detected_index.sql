@@ -0,0 +1,3 @@
+-- 대상별 최신 로그 조회용 복합 인덱스
+-- (target_type, target_id) 별 MAX(detected_at) 를 인덱스 탐색만으로 구할 수 있도록 함
+CREATE INDEX idx_abn_log_target_detected ON abn_log (target_type, target_id, detected_at);
@@ -0,0 +1,20 @@
+-- 이상 로그 시간 단위 집계 테이블 (시간 × 공간 × 대상 유형 × 위험 등급)
+-- 로그 저장 시 증분 갱신되고, 과거 구간은 백필 작업으로 재계산함
+-- 공간 정보가 없는 로그는 zone_id = '' 로 집계
+CREATE TABLE abn_log_hourly (
+    bucket_hour  DATETIME     NOT NULL,
+    zone_id      VARCHAR(100) NOT NULL,
+    target_type  VARCHAR(50)  NOT NULL,
+    danger_level SMALLINT     NOT NULL,
+    cnt          BIGINT       NOT NULL,
+    PRIMARY KEY (bucket_hour, zone_id, target_type, danger_level)
+);
+
+-- 기존 로그 초기 적재
+INSERT INTO abn_log_hourly (bucket_hour, zone_id, target_type, danger_level, cnt)
+SELECT DATE_FORMAT(detected_at, '%Y-%m-%d %H:00:00'), COALESCE(zone_id, ''), target_type, danger_level, COUNT(*)
+FROM abn_log
+WHERE detected_at IS NOT NULL
+  AND target_type IS NOT NULL
+  AND danger_level IS NOT NULL
+GROUP BY DATE_FORMAT(detected_at, '%Y-%m-%d %H:00:00'), COALESCE(zone_id, ''), target_type, danger_level;
@@ -0,0 +1,3 @@
+-- 설비별 최근 실제 점검일자 조회용 복합 인덱스
+-- 설비 ID 별 MAX(check_date) 를 GROUP BY 한 번으로 인덱스 탐색만으로 구할 수 있도록 함
+CREATE INDEX idx_equip_hist_equip_check ON equip_hist (equip_id, check_date);
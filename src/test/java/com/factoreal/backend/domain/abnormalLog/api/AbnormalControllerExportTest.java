@@ -0,0 +1,104 @@
+package com.factoreal.backend.domain.abnormalLog.api;
+
+import com.factoreal.backend.domain.abnormalLog.application.AbnormalLogExportService;
+import com.factoreal.backend.domain.abnormalLog.application.AbnormalLogService;
+import com.factoreal.backend.domain.abnormalLog.application.ReportMailService;
+import com.factoreal.backend.domain.abnormalLog.application.ReportService;
+import com.factoreal.backend.domain.abnormalLog.application.UnreadAlarmCounter;
+import com.factoreal.backend.messaging.sender.WebSocketSender;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.env.PropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 단위 테스트: 이상치 로그 내보내기의 비동기 요청 타임아웃
+ * 1) application.yml 의 spring.mvc.async.request-timeout 이 서블릿 기본값(30초)보다 김
+ * 2) 비동기 타임아웃보다 오래 걸리는 내보내기는 끝까지 전송되지 못함
+ * 3) 타임아웃 안에 끝나는 내보내기는 전체 본문이 전송됨
+ */
+class AbnormalControllerExportTest {
+
+    private static final String EXPORT_URL = "/api/abnormal/export?from=2025-01-01&to=2025-01-31";
+    private static final String CSV_BODY = "id,zoneId\n1,Z1\n";
+
+    private final AbnormalLogExportService exportService = mock(AbnormalLogExportService.class);
+    private AbnormalController controller;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        controller = new AbnormalController(mock(AbnormalLogService.class), mock(WebSocketSender.class),
+                mock(UnreadAlarmCounter.class), mock(ReportService.class), mock(ReportMailService.class), exportService);
+        when(exportService.fileName(any())).thenReturn("abnormal-log.csv");
+        // 내보내기가 300ms 동안 이어지는 상황 (대용량 조회/압축)
+        doAnswer(inv -> {
+            OutputStream out = inv.getArgument(1);
+            Thread.sleep(300);
+            out.write(CSV_BODY.getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        }).when(exportService).export(any(), any());
+    }
+
+    private MockMvc mockMvc(long asyncTimeoutMs) {
+        return MockMvcBuilders.standaloneSetup(controller).setAsyncRequestTimeout(asyncTimeoutMs).build();
+    }
+
+    @Test
+    @DisplayName("application.yml 의 비동기 요청 타임아웃은 서블릿 기본값(30초)보다 길다")
+    void asyncRequestTimeout_isLongerThanServletDefault() throws Exception {
+        List<PropertySource<?>> sources = new YamlPropertySourceLoader()
+                .load("application", new ClassPathResource("application.yml"));
+        WebMvcProperties properties = new Binder(ConfigurationPropertySources.from(sources))
+                .bind("spring.mvc", WebMvcProperties.class)
+                .orElseThrow(() -> new AssertionError("spring.mvc 설정이 없습니다."));
+
+        assertThat(properties.getAsync().getRequestTimeout()).isGreaterThan(Duration.ofSeconds(30));
+    }
+
+    @Test
+    @DisplayName("내보내기가 비동기 타임아웃보다 오래 걸리면 전송이 끝나기 전에 요청이 만료된다")
+    void export_expiresWhenLongerThanAsyncTimeout() throws Exception {
+        MvcResult result = mockMvc(50).perform(get(EXPORT_URL))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        assertThatThrownBy(() -> result.getAsyncResult()).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("비동기 타임아웃 안에서는 오래 걸리는 내보내기도 전체 본문을 전송한다")
+    void export_streamsWholeBodyWithinAsyncTimeout() throws Exception {
+        MockMvc mockMvc = mockMvc(Duration.ofMinutes(30).toMillis());
+        MvcResult result = mockMvc.perform(get(EXPORT_URL))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string(CSV_BODY));
+        verify(exportService).export(any(), any());
+    }
+}
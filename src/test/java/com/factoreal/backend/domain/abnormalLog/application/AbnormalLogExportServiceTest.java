@@ -0,0 +1,142 @@
+package com.factoreal.backend.domain.abnormalLog.application;
+
+import com.factoreal.backend.domain.abnormalLog.dto.ExportFormat;
+import com.factoreal.backend.domain.abnormalLog.dto.request.AbnormalLogExportRequest;
+import com.factoreal.backend.global.exception.dto.BadRequestException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class AbnormalLogExportServiceTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AbnormalLogExportService exportService =
+            new AbnormalLogExportService(jdbcTemplate, objectMapper);
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // 커서 조회 목킹 : 같은 ResultSet 으로 두 행을 흘려보냄
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong(1)).thenReturn(7L);
+        when(rs.getString(1)).thenReturn("7");
+        when(rs.getString(2)).thenReturn("zone-1");
+        when(rs.getString(3)).thenReturn("조립 라인");
+        when(rs.getString(4)).thenReturn("Worker");
+        when(rs.getString(5)).thenReturn("W-1");
+        when(rs.getString(6)).thenReturn("홍길동");
+        when(rs.getTimestamp(8)).thenReturn(Timestamp.valueOf(LocalDateTime.of(2025, 6, 1, 12, 30)));
+        when(rs.getString(9)).thenReturn("심박수 위험");
+        when(rs.getString(10)).thenReturn("2");
+        when(rs.getInt(10)).thenReturn(2);
+        when(rs.getString(11)).thenReturn("150.0");
+        when(rs.getDouble(11)).thenReturn(150.0);
+        doAnswer(inv -> {
+            RowCallbackHandler handler = inv.getArgument(1);
+            handler.processRow(rs);
+            handler.processRow(rs);
+            return null;
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+    }
+
+    private AbnormalLogExportRequest request(ExportFormat format, boolean gzip, List<String> zoneIds) {
+        AbnormalLogExportRequest request = new AbnormalLogExportRequest();
+        request.setFrom(LocalDate.of(2025, 1, 1));
+        request.setTo(LocalDate.of(2025, 12, 31));
+        request.setFormat(format);
+        request.setGzip(gzip);
+        request.setZoneIds(zoneIds);
+        return request;
+    }
+
+    @Test
+    @DisplayName("CSV : 헤더 + 행 단위로 기록하고 빈 값은 '-' 로 채움")
+    void export_csv() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = exportService.export(request(ExportFormat.CSV, false, null), out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(rows).isEqualTo(2);
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).startsWith("\"로그 ID\",\"공간Id\"");
+        assertThat(lines[1]).startsWith("\"7\",\"zone-1\",\"조립 라인\",\"Worker\",\"W-1\",\"홍길동\",\"-\",\"2025-06-01T12:30:00\"")
+                .endsWith("\"-\",\"-\",\"-\",\"-\"");
+    }
+
+    @Test
+    @DisplayName("NDJSON + gzip : 압축된 한 줄 한 로그")
+    void export_ndjsonGzip() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        exportService.export(request(ExportFormat.NDJSON, true, null), out);
+
+        String text;
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            text = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        String[] lines = text.split("\n");
+        assertThat(lines).hasSize(2);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertThat(first.get("id").asLong()).isEqualTo(7L);
+        assertThat(first.get("targetName").asText()).isEqualTo("홍길동");
+        assertThat(first.get("dangerLevel").asInt()).isEqualTo(2);
+        assertThat(first.get("abnVal").asDouble()).isEqualTo(150.0);
+        assertThat(first.get("controlType").isNull()).isTrue();
+        assertThat(lines[1]).isEqualTo(lines[0]);
+    }
+
+    @Test
+    @DisplayName("공간 필터와 기간이 forward-only 커서 쿼리 파라미터로 전달됨")
+    void export_zoneFilterBindsParameters() throws Exception {
+        exportService.export(request(ExportFormat.CSV, false, List.of("zone-1", "zone-2")), new ByteArrayOutputStream());
+
+        ArgumentCaptor<PreparedStatementCreator> captor = ArgumentCaptor.forClass(PreparedStatementCreator.class);
+        verify(jdbcTemplate).query(captor.capture(), any(RowCallbackHandler.class));
+        Connection con = mock(Connection.class);
+        PreparedStatement ps = mock(PreparedStatement.class);
+        when(con.prepareStatement(anyString(), eq(ResultSet.TYPE_FORWARD_ONLY), eq(ResultSet.CONCUR_READ_ONLY)))
+                .thenReturn(ps);
+
+        captor.getValue().createPreparedStatement(con);
+
+        verify(con).prepareStatement(contains("a.zone_id IN (?,?)"), anyInt(), anyInt());
+        verify(ps).setFetchSize(Integer.MIN_VALUE);
+        verify(ps).setTimestamp(1, Timestamp.valueOf(LocalDateTime.of(2025, 1, 1, 0, 0)));
+        verify(ps).setTimestamp(2, Timestamp.valueOf(LocalDateTime.of(2026, 1, 1, 0, 0)));
+        verify(ps).setString(3, "zone-1");
+        verify(ps).setString(4, "zone-2");
+    }
+
+    @Test
+    @DisplayName("시작일이 종료일보다 늦으면 BadRequest")
+    void validate_invalidRange() {
+        AbnormalLogExportRequest request = request(ExportFormat.CSV, false, null);
+        request.setFrom(LocalDate.of(2026, 1, 1));
+
+        assertThatThrownBy(() -> exportService.validate(request)).isInstanceOf(BadRequestException.class);
+    }
+}
@@ -0,0 +1,79 @@
+package com.factoreal.backend.domain.abnormalLog.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class AbnormalLogHourlyRollupTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final AbnormalLogHourlyRollup rollup = new AbnormalLogHourlyRollup(jdbcTemplate, transactionManager, 3);
+
+    private AbnormalLogWriteBehind.AbnormalLogRow row(long id, String detectedAt, String zoneId, String type, Integer level) {
+        return new AbnormalLogWriteBehind.AbnormalLogRow(id, type, "T-" + id, null, null, null,
+                level, detectedAt, zoneId, false);
+    }
+
+    @Test
+    @DisplayName("같은 시간·공간·유형·등급의 로그는 한 칸으로 묶어 증가")
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void increment_groupsByBucket() {
+        rollup.increment(List.of(
+                row(1, "2025-06-01T12:05", "Z-A", "Sensor", 2),
+                row(2, "2025-06-01T12:59:59", "Z-A", "Sensor", 2),
+                row(3, "2025-06-01T13:00", "Z-A", "Sensor", 2),
+                row(4, "2025-06-01T12:10", null, "Worker", 1),
+                row(5, "2025-06-01T12:10", "Z-A", "Sensor", null)  // 등급 없음 → 제외
+        ));
+
+        ArgumentCaptor<Collection> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), captor.capture(), eq(3),
+                any(ParameterizedPreparedStatementSetter.class));
+        List<Long> counts = new ArrayList<>();
+        ((Collection<Map.Entry<?, Long>>) captor.getValue()).forEach(e -> counts.add(e.getValue()));
+        assertThat(counts).containsExactly(2L, 1L, 1L);
+    }
+
+    @Test
+    @DisplayName("반영할 로그가 없으면 DB 를 호출하지 않음")
+    void increment_nothingToApply() {
+        rollup.increment(List.of(row(1, null, "Z-A", "Sensor", 1)));
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("백필은 시간 단위로 맞춘 구간을 지우고 다시 계산")
+    void backfill_truncatesRangeToHours() {
+        rollup.backfill(LocalDateTime.of(2025, 6, 1, 3, 30), LocalDateTime.of(2025, 6, 2, 5, 10));
+
+        Timestamp from = Timestamp.valueOf(LocalDateTime.of(2025, 6, 1, 3, 0));
+        Timestamp to = Timestamp.valueOf(LocalDateTime.of(2025, 6, 2, 5, 0));
+        verify(jdbcTemplate).update(startsWith("DELETE FROM abn_log_hourly"), eq(from), eq(to));
+        verify(jdbcTemplate).update(startsWith("INSERT INTO abn_log_hourly"), eq(from), eq(to));
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("같은 시간 안의 구간은 백필하지 않음")
+    void backfill_emptyRange() {
+        rollup.backfill(LocalDateTime.of(2025, 6, 1, 3, 10), LocalDateTime.of(2025, 6, 1, 3, 50));
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
@@ -30,6 +30,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -76,6 +77,12 @@ class AbnormalLogServiceTest {
     @Mock
     private SensorRepoService sensorRepoService;
 
+    @Mock
+    private UnreadAlarmCounter unreadAlarmCounter;
+
+    @Spy
+    private LatestAbnormalLogIndex latestAbnormalLogIndex = new LatestAbnormalLogIndex();
+
     private SensorKafkaDto sensorKafkaDto;
     private WearableKafkaDto wearableKafkaDto;
     private Zone zone;
@@ -152,7 +159,7 @@ class AbnormalLogServiceTest {
         void saveAbnormalLogFromSensorKafkaDtoTest_success() throws Exception {
             // given
 //            when(sensorRepository.findById(anyString())).thenReturn(Optional.of(sensor));
-            when(zoneRepoService.findById(anyString())).thenReturn(zone);
+            when(zoneRepoService.findCachedById(anyString())).thenReturn(zone);
             when(riskMessageProvider.getRiskMessageBySensor(any(), any(),any())).thenReturn("온도 위험");
             when(abnormalLogRepoService.save(any(AbnormalLog.class))).thenReturn(savedLog);
 
@@ -177,7 +184,7 @@ class AbnormalLogServiceTest {
         void saveAbnormalLogFromSensorKafkaDto_zoneNotFound_throwsException() {
             // given
 //            when(sensorRepository.findById(anyString())).thenReturn(Optional.of(sensor));
-            when(zoneRepoService.findById(anyString())).thenThrow(new NotFoundException("존재하지 않는 구역입니다."));
+            when(zoneRepoService.findCachedById(anyString())).thenThrow(new NotFoundException("존재하지 않는 구역입니다."));
 
             // when & then
             assertThrows(NotFoundException.class, () -> {
@@ -198,11 +205,11 @@ class AbnormalLogServiceTest {
         @DisplayName("case1. 웨어러블 데이터로부터 알람 로그 생성 성공")
         void saveAbnormalLogFromWearableKafkaDto_success() {
             // given
-            when(zoneRepoService.findById(anyString())).thenReturn(zone);
+            when(zoneRepoService.findCachedById(anyString())).thenReturn(zone);
             when(riskMessageProvider.getRiskMessageByWearble(any(), any(), any())).thenReturn("심박수 위험");
             when(abnormalLogRepoService.save(any(AbnormalLog.class))).thenReturn(savedLog);
             when(inmemoryZoneWorkerStateStore.getZoneId(anyString())).thenReturn(zone.getZoneId());
-            when(workerRepoService.findById(any())).thenReturn(worker);
+            when(workerRepoService.findCachedById(any())).thenReturn(worker);
             // when
             AbnormalLog result = abnormalLogService.saveAbnormalLogFromWearableKafkaDto(
                 wearableKafkaDto,
@@ -274,8 +281,15 @@ class AbnormalLogServiceTest {
     void findLatestAbnormalLogsForTargets() {
         // given
         List<String> targetIds = List.of("SENSOR001", "SENSOR002");
-        when(abnormalLogRepoService.findFirstByTargetTypeAndTargetIdOrderByDetectedAtDesc(any(TargetType.class), anyString()))
-            .thenReturn(Optional.of(savedLog));
+        AbnormalLog otherLog = AbnormalLog.builder()
+            .id(2L)
+            .targetType(TargetType.Sensor)
+            .targetId("SENSOR002")
+            .dangerLevel(1)
+            .detectedAt(LocalDateTime.now())
+            .build();
+        when(abnormalLogRepoService.findLatestLogsByTargetIds(eq(TargetType.Sensor), anyList()))
+            .thenReturn(List.of(savedLog, otherLog));
 
         // when
         List<AbnormalLogResponse> result = abnormalLogService.findLatestAbnormalLogsForTargets(
@@ -285,6 +299,35 @@ class AbnormalLogServiceTest {
         assertNotNull(result);
         assertFalse(result.isEmpty());
         assertEquals(targetIds.size(), result.size());
+        verify(abnormalLogRepoService, times(1)).findLatestLogsByTargetIds(TargetType.Sensor, targetIds);
+    }
+
+    @Test
+    @DisplayName("findLatestAbnormalLogsForTargets 한 번 적재된 대상은 DB 조회 없이 인덱스에서 반환")
+    void findLatestAbnormalLogsForTargets_servedFromIndex() {
+        // given : SENSOR001 은 로그 있음, SENSOR003 은 로그 없음
+        when(abnormalLogRepoService.findLatestLogsByTargetIds(eq(TargetType.Sensor), anyList()))
+            .thenReturn(List.of(savedLog));
+        abnormalLogService.findLatestAbnormalLogsForTargets(TargetType.Sensor, List.of("SENSOR001", "SENSOR003"));
+
+        // 신규 로그 저장 시 인덱스 갱신
+        AbnormalLog newer = AbnormalLog.builder()
+            .id(3L)
+            .targetType(TargetType.Sensor)
+            .targetId("SENSOR001")
+            .dangerLevel(0)
+            .detectedAt(savedLog.getDetectedAt().plusMinutes(1))
+            .build();
+        latestAbnormalLogIndex.update(newer);
+
+        // when
+        List<AbnormalLogResponse> result = abnormalLogService.findLatestAbnormalLogsForTargets(
+            TargetType.Sensor, List.of("SENSOR001", "SENSOR003"));
+
+        // then
+        assertEquals(1, result.size());
+        assertEquals(3L, result.get(0).getId());
+        verify(abnormalLogRepoService, times(1)).findLatestLogsByTargetIds(eq(TargetType.Sensor), anyList());
     }
 
     @Test
@@ -333,6 +376,7 @@ class AbnormalLogServiceTest {
         // then
         assertTrue(result);
         assertTrue(foundLog.getIsRead());
+        verify(unreadAlarmCounter).decrement();
     }
 
     @Test
@@ -358,7 +402,7 @@ class AbnormalLogServiceTest {
         when(riskMessageProvider.getRiskMessageBySensor(any(SensorType.class), any(RiskLevel.class), any()))
             .thenReturn(abnormalTypeMessage);
 
-//        when(zoneRepoService.findById(anyString())).thenReturn(zone);
+//        when(zoneRepoService.findCachedById(anyString())).thenReturn(zone);
         when(abnormalLogRepoService.save(any(AbnormalLog.class))).thenReturn(savedLog);
 
         // when
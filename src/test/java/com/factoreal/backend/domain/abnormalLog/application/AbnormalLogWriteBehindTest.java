@@ -0,0 +1,157 @@
+package com.factoreal.backend.domain.abnormalLog.application;
+
+import com.factoreal.backend.domain.abnormalLog.dto.TargetType;
+import com.factoreal.backend.domain.abnormalLog.entity.AbnormalLog;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class AbnormalLogWriteBehindTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final AbnormalLogHourlyRollup hourlyRollup = mock(AbnormalLogHourlyRollup.class);
+    private final AbnormalLogIdAllocator idAllocator = mock(AbnormalLogIdAllocator.class);
+    private AbnormalLogWriteBehind writeBehind;
+
+    private AbnormalLogWriteBehind newWriteBehind(Path spillPath) {
+        AtomicLong ids = new AtomicLong(1000);
+        when(idAllocator.nextId()).thenAnswer(inv -> ids.getAndIncrement());
+        writeBehind = new AbnormalLogWriteBehind(jdbcTemplate, transactionManager, hourlyRollup, idAllocator, new ObjectMapper(),
+                100, 50, 10, 3000, spillPath.toString());
+        writeBehind.start();
+        return writeBehind;
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (writeBehind != null) {
+            writeBehind.shutdown();
+        }
+    }
+
+    private AbnormalLog newLog() {
+        return AbnormalLog.builder()
+                .targetType(TargetType.Sensor)
+                .targetId("S1")
+                .targetDetail("TEMP")
+                .abnormalType("온도 위험")
+                .abnVal(55.0)
+                .dangerLevel(2)
+                .detectedAt(LocalDateTime.of(2025, 6, 1, 12, 0))
+                .build();
+    }
+
+    @Test
+    @DisplayName("enqueue 시 ID 를 즉시 부여하고 배치 INSERT 후 저장 완료로 표시")
+    void enqueue_assignsIdAndBatchInserts() {
+        AbnormalLogWriteBehind wb = newWriteBehind(tempDir.resolve("spill.jsonl"));
+
+        AbnormalLog saved = wb.enqueue(newLog());
+
+        assertThat(saved.getId()).isEqualTo(1000L);
+        assertThat(saved.getIsRead()).isFalse();
+        assertThat(wb.awaitPersisted(saved.getId())).isTrue();
+        assertThat(wb.pendingCount()).isZero();
+        verify(jdbcTemplate, atLeastOnce()).batchUpdate(anyString(), any(Collection.class), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class));
+        verify(hourlyRollup).increment(argThat(rows -> rows.size() == 1 && rows.get(0).getId() == 1000L));
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("spill 재적재 시 이미 저장된 ID 는 INSERT/집계에서 제외")
+    void replay_skipsPersistedRows() throws Exception {
+        Path spillPath = tempDir.resolve("spill.jsonl");
+        ObjectMapper objectMapper = new ObjectMapper();
+        AbnormalLogWriteBehind.AbnormalLogRow persisted = AbnormalLogWriteBehind.AbnormalLogRow.from(newLog());
+        persisted.setId(1L);
+        AbnormalLogWriteBehind.AbnormalLogRow missing = AbnormalLogWriteBehind.AbnormalLogRow.from(newLog());
+        missing.setId(2L);
+        Files.writeString(spillPath, objectMapper.writeValueAsString(persisted) + "\n"
+                + objectMapper.writeValueAsString(missing) + "\n");
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), any(Object[].class))).thenReturn(List.of(1L));
+
+        newWriteBehind(spillPath);
+
+        verify(hourlyRollup, timeout(3000)).increment(argThat(rows -> rows.size() == 1 && rows.get(0).getId() == 2L));
+        verify(jdbcTemplate).batchUpdate(anyString(),
+                argThat((Collection<AbnormalLogWriteBehind.AbnormalLogRow> rows) -> rows.size() == 1),
+                eq(1), any(ParameterizedPreparedStatementSetter.class));
+    }
+
+    @Test
+    @DisplayName("DB 저장 실패 시 spill 파일에 기록")
+    void insertFailure_spillsToFile() throws Exception {
+        Path spillPath = tempDir.resolve("spill.jsonl");
+        when(jdbcTemplate.batchUpdate(anyString(), any(Collection.class), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class)))
+                .thenThrow(new DataAccessResourceFailureException("db down"));
+        AbnormalLogWriteBehind wb = newWriteBehind(spillPath);
+
+        List<AbnormalLog> saved = wb.enqueueAll(List.of(newLog(), newLog()));
+
+        // 저장되지 않았으므로 대기 시간 초과
+        assertThat(wb.awaitPersisted(saved.get(0).getId())).isFalse();
+        assertThatThrownBy(() -> wb.requirePersisted(saved.get(1).getId()))
+                .isInstanceOf(AbnormalLogNotPersistedException.class);
+        String spilled = Files.exists(spillPath)
+                ? Files.readString(spillPath)
+                : Files.readString(tempDir.resolve("spill.jsonl.replay"));
+        assertThat(spilled).contains("\"id\":1000").contains("\"id\":1001").contains("\"targetId\":\"S1\"");
+    }
+
+    @Test
+    @DisplayName("배치 중 한 행만 잘못되면 나머지는 한 건씩 저장하고 잘못된 행은 dead-letter 로 보냄")
+    void badRow_isDeadLetteredAndOthersPersisted() throws Exception {
+        Path spillPath = tempDir.resolve("spill.jsonl");
+        when(jdbcTemplate.batchUpdate(anyString(),
+                argThat((Collection<AbnormalLogWriteBehind.AbnormalLogRow> rows) ->
+                        rows != null && rows.stream().anyMatch(row -> row.getId() == 1000L)),
+                anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenThrow(new DataIntegrityViolationException("fk"));
+        AbnormalLogWriteBehind wb = newWriteBehind(spillPath);
+
+        List<AbnormalLog> saved = wb.enqueueAll(List.of(newLog(), newLog()));
+
+        assertThat(wb.awaitPersisted(saved.get(1).getId())).isTrue();
+        assertThatThrownBy(() -> wb.requirePersisted(saved.get(0).getId()))
+                .isInstanceOf(AbnormalLogNotPersistedException.class);
+        assertThat(wb.pendingCount()).isZero();
+        assertThat(Files.exists(spillPath)).isFalse();
+        assertThat(Files.readString(tempDir.resolve("spill.jsonl.dead")))
+                .contains("\"id\":1000")
+                .doesNotContain("\"id\":1001");
+    }
+
+    @Test
+    @DisplayName("이미 저장됐거나 모르는 ID 는 즉시 반환")
+    void awaitPersisted_unknownId_returnsImmediately() {
+        AbnormalLogWriteBehind wb = newWriteBehind(tempDir.resolve("spill.jsonl"));
+
+        assertThat(wb.awaitPersisted(null)).isTrue();
+        assertThat(wb.awaitPersisted(42L)).isTrue();
+    }
+}
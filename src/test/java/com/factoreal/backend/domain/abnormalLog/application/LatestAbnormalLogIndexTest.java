@@ -0,0 +1,64 @@
+package com.factoreal.backend.domain.abnormalLog.application;
+
+import com.factoreal.backend.domain.abnormalLog.dto.TargetType;
+import com.factoreal.backend.domain.abnormalLog.entity.AbnormalLog;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 단위 테스트: LatestAbnormalLogIndex.refresh
+ * 기존 로그 수정은 대상의 최신 로그가 그 로그일 때만 반영
+ */
+class LatestAbnormalLogIndexTest {
+
+    private final LatestAbnormalLogIndex index = new LatestAbnormalLogIndex();
+
+    private AbnormalLog log(long id, String abnormalType, int minute) {
+        return AbnormalLog.builder()
+                .id(id)
+                .targetType(TargetType.Worker)
+                .targetId("W1")
+                .abnormalType(abnormalType)
+                .detectedAt(LocalDateTime.of(2025, 6, 1, 12, minute))
+                .isRead(false)
+                .build();
+    }
+
+    @Test
+    @DisplayName("최신 로그가 수정되면 인덱스 항목도 수정된 값으로 바뀐다")
+    void refresh_replacesSameLog() {
+        index.update(log(1L, "심박수 주의", 0));
+
+        index.refresh(log(1L, "심박수 위험", 0));
+
+        assertThat(index.get(TargetType.Worker, "W1").getAbnormalType()).isEqualTo("심박수 위험");
+    }
+
+    @Test
+    @DisplayName("더 최근 로그가 있으면 이전 로그 수정은 반영하지 않는다")
+    void refresh_keepsNewerLog() {
+        index.update(log(1L, "심박수 주의", 0));
+        index.update(log(2L, "심박수 위험", 5));
+
+        index.refresh(log(1L, "수정됨", 0));
+
+        assertThat(index.get(TargetType.Worker, "W1").getId()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("아직 적재되지 않은 대상은 수정된 로그로 채우지 않는다 (DB 에 더 최근 로그가 있을 수 있음)")
+    void refresh_ignoresUnloadedTarget() {
+        index.refresh(log(1L, "심박수 주의", 0));
+
+        assertThat(index.contains(TargetType.Worker, "W1")).isFalse();
+
+        index.load(TargetType.Worker, List.of("W1"), List.of());
+        index.refresh(log(1L, "심박수 주의", 0));
+        assertThat(index.get(TargetType.Worker, "W1")).isNull();
+    }
+}
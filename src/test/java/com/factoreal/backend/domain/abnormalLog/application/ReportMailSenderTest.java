@@ -0,0 +1,61 @@
+package com.factoreal.backend.domain.abnormalLog.application;
+
+import com.factoreal.backend.domain.abnormalLog.dto.response.ReportMailResultResponse;
+import com.factoreal.backend.domain.abnormalLog.dto.response.ReportMailResultResponse.Status;
+import jakarta.mail.MessagingException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.javamail.MimeMessagePreparator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReportMailSenderTest {
+
+    private final StubMailSender stubMailSender = new StubMailSender();
+    private final ReportMailSender reportMailSender = new ReportMailSender(stubMailSender, 2, 3, 0);
+
+    private final MimeMessagePreparator preparator = message -> message.setSubject("리포트");
+
+    @AfterEach
+    void tearDown() {
+        reportMailSender.shutdown();
+    }
+
+    @Test
+    @DisplayName("전송 실패 시 재시도 후 발송 완료")
+    void send_retriesThenSucceeds() {
+        stubMailSender.failNext(2);
+
+        ReportMailResultResponse result = reportMailSender.send("A", "ZA", "a@x.com", preparator).join();
+
+        assertThat(result.getStatus()).isEqualTo(Status.SENT);
+        assertThat(result.getAttempts()).isEqualTo(3);
+        assertThat(stubMailSender.sent()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수까지 실패하면 FAILED")
+    void send_givesUpAfterMaxAttempts() {
+        stubMailSender.failNext(10);
+
+        ReportMailResultResponse result = reportMailSender.send("A", "ZA", "a@x.com", preparator).join();
+
+        assertThat(result.getStatus()).isEqualTo(Status.FAILED);
+        assertThat(result.getAttempts()).isEqualTo(3);
+        assertThat(result.getError()).contains("stub smtp failure");
+        assertThat(stubMailSender.sent()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("메시지 작성 오류는 재시도하지 않음")
+    void send_preparationErrorIsNotRetried() {
+        ReportMailResultResponse result = reportMailSender.send("A", "ZA", "a@x.com", message -> {
+            throw new MessagingException("bad address");
+        }).join();
+
+        assertThat(result.getStatus()).isEqualTo(Status.FAILED);
+        assertThat(result.getAttempts()).isEqualTo(1);
+        assertThat(stubMailSender.attempts()).isZero();
+    }
+}
@@ -1,31 +1,27 @@
 package com.factoreal.backend.domain.abnormalLog.application;
 
+import com.factoreal.backend.domain.abnormalLog.dto.response.ReportMailResultResponse;
+import com.factoreal.backend.domain.abnormalLog.dto.response.ReportMailResultResponse.Status;
 import com.factoreal.backend.domain.abnormalLog.dto.response.reportDetailResponse.*;
-import com.factoreal.backend.domain.controlLog.application.ControlLogRepoService;
-import com.factoreal.backend.domain.worker.application.WorkerManagerService;
 import com.factoreal.backend.domain.worker.application.WorkerService;
 import com.factoreal.backend.domain.worker.dto.response.WorkerCurrentLocationResponse;
-import com.factoreal.backend.domain.worker.dto.response.WorkerInfoResponse;
-import com.factoreal.backend.domain.worker.dto.response.WorkerManagerResponse;
 import com.factoreal.backend.domain.zone.application.ZoneRepoService;
 import com.factoreal.backend.domain.zone.entity.Zone;
 import com.factoreal.backend.global.fileUtil.CsvUtil;
-import jakarta.mail.Session;
 import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Stream;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
@@ -35,17 +31,24 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class ReportMailServiceTest {
 
-
     @Mock ZoneRepoService zoneRepoService;
     @Mock WorkerService workerService;
     @Mock ReportService reportService;
-    @Mock CsvUtil csvUtil;
-    @Mock JavaMailSender mailSender;
-    @Mock ControlLogRepoService controlLogRepoService;
+    @Mock AbnormalLogRepoService abnormalLogRepoService;
+    @Spy CsvUtil csvUtil = new CsvUtil();
+
+    // 실제 SMTP 대신 메모리에 보관하는 대역
+    StubMailSender stubMailSender = new StubMailSender();
+    @Spy ReportMailSender reportMailSender = new ReportMailSender(stubMailSender, 2, 3, 0);
 
     @InjectMocks
     ReportMailService mailService;
 
+    @AfterEach
+    void tearDown() {
+        reportMailSender.shutdown();
+    }
+
     /* ── 공용 더미 ───────────────────────── */
     private Zone z(String id) { return Zone.builder().zoneId(id).zoneName("Z" + id).build(); }
     private WorkerCurrentLocationResponse mgr(String email) {
@@ -53,8 +56,28 @@ class ReportMailServiceTest {
                 .workerId("W1").name("홍길동").email(email).isManager(true).status(0).build();
     }
 
+    /* 상세 리포트 공간 블록 (env 1·worker 1·equip 1) */
+    private ZoneBlockResponse block(String zoneId, long firstId) {
+        AbnDetailResponse env  = AbnDetailResponse.builder().abnormalId(firstId).build();
+        AbnDetailResponse work = AbnDetailResponse.builder().abnormalId(firstId + 1).build();
+        AbnDetailResponse fac  = AbnDetailResponse.builder().abnormalId(firstId + 2).build();
+
+        WorkerBlockResponse wb = WorkerBlockResponse.builder()
+                .workerAbnormals(List.of(work)).build();
+        EquipBlockResponse  eb = EquipBlockResponse.builder()
+                .facAbnormals(List.of(fac)).build();
+
+        return ZoneBlockResponse.builder()
+                .zoneId(zoneId)
+                .zoneName("Z" + zoneId)
+                .envAbnormals(List.of(env))
+                .workers(List.of(wb))
+                .equips(List.of(eb))
+                .build();
+    }
+
     /* 2-1. 하나라도 메일 발송되면 OK */
-    // 1. 매니징 관련 정보가 잘 체크되는지, 2. 빈 csv 파일이 생성되어 잘 전달되는지 체크
+    // 1. 매니징 관련 정보가 잘 체크되는지, 2. 공간별 csv 가 첨부되어 잘 전달되는지 체크
     @Test
     void sendReport_atLeastOneManager_success() throws Exception {
         List <Zone> zoneList = List.of(z("A"), z("B"), z("C"));
@@ -67,63 +90,49 @@ class ReportMailServiceTest {
         // C : 담당자 있으나 이메일은 갖고있지 않은 경우 → skip 분기
         when(workerService.getZoneManager("C")).thenReturn(mgr("  "));
 
-        // 해당 구간에서 eq(rpt())가 실행될 때 정상적인 로직이 작동한 게 아닌
-        // 첫번째 rpt()인 report 와 두번째 rpt() 가 생성되려고 시도하다가
-        // 다른 주소를 바라봐서 생성하지 않고 null 이 들어가는 상황이 발생하였다.
-        // 결국 전달하려는 report 가 null 과 달라 테스트 실패 발생
-//        PeriodDetailReportResponse report = rpt();
-//        System.out.println(rpt());
-//        when(reportService.buildLastMonthReport()).thenReturn(report);
-//
-//        Path temp = Files.createTempFile("t", ".csv");
-//        when(csvUtil.writeReportAsCsv(eq(rpt()), anyMap()))
-//                .thenReturn(temp);
-
-
-        /* ── 상세 리포트 mock (env 1·worker 1·equip 1) ───────── */
-        AbnDetailResponse env  = AbnDetailResponse.builder().abnormalId(1L).build();
-        AbnDetailResponse work = AbnDetailResponse.builder().abnormalId(2L).build();
-        AbnDetailResponse fac  = AbnDetailResponse.builder().abnormalId(3L).build();
-
-        WorkerBlockResponse wb = WorkerBlockResponse.builder()
-                .workerAbnormals(List.of(work)).build();
-        EquipBlockResponse  eb = EquipBlockResponse.builder()
-                .facAbnormals(List.of(fac)).build();
-
-        ZoneBlockResponse zb = ZoneBlockResponse.builder()
-                .envAbnormals(List.of(env))
-                .workers(List.of(wb))
-                .equips(List.of(eb))
-                .build();
-
         PeriodDetailReportResponse detail =
-                new PeriodDetailReportResponse("기간", List.of(zb));
-
+                new PeriodDetailReportResponse("기간", List.of(block("A", 1L), block("B", 4L)));
         when(reportService.buildLastMonthReport()).thenReturn(detail);
-        Path temp = Files.createTempFile("t", ".csv");
-        when(csvUtil.writeReportAsCsv(eq(detail), anyMap()))
-                .thenReturn(temp);
-        List<Long> abnIds = detail.getZones().stream()
-                .flatMap(z -> Stream.concat(
-                        z.getEnvAbnormals().stream(),
-                        Stream.concat(
-                                z.getWorkers().stream().flatMap(w -> w.getWorkerAbnormals().stream()),
-                                z.getEquips().stream().flatMap(e -> e.getFacAbnormals().stream())
-                        )
-                ))
-                .map(AbnDetailResponse::getAbnormalId)
-                .toList();
-
-        when(controlLogRepoService.getControlLogs(abnIds)).thenReturn(Map.of());
-        when(mailSender.createMimeMessage())
-                .thenReturn(new MimeMessage((Session) null));
+        // 발송 대상(B) 공간의 로그만 조회
+        when(abnormalLogRepoService.findTargetIds(List.of(4L, 5L, 6L)))
+                .thenReturn(Map.of(4L, "S-1", 5L, "W-1", 6L, "E-1"));
 
         // 실행 검증
-        assertDoesNotThrow(() -> mailService.sendMonthlyDetailReports());
-        verify(mailSender).send(any(MimeMessage.class));
+        List<ReportMailResultResponse> results = assertDoesNotThrow(() -> mailService.sendMonthlyDetailReports());
+
+        Map<String, Status> statusByZone = results.stream()
+                .collect(Collectors.toMap(ReportMailResultResponse::getZoneId, ReportMailResultResponse::getStatus));
+        assertThat(statusByZone).containsEntry("A", Status.SKIPPED)
+                .containsEntry("B", Status.SENT)
+                .containsEntry("C", Status.SKIPPED);
+
+        assertThat(stubMailSender.sent()).hasSize(1);
+        MimeMessage sent = stubMailSender.sent().get(0);
+        assertThat(sent.getSubject()).endsWith("ZB");
+        assertThat(sent.getAllRecipients()[0].toString()).isEqualTo("test@x.com");
+        verify(csvUtil).writeZoneReportCsv(argThat(b -> "B".equals(b.getZoneId())), anyMap());
+    }
+
+    /* 2-2. 리포트는 공간 수와 관계없이 한 번만 계산 */
+    @Test
+    void sendReport_buildsReportOnceForAllZones() {
+        when(zoneRepoService.findAll()).thenReturn(List.of(z("A"), z("B"), z("C")));
+        when(workerService.getZoneManager(anyString())).thenReturn(mgr("test@x.com"));
+        when(reportService.buildLastMonthReport()).thenReturn(new PeriodDetailReportResponse("기간",
+                List.of(block("A", 1L), block("B", 4L), block("C", 7L))));
+        when(abnormalLogRepoService.findTargetIds(anyList())).thenReturn(Map.of());
+        stubMailSender.failNext(1); // 한 공간은 재시도 후 발송
+
+        List<ReportMailResultResponse> results = mailService.sendMonthlyDetailReports();
+
+        assertThat(results).extracting(ReportMailResultResponse::getStatus).containsOnly(Status.SENT);
+        assertThat(stubMailSender.sent()).hasSize(3);
+        verify(reportService, times(1)).buildLastMonthReport();
+        verify(abnormalLogRepoService, times(1)).findTargetIds(anyList());
+        verify(csvUtil, times(3)).writeZoneReportCsv(any(), anyMap());
     }
 
-    /* 2-2. 모든 Zone 에 담당자 없으면 404 에러 체크 */
+    /* 2-3. 모든 Zone 에 담당자 없으면 404 에러 체크 */
     @Test
     void sendReport_noManagers_throws404() {
         when(zoneRepoService.findAll()).thenReturn(List.of(z("A"), z("B")));
@@ -134,6 +143,7 @@ class ReportMailServiceTest {
                 () -> mailService.sendMonthlyDetailReports());
 
         assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
-        verify(mailSender, never()).send(any(MimeMessage.class));
+        verify(reportService, never()).buildLastMonthReport();
+        assertThat(stubMailSender.sent()).isEmpty();
     }
-}
\ No newline at end of file
+}
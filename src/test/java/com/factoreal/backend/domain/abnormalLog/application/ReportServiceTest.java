@@ -38,11 +38,16 @@ import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -64,6 +69,8 @@ class ReportServiceTest {
     SensorRepoService sensorRepo;
     @Mock
     WorkerRepoService workerRepo;
+    @Mock
+    AbnormalLogHourlyRollup hourlyRollup;
 
     /**
      * 전달 한 달치 상세 통계
@@ -154,7 +161,7 @@ class ReportServiceTest {
                 createLog(TargetType.Equip, 2)
 
         );
-        when(abnLogRepoService.findPreview30daysLog()).thenReturn(fakeLogs);
+        stubCounts(fakeLogs);
 
         // when
         MonthlyGradeSummaryResponse response = reportService.getPrevMonthGrade();
@@ -177,6 +184,29 @@ class ReportServiceTest {
 
     /* ------------- 헬퍼 ------------- */
 
+    // 스트리밍 조회 목킹 : 전달한 로그를 순서대로 consumer 에 흘려보냄
+    private void stubLogs(List<AbnormalLog> logs) {
+        doAnswer(inv -> {
+            Consumer<AbnormalLog> consumer = inv.getArgument(3);
+            logs.forEach(consumer);
+            return null;
+        }).when(abnLogRepoService).streamByDetectedAtBetweenAndDangerLevelIn(any(), any(), anyList(), any());
+    }
+
+    // 시간 단위 집계 조회 목킹 : 로그 한 건을 집계 한 칸(건수 1)으로 변환
+    private void stubCounts(List<AbnormalLog> logs) {
+        List<AbnormalLogHourlyRollup.HourlyCount> counts = logs.stream()
+                .map(l -> new AbnormalLogHourlyRollup.HourlyCount(
+                        l.getDetectedAt().withMinute(0).withSecond(0).withNano(0),
+                        l.getZone() == null ? null : l.getZone().getZoneId(),
+                        l.getZone() == null ? null : l.getZone().getZoneName(),
+                        l.getTargetType(),
+                        l.getDangerLevel(),
+                        1L))
+                .toList();
+        when(hourlyRollup.findCounts(any(), any())).thenReturn(counts);
+    }
+
     private AbnormalLog createLog(TargetType type, int dangerLevel) {
         return AbnormalLog.builder()
                 .id(0L)
@@ -232,7 +262,7 @@ class ReportServiceTest {
         AbnormalLog lg1 = log(1, TargetType.Sensor, "S-Tmp-1", "Z1","Z-1", 1);
         AbnormalLog lg2 = log(2, TargetType.Worker, "W-100", "Z1", "Z-1" ,2);
         AbnormalLog lg3 = log(3, TargetType.Equip, "S-E1-tmp", "Z1", "Z-1", 1);
-        when(abnLogRepoService.findPreview30daysLog()).thenReturn(List.of(lg1, lg2, lg3));
+        stubLogs(List.of(lg1, lg2, lg3));
 
         ControlLog controlLog = ControlLog.builder()
             .id(3L)
@@ -240,7 +270,7 @@ class ReportServiceTest {
             .build();
 
         /* 준비 : ControlLog(없어도 됨) */
-        when(ctlRepo.getControlLogs(Mockito.anyList())).thenReturn((Map<Long, ControlLog>) Map.of(3L,controlLog));
+        when(ctlRepo.getControlLogsBetween(any(), any())).thenReturn((Map<Long, ControlLog>) Map.of(3L,controlLog));
 
         /* 준비 : Sensor→Equip 매핑 */
 //        when(sensorRepo.sensorIdToEquipId(Mockito.anyList()))
@@ -293,14 +323,14 @@ class ReportServiceTest {
         AbnormalLog lg1 = log(1, TargetType.Sensor, "S-Tmp-1", "Z1", "Z-1", 1);
         AbnormalLog lg2 = log(2, TargetType.Worker, "W-100", "Z1", "Z-1", 2);
         AbnormalLog lg3 = log(3, TargetType.Equip, "S-E1-tmp", "Z1", "Z-1", 1);
-        when(abnLogRepoService.findPreviousMonthLogs()).thenReturn(List.of(lg1, lg2, lg3));
+        stubLogs(List.of(lg1, lg2, lg3));
         ControlLog controlLog = ControlLog.builder()
             .id(3L)
             .abnormalLog(lg3)
             .build();
 
         /* 준비 : ControlLog(없어도 됨) */
-        when(ctlRepo.getControlLogs(Mockito.anyList())).thenReturn(Map.of(3L, controlLog));
+        when(ctlRepo.getControlLogsBetween(any(), any())).thenReturn(Map.of(3L, controlLog));
 
         /* 준비 : Sensor→Equip 매핑 */
 //        when(sensorRepo.sensorIdToEquipId(Mockito.anyList()))
@@ -380,10 +410,10 @@ class ReportServiceTest {
 
         /* ② AbnormalLog – Worker 로그만 하나 (workerId = W-999) */
         AbnormalLog wLog = log(10, TargetType.Worker, "W-999", "Z1", "Z-1", 1);
-        when(abnLogRepoService.findPreview30daysLog()).thenReturn(List.of(wLog));
+        stubLogs(List.of(wLog));
 
         /* ③ ControlLog, Sensor→Equip 매핑은 없어도 OK */
-        when(ctlRepo.getControlLogs(anyList())).thenReturn(Map.of());
+        when(ctlRepo.getControlLogsBetween(any(), any())).thenReturn(Map.of());
 //        when(sensorRepo.sensorIdToEquipId(anyList())).thenReturn(Map.of());
 
         /* ④ WorkerRepo 에서 “빈 Map” 반환 → W-999 정보를 찾지 못하는 상황 */
@@ -424,10 +454,7 @@ class ReportServiceTest {
         w1.setDetectedAt(d2.atTime(10, 0));
 
         List<AbnormalLog> fake = List.of(s1, s2, e1, w1);
-
-        when(abnLogRepoService.findByDetectedAtBetweenAndDangerLevelIn(
-                any(), any(), Mockito.eq(List.of(1, 2))))
-                .thenReturn(fake);
+        stubCounts(fake);
 
         /* ── 3. 실행 ──────────────────────────────── */
         GraphSummaryResponse res = reportService.buildLast30DaysGraph();
@@ -471,6 +498,14 @@ class ReportServiceTest {
             assertThat(b.getLabel()).isEqualTo("Z-B");
             assertThat(b.getCnt()).isEqualTo(1L);
         });
+
+        /* ── 4-5. 원본 로그 대신 시간 단위 집계를 한 번만 읽음 ── */
+        verify(hourlyRollup, times(1)).findCounts(
+                yesterday.minusDays(30).atStartOfDay(), yesterday.plusDays(1).atStartOfDay());
+        verify(abnLogRepoService, never()).streamByDetectedAtBetweenAndDangerLevelIn(any(), any(), any(), any());
+        assertThat(res.getTotalCnt()).isEqualTo(4);
+        assertThat(res.getWarnCnt()).isEqualTo(3);
+        assertThat(res.getDangerCnt()).isEqualTo(1);
     }
 
 }
\ No newline at end of file
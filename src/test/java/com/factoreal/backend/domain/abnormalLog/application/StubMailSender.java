@@ -0,0 +1,43 @@
+package com.factoreal.backend.domain.abnormalLog.application;
+
+import jakarta.mail.internet.MimeMessage;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 SMTP 대역
+ * 실제 서버에 연결하지 않고 작성된 메시지를 메모리에 보관하며, failNext 로 전송 실패를 흉내냄
+ */
+class StubMailSender extends JavaMailSenderImpl {
+
+    private final List<MimeMessage> sent = new CopyOnWriteArrayList<>();
+    private final AtomicInteger failures = new AtomicInteger();
+    private final AtomicInteger attempts = new AtomicInteger();
+
+    // 다음 count 번의 전송을 실패 처리
+    void failNext(int count) {
+        failures.set(count);
+    }
+
+    List<MimeMessage> sent() {
+        return sent;
+    }
+
+    int attempts() {
+        return attempts.get();
+    }
+
+    @Override
+    protected void doSend(MimeMessage[] mimeMessages, Object[] originalMessages) throws MailException {
+        attempts.incrementAndGet();
+        if (failures.getAndUpdate(n -> Math.max(0, n - 1)) > 0) {
+            throw new MailSendException("stub smtp failure");
+        }
+        sent.addAll(List.of(mimeMessages));
+    }
+}
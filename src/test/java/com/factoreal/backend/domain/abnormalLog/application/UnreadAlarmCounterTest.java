@@ -0,0 +1,115 @@
+package com.factoreal.backend.domain.abnormalLog.application;
+
+import com.factoreal.backend.domain.abnormalLog.dao.AbnLogRepository;
+import com.factoreal.backend.messaging.sender.WebSocketSender;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class UnreadAlarmCounterTest {
+
+    private final AbnLogRepository abnLogRepository = mock(AbnLogRepository.class);
+    private final AbnormalLogWriteBehind writeBehind = mock(AbnormalLogWriteBehind.class);
+    private final WebSocketSender webSocketSender = mock(WebSocketSender.class);
+    private UnreadAlarmCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        counter = new UnreadAlarmCounter(abnLogRepository, writeBehind, webSocketSender);
+        when(abnLogRepository.countByIsReadFalse()).thenReturn(5L);
+    }
+
+    @Test
+    @DisplayName("DB 에서 한 번만 초기화한 뒤 증감은 메모리에서 처리")
+    void seedsOnceAndCountsInMemory() {
+        assertThat(counter.get()).isEqualTo(5L);
+        counter.increment(2);
+        counter.decrement();
+
+        assertThat(counter.get()).isEqualTo(6L);
+        verify(abnLogRepository, times(1)).countByIsReadFalse();
+    }
+
+    @Test
+    @DisplayName("읽음 처리로 0 아래로 내려가지 않음")
+    void decrement_neverNegative() {
+        when(abnLogRepository.countByIsReadFalse()).thenReturn(0L);
+
+        counter.decrement();
+
+        assertThat(counter.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("여러 번 요청해도 전송 주기마다 1회, 값이 같으면 재전송하지 않음")
+    void flushPush_debounces() {
+        counter.requestPush();
+        counter.requestPush();
+        counter.requestPush();
+        counter.flushPush();
+        counter.flushPush(); // 요청 없음
+
+        counter.requestPush();
+        counter.flushPush(); // 값 변화 없음
+
+        verify(webSocketSender, times(1)).sendUnreadCount(anyLong());
+        verify(webSocketSender).sendUnreadCount(5L);
+    }
+
+    @Test
+    @DisplayName("보정 시 DB 값으로 맞추고 전송 요청")
+    void reconcile_correctsDrift() {
+        counter.increment(3); // 8
+        when(abnLogRepository.countByIsReadFalse()).thenReturn(7L);
+
+        counter.reconcile();
+        counter.flushPush();
+
+        assertThat(counter.get()).isEqualTo(7L);
+        verify(webSocketSender).sendUnreadCount(7L);
+    }
+
+    @Test
+    @DisplayName("저장 대기 중인 로그가 있으면 보정하지 않음")
+    void reconcile_skipsWhilePending() {
+        counter.increment(3); // 8
+        when(abnLogRepository.countByIsReadFalse()).thenReturn(5L);
+        when(writeBehind.pendingCount()).thenReturn(3);
+
+        counter.reconcile();
+
+        assertThat(counter.get()).isEqualTo(8L);
+        verify(abnLogRepository, times(1)).countByIsReadFalse(); // 초기화 1회만, 보정용 COUNT 는 실행하지 않음
+    }
+
+    @Test
+    @DisplayName("COUNT 도중 로그가 저장 대기열에 들어오면 보정하지 않음")
+    void reconcile_skipsWhenPendingAppearsDuringCount() {
+        counter.increment(3); // 8
+        when(abnLogRepository.countByIsReadFalse()).thenReturn(5L);
+        when(writeBehind.pendingCount()).thenReturn(0, 1);
+
+        counter.reconcile();
+
+        assertThat(counter.get()).isEqualTo(8L);
+    }
+
+    @Test
+    @DisplayName("COUNT 도중 카운터가 바뀌면 보정하지 않음")
+    void reconcile_skipsWhenModifiedDuringCount() {
+        counter.increment(3); // 8
+        when(abnLogRepository.countByIsReadFalse()).thenAnswer(inv -> {
+            counter.decrement(); // COUNT 실행 중 읽음 처리
+            return 4L;
+        });
+
+        counter.reconcile();
+
+        assertThat(counter.get()).isEqualTo(7L); // DB 값(4)으로 보정하지 않고 읽음 처리만 반영
+        verify(webSocketSender, never()).sendUnreadCount(anyLong());
+    }
+}
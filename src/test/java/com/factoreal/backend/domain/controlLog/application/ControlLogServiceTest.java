@@ -1,5 +1,6 @@
 package com.factoreal.backend.domain.controlLog.application;
 
+import com.factoreal.backend.domain.abnormalLog.application.AbnormalLogWriteBehind;
 import com.factoreal.backend.domain.abnormalLog.entity.AbnormalLog;
 import com.factoreal.backend.domain.controlLog.dao.ControlLogRepository;
 import com.factoreal.backend.domain.controlLog.entity.ControlLog;
@@ -18,6 +19,7 @@ import org.testcontainers.shaded.com.fasterxml.jackson.databind.SerializationFea
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
@@ -30,6 +32,7 @@ class ControlLogServiceTest {
     @Mock ControlLogRepository repo;
     @Mock MqttPublishService   mqtt;
     @Mock WebSocketSender      socket;
+    @Mock AbnormalLogWriteBehind writeBehind;
 
     @InjectMocks
     ControlLogService service;
@@ -58,6 +61,7 @@ class ControlLogServiceTest {
                     cl.setId(99L);
                     return cl;
                 });
+        when(mqtt.publishControlMessage(any())).thenReturn(CompletableFuture.completedFuture(null));
 
         // when
         ControlLog saved = service.saveControlLog(src, "FAN", 80D, 1, z);
@@ -143,6 +147,59 @@ class ControlLogServiceTest {
         assertThat(status).containsEntry("mqttDelivered", false);
     }
 
+    /* ========== 3-1) 브로커 수신 확인 실패 → mqttDelivered=false 로 상태 전송 ========== */
+    @SuppressWarnings("unchecked")
+    @Test
+    void saveControl_deliveryFail_reportsNotDelivered() {
+        // given
+        AbnormalLog src = abn(21L);
+        Zone z = zone();
+
+        when(repo.save(any(ControlLog.class))).thenAnswer(inv -> {
+            ControlLog cl = inv.getArgument(0, ControlLog.class);
+            cl.setId(210L);
+            return cl;
+        });
+        when(mqtt.publishControlMessage(any()))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("PUBACK timeout")));
+
+        // when
+        ControlLog saved = service.saveControlLog(src, "PUMP", 50D, 0, z);
+
+        // then
+        ArgumentCaptor<Map<String, Boolean>> mapCap = ArgumentCaptor.forClass(Map.class);
+        verify(socket).sendControlStatus(eq(saved), mapCap.capture());
+        assertThat(mapCap.getValue()).containsEntry("mqttDelivered", false);
+    }
+
+    /* ========== 3-2) 수신 확인 전에는 상태를 보내지 않고, 확인 후 mqttDelivered=true 로 전송 ========== */
+    @SuppressWarnings("unchecked")
+    @Test
+    void saveControl_statusSentAfterDelivery() {
+        // given
+        AbnormalLog src = abn(22L);
+        Zone z = zone();
+        CompletableFuture<Void> delivery = new CompletableFuture<>();
+
+        when(repo.save(any(ControlLog.class))).thenAnswer(inv -> {
+            ControlLog cl = inv.getArgument(0, ControlLog.class);
+            cl.setId(220L);
+            return cl;
+        });
+        when(mqtt.publishControlMessage(any())).thenReturn(delivery);
+
+        // when
+        ControlLog saved = service.saveControlLog(src, "FAN", 1D, 1, z);
+
+        // then
+        verify(socket, never()).sendControlStatus(any(), anyMap());
+        delivery.complete(null);
+
+        ArgumentCaptor<Map<String, Boolean>> mapCap = ArgumentCaptor.forClass(Map.class);
+        verify(socket).sendControlStatus(eq(saved), mapCap.capture());
+        assertThat(mapCap.getValue()).containsEntry("mqttDelivered", true);
+    }
+
     /* ========== 4) WebSocket 전송 실패해도 서비스는 정상 반환 ========== */
     @Test
     void saveControl_socketFail_stillReturns() {
@@ -155,6 +212,7 @@ class ControlLogServiceTest {
             cl.setId(300L);
             return cl;
         });
+        when(mqtt.publishControlMessage(any())).thenReturn(CompletableFuture.completedFuture(null));
 
         // WebSocket 쪽에서 예외 발생
         doThrow(new RuntimeException("WS CLOSED"))
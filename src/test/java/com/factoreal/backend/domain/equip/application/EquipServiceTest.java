@@ -10,6 +10,7 @@ import com.factoreal.backend.domain.equip.entity.EquipHistory;
 import com.factoreal.backend.domain.zone.application.ZoneRepoService;
 import com.factoreal.backend.domain.zone.entity.Zone;
 import com.factoreal.backend.domain.sensor.application.SensorService;
+import com.factoreal.backend.domain.sensor.dto.response.SensorInfoResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -23,6 +24,7 @@ import org.springframework.web.server.ResponseStatusException;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -271,10 +273,10 @@ class EquipServiceTest {
 
             given(zoneRepoService.findById(zoneId)).willReturn(zone);
             given(equipRepoService.findEquipsByZone(zone)).willReturn(zoneEquips);
-            given(equipHistoryRepoService.findLatestCheckedByEquipId(equipId))
-                    .willReturn(Optional.of(EquipHistory.builder()
-                            .checkDate(lastCheckDate)
-                            .build()));
+            given(equipHistoryRepoService.findLatestCheckDates(List.of(equipId)))
+                    .willReturn(Map.of(equipId, lastCheckDate));
+            given(sensorService.findSensorsByEquipIds(List.of(equipId)))
+                    .willReturn(Map.of(equipId, List.of(SensorInfoResponse.builder().sensorId("S-1").build())));
 
             // when
             List<EquipWithSensorsResponse> responses = equipService.getEquipsByZoneId(zoneId);
@@ -283,6 +285,8 @@ class EquipServiceTest {
             assertThat(responses).hasSize(1);
             assertThat(responses.get(0).getEquipId()).isEqualTo(equipId);
             assertThat(responses.get(0).getLastCheckDate()).isEqualTo(lastCheckDate);
+            assertThat(responses.get(0).getSensors()).extracting(SensorInfoResponse::getSensorId).containsExactly("S-1");
+            verify(equipHistoryRepoService, never()).findLatestCheckedByEquipId(anyString());
         }
 
         @Test
@@ -293,8 +297,8 @@ class EquipServiceTest {
 
             given(zoneRepoService.findById(zoneId)).willReturn(zone);
             given(equipRepoService.findEquipsByZone(zone)).willReturn(zoneEquips);
-            given(equipHistoryRepoService.findLatestCheckedByEquipId(equipId))
-                    .willReturn(Optional.empty());
+            given(equipHistoryRepoService.findLatestCheckDates(List.of(equipId)))
+                    .willReturn(Map.of());
 
             // when
             List<EquipWithSensorsResponse> responses = equipService.getEquipsByZoneId(zoneId);
@@ -303,6 +307,7 @@ class EquipServiceTest {
             assertThat(responses).hasSize(1);
             assertThat(responses.get(0).getEquipId()).isEqualTo(equipId);
             assertThat(responses.get(0).getLastCheckDate()).isNull();
+            assertThat(responses.get(0).getSensors()).isEmpty();
         }
 
         @Test
@@ -316,5 +321,32 @@ class EquipServiceTest {
             assertThrows(ResponseStatusException.class,
                     () -> equipService.getEquipsByZoneId("wrong_zone_id"));
         }
+
+        @Test
+        @DisplayName("공장 전체 설비 조회 : 점검일자/센서는 한 번씩만 조회하고 empty 설비는 제외")
+        void getAllEquipsWithSensors_Success() {
+            // given
+            LocalDate lastCheckDate = LocalDate.now().minusDays(3);
+            Equip envEquip = Equip.builder().equipId(zoneId).equipName("empty").zone(zone).build();
+            Equip otherEquip = Equip.builder().equipId("equip002").equipName("설비2").zone(zone).build();
+
+            given(equipRepoService.findAllWithZone()).willReturn(List.of(envEquip, equip, otherEquip));
+            given(equipHistoryRepoService.findAllLatestCheckDates()).willReturn(Map.of(equipId, lastCheckDate));
+            given(sensorService.findAllSensorsByEquipId())
+                    .willReturn(Map.of("equip002", List.of(SensorInfoResponse.builder().sensorId("S-2").build())));
+
+            // when
+            List<EquipWithSensorsResponse> responses = equipService.getAllEquipsWithSensors();
+
+            // then
+            assertThat(responses).extracting(EquipWithSensorsResponse::getEquipId)
+                    .containsExactly(equipId, "equip002");
+            assertThat(responses.get(0).getLastCheckDate()).isEqualTo(lastCheckDate);
+            assertThat(responses.get(0).getZoneName()).isEqualTo(zoneName);
+            assertThat(responses.get(1).getLastCheckDate()).isNull();
+            assertThat(responses.get(1).getSensors()).hasSize(1);
+            verify(equipHistoryRepoService, times(1)).findAllLatestCheckDates();
+            verify(sensorService, times(1)).findAllSensorsByEquipId();
+        }
     }
 }
\ No newline at end of file
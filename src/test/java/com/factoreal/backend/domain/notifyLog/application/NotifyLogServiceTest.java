@@ -12,6 +12,9 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -239,4 +242,39 @@ class NotifyLogServiceTest {
         assertEquals(triggerTime, capturedLog.getNotifiedAt());
         assertEquals(abnormalLogId, capturedLog.getAbnormalLogId());
     }
+
+    @Test
+    @DisplayName("FCM 로그 일괄 저장 테스트 - 작업자별 결과를 한 번에 저장")
+    @SuppressWarnings("unchecked")
+    void saveNotifyLogsFromFCM_shouldSaveAllInOneCall() {
+        // 테스트 목적:
+        // 공간 알림처럼 여러 작업자에게 보낸 결과가 한 번의 일괄 저장 요청으로 전달되는지 확인
+
+        // Arrange
+        Map<String, Boolean> results = new LinkedHashMap<>();
+        results.put("worker-1", true);
+        results.put("worker-2", false);
+        TriggerType triggerType = TriggerType.AUTOMATIC;
+        LocalDateTime triggerTime = LocalDateTime.now();
+        Long abnormalLogId = 7L;
+
+        // Act
+        notifyLogService.saveNotifyLogsFromFCM(results, triggerType, triggerTime, abnormalLogId);
+
+        // Assert
+        ArgumentCaptor<List<NotifyLog>> captor = ArgumentCaptor.forClass(List.class);
+        verify(notifyLogRepoService, times(1)).saveAllNotifyLogs(captor.capture());
+        verify(notifyLogRepoService, times(0)).saveNotifyLog(any(NotifyLog.class));
+
+        List<NotifyLog> saved = captor.getValue();
+        assertEquals(2, saved.size());
+        assertEquals("worker-1", saved.get(0).getTarget());
+        assertEquals(true, saved.get(0).getStatus());
+        assertEquals("worker-2", saved.get(1).getTarget());
+        assertEquals(false, saved.get(1).getStatus());
+        assertTrue(saved.stream().allMatch(log -> log.getNotifyType() == NotifyType.AppPush
+                && log.getTriggerType() == triggerType
+                && triggerTime.equals(log.getNotifiedAt())
+                && abnormalLogId.equals(log.getAbnormalLogId())));
+    }
 }
@@ -0,0 +1,98 @@
+package com.factoreal.backend.domain.sensor.application;
+
+import com.factoreal.backend.domain.equip.entity.Equip;
+import com.factoreal.backend.domain.sensor.dao.SensorRepository;
+import com.factoreal.backend.domain.sensor.entity.Sensor;
+import com.factoreal.backend.domain.zone.application.ZoneTopologyChangedEvent;
+import com.factoreal.backend.domain.zone.entity.Zone;
+import com.factoreal.backend.messaging.kafka.strategy.enums.SensorType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.sql.Statement;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 단위 테스트: SensorRepoService.insertAllIfAbsent
+ * 드라이버가 행별 결과를 주는 경우와 SUCCESS_NO_INFO(-2) 만 주는 경우 모두 건너뛴 센서를 구분
+ */
+@ExtendWith(MockitoExtension.class)
+class SensorRepoServiceTest {
+
+    @Mock
+    SensorRepository sensorRepository;
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+    @Mock
+    JdbcTemplate jdbcTemplate;
+    @InjectMocks
+    SensorRepoService sensorRepoService;
+
+    private Sensor sensor(String sensorId) {
+        return Sensor.builder()
+                .sensorId(sensorId)
+                .sensorType(SensorType.temp)
+                .isZone(1)
+                .zone(Zone.builder().zoneId("Z1").build())
+                .equip(Equip.builder().equipId("Z1").build())
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenBatchCounts(int... counts) {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenReturn(new int[][]{counts});
+    }
+
+    @Test
+    @DisplayName("행별 결과가 있으면 0 건인 센서를 건너뛴 것으로 본다")
+    void insertAllIfAbsent_usesRowCounts() {
+        givenBatchCounts(1, 0);
+
+        Set<String> stored = sensorRepoService.insertAllIfAbsent(List.of(sensor("S1"), sensor("S2")));
+
+        assertThat(stored).containsExactly("S1");
+        verify(sensorRepository, never()).findExistingSensorIds(any());
+        verify(eventPublisher).publishEvent(any(ZoneTopologyChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("SUCCESS_NO_INFO 만 오면 등록된 ID 를 다시 조회해 건너뛴 센서를 제외한다")
+    void insertAllIfAbsent_requeriesWhenNoInfo() {
+        givenBatchCounts(Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO);
+        when(sensorRepository.findExistingSensorIds(List.of("S1", "S2"))).thenReturn(List.of("S1"));
+
+        Set<String> stored = sensorRepoService.insertAllIfAbsent(List.of(sensor("S1"), sensor("S2")));
+
+        assertThat(stored).containsExactly("S1");
+    }
+
+    @Test
+    @DisplayName("모두 건너뛰면 공간 구성 변경 이벤트를 발행하지 않는다")
+    void insertAllIfAbsent_noEventWhenNothingStored() {
+        givenBatchCounts(Statement.SUCCESS_NO_INFO);
+        when(sensorRepository.findExistingSensorIds(List.of("S1"))).thenReturn(List.of());
+
+        Set<String> stored = sensorRepoService.insertAllIfAbsent(List.of(sensor("S1")));
+
+        assertThat(stored).isEmpty();
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+}
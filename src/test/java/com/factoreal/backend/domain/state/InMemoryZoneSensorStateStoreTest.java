@@ -2,11 +2,13 @@ package com.factoreal.backend.domain.state;
 
 import com.factoreal.backend.domain.state.store.InMemoryZoneSensorStateStore;
 import com.factoreal.backend.messaging.kafka.strategy.enums.RiskLevel;
+import com.factoreal.backend.messaging.kafka.strategy.enums.SensorType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 public class InMemoryZoneSensorStateStoreTest {
 
@@ -17,7 +19,7 @@ public class InMemoryZoneSensorStateStoreTest {
 
     @BeforeEach
     void setUp() {
-        store = new InMemoryZoneSensorStateStore(null);
+        store = new InMemoryZoneSensorStateStore();
     }
 
     @Test
@@ -35,39 +37,61 @@ public class InMemoryZoneSensorStateStoreTest {
     @Test
     @DisplayName("Setting a sensor risk level persists and returns correctly")
     void setAndGetSensorRiskLevel() {
-        store.setSensorRiskLevel(zoneId, sensor1, RiskLevel.WARNING);
+        store.setSensorRiskLevel(zoneId, sensor1, SensorType.temp, RiskLevel.WARNING);
         assertEquals(RiskLevel.WARNING, store.getSensorRiskLevel(zoneId, sensor1));
     }
 
     @Test
     @DisplayName("Zone risk level reflects highest sensor level")
     void zoneRiskReflectsHighestSensorLevel() {
-        store.setSensorRiskLevel(zoneId, sensor1, RiskLevel.WARNING);
+        store.setSensorRiskLevel(zoneId, sensor1, SensorType.temp, RiskLevel.WARNING);
         // Zone should be WARNING since only one WARNING sensor
         assertEquals(RiskLevel.WARNING, store.getZoneRiskLevel(zoneId));
 
         // Add a CRITICAL sensor
-        store.setSensorRiskLevel(zoneId, sensor2, RiskLevel.CRITICAL);
+        store.setSensorRiskLevel(zoneId, sensor2, SensorType.temp, RiskLevel.CRITICAL);
         assertEquals(RiskLevel.CRITICAL, store.getZoneRiskLevel(zoneId));
     }
 
     @Test
     @DisplayName("Updating sensor risk level adjusts zone counts correctly")
     void updatingSensorRiskAdjustCounts() {
-        store.setSensorRiskLevel(zoneId, sensor1, RiskLevel.INFO);
+        store.setSensorRiskLevel(zoneId, sensor1, SensorType.temp, RiskLevel.INFO);
         assertEquals(RiskLevel.INFO, store.getZoneRiskLevel(zoneId));
 
         // Escalate sensor1 to WARNING
-        store.setSensorRiskLevel(zoneId, sensor1, RiskLevel.WARNING);
+        store.setSensorRiskLevel(zoneId, sensor1, SensorType.temp, RiskLevel.WARNING);
         assertEquals(RiskLevel.WARNING, store.getZoneRiskLevel(zoneId));
 
         // Escalate sensor1 to CRITICAL
-        store.setSensorRiskLevel(zoneId, sensor1, RiskLevel.CRITICAL);
+        store.setSensorRiskLevel(zoneId, sensor1, SensorType.temp, RiskLevel.CRITICAL);
         assertEquals(RiskLevel.CRITICAL, store.getZoneRiskLevel(zoneId));
 
         // Downgrade sensor1 back to INFO
-        store.setSensorRiskLevel(zoneId, sensor1, RiskLevel.INFO);
+        store.setSensorRiskLevel(zoneId, sensor1, SensorType.temp, RiskLevel.INFO);
         assertEquals(RiskLevel.INFO, store.getZoneRiskLevel(zoneId),
                 "After downgrading last sensor, zone risk should return to INFO");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Highest risk sensor type is null when no sensors set")
+    void highestRiskSensorTypeIsNullWhenEmpty() {
+        assertNull(store.getHighestRiskSensorType(zoneId));
+    }
+
+    @Test
+    @DisplayName("Highest risk sensor type follows level changes without repository lookup")
+    void highestRiskSensorTypeFollowsLevelChanges() {
+        store.setSensorRiskLevel(zoneId, sensor1, SensorType.temp, RiskLevel.WARNING);
+        store.setSensorRiskLevel(zoneId, sensor2, SensorType.humid, RiskLevel.INFO);
+        assertEquals(SensorType.temp, store.getHighestRiskSensorType(zoneId));
+
+        // Escalate sensor2 above sensor1
+        store.setSensorRiskLevel(zoneId, sensor2, SensorType.humid, RiskLevel.CRITICAL);
+        assertEquals(SensorType.humid, store.getHighestRiskSensorType(zoneId));
+
+        // Downgrade sensor2 below sensor1
+        store.setSensorRiskLevel(zoneId, sensor2, SensorType.humid, RiskLevel.INFO);
+        assertEquals(SensorType.temp, store.getHighestRiskSensorType(zoneId));
+    }
+}
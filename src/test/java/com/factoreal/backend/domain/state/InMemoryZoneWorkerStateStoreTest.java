@@ -81,6 +81,11 @@ class InMemoryZoneWorkerStateStoreTest {
             store.setWorkerRiskLevel(ZONE_B, W1, RiskLevel.WARNING);
             assertThat(store.getZoneRiskLevel(ZONE_A)).isEqualTo(RiskLevel.INFO);
             assertThat(store.getZoneRiskLevel(ZONE_B)).isEqualTo(RiskLevel.WARNING);
+            assertThat(store.getZoneId(W1)).isEqualTo(ZONE_B);
+            // 이동한 작업자는 새 공간에만 1명으로 집계된다
+            assertThat(store.getLevelCount(ZONE_A, RiskLevel.CRITICAL)).isZero();
+            assertThat(store.getLevelCount(ZONE_B, RiskLevel.CRITICAL)).isZero();
+            assertThat(store.getLevelCount(ZONE_B, RiskLevel.WARNING)).isEqualTo(1);
         }
     }
 }
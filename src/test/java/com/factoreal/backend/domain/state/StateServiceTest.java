@@ -0,0 +1,66 @@
+package com.factoreal.backend.domain.state;
+
+import com.factoreal.backend.domain.state.dto.response.ZoneStateResponse;
+import com.factoreal.backend.domain.state.service.StateService;
+import com.factoreal.backend.domain.state.service.ZoneStateView;
+import com.factoreal.backend.domain.zone.application.ZoneTopologyReadModel;
+import com.factoreal.backend.domain.zone.dto.response.ZoneDetailResponse;
+import com.factoreal.backend.messaging.common.dto.ZoneDangerDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@ExtendWith(MockitoExtension.class)
+class StateServiceTest {
+
+    @Mock
+    private ZoneStateView zoneStateView;
+    @Mock
+    private ZoneTopologyReadModel zoneTopologyReadModel;
+    @InjectMocks
+    private StateService stateService;
+
+    private ZoneDetailResponse zone(String zoneId) {
+        ZoneDetailResponse zone = mock(ZoneDetailResponse.class);
+        given(zone.getZoneId()).willReturn(zoneId);
+        return zone;
+    }
+
+    @Test
+    @DisplayName("등록되지 않은(삭제된) 공간의 상태는 위험 공간 목록에서 제외된다")
+    void getAllZoneStates_excludesUnknownZones() {
+        given(zoneStateView.getSnapshot()).willReturn(new ZoneStateResponse(10L, true, List.of(
+                new ZoneDangerDto("Z1", "temp", 2),
+                new ZoneDangerDto("Z9", "temp", 1))));
+        List<ZoneDetailResponse> zones = List.of(zone("Z1"));
+        given(zoneTopologyReadModel.getZoneItems()).willReturn(zones);
+
+        List<ZoneDangerDto> result = stateService.getAllZoneStates();
+
+        assertThat(result).extracting(ZoneDangerDto::getZoneId).containsExactly("Z1");
+    }
+
+    @Test
+    @DisplayName("변경분 조회도 등록된 공간만 반환하고 버전은 그대로 유지한다")
+    void getZoneStateChanges_keepsVersion() {
+        given(zoneStateView.getChangesSince(5L)).willReturn(new ZoneStateResponse(7L, false, List.of(
+                new ZoneDangerDto("Z9", null, 0))));
+        List<ZoneDetailResponse> zones = List.of(zone("Z1"));
+        given(zoneTopologyReadModel.getZoneItems()).willReturn(zones);
+
+        ZoneStateResponse result = stateService.getZoneStateChanges(5L);
+
+        assertThat(result.getVersion()).isEqualTo(7L);
+        assertThat(result.isFull()).isFalse();
+        assertThat(result.getZones()).isEmpty();
+    }
+}
@@ -0,0 +1,157 @@
+package com.factoreal.backend.domain.state;
+
+import com.factoreal.backend.domain.abnormalLog.application.AbnormalLogRepoService;
+import com.factoreal.backend.domain.abnormalLog.dto.TargetType;
+import com.factoreal.backend.domain.abnormalLog.entity.AbnormalLog;
+import com.factoreal.backend.domain.sensor.application.SensorRepoService;
+import com.factoreal.backend.domain.sensor.entity.Sensor;
+import com.factoreal.backend.domain.state.service.StateSnapshotService;
+import com.factoreal.backend.domain.state.store.InMemoryZoneSensorStateStore;
+import com.factoreal.backend.domain.state.store.InMemoryZoneWorkerStateStore;
+import com.factoreal.backend.domain.state.store.ZoneStateSnapshot;
+import com.factoreal.backend.domain.zone.entity.Zone;
+import com.factoreal.backend.messaging.kafka.strategy.enums.RiskLevel;
+import com.factoreal.backend.messaging.kafka.strategy.enums.SensorType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StateSnapshotServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final AbnormalLogRepoService abnormalLogRepoService = mock(AbnormalLogRepoService.class);
+    private final SensorRepoService sensorRepoService = mock(SensorRepoService.class);
+
+    private Path snapshotPath;
+
+    @BeforeEach
+    void setUp() {
+        snapshotPath = tempDir.resolve("zone-state.snap");
+    }
+
+    private StateSnapshotService newService(InMemoryZoneSensorStateStore sensorStore,
+                                            InMemoryZoneWorkerStateStore workerStore,
+                                            Duration maxAge) {
+        return new StateSnapshotService(sensorStore, workerStore, abnormalLogRepoService, sensorRepoService,
+                true, snapshotPath.toString(), maxAge, Duration.ofDays(7));
+    }
+
+    @Test
+    @DisplayName("스냅샷 저장 후 새 스토어로 기동하면 센서/작업자 상태가 그대로 복원된다")
+    void saveAndRestore() {
+        // given: 기존 인스턴스 상태
+        InMemoryZoneSensorStateStore sensorStore = new InMemoryZoneSensorStateStore();
+        InMemoryZoneWorkerStateStore workerStore = new InMemoryZoneWorkerStateStore();
+        sensorStore.setSensorRiskLevel("Z1", "S1", SensorType.temp, RiskLevel.CRITICAL);
+        sensorStore.setSensorRiskLevel("Z1", "S2", SensorType.humid, RiskLevel.WARNING);
+        workerStore.setWorkerRiskLevel("Z2", "W1", RiskLevel.WARNING);
+        newService(sensorStore, workerStore, Duration.ofMinutes(30)).saveSnapshot();
+
+        // when: 재기동
+        InMemoryZoneSensorStateStore restoredSensors = new InMemoryZoneSensorStateStore();
+        InMemoryZoneWorkerStateStore restoredWorkers = new InMemoryZoneWorkerStateStore();
+        newService(restoredSensors, restoredWorkers, Duration.ofMinutes(30)).start();
+
+        // then
+        assertThat(restoredSensors.getZoneRiskLevel("Z1")).isEqualTo(RiskLevel.CRITICAL);
+        assertThat(restoredSensors.getSensorRiskLevel("Z1", "S2")).isEqualTo(RiskLevel.WARNING);
+        assertThat(restoredSensors.getHighestRiskSensorType("Z1")).isEqualTo(SensorType.temp);
+        assertThat(restoredWorkers.getZoneId("W1")).isEqualTo("Z2");
+        assertThat(restoredWorkers.getZoneRiskLevel("Z2")).isEqualTo(RiskLevel.WARNING);
+        verify(abnormalLogRepoService, never()).findLatestLogsPerTarget(anyList(), any());
+    }
+
+    @Test
+    @DisplayName("스냅샷이 없으면 대상별 최신 AbnormalLog 로 상태를 재구성한다")
+    void rebuildFromAbnormalLogsWhenNoSnapshot() {
+        // given
+        Zone zone = Zone.builder().zoneId("Z1").build();
+        AbnormalLog sensorLog = AbnormalLog.builder()
+                .targetType(TargetType.Sensor).targetId("S1").dangerLevel(2).zone(zone).build();
+        AbnormalLog workerLog = AbnormalLog.builder()
+                .targetType(TargetType.Worker).targetId("W1").dangerLevel(1).zone(zone).build();
+        AbnormalLog deletedSensorLog = AbnormalLog.builder()
+                .targetType(TargetType.Sensor).targetId("S9").dangerLevel(2).zone(zone).build();
+        when(abnormalLogRepoService.findLatestLogsPerTarget(anyList(), any()))
+                .thenReturn(List.of(sensorLog, workerLog, deletedSensorLog));
+        when(sensorRepoService.findBySensorIdIn(anyList()))
+                .thenReturn(List.of(Sensor.builder().sensorId("S1").sensorType(SensorType.dust).build()));
+
+        InMemoryZoneSensorStateStore sensorStore = new InMemoryZoneSensorStateStore();
+        InMemoryZoneWorkerStateStore workerStore = new InMemoryZoneWorkerStateStore();
+
+        // when
+        newService(sensorStore, workerStore, Duration.ofMinutes(30)).start();
+
+        // then
+        assertThat(sensorStore.getSensorRiskLevel("Z1", "S1")).isEqualTo(RiskLevel.CRITICAL);
+        assertThat(sensorStore.getHighestRiskSensorType("Z1")).isEqualTo(SensorType.dust);
+        assertThat(sensorStore.getSensorRiskLevel("Z1", "S9")).isEqualTo(RiskLevel.INFO);
+        assertThat(workerStore.getWorkerRiskLevel("W1")).isEqualTo(RiskLevel.WARNING);
+    }
+
+    @Test
+    @DisplayName("손상된 스냅샷은 무시하고 AbnormalLog 로 재구성한다")
+    void corruptedSnapshotFallsBackToRebuild() throws IOException {
+        Files.write(snapshotPath, new byte[]{1, 2, 3, 4, 5});
+
+        newService(new InMemoryZoneSensorStateStore(), new InMemoryZoneWorkerStateStore(), Duration.ofMinutes(30)).start();
+
+        verify(abnormalLogRepoService).findLatestLogsPerTarget(anyList(), any());
+    }
+
+    @Test
+    @DisplayName("max-age 보다 오래된 스냅샷은 무시한다")
+    void expiredSnapshotFallsBackToRebuild() {
+        InMemoryZoneSensorStateStore sensorStore = new InMemoryZoneSensorStateStore();
+        sensorStore.setSensorRiskLevel("Z1", "S1", SensorType.temp, RiskLevel.CRITICAL);
+        newService(sensorStore, new InMemoryZoneWorkerStateStore(), Duration.ofMinutes(30)).saveSnapshot();
+
+        InMemoryZoneSensorStateStore restored = new InMemoryZoneSensorStateStore();
+        newService(restored, new InMemoryZoneWorkerStateStore(), Duration.ZERO.minusMillis(1)).start();
+
+        assertThat(restored.getZoneRiskLevel("Z1")).isEqualTo(RiskLevel.INFO);
+        verify(abnormalLogRepoService).findLatestLogsPerTarget(anyList(), any());
+    }
+
+    @Test
+    @DisplayName("스냅샷 바이트가 변조되면 체크섬 검증에 실패한다")
+    void checksumDetectsCorruption() throws IOException {
+        ZoneStateSnapshot snapshot = new ZoneStateSnapshot(1L,
+                List.of(new ZoneStateSnapshot.SensorEntry("Z1", "S1", SensorType.voc, RiskLevel.WARNING)),
+                List.of(new ZoneStateSnapshot.WorkerEntry("W1", "Z1", RiskLevel.CRITICAL)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        snapshot.writeTo(out);
+        byte[] bytes = out.toByteArray();
+
+        // 정상 왕복
+        ZoneStateSnapshot read = ZoneStateSnapshot.readFrom(new ByteArrayInputStream(bytes));
+        assertThat(read.getSensors().get(0).getSensorType()).isEqualTo(SensorType.voc);
+        assertThat(read.getWorkers().get(0).getRiskLevel()).isEqualTo(RiskLevel.CRITICAL);
+
+        // 본문 1바이트 변조 (마지막 작업자의 zoneId "Z1" → "Z0")
+        bytes[bytes.length - 10] ^= 0x01;
+        assertThatThrownBy(() -> ZoneStateSnapshot.readFrom(new ByteArrayInputStream(bytes)))
+                .isInstanceOf(IOException.class);
+    }
+}
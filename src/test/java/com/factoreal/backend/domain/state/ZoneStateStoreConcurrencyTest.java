@@ -0,0 +1,129 @@
+package com.factoreal.backend.domain.state;
+
+import com.factoreal.backend.domain.state.store.InMemoryZoneSensorStateStore;
+import com.factoreal.backend.domain.state.store.InMemoryZoneWorkerStateStore;
+import com.factoreal.backend.domain.state.store.RiskLevelTransition;
+import com.factoreal.backend.messaging.kafka.strategy.enums.RiskLevel;
+import com.factoreal.backend.messaging.kafka.strategy.enums.SensorType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상태 스토어 동시성 스트레스 테스트
+ * 여러 스레드가 같은 센서/작업자를 동시에 갱신해도 등급별 카운트가 실제 상태와 정확히 일치해야 한다.
+ */
+class ZoneStateStoreConcurrencyTest {
+
+    private static final int THREADS = 8;
+    private static final int ITERATIONS = 20_000;
+    private static final String[] ZONES = {"zone-A", "zone-B", "zone-C"};
+    private static final int TARGETS_PER_ZONE = 5;
+    private static final RiskLevel[] LEVELS = RiskLevel.values();
+
+    @RepeatedTest(5)
+    @DisplayName("센서 스토어: 경합 상황에서도 등급별 카운트가 센서 상태와 일치한다")
+    void sensorStoreCountsStayExact() throws Exception {
+        // ── arrange ───────────────────────────────────────────
+        InMemoryZoneSensorStateStore store = new InMemoryZoneSensorStateStore();
+
+        // ── act ───────────────────────────────────────────────
+        runConcurrently(() -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            String zoneId = ZONES[random.nextInt(ZONES.length)];
+            String sensorId = zoneId + "-S" + random.nextInt(TARGETS_PER_ZONE);
+            store.setSensorRiskLevel(zoneId, sensorId, SensorType.temp, LEVELS[random.nextInt(LEVELS.length)]);
+        });
+
+        // ── assert ────────────────────────────────────────────
+        for (String zoneId : ZONES) {
+            int[] expected = new int[LEVELS.length];
+            RiskLevel highest = RiskLevel.INFO;
+            for (int i = 0; i < TARGETS_PER_ZONE; i++) {
+                RiskLevel level = store.getSensorRiskLevel(zoneId, zoneId + "-S" + i);
+                expected[level.ordinal()]++;
+                highest = level.getPriority() > highest.getPriority() ? level : highest;
+            }
+            for (RiskLevel level : LEVELS) {
+                assertThat(store.getLevelCount(zoneId, level)).isEqualTo(expected[level.ordinal()]);
+            }
+            assertThat(store.getZoneRiskLevel(zoneId)).isEqualTo(highest);
+        }
+    }
+
+    @RepeatedTest(5)
+    @DisplayName("작업자 스토어: 공간 이동이 섞인 경합 상황에서도 카운트가 작업자 상태와 일치한다")
+    void workerStoreCountsStayExact() throws Exception {
+        // ── arrange ───────────────────────────────────────────
+        InMemoryZoneWorkerStateStore store = new InMemoryZoneWorkerStateStore();
+        int workers = ZONES.length * TARGETS_PER_ZONE;
+
+        // ── act ───────────────────────────────────────────────
+        runConcurrently(() -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            String workerId = "W" + random.nextInt(workers);
+            String zoneId = ZONES[random.nextInt(ZONES.length)];
+            store.setWorkerRiskLevel(zoneId, workerId, LEVELS[random.nextInt(LEVELS.length)]);
+        });
+
+        // ── assert ────────────────────────────────────────────
+        for (String zoneId : ZONES) {
+            int[] expected = new int[LEVELS.length];
+            for (int i = 0; i < workers; i++) {
+                if (zoneId.equals(store.getZoneId("W" + i))) {
+                    expected[store.getWorkerRiskLevel("W" + i).ordinal()]++;
+                }
+            }
+            for (RiskLevel level : LEVELS) {
+                assertThat(store.getLevelCount(zoneId, level)).isEqualTo(expected[level.ordinal()]);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("set 은 이전/현재 센서 등급과 공간 등급을 함께 반환한다")
+    void setReturnsTransition() {
+        InMemoryZoneSensorStateStore store = new InMemoryZoneSensorStateStore();
+        store.setSensorRiskLevel("zone-A", "S1", SensorType.temp, RiskLevel.WARNING);
+
+        RiskLevelTransition transition = store.setSensorRiskLevel("zone-A", "S2", SensorType.temp, RiskLevel.CRITICAL);
+
+        assertThat(transition.getPrevLevel()).isEqualTo(RiskLevel.INFO);
+        assertThat(transition.getNowLevel()).isEqualTo(RiskLevel.CRITICAL);
+        assertThat(transition.getPrevZoneLevel()).isEqualTo(RiskLevel.WARNING);
+        assertThat(transition.getNowZoneLevel()).isEqualTo(RiskLevel.CRITICAL);
+        assertThat(transition.isLevelChanged()).isTrue();
+    }
+
+    // 모든 스레드를 동시에 출발시켜 ITERATIONS 번씩 작업 수행
+    private void runConcurrently(Runnable action) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < ITERATIONS; i++) {
+                    action.run();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,130 @@
+package com.factoreal.backend.domain.state;
+
+import com.factoreal.backend.domain.state.dto.response.ZoneStateResponse;
+import com.factoreal.backend.domain.state.service.ZoneStateView;
+import com.factoreal.backend.domain.state.store.InMemoryZoneSensorStateStore;
+import com.factoreal.backend.domain.state.store.InMemoryZoneWorkerStateStore;
+import com.factoreal.backend.messaging.common.dto.ZoneDangerDto;
+import com.factoreal.backend.messaging.kafka.strategy.enums.RiskLevel;
+import com.factoreal.backend.messaging.kafka.strategy.enums.SensorType;
+import com.factoreal.backend.messaging.kafka.strategy.enums.WearableDataType;
+import com.factoreal.backend.messaging.sender.WebSocketSender;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class ZoneStateViewTest {
+
+    private InMemoryZoneSensorStateStore sensorStore;
+    private InMemoryZoneWorkerStateStore workerStore;
+    private WebSocketSender webSocketSender;
+    private ZoneStateView view;
+
+    @BeforeEach
+    void setUp() {
+        sensorStore = new InMemoryZoneSensorStateStore();
+        workerStore = new InMemoryZoneWorkerStateStore();
+        webSocketSender = mock(WebSocketSender.class);
+        view = new ZoneStateView(sensorStore, workerStore, webSocketSender);
+    }
+
+    @Test
+    @DisplayName("등급이 바뀐 공간만 버전이 올라가고 델타가 전송된다")
+    void publishesDeltaOnChange() {
+        long base = view.getSnapshot().getVersion();
+
+        sensorStore.setSensorRiskLevel("Z1", "S1", SensorType.temp, RiskLevel.WARNING);
+        // 같은 등급 재수신 → 변경 없음
+        sensorStore.setSensorRiskLevel("Z1", "S1", SensorType.temp, RiskLevel.WARNING);
+        // 정상 센서 추가 → 공간 상태 변화 없음
+        sensorStore.setSensorRiskLevel("Z2", "S2", SensorType.humid, RiskLevel.INFO);
+
+        ArgumentCaptor<ZoneStateResponse> captor = ArgumentCaptor.forClass(ZoneStateResponse.class);
+        verify(webSocketSender, times(1)).sendZoneStateDelta(captor.capture());
+        ZoneStateResponse delta = captor.getValue();
+        assertThat(delta.getVersion()).isEqualTo(base + 1);
+        assertThat(delta.getZones()).extracting(ZoneDangerDto::getZoneId, ZoneDangerDto::getSensorType, ZoneDangerDto::getLevel)
+                .containsExactly(tuple("Z1", SensorType.temp.name(), 1));
+    }
+
+    @Test
+    @DisplayName("스냅샷은 위험 공간만 포함하고, 버전이 그대로면 같은 인스턴스를 재사용한다")
+    void snapshotIsCachedUntilVersionChanges() {
+        sensorStore.setSensorRiskLevel("Z1", "S1", SensorType.temp, RiskLevel.CRITICAL);
+        workerStore.setWorkerRiskLevel("Z2", "W1", RiskLevel.WARNING);
+
+        ZoneStateResponse first = view.getSnapshot();
+        assertThat(first.isFull()).isTrue();
+        assertThat(first.getZones()).extracting(ZoneDangerDto::getZoneId).containsExactlyInAnyOrder("Z1", "Z2");
+        assertThat(view.getSnapshot()).isSameAs(first);
+
+        // Z1 정상 복귀 → 스냅샷에서 제외
+        sensorStore.setSensorRiskLevel("Z1", "S1", SensorType.temp, RiskLevel.INFO);
+        ZoneStateResponse second = view.getSnapshot();
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getZones()).extracting(ZoneDangerDto::getZoneId).containsExactly("Z2");
+        assertThat(second.getZones().get(0).getSensorType()).isEqualTo(WearableDataType.heartRate.name());
+    }
+
+    @Test
+    @DisplayName("since 이후 변경분만 반환하고 정상 복귀는 level 0 으로 전달된다")
+    void changesSinceVersion() {
+        sensorStore.setSensorRiskLevel("Z1", "S1", SensorType.temp, RiskLevel.CRITICAL);
+        long since = view.getSnapshot().getVersion();
+
+        workerStore.setWorkerRiskLevel("Z2", "W1", RiskLevel.WARNING);
+        sensorStore.setSensorRiskLevel("Z1", "S1", SensorType.temp, RiskLevel.INFO);
+
+        ZoneStateResponse changes = view.getChangesSince(since);
+        assertThat(changes.isFull()).isFalse();
+        assertThat(changes.getVersion()).isEqualTo(since + 2);
+        assertThat(changes.getZones()).extracting(ZoneDangerDto::getZoneId, ZoneDangerDto::getLevel)
+                .containsExactlyInAnyOrder(
+                        tuple("Z2", 1),
+                        tuple("Z1", 0));
+        assertThat(view.getChangesSince(changes.getVersion()).getZones()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("알 수 없는(현재보다 큰) 버전으로 요청하면 전체 상태를 반환한다")
+    void unknownVersionReturnsFullState() {
+        sensorStore.setSensorRiskLevel("Z1", "S1", SensorType.temp, RiskLevel.WARNING);
+
+        ZoneStateResponse changes = view.getChangesSince(Long.MAX_VALUE);
+
+        assertThat(changes.isFull()).isTrue();
+        assertThat(changes.getZones()).extracting(ZoneDangerDto::getZoneId).containsExactly("Z1");
+    }
+
+    @Test
+    @DisplayName("작업자 공간 이동 시 이전 공간도 다시 계산된다")
+    void workerMoveUpdatesBothZones() {
+        workerStore.setWorkerRiskLevel("Z1", "W1", RiskLevel.CRITICAL);
+        long since = view.getSnapshot().getVersion();
+
+        workerStore.setWorkerRiskLevel("Z2", "W1", RiskLevel.CRITICAL);
+
+        assertThat(view.getChangesSince(since).getZones())
+                .extracting(ZoneDangerDto::getZoneId, ZoneDangerDto::getLevel)
+                .containsExactlyInAnyOrder(
+                        tuple("Z1", 0),
+                        tuple("Z2", 2));
+    }
+
+    @Test
+    @DisplayName("정상 상태로만 갱신된 공간은 델타를 보내지 않는다")
+    void noDeltaForNormalOnlyZone() {
+        workerStore.setWorkerRiskLevel("Z1", "W1", RiskLevel.INFO);
+
+        verify(webSocketSender, never()).sendZoneStateDelta(any());
+    }
+}
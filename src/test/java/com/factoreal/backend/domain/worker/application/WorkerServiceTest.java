@@ -26,6 +26,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -132,12 +133,10 @@ class WorkerServiceTest {
             given(workerRepoService.findAll()).willReturn(workers);
             given(abnormalLogService.findLatestAbnormalLogsForTargets(any(TargetType.class), any()))
                     .willReturn(Arrays.asList(abnormalLog));
-            given(zoneHistoryRepoService.findByWorker_WorkerIdAndExistFlag(anyString(), anyInt()))
-                    .willReturn(zoneHist);
-            given(workerZoneRepoService.findByWorker_WorkerId(workerId))
+            given(zoneHistoryRepoService.getAllCurrentWorkerLocations())
+                    .willReturn(List.of(zoneHist));
+            given(workerZoneRepoService.findAllWithZone())
                     .willReturn(Arrays.asList(workerZone));
-            given(workerZoneRepoService.findByWorkerWorkerIdAndManageYnIsTrue(workerId))
-                    .willReturn(Optional.empty());
 
             // when
             List<WorkerDetailResponse> responses = workerService.getAllWorkers();
@@ -177,12 +176,10 @@ class WorkerServiceTest {
             given(workerRepoService.findAll()).willReturn(workers);
             given(abnormalLogService.findLatestAbnormalLogsForTargets(any(TargetType.class), any()))
                     .willReturn(List.of());
-            given(zoneHistoryRepoService.findByWorker_WorkerIdAndExistFlag(anyString(), anyInt()))
-                    .willReturn(null); // 현재 해당 공간에 있는 작업자가 존재하지 않음
-            given(workerZoneRepoService.findByWorker_WorkerId(workerId))
+            given(zoneHistoryRepoService.getAllCurrentWorkerLocations())
+                    .willReturn(List.of()); // 현재 해당 공간에 있는 작업자가 존재하지 않음
+            given(workerZoneRepoService.findAllWithZone())
                     .willReturn(List.of());
-            given(workerZoneRepoService.findByWorkerWorkerIdAndManageYnIsTrue(workerId))
-                    .willReturn(Optional.empty());
 
             // when
             List<WorkerDetailResponse> responses = workerService.getAllWorkers();
@@ -208,12 +205,10 @@ class WorkerServiceTest {
             given(workerRepoService.findAll()).willReturn(Arrays.asList(workerWithNullEmail));
             given(abnormalLogService.findLatestAbnormalLogsForTargets(any(TargetType.class), any()))
                     .willReturn(List.of());
-            given(zoneHistoryRepoService.findByWorker_WorkerIdAndExistFlag(anyString(), anyInt()))
-                    .willReturn(zoneHist);
-            given(workerZoneRepoService.findByWorker_WorkerId(workerId))
+            given(zoneHistoryRepoService.getAllCurrentWorkerLocations())
+                    .willReturn(List.of(zoneHist));
+            given(workerZoneRepoService.findAllWithZone())
                     .willReturn(List.of());
-            given(workerZoneRepoService.findByWorkerWorkerIdAndManageYnIsTrue(workerId))
-                    .willReturn(Optional.empty());
 
             // when
             List<WorkerDetailResponse> responses = workerService.getAllWorkers();
@@ -229,12 +224,10 @@ class WorkerServiceTest {
             // given
             List<Worker> workers = List.of(worker);
             given(workerRepoService.findAll()).willReturn(workers);
-            given(zoneHistoryRepoService.findByWorker_WorkerIdAndExistFlag(anyString(), anyInt()))
+            given(zoneHistoryRepoService.getAllCurrentWorkerLocations())
                     .willThrow(new RuntimeException("DB down"));              // 예외 유도
-            given(workerZoneRepoService.findByWorker_WorkerId(workerId))
+            given(workerZoneRepoService.findAllWithZone())
                     .willReturn(List.of(workerZone));
-            given(workerZoneRepoService.findByWorkerWorkerIdAndManageYnIsTrue(workerId))
-                    .willReturn(Optional.empty());
 
             // when
             List<WorkerDetailResponse> result = workerService.getAllWorkers();
@@ -256,12 +249,10 @@ class WorkerServiceTest {
                     .build();
 
             given(workerRepoService.findAll()).willReturn(List.of(worker));
-            given(zoneHistoryRepoService.findByWorker_WorkerIdAndExistFlag(anyString(), anyInt()))
-                    .willReturn(zoneHist);
-            given(workerZoneRepoService.findByWorker_WorkerId(workerId))
+            given(zoneHistoryRepoService.getAllCurrentWorkerLocations())
+                    .willReturn(List.of(zoneHist));
+            given(workerZoneRepoService.findAllWithZone())
                     .willReturn(List.of(managerZone));                // access zones
-            given(workerZoneRepoService.findByWorkerWorkerIdAndManageYnIsTrue(workerId))
-                    .willReturn(Optional.of(managerZone));            // managed zone
 
             // when
             WorkerDetailResponse dto = workerService.getAllWorkers().get(0);
@@ -275,7 +266,7 @@ class WorkerServiceTest {
         void getAllWorkers_WhenConversionFails() {
             // given: workerZoneRepoService 가 NullPointerException 유발
             given(workerRepoService.findAll()).willReturn(List.of(worker));
-            given(workerZoneRepoService.findByWorker_WorkerId(workerId))
+            given(workerZoneRepoService.findAllWithZone())
                     .willThrow(new NullPointerException("mock npe"));
 
             // when
@@ -286,6 +277,45 @@ class WorkerServiceTest {
             assertThat(dto.getManagedZones()).isEmpty();
             assertThat(dto.getCurrentZoneId()).isEqualTo("00000000000000-000");
         }
+
+        @Test
+        @DisplayName("작업자 수와 관계없이 조회 쿼리 수가 고정됨 (N+1 없음)")
+        void getAllWorkers_FixedQueryCount() {
+            // given: 작업자 50명, 모두 같은 공간에 위치하고 같은 공간 출입 권한 보유
+            List<Worker> workers = new ArrayList<>();
+            List<ZoneHist> locations = new ArrayList<>();
+            List<WorkerZone> workerZones = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                Worker w = Worker.builder().workerId("W" + i).name("작업자" + i).build();
+                workers.add(w);
+                locations.add(ZoneHist.builder().worker(w).zone(zone).existFlag(1).startTime(LocalDateTime.now()).build());
+                workerZones.add(WorkerZone.builder()
+                        .id(new WorkerZoneId(w.getWorkerId(), zoneId))
+                        .worker(w)
+                        .zone(zone)
+                        .manageYn(i == 0)
+                        .build());
+            }
+            given(workerRepoService.findAll()).willReturn(workers);
+            given(abnormalLogService.findLatestAbnormalLogsForTargets(any(TargetType.class), any()))
+                    .willReturn(List.of());
+            given(zoneHistoryRepoService.getAllCurrentWorkerLocations()).willReturn(locations);
+            given(workerZoneRepoService.findAllWithZone()).willReturn(workerZones);
+
+            // when
+            List<WorkerDetailResponse> responses = workerService.getAllWorkers();
+
+            // then: 각 조회는 1회씩만 호출되고, 작업자 단위 조회는 호출되지 않음
+            assertThat(responses).hasSize(50);
+            assertThat(responses.get(0).getIsManager()).isTrue();
+            assertThat(responses.get(1).getIsManager()).isFalse();
+            assertThat(responses).allMatch(r -> zoneId.equals(r.getCurrentZoneId()) && r.getAccessZones().size() == 1);
+            verify(workerRepoService, times(1)).findAll();
+            verify(abnormalLogService, times(1)).findLatestAbnormalLogsForTargets(any(TargetType.class), any());
+            verify(zoneHistoryRepoService, times(1)).getAllCurrentWorkerLocations();
+            verify(workerZoneRepoService, times(1)).findAllWithZone();
+            verifyNoMoreInteractions(workerRepoService, abnormalLogService, zoneHistoryRepoService, workerZoneRepoService);
+        }
     }
 
     @Nested
@@ -511,6 +541,7 @@ class WorkerServiceTest {
             assertThat(worker.getName()).isEqualTo("새이름");
             assertThat(worker.getPhoneNumber()).isEqualTo("010-9999-8888");
             assertThat(worker.getEmail()).isEqualTo("new@test.com");
+            verify(workerRepoService, times(1)).save(worker);
             verify(workerZoneRepoService, times(1)).deleteByWorkerWorkerId(workerId);
             verify(workerZoneRepoService, times(1)).save(any(WorkerZone.class));
         }
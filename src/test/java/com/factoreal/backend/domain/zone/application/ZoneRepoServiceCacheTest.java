@@ -0,0 +1,123 @@
+package com.factoreal.backend.domain.zone.application;
+
+import com.factoreal.backend.domain.zone.dao.ZoneRepository;
+import com.factoreal.backend.domain.zone.entity.Zone;
+import com.factoreal.backend.global.config.CacheConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * ZoneRepoService 메타데이터 캐시 동작 테스트
+ * - findCachedById 는 두 번째 조회부터 DB 를 타지 않는다
+ * - save 시 해당 공간의 캐시가 무효화된다 (트랜잭션 안이면 커밋 이후)
+ */
+@SpringJUnitConfig(ZoneRepoServiceCacheTest.TestConfig.class)
+class ZoneRepoServiceCacheTest {
+
+    @Configuration
+    @EnableCaching
+    static class TestConfig {
+        @Bean
+        ZoneRepository zoneRepository() {
+            return mock(ZoneRepository.class);
+        }
+
+        @Bean
+        ZoneRepoService zoneRepoService(ZoneRepository zoneRepository) {
+            return new ZoneRepoService(zoneRepository, mock(ApplicationEventPublisher.class));
+        }
+
+        @Bean
+        CacheManager cacheManager() {
+            return new TransactionAwareCacheManagerProxy(new ConcurrentMapCacheManager(CacheConfig.ZONE));
+        }
+    }
+
+    @Autowired
+    private ZoneRepoService zoneRepoService;
+
+    @Autowired
+    private ZoneRepository zoneRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private final Zone zone = new Zone("Z1", "조립라인");
+
+    @BeforeEach
+    void setUp() {
+        reset(zoneRepository);
+        cacheManager.getCache(CacheConfig.ZONE).clear();
+        when(zoneRepository.findById("Z1")).thenReturn(Optional.of(zone));
+    }
+
+    @Test
+    @DisplayName("같은 공간을 반복 조회하면 레포지토리는 한 번만 호출된다")
+    void findCachedById_isCached() {
+        // ── act ───────────────────────────────────────────────
+        Zone first = zoneRepoService.findCachedById("Z1");
+        Zone second = zoneRepoService.findCachedById("Z1");
+
+        // ── assert ────────────────────────────────────────────
+        assertThat(first).isSameAs(second);
+        verify(zoneRepository, times(1)).findById("Z1");
+    }
+
+    @Test
+    @DisplayName("공간 저장 시 해당 공간의 캐시가 무효화된다")
+    void save_evictsCache() {
+        // ── arrange ───────────────────────────────────────────
+        zoneRepoService.findCachedById("Z1");
+        when(zoneRepository.save(zone)).thenReturn(zone);
+
+        // ── act ───────────────────────────────────────────────
+        zoneRepoService.save(zone);
+        zoneRepoService.findCachedById("Z1");
+
+        // ── assert ────────────────────────────────────────────
+        verify(zoneRepository, times(2)).findById("Z1");
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 저장하면 커밋 이후에 캐시가 무효화된다")
+    void save_evictsCacheAfterCommit() {
+        // ── arrange ───────────────────────────────────────────
+        zoneRepoService.findCachedById("Z1");
+        when(zoneRepository.save(zone)).thenReturn(zone);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // ── act ───────────────────────────────────────────
+            zoneRepoService.save(zone);
+            zoneRepoService.findCachedById("Z1");
+
+            // ── assert : 커밋 전에는 캐시 유지 ─────────────────
+            verify(zoneRepository, times(1)).findById("Z1");
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        zoneRepoService.findCachedById("Z1");
+
+        // ── assert : 커밋 이후 다시 조회 ──────────────────────
+        verify(zoneRepository, times(2)).findById("Z1");
+    }
+}
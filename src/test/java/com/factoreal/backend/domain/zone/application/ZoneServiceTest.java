@@ -5,10 +5,8 @@ import com.factoreal.backend.domain.abnormalLog.dto.TargetType;
 import com.factoreal.backend.domain.abnormalLog.dto.request.AbnormalPagingRequest;
 import com.factoreal.backend.domain.abnormalLog.entity.AbnormalLog;
 import com.factoreal.backend.domain.equip.application.EquipRepoService;
-import com.factoreal.backend.domain.equip.dto.response.EquipDetailResponse;
 import com.factoreal.backend.domain.equip.entity.Equip;
 import com.factoreal.backend.domain.sensor.application.SensorRepoService;
-import com.factoreal.backend.domain.sensor.entity.Sensor;
 import com.factoreal.backend.domain.zone.dto.request.ZoneCreateRequest;
 import com.factoreal.backend.domain.zone.dto.request.ZoneUpdateRequest;
 import com.factoreal.backend.domain.zone.dto.response.ZoneDetailResponse;
@@ -18,7 +16,6 @@ import com.factoreal.backend.domain.zone.entity.Zone;
 import com.factoreal.backend.global.exception.dto.BadRequestException;
 import com.factoreal.backend.global.exception.dto.DuplicateResourceException;
 import com.factoreal.backend.global.exception.dto.NotFoundException;
-import com.factoreal.backend.messaging.kafka.strategy.enums.SensorType;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -31,7 +28,6 @@ import org.testcontainers.shaded.com.fasterxml.jackson.core.JsonProcessingExcept
 import org.testcontainers.shaded.com.fasterxml.jackson.databind.ObjectMapper;
 import org.testcontainers.shaded.com.fasterxml.jackson.databind.SerializationFeature;
 
-import java.lang.reflect.Method;
 import java.time.LocalDateTime;
 import java.util.*;
 
@@ -53,6 +49,8 @@ class ZoneServiceTest {
     private EquipRepoService equipRepoService;
     @Mock
     private AbnormalLogRepoService abnormalLogRepoService;
+    @Mock
+    private ZoneTopologyReadModel zoneTopologyReadModel;
 
 
     // 1. createZone
@@ -183,119 +181,22 @@ class ZoneServiceTest {
     }
 
     @Test
-    void getZoneItems_success() throws JsonProcessingException {
-        Zone zone = new Zone("zone-1", "대기실");
-        when(zoneRepoService.findAll()).thenReturn(List.of(zone));
-
-        // 설비 mock 데이터 추가
-        Equip facEquip = mock(Equip.class);
-        when(facEquip.getEquipId()).thenReturn("equip-1");
-        when(facEquip.getEquipName()).thenReturn("포장기");
-
-        // ── 2. 이름이 "empty"인 설비 → 환경 센서가 들어오는 곳은 설비 이름이 empty가 됨
-        Equip emptyEquip = mock(Equip.class);
-        lenient().when(emptyEquip.getEquipId()).thenReturn("equip-2");
-        when(emptyEquip.getEquipName()).thenReturn("empty"); // ❌ 필터링 대상
-
-        // ── 3. 이름이 null인 설비 → 설비가 아얘 존재하지 않는 문제 구간
-        Equip nullEquip = mock(Equip.class);
-        lenient().when(nullEquip.getEquipId()).thenReturn("equip-3");
-        when(nullEquip.getEquipName()).thenReturn(null);     // ❌ 필터링 대상
-
-        // ── [환경] 센서가 참조할 더미 Equip  (equipId = zoneId)
-        Equip envEquip = mock(Equip.class);
-        when(envEquip.getEquipId()).thenReturn(zone.getZoneId());   // ★ zoneId == equipId
-        lenient().when(envEquip.getEquipName()).thenReturn("ENV-DUMMY");
-
-        // 환경센서를 위한 데이터
-        Sensor envSensor = mock(Sensor.class);
-        when(envSensor.getZone()).thenReturn(zone);
-        when(envSensor.getEquip()).thenReturn(envEquip);
-        when(envSensor.getSensorType()).thenReturn(SensorType.temp);
-        when(envSensor.getSensorId()).thenReturn("S-1");
-
-        // 공간에 존재하는 설비에 대한 설비 센서
-        Sensor facSensor = mock(Sensor.class);
-        when(facSensor.getZone()).thenReturn(zone);
-        when(facSensor.getEquip()).thenReturn(facEquip);
-        when(facSensor.getSensorType()).thenReturn(SensorType.vibration);
-        when(facSensor.getSensorId()).thenReturn("S-2");
-
-        when(sensorRepoService.findByZone(zone)).thenReturn(List.of(envSensor, facSensor));
-        // 각 경우의 수에 모든 설비 데이터를 조회 요소로 넣어줌
-        when(equipRepoService.findEquipsByZone(zone)).thenReturn(List.of(facEquip, emptyEquip, nullEquip));
+    @DisplayName("공간 구성 조회는 ZoneTopologyReadModel 스냅샷을 그대로 반환")
+    void getZoneItems_delegatesToReadModel() {
+        List<ZoneDetailResponse> snapshot = List.of(ZoneDetailResponse.builder()
+                .zoneId("zone-1")
+                .zoneName("대기실")
+                .envList(List.of())
+                .equipList(List.of())
+                .build());
+        when(zoneTopologyReadModel.getZoneItems()).thenReturn(snapshot);
 
         List<ZoneDetailResponse> res = zoneService.getZoneItems();
 
-        // 객체 확인
-        ObjectMapper om = new ObjectMapper();   // LocalDateTime 등 지원
-        String resObj = om.writerWithDefaultPrettyPrinter()
-                .writeValueAsString(res);
-
-        System.out.println(resObj);
-
-        assertThat(res).hasSize(1);
-        assertThat(res.get(0).getZoneName()).isEqualTo("대기실");
-
-        // 환경-센서 1개, 설비-센서 1개까지 확인하고 싶다면
-        assertThat(res.get(0).getEnvList()).hasSize(1);
-        assertThat(res.get(0).getEquipList()).hasSize(1);
-        assertThat(res.get(0).getEquipList().get(0).getFacSensor()).hasSize(1);
-    }
-
-    // 공간에 대한 설비들의 상세정보를 보내주는 메서드
-    @SuppressWarnings("unchecked")
-    private List<EquipDetailResponse> invokeEquipDetails(Zone zone) throws Exception {
-        Method m = ZoneService.class.getDeclaredMethod("getEquipDetailDtos", Zone.class);
-        m.setAccessible(true);                    // private 접근 허용
-        return (List<EquipDetailResponse>) m.invoke(zoneService, zone);
+        assertThat(res).isSameAs(snapshot);
+        verifyNoInteractions(sensorRepoService, equipRepoService);
     }
 
-//    // 환경 센서만 존재하는 경우 체크
-//    @Test
-//    void equipName_empty_filteredOut() throws Exception {
-//        Zone zone = new Zone("Z-empty", "테스트존");
-//
-//        Equip emptyEquip = mock(Equip.class);
-//        when(emptyEquip.getEquipName()).thenReturn("empty"); // ← "empty" 이름
-//
-//        when(equipRepoService.findEquipsByZone(zone))
-//                .thenReturn(List.of(emptyEquip));
-//        when(sensorRepoService.findByZone(zone))
-//                .thenReturn(List.of());
-//
-//        List<EquipDetailResponse> list = invokeEquipDetails(zone);
-//
-//        assertThat(list).isEmpty();                          // false 분기 실행 확인
-//        // 환경센서를 위한 데이터
-//        Sensor envSensor = mock(Sensor.class);
-//        when(envSensor.getZone()).thenReturn(zone);
-//        when(envSensor.getEquip()).thenReturn(emptyEquip);
-//        when(envSensor.getSensorType()).thenReturn(SensorType.temp);
-//        when(envSensor.getSensorId()).thenReturn("S-1");
-//
-//        when(sensorRepoService.findByZone(zone)).thenReturn(List.of(envSensor));
-//        // 각 경우의 수에 모든 설비 데이터를 조회 요소로 넣어줌
-//        when(equipRepoService.findEquipsByZone(zone)).thenReturn(List.of(emptyEquip));
-//
-//        List<ZoneDetailResponse> res = zoneService.getZoneItems();
-//
-//        // 객체 확인
-//        ObjectMapper om = new ObjectMapper();   // LocalDateTime 등 지원
-//        String resObj = om.writerWithDefaultPrettyPrinter()
-//                .writeValueAsString(res);
-//
-//        System.out.println(resObj);
-//
-//        assertThat(res.get(0).getZoneName()).isEqualTo("대기실");
-//
-//        // 환경-센서 1개, 설비-센서 1개까지 확인하고 싶다면
-//        assertThat(res.get(0).getEnvList()).hasSize(1);
-//        assertThat(res.get(0).getEquipList()).hasSize(1);
-//        assertThat(res.get(0).getEquipList().get(0).getFacSensor()).hasSize(1);
-//
-//    }
-
     @Test
     void findSystemLogsByZoneId_success() throws JsonProcessingException {
         String zoneId = "zone-1";
@@ -0,0 +1,109 @@
+package com.factoreal.backend.domain.zone.application;
+
+import com.factoreal.backend.domain.equip.application.EquipRepoService;
+import com.factoreal.backend.domain.equip.entity.Equip;
+import com.factoreal.backend.domain.sensor.application.SensorRepoService;
+import com.factoreal.backend.domain.sensor.entity.Sensor;
+import com.factoreal.backend.domain.zone.dto.response.ZoneDetailResponse;
+import com.factoreal.backend.domain.zone.entity.Zone;
+import com.factoreal.backend.messaging.kafka.strategy.enums.SensorType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ZoneTopologyReadModelTest {
+
+    @InjectMocks
+    private ZoneTopologyReadModel readModel;
+
+    @Mock
+    private ZoneRepoService zoneRepoService;
+    @Mock
+    private EquipRepoService equipRepoService;
+    @Mock
+    private SensorRepoService sensorRepoService;
+
+    private final Zone zone = new Zone("zone-1", "대기실");
+    private final Zone otherZone = new Zone("zone-2", "포장실");
+
+    @BeforeEach
+    void setUp() {
+        // 설비 : 정상 / 환경센서용 empty / 이름 없음(필터링) / 다른 공간 설비
+        Equip facEquip = new Equip("equip-1", "포장기", zone);
+        Equip emptyEquip = new Equip(zone.getZoneId(), "empty", zone);
+        Equip nullEquip = new Equip("equip-3", null, zone);
+        Equip otherEquip = new Equip("equip-4", "컨베이어", otherZone);
+
+        Sensor envSensor = sensor("S-1", SensorType.temp, zone, emptyEquip);
+        Sensor facSensor = sensor("S-2", SensorType.vibration, zone, facEquip);
+        Sensor otherFacSensor = sensor("S-3", SensorType.current, otherZone, otherEquip);
+
+        when(zoneRepoService.findAll()).thenReturn(List.of(zone, otherZone));
+        when(equipRepoService.findAllWithZone()).thenReturn(List.of(facEquip, emptyEquip, nullEquip, otherEquip));
+        when(sensorRepoService.findAllWithZoneAndEquip()).thenReturn(List.of(envSensor, facSensor, otherFacSensor));
+    }
+
+    private Sensor sensor(String sensorId, SensorType type, Zone zone, Equip equip) {
+        Sensor sensor = new Sensor();
+        sensor.setSensorId(sensorId);
+        sensor.setSensorType(type);
+        sensor.setZone(zone);
+        sensor.setEquip(equip);
+        return sensor;
+    }
+
+    @Test
+    @DisplayName("공간별 환경센서/설비/설비센서를 조립하고 empty·이름 없는 설비는 제외")
+    void getZoneItems_buildsFromBulkQueries() {
+        List<ZoneDetailResponse> res = readModel.getZoneItems();
+
+        assertThat(res).hasSize(2);
+        ZoneDetailResponse first = res.get(0);
+        assertThat(first.getZoneName()).isEqualTo("대기실");
+        assertThat(first.getEnvList()).extracting("sensorId").containsExactly("S-1");
+        assertThat(first.getEquipList()).extracting("equipId").containsExactly("equip-1");
+        assertThat(first.getEquipList().get(0).getFacSensor()).extracting("sensorId").containsExactly("S-2");
+
+        ZoneDetailResponse second = res.get(1);
+        assertThat(second.getEnvList()).isEmpty();
+        assertThat(second.getEquipList().get(0).getFacSensor()).extracting("sensorId").containsExactly("S-3");
+    }
+
+    @Test
+    @DisplayName("스냅샷은 재사용되고 수정할 수 없음")
+    void getZoneItems_cachesImmutableSnapshot() {
+        List<ZoneDetailResponse> first = readModel.getZoneItems();
+        List<ZoneDetailResponse> second = readModel.getZoneItems();
+
+        assertThat(second).isSameAs(first);
+        verify(zoneRepoService, times(1)).findAll();
+        verify(equipRepoService, times(1)).findAllWithZone();
+        verify(sensorRepoService, times(1)).findAllWithZoneAndEquip();
+        assertThatThrownBy(() -> first.get(0).getEnvList().clear())
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("공간 구성 변경 이벤트 후에는 다시 조회")
+    void onTopologyChanged_invalidatesSnapshot() {
+        List<ZoneDetailResponse> first = readModel.getZoneItems();
+
+        readModel.onTopologyChanged(new ZoneTopologyChangedEvent("sensor"));
+        List<ZoneDetailResponse> second = readModel.getZoneItems();
+
+        assertThat(second).isNotSameAs(first);
+        verify(zoneRepoService, times(2)).findAll();
+        verify(sensorRepoService, times(2)).findAllWithZoneAndEquip();
+    }
+}
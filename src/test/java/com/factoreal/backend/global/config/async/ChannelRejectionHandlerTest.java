@@ -0,0 +1,126 @@
+package com.factoreal.backend.global.config.async;
+
+import com.factoreal.backend.global.config.async.ChannelRejectionHandler.Policy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChannelRejectionHandlerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final List<String> executed = Collections.synchronizedList(new ArrayList<>());
+    private ThreadPoolExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    // 스레드 1개를 block 작업으로 점유시켜 이후 작업은 큐에 쌓이도록 함
+    private ThreadPoolExecutor blockedExecutor(int queueCapacity, Policy policy) throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS,
+                new BoundedPriorityBlockingQueue(queueCapacity),
+                new ChannelRejectionHandler("test", policy, meterRegistry));
+        executor.execute(() -> {
+            started.countDown();
+            await(release);
+        });
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+        return executor;
+    }
+
+    private Runnable record(String name) {
+        return () -> executed.add(name);
+    }
+
+    private double rejected(String action) {
+        return meterRegistry.get("executor.rejected").tag("channel", "test").tag("action", action).counter().count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drain() throws InterruptedException {
+        release.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("CRITICAL 작업이 먼저 들어온 INFO 작업보다 먼저 실행되고 같은 우선순위는 들어온 순서대로 실행")
+    void priorityQueue_runsHigherPriorityFirst() throws InterruptedException {
+        blockedExecutor(10, Policy.EVICT_LOWER_OR_CALLER_RUNS);
+
+        TaskPriority.run(0, () -> executor.execute(record("info-1")));
+        TaskPriority.run(0, () -> executor.execute(record("info-2")));
+        executor.execute(record("default"));
+        TaskPriority.run(2, () -> executor.execute(record("critical")));
+        drain();
+
+        assertThat(executed).containsExactly("critical", "default", "info-1", "info-2");
+    }
+
+    @Test
+    @DisplayName("큐가 차면 우선순위가 낮은 대기 작업을 밀어내고 새 작업을 넣음")
+    void evict_lowerPriorityTaskIsReplaced() throws InterruptedException {
+        blockedExecutor(2, Policy.EVICT_LOWER_OR_CALLER_RUNS);
+
+        TaskPriority.run(0, () -> executor.execute(record("info-1")));
+        TaskPriority.run(0, () -> executor.execute(record("info-2")));
+        TaskPriority.run(2, () -> executor.execute(record("critical")));
+        drain();
+
+        // 같은 우선순위 중 가장 늦게 들어온 작업을 밀어냄
+        assertThat(executed).containsExactly("critical", "info-1");
+        assertThat(rejected("evicted")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("밀어낼 작업이 없으면 호출 스레드에서 실행")
+    void evict_noLowerPriority_callerRuns() throws InterruptedException {
+        blockedExecutor(1, Policy.EVICT_LOWER_OR_CALLER_RUNS);
+
+        // 우선순위를 지정하지 않은 작업은 밀어내기 대상이 아님
+        executor.execute(record("queued"));
+        TaskPriority.run(2, () -> executor.execute(record("critical")));
+
+        assertThat(executed).containsExactly("critical");
+        assertThat(rejected("caller_runs")).isEqualTo(1.0);
+        drain();
+        assertThat(executed).containsExactly("critical", "queued");
+    }
+
+    @Test
+    @DisplayName("DROP_OLDEST 는 가장 오래된 대기 작업을 버림")
+    void dropOldest_discardsOldestQueuedTask() throws InterruptedException {
+        blockedExecutor(2, Policy.DROP_OLDEST);
+
+        executor.execute(record("first"));
+        executor.execute(record("second"));
+        executor.execute(record("third"));
+        drain();
+
+        assertThat(executed).containsExactly("second", "third");
+        assertThat(rejected("dropped")).isEqualTo(1.0);
+    }
+}
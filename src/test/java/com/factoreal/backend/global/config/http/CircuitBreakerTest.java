@@ -0,0 +1,75 @@
+package com.factoreal.backend.global.config.http;
+
+import com.factoreal.backend.global.config.http.CircuitBreaker.State;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong(1_000);
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker("test", 3, 500, now::get);
+
+    private void fail(int times) {
+        for (int i = 0; i < times; i++) {
+            assertThat(circuitBreaker.tryAcquire()).isTrue();
+            circuitBreaker.onFailure();
+        }
+    }
+
+    @Test
+    @DisplayName("연속 실패가 임계치에 도달하면 open 되어 호출을 차단")
+    void opensAfterConsecutiveFailures() {
+        fail(2);
+        assertThat(circuitBreaker.getState()).isEqualTo(State.CLOSED);
+
+        fail(1);
+
+        assertThat(circuitBreaker.getState()).isEqualTo(State.OPEN);
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    @DisplayName("성공하면 연속 실패 횟수 초기화")
+    void successResetsFailureCount() {
+        fail(2);
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+        circuitBreaker.onSuccess();
+        fail(2);
+
+        assertThat(circuitBreaker.getState()).isEqualTo(State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("open 시간이 지나면 한 건만 시험 호출, 성공 시 closed")
+    void halfOpenAllowsSingleTrial() {
+        fail(3);
+        now.addAndGet(500);
+
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+        assertThat(circuitBreaker.getState()).isEqualTo(State.HALF_OPEN);
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+
+        circuitBreaker.onSuccess();
+
+        assertThat(circuitBreaker.getState()).isEqualTo(State.CLOSED);
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    @DisplayName("시험 호출이 실패하면 다시 open")
+    void halfOpenFailureReopens() {
+        fail(3);
+        now.addAndGet(500);
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+
+        circuitBreaker.onFailure();
+
+        assertThat(circuitBreaker.getState()).isEqualTo(State.OPEN);
+        now.addAndGet(499);
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+    }
+}
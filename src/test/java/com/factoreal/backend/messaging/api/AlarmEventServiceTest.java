@@ -72,7 +72,7 @@ class AlarmEventServiceTest {
     @DisplayName("startAlarm()이 정상적으로 전략을 실행한다")
     void testStartAlarmSuccess() {
         // given
-        when(zoneRepoService.findById("zone-001")).thenReturn(zone);
+        when(zoneRepoService.findCachedById("zone-001")).thenReturn(zone);
         when(notificationStrategyFactory.getStrategiesForLevel(RiskLevel.WARNING))
             .thenReturn(List.of(mockStrategy));
 
@@ -87,7 +87,7 @@ class AlarmEventServiceTest {
     @DisplayName("startAlarm()에서 DTO 생성 도중 예외 발생 시 전략이 실행되지 않는다")
     void testStartAlarm_DtoCreationFails() {
         // given
-        when(zoneRepoService.findById("zone-001"))
+        when(zoneRepoService.findCachedById("zone-001"))
             .thenThrow(new RuntimeException("DB 오류"));
 
         // when
@@ -101,7 +101,7 @@ class AlarmEventServiceTest {
     @DisplayName("SensorKafkaDto 기반 generateAlarmDto() 테스트 - 설비 센서")
     void testGenerateAlarmDto_WithSensorKafkaDto() throws Exception {
         // given
-        when(zoneRepoService.findById("zone-001")).thenReturn(zone);
+        when(zoneRepoService.findCachedById("zone-001")).thenReturn(zone);
 
         SensorKafkaDto dto = new SensorKafkaDto(
             "zone-001", "equip-02", "sensor-01",
@@ -126,7 +126,7 @@ class AlarmEventServiceTest {
     @DisplayName("WearablerKafkaDto 기반 generateAlarmDto() 테스트 - 설비 센서")
     void testGenerateAlarmDto_WithWearableKafkaDto() throws Exception {
         // given
-//        when(zoneRepoService.findById("zone-001")).thenReturn(zone);
+//        when(zoneRepoService.findCachedById("zone-001")).thenReturn(zone);
 
         WearableKafkaDto dto = new WearableKafkaDto(
             "wearable-001", "worker-01", "temp",
@@ -84,7 +84,7 @@ class AutoControlServiceTest {
         autoControlService.evaluate(sensorKafkaDto, abnormalLog, 0);
 
         // then - 센서 조회 및 제어 로직이 실행되지 않음을 검증
-        verify(sensorRepoService, never()).findById(any());
+        verify(sensorRepoService, never()).findCachedById(any());
         verify(controlLogService, never()).saveControlLog(any(), any(), any(), any(), any());
     }
 
@@ -97,7 +97,7 @@ class AutoControlServiceTest {
         dto.setVal(25.0);
 
         AbnormalLog abnormalLog = mock(AbnormalLog.class);
-        when(sensorRepoService.findById(anyString())).thenThrow(new NotFoundException("존재하지 않는 센서 ID: nonexistent"));
+        when(sensorRepoService.findCachedById(anyString())).thenThrow(new NotFoundException("존재하지 않는 센서 ID: nonexistent"));
 
         // when & then
         assertThatThrownBy(() -> autoControlService.evaluate(dto, abnormalLog, 1))
@@ -112,7 +112,7 @@ class AutoControlServiceTest {
     void whenValueInRange_thenNoControl() {
         // given - 허용 범위 내의 값으로 설정
         sensorKafkaDto.setVal(26.0);  // 허용 범위 내 (25 ± 2)
-        given(sensorRepoService.findById(any())).willReturn(sensor);
+        given(sensorRepoService.findCachedById(any())).willReturn(sensor);
 
         // when - 위험 수준 1로 평가 실행
         autoControlService.evaluate(sensorKafkaDto, abnormalLog, 1);
@@ -126,7 +126,7 @@ class AutoControlServiceTest {
     void whenValueOutOfRange_thenControl() {
         // given - 허용 범위를 초과하는 값으로 설정
         sensorKafkaDto.setVal(28.0);  // 허용 범위 초과 (25 ± 2)
-        given(sensorRepoService.findById(any())).willReturn(sensor);
+        given(sensorRepoService.findCachedById(any())).willReturn(sensor);
 
         // when - 위험 수준 1로 평가 실행
         autoControlService.evaluate(sensorKafkaDto, abnormalLog, 1);
@@ -141,7 +141,7 @@ class AutoControlServiceTest {
     void whenValueBelowRange_thenControl() {
         // given - 허용 범위 미만의 값으로 설정
         sensorKafkaDto.setVal(22.0);  // 허용 범위 미만 (25 ± 2)
-        given(sensorRepoService.findById(any())).willReturn(sensor);
+        given(sensorRepoService.findCachedById(any())).willReturn(sensor);
 
         // when - 위험 수준 1로 평가 실행
         autoControlService.evaluate(sensorKafkaDto, abnormalLog, 1);
@@ -155,7 +155,7 @@ class AutoControlServiceTest {
     @DisplayName("극단적인 측정값에 대한 처리 테스트")
     void testExtremeValues() {
         // given - 센서 조회 시 미리 생성한 센서 반환하도록 설정
-        given(sensorRepoService.findById(any())).willReturn(sensor);
+        given(sensorRepoService.findCachedById(any())).willReturn(sensor);
 
         // 1. 매우 큰 값 테스트
         sensorKafkaDto.setVal(Double.MAX_VALUE);
@@ -180,7 +180,7 @@ class AutoControlServiceTest {
         // given - sensorId만 설정하고 나머지 필드는 null인 DTO 생성
         SensorKafkaDto nullDto = new SensorKafkaDto();
         nullDto.setSensorId("SENSOR001");  // sensorId만 설정
-        given(sensorRepoService.findById(any())).willReturn(sensor);
+        given(sensorRepoService.findCachedById(any())).willReturn(sensor);
 
         // when - 대부분의 필드가 null인 DTO로 평가 실행
         autoControlService.evaluate(nullDto, abnormalLog, 1);
@@ -193,7 +193,7 @@ class AutoControlServiceTest {
     @DisplayName("다양한 센서 타입에 대한 제어 타입 매핑 테스트")
     void testDifferentSensorTypeControlMapping() {
         // given - 센서 조회 시 미리 생성한 센서 반환하도록 설정
-        given(sensorRepoService.findById(any())).willReturn(sensor);
+        given(sensorRepoService.findCachedById(any())).willReturn(sensor);
 
         // 1. 온도 센서 테스트
         sensor.setSensorType(SensorType.temp);
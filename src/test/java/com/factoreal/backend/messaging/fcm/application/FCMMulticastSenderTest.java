@@ -0,0 +1,59 @@
+package com.factoreal.backend.messaging.fcm.application;
+
+import com.factoreal.backend.messaging.fcm.dto.FCMSendResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FCMMulticastSenderTest {
+
+    private final FakeFCMGateway gateway = new FakeFCMGateway();
+    private final FCMMulticastSender sender = new FCMMulticastSender(gateway, 2);
+
+    @AfterEach
+    void tearDown() {
+        sender.shutdown();
+    }
+
+    private static List<String> tokens(int count) {
+        return IntStream.range(0, count).mapToObj(i -> "token-" + i).toList();
+    }
+
+    @Test
+    @DisplayName("✅ 500개 단위로 묶어 전송하고 결과는 토큰 순서대로 반환")
+    void send_splitsIntoBatches() {
+        List<String> tokens = tokens(1201);
+        gateway.rejectToken("token-700");
+
+        List<FCMSendResult> results = sender.send(tokens, "title", "body").join();
+
+        assertThat(gateway.batches()).extracting(List::size).containsExactlyInAnyOrder(500, 500, 201);
+        assertThat(results).extracting(FCMSendResult::getToken).containsExactlyElementsOf(tokens);
+        assertThat(results.get(700).isSuccess()).isFalse();
+        assertThat(results.get(700).getError()).isEqualTo("UNREGISTERED");
+        assertThat(results).filteredOn(FCMSendResult::isSuccess).hasSize(1200);
+    }
+
+    @Test
+    @DisplayName("❌ 묶음 전체가 실패하면 그 묶음의 토큰만 실패 처리")
+    void send_batchFailureMarksOnlyThatBatch() {
+        gateway.failNextBatch(1);
+
+        List<FCMSendResult> results = sender.send(tokens(3), "title", "body").join();
+
+        assertThat(results).hasSize(3).allMatch(r -> !r.isSuccess());
+        assertThat(results.get(0).getError()).isEqualTo("fake fcm failure");
+    }
+
+    @Test
+    @DisplayName("토큰이 없으면 전송하지 않음")
+    void send_emptyTokens() {
+        assertThat(sender.send(List.of(), "title", "body").join()).isEmpty();
+        assertThat(gateway.batches()).isEmpty();
+    }
+}
@@ -32,13 +32,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -65,6 +68,11 @@ class FCMServiceTest {
     @Mock
     private SensorRepoService sensorRepoService;
 
+    // 공간 알림은 로컬 FCM 대역으로 실제 멀티캐스트 발송 경로를 태움
+    private final FakeFCMGateway fcmGateway = new FakeFCMGateway();
+    @Spy
+    private FCMMulticastSender fcmMulticastSender = new FCMMulticastSender(fcmGateway, 2);
+
     @InjectMocks
     private FCMService fcmService; // The class under test
 
@@ -302,36 +310,81 @@ class FCMServiceTest {
         when(zoneRepoService.findById(zoneId)).thenReturn(mockZone);
         when(abnormalLogRepoService.findLatestSensorLogInZoneWithDangerLevel(TargetType.Sensor, mockZone, dangerLevel))
                 .thenReturn(mockAbnormalLog);
-        when(sensorRepoService.getSensorById(mockAbnormalLog.getTargetId())).thenReturn(mockSensor);
+        when(sensorRepoService.findCachedById(mockAbnormalLog.getTargetId())).thenReturn(mockSensor);
         when(zoneHistoryRepoService.getCurrentWorkersByZoneId(zoneId)).thenReturn(zoneHists);
-        when(fcmPushService.sendMessage(anyString(), anyString(), anyString()))
-                .thenReturn(CompletableFuture.completedFuture("messageId"));
 
         // Act
-        fcmService.sendZoneSafety(zoneId, dangerLevel, triggerType, time, null);
+        List<FCMResponse> responses = fcmService.sendZoneSafety(zoneId, dangerLevel, triggerType, time, null);
 
         // Assert
         verify(zoneRepoService).findById(zoneId);
         verify(abnormalLogRepoService).findLatestSensorLogInZoneWithDangerLevel(TargetType.Sensor, mockZone, dangerLevel);
-        verify(sensorRepoService).getSensorById(mockAbnormalLog.getTargetId());
+        verify(sensorRepoService).findCachedById(mockAbnormalLog.getTargetId());
         verify(zoneHistoryRepoService).getCurrentWorkersByZoneId(zoneId);
 
         String expectedTitle = "[주의] 수동 호출, 작업장 위험"; // Title is fixed in code
         String expectedBody = "Test Zone에 있는 작업자들은 temp 센서의 수치가 높으므로 주의하세요.";
 
-        verify(fcmPushService, times(2)).sendMessage(anyString(), eq(expectedTitle), eq(expectedBody));
-        verify(fcmPushService).sendMessage(eq(workerInZone1.getFcmToken()), eq(expectedTitle), eq(expectedBody));
-        verify(fcmPushService).sendMessage(eq(workerInZone2.getFcmToken()), eq(expectedTitle), eq(expectedBody));
+        // 개별 전송 대신 한 번의 멀티캐스트로 전송
+        verify(fcmPushService, never()).sendMessage(anyString(), anyString(), anyString());
+        verify(fcmMulticastSender).send(List.of("token1", "token2"), expectedTitle, expectedBody);
+        assertEquals(List.of(List.of("token1", "token2")), fcmGateway.batches());
+        assertTrue(responses.stream().allMatch(FCMResponse::isSuccess));
 
-        verify(notifyLogService, times(2)).saveNotifyLogFromFCM(
-                anyString(),
-                eq(Boolean.TRUE),
+        // 알림 기록은 한 번에 저장
+        verify(notifyLogService).saveNotifyLogsFromFCM(
+                eq(Map.of(workerInZone1.getWorkerId(), true, workerInZone2.getWorkerId(), true)),
+                eq(triggerType),
+                eq(time),
+                eq(mockAbnormalLog.getId())
+        );
+        verify(notifyLogService, never()).saveNotifyLogFromFCM(anyString(), anyBoolean(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("sendZoneSafety - 토큰별 전송 결과와 토큰 없는 작업자를 작업자별로 매핑")
+    void sendZoneSafety_mapsPerTokenResultsToWorkers() {
+        // Arrange
+        String zoneId = "zone1";
+        TriggerType triggerType = TriggerType.AUTOMATIC;
+        LocalDateTime time = LocalDateTime.now();
+
+        Worker okWorker = new Worker();
+        okWorker.setWorkerId("okWorker");
+        okWorker.setFcmToken("okToken");
+        Worker expiredWorker = new Worker();
+        expiredWorker.setWorkerId("expiredWorker");
+        expiredWorker.setFcmToken("expiredToken");
+        Worker noTokenWorker = new Worker();
+        noTokenWorker.setWorkerId("noTokenWorker");
+
+        List<ZoneHist> zoneHists = List.of(okWorker, expiredWorker, noTokenWorker).stream()
+                .map(worker -> {
+                    ZoneHist zoneHist = new ZoneHist();
+                    zoneHist.setWorker(worker);
+                    return zoneHist;
+                })
+                .toList();
+        fcmGateway.rejectToken("expiredToken");
+
+        when(zoneRepoService.findById(zoneId)).thenReturn(mockZone);
+        when(sensorRepoService.findCachedById(mockAbnormalLog.getTargetId())).thenReturn(mockSensor);
+        when(zoneHistoryRepoService.getCurrentWorkersByZoneId(zoneId)).thenReturn(zoneHists);
+
+        // Act
+        List<FCMResponse> responses = fcmService.sendZoneSafety(zoneId, 2, triggerType, time, mockAbnormalLog);
+
+        // Assert
+        assertEquals(List.of(List.of("okToken", "expiredToken")), fcmGateway.batches());
+        Map<String, Boolean> successByWorker = responses.stream()
+                .collect(Collectors.toMap(FCMResponse::getWorkerId, FCMResponse::isSuccess));
+        assertEquals(Map.of("okWorker", true, "expiredWorker", false, "noTokenWorker", false), successByWorker);
+        verify(notifyLogService).saveNotifyLogsFromFCM(
+                eq(Map.of("okWorker", true, "expiredWorker", false, "noTokenWorker", false)),
                 eq(triggerType),
                 eq(time),
                 eq(mockAbnormalLog.getId())
         );
-        verify(notifyLogService).saveNotifyLogFromFCM(eq(workerInZone1.getWorkerId()), eq(Boolean.TRUE), eq(triggerType), eq(time), eq(mockAbnormalLog.getId()));
-        verify(notifyLogService).saveNotifyLogFromFCM(eq(workerInZone2.getWorkerId()), eq(Boolean.TRUE), eq(triggerType), eq(time), eq(mockAbnormalLog.getId()));
     }
 
     @Test
@@ -359,24 +412,21 @@ class FCMServiceTest {
 
         when(zoneRepoService.findById(zoneId)).thenReturn(mockZone);
         // findLatestSensorLogInZoneWithDangerLevel should NOT be called
-        when(sensorRepoService.getSensorById(providedAbnormalLog.getTargetId())).thenReturn(providedSensor);
+        when(sensorRepoService.findCachedById(providedAbnormalLog.getTargetId())).thenReturn(providedSensor);
         when(zoneHistoryRepoService.getCurrentWorkersByZoneId(zoneId)).thenReturn(zoneHists);
-        when(fcmPushService.sendMessage(anyString(), anyString(), anyString()))
-                .thenReturn(CompletableFuture.completedFuture("messageId"));
 
         // Act
         fcmService.sendZoneSafety(zoneId, dangerLevel, triggerType, time, providedAbnormalLog);
 
         // Assert
         verify(abnormalLogRepoService, never()).findLatestSensorLogInZoneWithDangerLevel(any(), any(), anyInt());
-        verify(sensorRepoService).getSensorById(providedAbnormalLog.getTargetId());
+        verify(sensorRepoService).findCachedById(providedAbnormalLog.getTargetId());
 
         String expectedBody = "Test Zone에 있는 작업자들은 temp 센서의 수치가 높으므로 주의하세요.";
-        verify(fcmPushService).sendMessage(eq(workerInZone.getFcmToken()), anyString(), eq(expectedBody));
+        verify(fcmMulticastSender).send(eq(List.of(workerInZone.getFcmToken())), anyString(), eq(expectedBody));
 
-        verify(notifyLogService).saveNotifyLogFromFCM(
-                eq(workerInZone.getWorkerId()),
-                eq(Boolean.TRUE),
+        verify(notifyLogService).saveNotifyLogsFromFCM(
+                eq(Map.of(workerInZone.getWorkerId(), true)),
                 eq(triggerType),
                 eq(time),
                 eq(providedAbnormalLog.getId())
@@ -395,7 +445,7 @@ class FCMServiceTest {
         when(zoneRepoService.findById(zoneId)).thenReturn(mockZone);
         when(abnormalLogRepoService.findLatestSensorLogInZoneWithDangerLevel(TargetType.Sensor, mockZone, dangerLevel))
                 .thenReturn(mockAbnormalLog); // This will still be called
-        when(sensorRepoService.getSensorById(mockAbnormalLog.getTargetId())).thenReturn(mockSensor);
+        when(sensorRepoService.findCachedById(mockAbnormalLog.getTargetId())).thenReturn(mockSensor);
         when(zoneHistoryRepoService.getCurrentWorkersByZoneId(zoneId)).thenReturn(Collections.emptyList()); // No workers
 
         // Act
@@ -403,7 +453,9 @@ class FCMServiceTest {
 
         // Assert
         verify(fcmPushService, never()).sendMessage(anyString(), anyString(), anyString());
+        assertTrue(fcmGateway.batches().isEmpty());
         verify(notifyLogService, never()).saveNotifyLogFromFCM(anyString(), anyBoolean(), any(), any(), anyLong());
+        verify(notifyLogService, never()).saveNotifyLogsFromFCM(any(), any(), any(), any());
     }
 
     @Nested
@@ -0,0 +1,52 @@
+package com.factoreal.backend.messaging.fcm.application;
+
+import com.factoreal.backend.messaging.fcm.dto.FCMSendResult;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 FirebaseMessaging 대역
+ * 실제 FCM 에 연결하지 않고 전송된 묶음을 메모리에 보관하며,
+ * rejectToken 으로 토큰별 실패, failNextBatch 로 묶음 전체 실패를 흉내냄
+ */
+class FakeFCMGateway implements FCMGateway {
+
+    private final List<List<String>> batches = new CopyOnWriteArrayList<>();
+    private final Set<String> rejectedTokens = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger batchFailures = new AtomicInteger();
+    private final AtomicInteger messageSeq = new AtomicInteger();
+
+    // 해당 토큰은 UNREGISTERED 로 실패 처리
+    void rejectToken(String token) {
+        rejectedTokens.add(token);
+    }
+
+    // 다음 count 번의 묶음 전송을 통째로 실패 처리
+    void failNextBatch(int count) {
+        batchFailures.set(count);
+    }
+
+    List<List<String>> batches() {
+        return batches;
+    }
+
+    @Override
+    public List<FCMSendResult> sendMulticast(List<String> tokens, String title, String body) throws Exception {
+        if (tokens.size() > FCMMulticastSender.MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("multicast 토큰 수 초과: " + tokens.size());
+        }
+        batches.add(List.copyOf(tokens));
+        if (batchFailures.getAndUpdate(n -> Math.max(0, n - 1)) > 0) {
+            throw new IllegalStateException("fake fcm failure");
+        }
+        return tokens.stream()
+                .map(token -> rejectedTokens.contains(token)
+                        ? FCMSendResult.failure(token, "UNREGISTERED")
+                        : FCMSendResult.success(token, "projects/test/messages/" + messageSeq.incrementAndGet()))
+                .toList();
+    }
+}
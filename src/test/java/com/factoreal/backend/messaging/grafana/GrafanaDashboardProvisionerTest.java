@@ -0,0 +1,134 @@
+package com.factoreal.backend.messaging.grafana;
+
+import com.factoreal.backend.domain.sensor.application.SensorRepoService;
+import com.factoreal.backend.domain.sensor.entity.Sensor;
+import com.factoreal.backend.messaging.kafka.strategy.enums.SensorType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GrafanaDashboardProvisionerTest {
+
+    @Mock
+    DashboardFactory factory;
+    @Mock
+    GrafanaClient client;
+    @Mock
+    SensorRepoService sensorRepo;
+
+    GrafanaDashboardProvisioner provisioner;
+
+    private final Sensor temp = sensor("S01", SensorType.temp);
+    private final Sensor humid = sensor("S02", SensorType.humid);
+
+    @BeforeEach
+    void setUp() {
+        provisioner = new GrafanaDashboardProvisioner(factory, client, sensorRepo);
+        ReflectionTestUtils.setField(provisioner, "datasourceUid", "ds-uid");
+    }
+
+    @AfterEach
+    void tearDown() {
+        provisioner.shutdown();
+    }
+
+    private static Sensor sensor(String sensorId, SensorType type) {
+        Sensor sensor = new Sensor();
+        sensor.setSensorId(sensorId);
+        sensor.setSensorType(type);
+        sensor.setIsZone(1);
+        return sensor;
+    }
+
+    @Test
+    @DisplayName("센서 구성이 같으면 Grafana 를 다시 호출하지 않음")
+    void sameSensorSet_reusesDashboard() throws Exception {
+        when(factory.build(eq("Z1"), anyList(), eq("ds-uid"))).thenReturn("{json}");
+        when(client.createDashboard("{json}")).thenReturn("DUID");
+
+        String first = provisioner.dashboardUid("Z1", List.of(temp, humid));
+        String second = provisioner.dashboardUid("Z1", List.of(temp, humid));
+
+        assertThat(first).isEqualTo("DUID");
+        assertThat(second).isEqualTo("DUID");
+        verify(client, times(1)).createDashboard(anyString());
+    }
+
+    @Test
+    @DisplayName("센서 구성이 바뀌면 대시보드를 다시 생성")
+    void changedSensorSet_reprovisions() throws Exception {
+        when(factory.build(eq("Z1"), anyList(), eq("ds-uid"))).thenReturn("{json}");
+        when(client.createDashboard("{json}")).thenReturn("DUID-1", "DUID-2");
+
+        provisioner.dashboardUid("Z1", List.of(temp));
+        String changed = provisioner.dashboardUid("Z1", List.of(temp, humid));
+
+        assertThat(changed).isEqualTo("DUID-2");
+        verify(client, times(2)).createDashboard(anyString());
+    }
+
+    @Test
+    @DisplayName("같은 공간 동시 요청은 하나의 생성 호출을 함께 기다림")
+    void concurrentRequests_shareInFlightProvisioning() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch joined = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        provisioner.onJoinInFlight = joined::countDown;
+        when(factory.build(eq("Z1"), anyList(), eq("ds-uid"))).thenReturn("{json}");
+        when(client.createDashboard("{json}")).thenAnswer(inv -> {
+            entered.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return "DUID";
+        });
+
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> uid(List.of(temp)));
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> second = CompletableFuture.supplyAsync(() -> uid(List.of(temp)));
+        assertThat(joined.await(5, TimeUnit.SECONDS)).isTrue(); // 두 번째 요청이 진행 중인 호출에 합류한 뒤 완료
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("DUID");
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("DUID");
+        verify(client, times(1)).createDashboard(anyString());
+    }
+
+    @Test
+    @DisplayName("센서 변경 후 백그라운드 갱신은 구성이 바뀐 공간만 다시 생성")
+    void refresh_reprovisionsOnlyChangedZones() throws Exception {
+        when(factory.build(anyString(), anyList(), eq("ds-uid"))).thenReturn("{json}");
+        when(client.createDashboard("{json}")).thenReturn("Z1-v1", "Z2-v1", "Z2-v2");
+        provisioner.dashboardUid("Z1", List.of(temp));
+        provisioner.dashboardUid("Z2", List.of(temp));
+
+        when(sensorRepo.findByZone_ZoneId("Z1")).thenReturn(List.of(temp));
+        when(sensorRepo.findByZone_ZoneId("Z2")).thenReturn(List.of(temp, humid));
+        provisioner.refreshChangedZones();
+
+        verify(client, times(3)).createDashboard(anyString());
+        assertThat(provisioner.dashboardUid("Z1", List.of(temp))).isEqualTo("Z1-v1");
+        assertThat(provisioner.dashboardUid("Z2", List.of(temp, humid))).isEqualTo("Z2-v2");
+    }
+
+    private String uid(List<Sensor> sensors) {
+        try {
+            return provisioner.dashboardUid("Z1", sensors);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
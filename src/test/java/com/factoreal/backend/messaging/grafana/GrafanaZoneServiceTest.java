@@ -8,7 +8,6 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -30,7 +29,6 @@ class GrafanaZoneServiceTest {
     @Mock
     SensorRepoService sensorRepo;
 
-    @InjectMocks
     GrafanaZoneService service;
 
     /* 공통 테스트 상수 */
@@ -40,10 +38,14 @@ class GrafanaZoneServiceTest {
 
     @BeforeEach
     void setFields() {
+        // 대시보드 캐시는 실제 객체로 두고 Grafana/DB 만 mock
+        GrafanaDashboardProvisioner provisioner = new GrafanaDashboardProvisioner(factory, client, sensorRepo);
+        service = new GrafanaZoneService(provisioner);
+
         // @Value 필드를 Reflection 으로 주입
         ReflectionTestUtils.setField(service, "grafanaUrl", GRAFANA_URL);
         ReflectionTestUtils.setField(service, "orgId", ORG_ID);
-        ReflectionTestUtils.setField(service, "datasourceUid", DATASOURCE_ID);
+        ReflectionTestUtils.setField(provisioner, "datasourceUid", DATASOURCE_ID);
     }
 
     /* ========== 1) 정상 시나리오 ========== */
@@ -0,0 +1,111 @@
+package com.factoreal.backend.messaging.kafka.consumer;
+
+import com.factoreal.backend.messaging.kafka.dispatcher.KafkaLaneDispatcher;
+import com.factoreal.backend.messaging.kafka.processor.SensorEventProcessor;
+import com.factoreal.backend.messaging.kafka.processor.WearableEventProcessor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * 단위 테스트: KafkaConsumer 배치 ack / 재처리 위치
+ * 1) 모든 레인 작업이 성공하면 ack
+ * 2) 레인 작업이 실패하면 ack 하지 않고 실패 레인의 첫 레코드 위치로 BatchListenerFailedException
+ * 3) 레인 작업이 lane-timeout-ms 안에 끝나지 않으면 실패로 처리
+ */
+class KafkaConsumerTest {
+
+    private final SensorEventProcessor sensorEventProcessor = mock(SensorEventProcessor.class);
+    private final WearableEventProcessor wearableEventProcessor = mock(WearableEventProcessor.class);
+    private final KafkaLaneDispatcher dispatcher = mock(KafkaLaneDispatcher.class);
+    private final Acknowledgment acknowledgment = mock(Acknowledgment.class);
+    private KafkaConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        consumer = new KafkaConsumer(new ObjectMapper(), sensorEventProcessor, wearableEventProcessor, dispatcher);
+        ReflectionTestUtils.setField(consumer, "laneTimeoutMs", 1000L);
+    }
+
+    private ConsumerRecord<String, String> record(long offset, String zoneId) {
+        String json = "{\"zoneId\":\"" + zoneId + "\",\"equipId\":\"" + zoneId + "\",\"sensorId\":\"S" + offset
+                + "\",\"sensorType\":\"temp\",\"val\":1.0,\"dangerLevel\":0,\"time\":\"2025-06-16T00:00:00\"}";
+        return new ConsumerRecord<>("ENVIRONMENT", 0, offset, null, json);
+    }
+
+    // Z1 : index 0, 2 / Z2 : index 1
+    private List<ConsumerRecord<String, String>> batch() {
+        return List.of(record(0, "Z1"), record(1, "Z2"), record(2, "Z1"));
+    }
+
+    @Test
+    @DisplayName("모든 레인 작업이 성공하면 배치를 ack 한다")
+    void consumeEnvironmentBatch_acknowledgesWhenAllLanesSucceed() {
+        when(dispatcher.dispatch(any(), any())).thenReturn(CompletableFuture.completedFuture(null));
+
+        consumer.consumeEnvironmentBatch(batch(), acknowledgment);
+
+        verify(dispatcher).dispatch(eq("Z1"), any());
+        verify(dispatcher).dispatch(eq("Z2"), any());
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("레인 작업이 실패하면 ack 하지 않고 실패 레인의 첫 레코드 위치를 넘긴다")
+    void consumeEnvironmentBatch_throwsWithFailedLaneIndex() {
+        IllegalStateException cause = new IllegalStateException("DB 장애");
+        when(dispatcher.dispatch(eq("Z1"), any())).thenReturn(CompletableFuture.completedFuture(null));
+        when(dispatcher.dispatch(eq("Z2"), any())).thenReturn(CompletableFuture.failedFuture(cause));
+
+        BatchListenerFailedException e = catchThrowableOfType(
+                () -> consumer.consumeEnvironmentBatch(batch(), acknowledgment), BatchListenerFailedException.class);
+
+        assertThat(e).isNotNull();
+        assertThat(e.getIndex()).isEqualTo(1);
+        assertThat(e.getCause()).isSameAs(cause);
+        verify(acknowledgment, never()).acknowledge();
+    }
+
+    @Test
+    @DisplayName("여러 레인이 실패하면 가장 앞선 레코드 위치부터 재처리한다")
+    void consumeEnvironmentBatch_usesSmallestFailedIndex() {
+        when(dispatcher.dispatch(eq("Z1"), any())).thenReturn(CompletableFuture.failedFuture(new IllegalStateException("Z1")));
+        when(dispatcher.dispatch(eq("Z2"), any())).thenReturn(CompletableFuture.failedFuture(new IllegalStateException("Z2")));
+
+        BatchListenerFailedException e = catchThrowableOfType(
+                () -> consumer.consumeEnvironmentBatch(batch(), acknowledgment), BatchListenerFailedException.class);
+
+        assertThat(e.getIndex()).isZero();
+        verify(acknowledgment, never()).acknowledge();
+    }
+
+    @Test
+    @DisplayName("레인 작업이 시간 안에 끝나지 않으면 실패로 보고 재처리에 맡긴다")
+    void consumeEnvironmentBatch_failsOnLaneTimeout() {
+        ReflectionTestUtils.setField(consumer, "laneTimeoutMs", 50L);
+        when(dispatcher.dispatch(eq("Z1"), any())).thenReturn(CompletableFuture.completedFuture(null));
+        when(dispatcher.dispatch(eq("Z2"), any())).thenReturn(new CompletableFuture<>()); // 끝나지 않는 레인
+
+        BatchListenerFailedException e = catchThrowableOfType(
+                () -> consumer.consumeEnvironmentBatch(batch(), acknowledgment), BatchListenerFailedException.class);
+
+        assertThat(e.getIndex()).isEqualTo(1);
+        assertThat(e.getCause()).isInstanceOf(TimeoutException.class);
+        verify(acknowledgment, never()).acknowledge();
+    }
+}
@@ -0,0 +1,102 @@
+package com.factoreal.backend.messaging.kafka.dispatcher;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 단위 테스트: KafkaLaneDispatcher
+ * 1) 같은 키는 같은 레인에서 등록 순서대로 처리
+ * 2) 레인 큐가 가득 차면 작업을 버리지 않고 등록 스레드가 대기
+ */
+class KafkaLaneDispatcherTest {
+
+    private KafkaLaneDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 zoneId 의 작업은 등록 순서대로 처리된다")
+    void dispatch_keepsOrderPerKey() {
+        // ── arrange ───────────────────────────────────────────
+        dispatcher = new KafkaLaneDispatcher(4, 1000);
+        Map<String, List<Integer>> processed = new ConcurrentHashMap<>();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        // ── act ───────────────────────────────────────────────
+        for (int i = 0; i < 500; i++) {
+            String zoneId = "Z" + (i % 7);
+            int seq = i;
+            futures.add(dispatcher.dispatch(zoneId, () ->
+                    processed.computeIfAbsent(zoneId, k -> Collections.synchronizedList(new ArrayList<>())).add(seq)));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+        // ── assert ────────────────────────────────────────────
+        assertThat(processed).hasSize(7);
+        processed.values().forEach(seqs -> assertThat(seqs).isSorted());
+        assertThat(dispatcher.laneIndex("Z1")).isEqualTo(dispatcher.laneIndex("Z1"));
+    }
+
+    @Test
+    @DisplayName("작업 예외는 future 로 전달된다")
+    void dispatch_propagatesFailure() {
+        dispatcher = new KafkaLaneDispatcher(2, 10);
+
+        CompletableFuture<Void> future = dispatcher.dispatch("Z1", () -> {
+            throw new IllegalStateException("boom");
+        });
+
+        assertThat(future).failsWithin(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("레인 큐가 가득 차면 등록이 대기하고, 빈 자리가 나면 순서대로 모두 처리된다")
+    void dispatch_waitsWhenQueueIsFull() throws Exception {
+        // ── arrange ───────────────────────────────────────────
+        dispatcher = new KafkaLaneDispatcher(1, 2);
+        CountDownLatch blocker = new CountDownLatch(1);
+        List<Integer> processed = Collections.synchronizedList(new ArrayList<>());
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        // 첫 작업이 레인을 점유한 상태에서 큐(2칸)를 채움
+        futures.add(dispatcher.dispatch("Z1", () -> {
+            try {
+                blocker.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        for (int i = 0; i < 2; i++) {
+            int seq = i;
+            futures.add(dispatcher.dispatch("Z1", () -> processed.add(seq)));
+        }
+
+        // ── act ───────────────────────────────────────────────
+        // 큐가 가득 찬 상태의 등록은 대기
+        CompletableFuture<CompletableFuture<Void>> blocked =
+                CompletableFuture.supplyAsync(() -> dispatcher.dispatch("Z1", () -> processed.add(2)));
+
+        // ── assert ────────────────────────────────────────────
+        assertThat(blocked).isNotDone();
+
+        blocker.countDown();
+        futures.add(blocked.get(5, TimeUnit.SECONDS));
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+        assertThat(processed).containsExactly(0, 1, 2);
+    }
+}
@@ -24,8 +24,12 @@ import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -40,7 +44,7 @@ class SensorEventProcessorTest {
     WebSocketSender ws = mock(WebSocketSender.class);
     SensorRepoService sensorRepoService = mock(SensorRepoService.class);
 
-    ZoneSensorStateStore store = new InMemoryZoneSensorStateStore(sensorRepoService);
+    ZoneSensorStateStore store = new InMemoryZoneSensorStateStore();
     ZoneWorkerStateStore workerStateStore = new InMemoryZoneWorkerStateStore();
     SensorEventProcessor processor;
     ZoneRepoService zoneRepoService = mock(ZoneRepoService.class);
@@ -60,7 +64,7 @@ class SensorEventProcessorTest {
         String sensorId = "S1";
 
         // 기존 센서 상태: WARNING(1)
-        store.setSensorRiskLevel(zoneId, sensorId, RiskLevel.WARNING);
+        store.setSensorRiskLevel(zoneId, sensorId, SensorType.temp, RiskLevel.WARNING);
 
         SensorKafkaDto dto = new SensorKafkaDto();
         dto.setZoneId(zoneId);
@@ -71,8 +75,8 @@ class SensorEventProcessorTest {
         dto.setTime("2025-06-16T00:00:00");
 
         // saveAbnormalLog stub
-        when(zoneRepoService.findById(zoneId)).thenReturn(mock(Zone.class));
-        when(sensorRepoService.findById(sensorId)).thenReturn(mock(Sensor.class));
+        when(zoneRepoService.findCachedById(zoneId)).thenReturn(mock(Zone.class));
+        when(sensorRepoService.findCachedById(sensorId)).thenReturn(mock(Sensor.class));
         when(abnormalSvc.saveAbnormalLog(any(AbnormalLog.class)))
                 .thenReturn(mock(AbnormalLog.class));
 
@@ -108,7 +112,7 @@ class SensorEventProcessorTest {
             dto.setDangerLevel(2);           // CRITICAL
 
             // Zone이 존재하지 않도록 설정
-            when(zoneRepoService.findById(zoneId))
+            when(zoneRepoService.findCachedById(zoneId))
                     .thenThrow(new NotFoundException("공간을 찾을 수 없습니다: " + zoneId));
 
             // Act & Assert
@@ -116,7 +120,7 @@ class SensorEventProcessorTest {
 
 
             // Verify (존재하지 않는 Zone에 대해 다른 메서드 호출이 없어야 함)
-            verify(zoneRepoService).findById(zoneId); // findById 호출 확인
+            verify(zoneRepoService).findCachedById(zoneId); // findCachedById 호출 확인
             verifyNoInteractions(sensorRepoService, abnormalSvc, alarmSvc, ws); // 다른 의존성이 호출되지 않음 확인
         }
 
@@ -135,9 +139,9 @@ class SensorEventProcessorTest {
             dto.setDangerLevel(2);           // CRITICAL
 
             // Zone은 유효하지만 Sensor가 존재하지 않도록 설정
-            when(zoneRepoService.findById(zoneId))
+            when(zoneRepoService.findCachedById(zoneId))
                     .thenReturn(mock(Zone.class)); // Zone은 조회됨
-            when(sensorRepoService.findById(sensorId))
+            when(sensorRepoService.findCachedById(sensorId))
                     .thenThrow(new NotFoundException("센서를 찾을 수 없습니다: " + sensorId));
 
             // Act & Assert
@@ -145,8 +149,8 @@ class SensorEventProcessorTest {
 
 
             // Verify (Sensor 관련 호출 확인)
-            verify(zoneRepoService).findById(zoneId);
-            verify(sensorRepoService).findById(sensorId);
+            verify(zoneRepoService).findCachedById(zoneId);
+            verify(sensorRepoService).findCachedById(sensorId);
             verifyNoInteractions(abnormalSvc, alarmSvc, ws); // 다른 의존성이 호출되지 않음 확인
         }
 
@@ -158,7 +162,7 @@ class SensorEventProcessorTest {
             String sensorId = "S1";
 
             // 기존 RiskLevel: WARNING
-            store.setSensorRiskLevel(zoneId, sensorId, RiskLevel.WARNING);
+            store.setSensorRiskLevel(zoneId, sensorId, SensorType.temp, RiskLevel.WARNING);
 
             SensorKafkaDto dto = new SensorKafkaDto();
             dto.setZoneId(zoneId);
@@ -168,17 +172,17 @@ class SensorEventProcessorTest {
             dto.setDangerLevel(1);           // 그대로 WARNING
 
             // Zone과 Sensor는 유효함
-            when(zoneRepoService.findById(zoneId))
+            when(zoneRepoService.findCachedById(zoneId))
                     .thenReturn(mock(Zone.class));
-            when(sensorRepoService.findById(sensorId))
+            when(sensorRepoService.findCachedById(sensorId))
                     .thenReturn(mock(Sensor.class));
             when(repoSvc.countByIsReadFalse()).thenReturn(3L);
             // Act
             processor.process(dto, "ENVIRONMENT");
 
             // Assert (위험 수준 변화 없음 확인)
-            verify(zoneRepoService).findById(zoneId);
-            verify(sensorRepoService).findById(sensorId);
+            verify(zoneRepoService).findCachedById(zoneId);
+            verify(sensorRepoService).findCachedById(sensorId);
             assertThat(store.getSensorRiskLevel(zoneId, sensorId)).isEqualTo(RiskLevel.WARNING);
 
             // Verify (알람 및 로그 변경 호출 없음)
@@ -212,25 +216,25 @@ class SensorEventProcessorTest {
             // Arrange
             String zoneId = "Z1";
             String sensorId = "S1";
-            Sensor sensor = Sensor.builder()
-                    .sensorType(SensorType.humid)
-                    .build();
-            // 기존 센서 상태: WARNING(1)
-            store.setSensorRiskLevel(zoneId, sensorId, RiskLevel.CRITICAL);
-            when(zoneRepoService.findById(zoneId)).thenReturn(mock(Zone.class));
-            when(sensorRepoService.findById(anyString())).thenReturn(sensor);
+            // 기존 센서 상태: S1(temp) CRITICAL(2), S2(humid) WARNING(1)
+            store.setSensorRiskLevel(zoneId, sensorId, SensorType.temp, RiskLevel.CRITICAL);
+            store.setSensorRiskLevel(zoneId, "S2", SensorType.humid, RiskLevel.WARNING);
+            when(zoneRepoService.findCachedById(zoneId)).thenReturn(mock(Zone.class));
+            when(sensorRepoService.findCachedById(sensorId)).thenReturn(mock(Sensor.class));
 
             SensorKafkaDto dto = new SensorKafkaDto();
             dto.setZoneId(zoneId);
             dto.setSensorId(sensorId);
             dto.setEquipId(zoneId);          // ENVIRONMENT 토픽 조건
             dto.setSensorType("temp");       // 센서 타입
-            dto.setDangerLevel(1);           // CRITICAL
+            dto.setDangerLevel(0);           // INFO
             processor.process(dto, "ENVIRONMENT");
 
+            // 공간 최고 위험 센서(S2, humid) 기준으로 전송 - 센서 조회 없이 스토어에서 바로 얻음
             verify(ws).sendDangerLevel(
                     zoneId, SensorType.humid.name(), 1
             );
+            verify(sensorRepoService, never()).findCachedById("S2");
         }
 
         @Test
@@ -240,14 +244,11 @@ class SensorEventProcessorTest {
             String zoneId = "Z1";
             String sensorId = "S1";
             String workerId = "W1";
-            Sensor sensor = Sensor.builder()
-                    .sensorType(SensorType.humid)
-                    .build();
             // 기존 센서 상태: WARNING(1)
-            store.setSensorRiskLevel(zoneId, sensorId, RiskLevel.CRITICAL);
+            store.setSensorRiskLevel(zoneId, sensorId, SensorType.temp, RiskLevel.CRITICAL);
             workerStateStore.setWorkerRiskLevel(zoneId, workerId, RiskLevel.CRITICAL);
-            when(zoneRepoService.findById(zoneId)).thenReturn(mock(Zone.class));
-            when(sensorRepoService.findById(anyString())).thenReturn(sensor);
+            when(zoneRepoService.findCachedById(zoneId)).thenReturn(mock(Zone.class));
+            when(sensorRepoService.findCachedById(sensorId)).thenReturn(mock(Sensor.class));
 
             SensorKafkaDto dto = new SensorKafkaDto();
             dto.setZoneId(zoneId);
@@ -262,4 +263,105 @@ class SensorEventProcessorTest {
             );
         }
     }
+
+    @Nested
+    @DisplayName("processBatch 메서드 테스트")
+    class processBatchTest {
+        private SensorKafkaDto makeDto(String zoneId, String sensorId, int dangerLevel) {
+            SensorKafkaDto dto = new SensorKafkaDto();
+            dto.setZoneId(zoneId);
+            dto.setSensorId(sensorId);
+            dto.setEquipId(zoneId);          // ENVIRONMENT 토픽 조건
+            dto.setSensorType("temp");
+            dto.setDangerLevel(dangerLevel);
+            dto.setTime("2025-06-16T00:00:00");
+            return dto;
+        }
+
+        @Test
+        @DisplayName("case1. 같은 공간의 레코드는 공간 조회 1회, 이상 로그는 한 번에 저장")
+        void processBatchSavesLogsAtOnce() {
+            // ── arrange ───────────────────────────────────────────
+            SensorKafkaDto dto1 = makeDto("Z1", "S1", 2);
+            SensorKafkaDto dto2 = makeDto("Z1", "S2", 1);
+            SensorKafkaDto dto3 = makeDto("Z2", "S3", 0); // 변화 없음
+
+            when(zoneRepoService.findCachedById(anyString())).thenReturn(mock(Zone.class));
+            when(sensorRepoService.findCachedById(anyString())).thenReturn(mock(Sensor.class));
+            when(abnormalSvc.saveAbnormalLogs(anyList()))
+                    .thenReturn(List.of(mock(AbnormalLog.class), mock(AbnormalLog.class)));
+
+            // ── act ───────────────────────────────────────────────
+            processor.processBatch(List.of(dto1, dto2, dto3), "ENVIRONMENT");
+
+            // ── assert ────────────────────────────────────────────
+            verify(zoneRepoService, times(1)).findCachedById("Z1");
+            verify(zoneRepoService, times(1)).findCachedById("Z2");
+            verify(abnormalSvc, times(1)).saveAbnormalLogs(argThat(logs -> logs.size() == 2));
+            verify(abnormalSvc, never()).saveAbnormalLog(any(AbnormalLog.class));
+            verify(alarmSvc).startAlarm(eq(dto1), any(AbnormalLog.class), eq(2));
+            verify(alarmSvc).startAlarm(eq(dto2), any(AbnormalLog.class), eq(1));
+            assertThat(store.getZoneRiskLevel("Z1")).isEqualTo(RiskLevel.CRITICAL);
+        }
+
+        @Test
+        @DisplayName("case2. 존재하지 않는 공간의 레코드만 제외하고 나머지는 처리")
+        void processBatchSkipsInvalidZone() {
+            // ── arrange ───────────────────────────────────────────
+            SensorKafkaDto invalid = makeDto("Z9", "S9", 2);
+            SensorKafkaDto valid = makeDto("Z1", "S1", 2);
+
+            when(zoneRepoService.findCachedById("Z9"))
+                    .thenThrow(new NotFoundException("공간을 찾을 수 없습니다: Z9"));
+            when(zoneRepoService.findCachedById("Z1")).thenReturn(mock(Zone.class));
+            when(sensorRepoService.findCachedById("S1")).thenReturn(mock(Sensor.class));
+            when(abnormalSvc.saveAbnormalLogs(anyList())).thenReturn(List.of(mock(AbnormalLog.class)));
+
+            // ── act ───────────────────────────────────────────────
+            processor.processBatch(List.of(invalid, valid), "ENVIRONMENT");
+
+            // ── assert ────────────────────────────────────────────
+            verify(sensorRepoService, never()).findCachedById("S9");
+            verify(abnormalSvc).saveAbnormalLogs(argThat(logs -> logs.size() == 1));
+            verify(alarmSvc).startAlarm(eq(valid), any(AbnormalLog.class), eq(2));
+            assertThat(store.getSensorRiskLevel("Z9", "S9")).isEqualTo(RiskLevel.INFO);
+        }
+
+        @Test
+        @DisplayName("case3. 위험도 변화가 없으면 저장하지 않음")
+        void processBatchNoChange() {
+            // ── arrange ───────────────────────────────────────────
+            when(zoneRepoService.findCachedById("Z1")).thenReturn(mock(Zone.class));
+            when(sensorRepoService.findCachedById("S1")).thenReturn(mock(Sensor.class));
+
+            // ── act ───────────────────────────────────────────────
+            processor.processBatch(List.of(makeDto("Z1", "S1", 0)), "ENVIRONMENT");
+
+            // ── assert ────────────────────────────────────────────
+            verifyNoInteractions(abnormalSvc, alarmSvc, auto);
+        }
+
+        @Test
+        @DisplayName("case4. 로그 저장에 실패하면 상태를 되돌려 재전달 시 다시 로그를 만든다")
+        void processBatchRollsBackStateWhenSaveFails() {
+            // ── arrange ───────────────────────────────────────────
+            store.setSensorRiskLevel("Z1", "S1", SensorType.temp, RiskLevel.WARNING);
+            when(zoneRepoService.findCachedById("Z1")).thenReturn(mock(Zone.class));
+            when(sensorRepoService.findCachedById("S1")).thenReturn(mock(Sensor.class));
+            when(abnormalSvc.saveAbnormalLogs(anyList()))
+                    .thenThrow(new RuntimeException("DB 장애"))
+                    .thenReturn(List.of(mock(AbnormalLog.class), mock(AbnormalLog.class)));
+            List<SensorKafkaDto> batch = List.of(makeDto("Z1", "S1", 2), makeDto("Z1", "S1", 0));
+
+            // ── act & assert ──────────────────────────────────────
+            Assertions.assertThrows(RuntimeException.class, () -> processor.processBatch(batch, "ENVIRONMENT"));
+            assertThat(store.getSensorRiskLevel("Z1", "S1")).isEqualTo(RiskLevel.WARNING);
+            verifyNoInteractions(alarmSvc);
+
+            // 재전달된 배치는 같은 등급 변경을 다시 감지해 로그를 저장
+            processor.processBatch(batch, "ENVIRONMENT");
+            verify(abnormalSvc, times(2)).saveAbnormalLogs(argThat(logs -> logs.size() == 2));
+            assertThat(store.getSensorRiskLevel("Z1", "S1")).isEqualTo(RiskLevel.INFO);
+        }
+    }
 }
\ No newline at end of file
@@ -1,11 +1,9 @@
 package com.factoreal.backend.messaging.kafka.processor;
 
-import com.factoreal.backend.domain.abnormalLog.application.AbnormalLogRepoService;
 import com.factoreal.backend.domain.abnormalLog.application.AbnormalLogService;
+import com.factoreal.backend.domain.abnormalLog.application.UnreadAlarmCounter;
 import com.factoreal.backend.domain.abnormalLog.dto.TargetType;
 import com.factoreal.backend.domain.abnormalLog.entity.AbnormalLog;
-import com.factoreal.backend.domain.sensor.application.SensorRepoService;
-import com.factoreal.backend.domain.sensor.entity.Sensor;
 import com.factoreal.backend.domain.state.store.InMemoryZoneSensorStateStore;
 import com.factoreal.backend.domain.state.store.InMemoryZoneWorkerStateStore;
 import com.factoreal.backend.domain.zone.application.ZoneRepoService;
@@ -29,6 +27,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
@@ -47,18 +46,17 @@ class WearableEventProcessorTest {
 
     // ── mocks ────────────────────────────────────────────────
     private AbnormalLogService abnormalSvc = mock(AbnormalLogService.class);
-    private AbnormalLogRepoService repoSvc = mock(AbnormalLogRepoService.class);
+    private UnreadAlarmCounter unreadCounter = mock(UnreadAlarmCounter.class);
     private WebSocketSender ws = mock(WebSocketSender.class);
     private AlarmEventService alarmSvc = mock(AlarmEventService.class);
     private ZoneHistoryService historySvc = mock(ZoneHistoryService.class);
     private ZoneHistoryRepoService historyRepo = mock(ZoneHistoryRepoService.class);
-    private SensorRepoService sensorRepoService = mock(SensorRepoService.class);
     private ZoneRepoService zoneRepoService = mock(ZoneRepoService.class);
     private WorkerRepoService workerRepoService = mock(WorkerRepoService.class);
     private RiskMessageProvider riskMessageProvider = mock(RiskMessageProvider.class);
     // ── system under test ────────────────────────────────────
     private InMemoryZoneWorkerStateStore store = new InMemoryZoneWorkerStateStore();
-    private InMemoryZoneSensorStateStore sensorStateStore = new InMemoryZoneSensorStateStore(sensorRepoService);
+    private InMemoryZoneSensorStateStore sensorStateStore = new InMemoryZoneSensorStateStore();
     private WearableEventProcessor processor;
 
     // 공통 상수
@@ -84,7 +82,7 @@ class WearableEventProcessorTest {
     void setUp() {
         processor = new WearableEventProcessor(
                 abnormalSvc,
-                repoSvc,
+                unreadCounter,
                 ws,
                 alarmSvc,
                 store,
@@ -96,13 +94,12 @@ class WearableEventProcessorTest {
                 riskMessageProvider
         );
         // 공통 stub
-        when(repoSvc.countByIsReadFalse()).thenReturn(3L);
         when(alarmSvc.generateAlarmDto((WearableKafkaDto) any(), any(), any()))
                 .thenReturn(mock(AlarmEventResponse.class));
         when(abnormalSvc.saveAbnormalLog(any(AbnormalLog.class)))
                 .thenReturn(mock(AbnormalLog.class));
-        when(zoneRepoService.findById(anyString())).thenReturn(mock(Zone.class));
-        when(workerRepoService.findById(anyString())).thenReturn(mock(Worker.class));
+        when(zoneRepoService.findCachedById(anyString())).thenReturn(mock(Zone.class));
+        when(workerRepoService.findCachedById(anyString())).thenReturn(mock(Worker.class));
         when(riskMessageProvider.getRiskMessageByWearble(any(), any(), any())).thenReturn("TEST");
     }
 
@@ -203,16 +200,11 @@ class WearableEventProcessorTest {
                 dto.setDangerLevel(0); // RiskLevel.NORMAL
                 dto.setSensorType("heartRate");
                 dto.setWorkerId(workerId);
-                Sensor sensor = Sensor.builder()
-                        .sensorId(sensorId)
-                        .sensorType(SensorType.humid)
-                        .build();
                 // 스토어 설정 (zoneId 연결)
                 // zone에 작업자가 Warning이고,
                 // sensor가 Info인 경우에,
-                when(sensorRepoService.findById(anyString())).thenReturn(sensor);
                 store.setWorkerRiskLevel(zoneId, workerId, RiskLevel.CRITICAL); // 이전 상태
-                sensorStateStore.setSensorRiskLevel(zoneId, sensorId, RiskLevel.WARNING);
+                sensorStateStore.setSensorRiskLevel(zoneId, sensorId, SensorType.humid, RiskLevel.WARNING);
 
                 // zoneId 매핑 설정
                 // setWorkerRiskLevel이 내부적으로 매핑하지 않으면 아래 직접 매핑 필요
@@ -243,7 +235,7 @@ class WearableEventProcessorTest {
                 // zone에 작업자가 Warning이고,
                 // sensor가 Info인 경우에,
                 store.setWorkerRiskLevel(zoneId, workerId, RiskLevel.CRITICAL); // 이전 상태
-                sensorStateStore.setSensorRiskLevel(zoneId, sensorId, RiskLevel.WARNING);
+                sensorStateStore.setSensorRiskLevel(zoneId, sensorId, SensorType.humid, RiskLevel.WARNING);
 
                 // zoneId 매핑 설정
                 // setWorkerRiskLevel이 내부적으로 매핑하지 않으면 아래 직접 매핑 필요
@@ -257,4 +249,33 @@ class WearableEventProcessorTest {
             }
         }
     }
+
+    @Nested
+    class WhenBatch {
+
+        @Test
+        @DisplayName("E) 배치 처리 시 이상 로그는 한 번에 저장하고 읽지 않은 알림 수 전송은 1회만 요청")
+        void processBatch_SavesOnceAndSendsUnreadCountOnce() {
+            try (MockedStatic<WearableDataType> ignored = mockWearableType()) {
+                // ── arrange ─────────────────────────────
+                store.setWorkerRiskLevel(ZONE_ID, WORKER_ID, RiskLevel.INFO);
+                store.setWorkerRiskLevel(ZONE_ID, "W2", RiskLevel.CRITICAL);
+                WearableKafkaDto changed = makeDto();          // INFO -> CRITICAL
+                WearableKafkaDto unchanged = makeDto();
+                unchanged.setWorkerId("W2");                    // CRITICAL 유지
+                when(abnormalSvc.saveAbnormalLogs(anyList())).thenReturn(List.of(mock(AbnormalLog.class)));
+
+                // ── act ────────────────────────────────
+                processor.processBatch(List.of(changed, unchanged), "WEARABLE");
+
+                // ── assert ────────────────────────────
+                verify(abnormalSvc, times(1)).saveAbnormalLogs(argThat(logs -> logs.size() == 1));
+                verify(abnormalSvc, never()).saveAbnormalLog(any(AbnormalLog.class));
+                verify(ws, times(1)).sendDangerAlarm(any());
+                verify(unreadCounter, times(1)).requestPush();
+                verify(ws, never()).sendUnreadCount(anyLong());
+                assertThat(store.getWorkerRiskLevel(WORKER_ID)).isEqualTo(RiskLevel.CRITICAL);
+            }
+        }
+    }
 }
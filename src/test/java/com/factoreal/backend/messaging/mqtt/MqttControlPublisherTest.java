@@ -0,0 +1,188 @@
+package com.factoreal.backend.messaging.mqtt;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.paho.client.mqttv3.IMqttActionListener;
+import org.eclipse.paho.client.mqttv3.MqttClient;
+import org.eclipse.paho.client.mqttv3.MqttDeliveryToken;
+import org.eclipse.paho.client.mqttv3.MqttException;
+import org.eclipse.paho.client.mqttv3.MqttMessage;
+import org.eclipse.paho.client.mqttv3.MqttTopic;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * MQTT 제어 메시지 비동기 발행기 테스트 (in-flight 창, 재연결 버퍼, 메트릭)
+ */
+@ExtendWith(MockitoExtension.class)
+class MqttControlPublisherTest {
+
+    @Mock
+    MqttClient mqttClient;
+    @Mock
+    MqttTopic topic;
+    @Mock
+    MqttDeliveryToken token;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    // 발행 스레드와 동시에 stub 을 바꾸지 않도록 연결 상태는 플래그로 제어
+    private final AtomicBoolean connected = new AtomicBoolean(true);
+    private MqttControlPublisher publisher;
+
+    @SuppressWarnings("unchecked")
+    private MqttControlPublisher publisher(int maxInFlight, int bufferCapacity) {
+        ObjectProvider<MeterRegistry> provider = mock(ObjectProvider.class);
+        given(provider.getIfAvailable(any())).willReturn(meterRegistry);
+        // 발행 스레드가 언제 확인할지 정해져 있지 않으므로 lenient
+        lenient().when(mqttClient.isConnected()).thenAnswer(inv -> connected.get());
+        // 재연결 주기 발행 없이 drain 을 직접 호출
+        publisher = new MqttControlPublisher(mqttClient, provider, maxInFlight, bufferCapacity, 0);
+        return publisher;
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (publisher != null) {
+            publisher.shutdown();
+        }
+    }
+
+    private byte[] payload(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private double count(String result) {
+        var counter = meterRegistry.find("mqtt.control.publish").tag("result", result).counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private IMqttActionListener deliveryCallback(int times) {
+        ArgumentCaptor<IMqttActionListener> cap = ArgumentCaptor.forClass(IMqttActionListener.class);
+        verify(token, timeout(1000).times(times)).setActionCallback(cap.capture());
+        return cap.getValue();
+    }
+
+    @Test
+    @DisplayName("수신 확인(PUBACK) 이 오면 future 가 완료되고 지연 시간이 기록된다")
+    void publish_completesOnDelivery() throws Exception {
+        publisher(10, 10);
+        given(mqttClient.getTopic("control/sensor/S-1")).willReturn(topic);
+        given(topic.publish(any(MqttMessage.class))).willReturn(token);
+
+        CompletableFuture<Void> result = publisher.publish("control/sensor/S-1", payload("{}"), 1);
+        IMqttActionListener callback = deliveryCallback(1);
+        assertThat(result).isNotDone();
+
+        callback.onSuccess(token);
+
+        assertThat(result).isCompleted();
+        assertThat(count("delivered")).isEqualTo(1.0);
+        assertThat(meterRegistry.get("mqtt.control.publish.latency").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("mqtt.control.in-flight").gauge().value()).isEqualTo(0.0);
+    }
+
+    @Test
+    @DisplayName("in-flight 창이 차면 수신 확인이 올 때까지 다음 메시지는 버퍼에서 대기")
+    void publish_respectsInFlightWindow() throws Exception {
+        publisher(1, 10);
+        given(mqttClient.getTopic("control/sensor/S-1")).willReturn(topic);
+        given(topic.publish(any(MqttMessage.class))).willReturn(token);
+
+        publisher.publish("control/sensor/S-1", payload("first"), 1);
+        publisher.publish("control/sensor/S-1", payload("second"), 1);
+
+        verify(topic, after(200).times(1)).publish(any(MqttMessage.class));
+        assertThat(meterRegistry.get("mqtt.control.buffered").gauge().value()).isEqualTo(1.0);
+
+        deliveryCallback(1).onSuccess(token);
+
+        ArgumentCaptor<MqttMessage> messages = ArgumentCaptor.forClass(MqttMessage.class);
+        verify(topic, timeout(1000).times(2)).publish(messages.capture());
+        assertThat(new String(messages.getAllValues().get(1).getPayload(), StandardCharsets.UTF_8))
+                .isEqualTo("second");
+        assertThat(messages.getAllValues().get(1).getQos()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("연결이 끊겨 있으면 버퍼에 두었다가 재연결 후 발행")
+    void publish_buffersWhileDisconnected() throws Exception {
+        publisher(10, 10);
+        given(mqttClient.getTopic("control/sensor/S-1")).willReturn(topic);
+        given(topic.publish(any(MqttMessage.class))).willReturn(token);
+        connected.set(false);
+
+        CompletableFuture<Void> result = publisher.publish("control/sensor/S-1", payload("{}"), 1);
+
+        verify(mqttClient, after(200).never()).getTopic(any());
+        assertThat(result).isNotDone();
+
+        connected.set(true);
+        publisher.drain();
+
+        deliveryCallback(1).onSuccess(token);
+        assertThat(result).isCompleted();
+    }
+
+    @Test
+    @DisplayName("연결 끊김으로 전달 실패한 메시지는 재연결 후 다시 발행")
+    void publish_requeuesOnConnectionLoss() throws Exception {
+        publisher(10, 10);
+        given(mqttClient.getTopic("control/sensor/S-1")).willReturn(topic);
+        given(topic.publish(any(MqttMessage.class))).willReturn(token);
+
+        CompletableFuture<Void> result = publisher.publish("control/sensor/S-1", payload("{}"), 1);
+        IMqttActionListener callback = deliveryCallback(1);
+
+        connected.set(false);
+        callback.onFailure(token, new MqttException(MqttException.REASON_CODE_CONNECTION_LOST));
+        assertThat(result).isNotDone();
+        assertThat(count("requeued")).isEqualTo(1.0);
+
+        connected.set(true);
+        publisher.drain();
+
+        deliveryCallback(2).onSuccess(token);
+        assertThat(result).isCompleted();
+        verify(topic, times(2)).publish(any(MqttMessage.class));
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 차면 가장 오래된 메시지를 버리고 실패로 완료")
+    void publish_dropsOldestWhenBufferFull() {
+        publisher(10, 1);
+        connected.set(false);
+
+        CompletableFuture<Void> oldest = publisher.publish("control/sensor/S-1", payload("old"), 1);
+        CompletableFuture<Void> newest = publisher.publish("control/sensor/S-1", payload("new"), 1);
+
+        assertThatThrownBy(oldest::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(MqttException.class);
+        assertThat(newest).isNotDone();
+        assertThat(count("dropped")).isEqualTo(1.0);
+        verify(mqttClient, never()).getTopic(any());
+    }
+}
@@ -4,10 +4,9 @@ import com.factoreal.backend.domain.abnormalLog.dto.TargetType;
 import com.factoreal.backend.domain.abnormalLog.entity.AbnormalLog;
 import com.factoreal.backend.domain.controlLog.entity.ControlLog;
 import com.factoreal.backend.domain.zone.entity.Zone;
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import org.eclipse.paho.client.mqttv3.MqttClient;
-import org.eclipse.paho.client.mqttv3.MqttMessage;
+import org.eclipse.paho.client.mqttv3.MqttException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -19,24 +18,47 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class MqttPublishServiceTest {
 
     @Mock
-    MqttClient mqttClient;
-
-    @Mock
-    ObjectMapper objectMapper;
+    MqttControlPublisher controlPublisher;
 
     @InjectMocks
     MqttPublishService mqttPublishService;
 
+    private final ObjectMapper objectMapper = new ObjectMapper();
     private ControlLog controlLog;
 
+    // 기존 Map + ObjectMapper 방식으로 만든 페이로드 (비교 기준)
+    private Map<String, Object> expectedPayload(ControlLog log) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("controlId", log.getId().intValue());
+        payload.put("controlType", log.getControlType());
+        payload.put("controlValue", log.getControlVal());
+        payload.put("controlStatus", log.getControlStat());
+        payload.put("executedAt", log.getExecutedAt().toString());
+        payload.put("zoneId", log.getZone().getZoneId());
+        payload.put("abnormalId", log.getAbnormalLog().getId().intValue());
+        payload.put("abnormalType", log.getAbnormalLog().getAbnormalType());
+        payload.put("abnormalValue", log.getAbnormalLog().getAbnVal());
+        return payload;
+    }
+
+    private Map<String, Object> publishedPayload() throws Exception {
+        ArgumentCaptor<byte[]> payloadCaptor = ArgumentCaptor.forClass(byte[].class);
+        verify(controlPublisher).publish(eq("control/sensor/sensor-1"), payloadCaptor.capture(), eq(1));
+        return objectMapper.readValue(payloadCaptor.getValue(), new TypeReference<>() {});
+    }
+
     @BeforeEach
     void setUp() {
         AbnormalLog abnormalLog = AbnormalLog.builder()
@@ -68,22 +90,34 @@ class MqttPublishServiceTest {
     class Success {
 
         @Test
-        @DisplayName("정상적으로 MQTT 메시지가 발행된다")
+        @DisplayName("정상적으로 MQTT 메시지가 QoS 1 로 발행된다")
         void testPublishControlMessageSuccess() throws Exception {
             // given
-            String expectedJson = "{\"mock\":\"json\"}";
-            when(objectMapper.writeValueAsString(anyMap())).thenReturn(expectedJson);
+            when(controlPublisher.publish(anyString(), any(byte[].class), anyInt()))
+                .thenReturn(CompletableFuture.completedFuture(null));
 
             // when
-            mqttPublishService.publishControlMessage(controlLog);
+            CompletableFuture<Void> result = mqttPublishService.publishControlMessage(controlLog);
 
             // then
-            String expectedTopic = "control/sensor/sensor-1";
-            ArgumentCaptor<MqttMessage> messageCaptor = ArgumentCaptor.forClass(MqttMessage.class);
+            assertTrue(result.isDone() && !result.isCompletedExceptionally());
+            assertEquals(expectedPayload(controlLog), publishedPayload());
+        }
 
-            verify(mqttClient, times(1)).publish(eq(expectedTopic), messageCaptor.capture());
-            assertEquals(expectedJson, new String(messageCaptor.getValue().getPayload()));
-            assertEquals(1, messageCaptor.getValue().getQos());
+        @Test
+        @DisplayName("문자열의 따옴표·줄바꿈·null 도 올바른 JSON 으로 인코딩된다")
+        void testPayloadEscaping() throws Exception {
+            // given
+            controlLog.getAbnormalLog().setAbnormalType("과열 \"경고\"\n\\2차");
+            controlLog.setControlType(null);
+            when(controlPublisher.publish(anyString(), any(byte[].class), anyInt()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+            // when
+            mqttPublishService.publishControlMessage(controlLog);
+
+            // then
+            assertEquals(expectedPayload(controlLog), publishedPayload());
         }
     }
 
@@ -92,17 +126,17 @@ class MqttPublishServiceTest {
     class Failure {
 
         @Test
-        @DisplayName("JSON 직렬화 중 예외 발생 시 publish가 호출되지 않는다")
-        void testJsonSerializationFailure() throws Exception {
+        @DisplayName("브로커 발행 실패 시 반환된 future 가 예외로 완료된다")
+        void testPublishFailure() {
             // given
-            JsonProcessingException jsonException = new JsonProcessingException("직렬화 오류") {};
-            when(objectMapper.writeValueAsString(anyMap())).thenThrow(jsonException);
+            when(controlPublisher.publish(anyString(), any(byte[].class), anyInt()))
+                .thenReturn(CompletableFuture.failedFuture(new MqttException(MqttException.REASON_CODE_CLIENT_NOT_CONNECTED)));
 
             // when
-            mqttPublishService.publishControlMessage(controlLog);
+            CompletableFuture<Void> result = mqttPublishService.publishControlMessage(controlLog);
 
             // then
-            verify(mqttClient, never()).publish(anyString(), any(MqttMessage.class));
+            assertTrue(result.isCompletedExceptionally());
         }
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,5 @@
 package com.factoreal.backend.messaging.mqtt;
 
-import com.factoreal.backend.domain.sensor.application.SensorService;
 import com.factoreal.backend.domain.sensor.dto.request.SensorCreateRequest;
 import org.eclipse.paho.client.mqttv3.IMqttMessageListener;
 import org.eclipse.paho.client.mqttv3.MqttClient;
@@ -29,7 +28,7 @@ class MqttServiceTest {
     @Mock
     MqttClient mqtt;
     @Mock
-    SensorService sensorService;
+    ShadowRegistrationBuffer registrationBuffer;
     @InjectMocks
     MqttService mqttSvc;
 
@@ -59,7 +58,7 @@ class MqttServiceTest {
 
         ArgumentCaptor<SensorCreateRequest> cap = ArgumentCaptor.forClass(SensorCreateRequest.class);
         ArgumentCaptor<LocalDateTime> now = ArgumentCaptor.forClass(LocalDateTime.class);
-        verify(sensorService).saveSensor(cap.capture(),now.capture());
+        verify(registrationBuffer).offerSensor(cap.capture(),now.capture());
         SensorCreateRequest dto = cap.getValue();
 
         assertThat(dto.getEquipId()).isNull();
@@ -81,7 +80,7 @@ class MqttServiceTest {
 
         ArgumentCaptor<SensorCreateRequest> cap = ArgumentCaptor.forClass(SensorCreateRequest.class);
         ArgumentCaptor<LocalDateTime> now = ArgumentCaptor.forClass(LocalDateTime.class);
-        verify(sensorService).saveSensor(cap.capture(),now.capture());
+        verify(registrationBuffer).offerSensor(cap.capture(),now.capture());
         assertThat(cap.getValue().getIsZone()).isEqualTo(1);
     }
 
@@ -98,10 +97,10 @@ class MqttServiceTest {
 
         mqttSvc.IotShadowSubscription("Sensor");
 
-        verify(sensorService, never()).saveSensor(any(),any());
+        verify(registrationBuffer, never()).offerSensor(any(),any());
     }
 
-    /* ========== 4) saveSensor 중복 오류(DataIntegrityViolationException)도 안전 처리 ========== */
+    /* ========== 4) offerSensor 중복 오류(DataIntegrityViolationException)도 안전 처리 ========== */
     @Test
     void dataIntegrityViolation_is_caught() throws Exception {
         when(mqtt.isConnected()).thenReturn(true);
@@ -112,11 +111,11 @@ class MqttServiceTest {
         """;
         stubSubscribeWithPayload(payload);
 
-        doThrow(new DataIntegrityViolationException("dup")).when(sensorService).saveSensor(any(),any());
+        doThrow(new DataIntegrityViolationException("dup")).when(registrationBuffer).offerSensor(any(),any());
 
         // 예외가 밖으로 전파되지 않고 처리 되는지만 확인
         mqttSvc.IotShadowSubscription("Sensor");
-        verify(sensorService).saveSensor(any(),any());
+        verify(registrationBuffer).offerSensor(any(),any());
     }
 
     /* ========== 5) JSON 파싱 실패 등 일반 예외도 안전 처리 ========== */
@@ -130,7 +129,7 @@ class MqttServiceTest {
 
         mqttSvc.IotShadowSubscription("Sensor");
 
-        verify(sensorService, never()).saveSensor(any(),any());
+        verify(registrationBuffer, never()).offerSensor(any(),any());
     }
 
     /* ========== 6) 초기 미연결 상태면 reconnect 후 subscribe 재시도 ========== */
@@ -150,13 +149,13 @@ class MqttServiceTest {
         mqttSvc.IotShadowSubscription("Sensor");
 
         verify(mqtt).reconnect();          // 재연결 한 번 시도
-        verify(sensorService).saveSensor(any(),any());
+        verify(registrationBuffer).offerSensor(any(),any());
         /* 👁️ JSON 형태로 Dto출력 */
         ObjectMapper om = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
         System.out.println("=== mqtt DTO ===");
         System.out.println(om.writeValueAsString(mqtt));
     }
-    /* ========== 7) zoneId 가 null 이면 saveSensor() 호출 X ========== */
+    /* ========== 7) zoneId 가 null 이면 offerSensor() 호출 X ========== */
     @Test
     void zoneId_null_is_ignored() throws Exception {
         when(mqtt.isConnected()).thenReturn(true);
@@ -170,7 +169,7 @@ class MqttServiceTest {
 
         mqttSvc.IotShadowSubscription("Sensor");
 
-        verify(sensorService, never()).saveSensor(any(),any());
+        verify(registrationBuffer, never()).offerSensor(any(),any());
     }
 
     /* 인터럽트 플래그 초기화 */
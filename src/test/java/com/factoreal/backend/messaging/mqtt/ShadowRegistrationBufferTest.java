@@ -0,0 +1,156 @@
+package com.factoreal.backend.messaging.mqtt;
+
+import com.factoreal.backend.domain.sensor.application.SensorRepoService;
+import com.factoreal.backend.domain.sensor.dto.request.SensorCreateRequest;
+import com.factoreal.backend.domain.sensor.entity.Sensor;
+import com.factoreal.backend.domain.wearable.application.WearableRepoService;
+import com.factoreal.backend.domain.wearable.entity.Wearable;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+/**
+ * MQTT shadow 등록 버퍼 테스트 (중복 제거, 배치 저장, 메트릭)
+ */
+@ExtendWith(MockitoExtension.class)
+class ShadowRegistrationBufferTest {
+
+    @Mock
+    SensorRepoService sensorRepoService;
+    @Mock
+    WearableRepoService wearableRepoService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final LocalDateTime now = LocalDateTime.of(2025, 6, 13, 12, 0);
+    private ShadowRegistrationBuffer buffer;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ObjectProvider<MeterRegistry> provider = mock(ObjectProvider.class);
+        given(provider.getIfAvailable(any())).willReturn(meterRegistry);
+        // 자동 flush 없이 테스트에서 직접 호출
+        buffer = new ShadowRegistrationBuffer(sensorRepoService, wearableRepoService, provider, 0, 500);
+    }
+
+    @AfterEach
+    void tearDown() {
+        buffer.shutdown();
+    }
+
+    private SensorCreateRequest sensor(String sensorId) {
+        return new SensorCreateRequest(sensorId, "temp", "Z1", "Z1", null, null, 1);
+    }
+
+    private double count(String type, String result) {
+        var counter = meterRegistry.find("mqtt.shadow.registration").tag("type", type).tag("result", result).counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    @Test
+    @DisplayName("flush 전 같은 센서가 여러 번 오면 한 번만 배치로 저장")
+    void offerSensor_collapsesDuplicatesIntoOneBatch() {
+        given(sensorRepoService.findAllSensorIds()).willReturn(List.of());
+        given(wearableRepoService.findAllWearableIds()).willReturn(List.of());
+        given(sensorRepoService.insertAllIfAbsent(anyList())).willReturn(Set.of("S-1", "S-2"));
+
+        buffer.offerSensor(sensor("S-1"), now);
+        buffer.offerSensor(sensor("S-1"), now);
+        buffer.offerSensor(sensor("S-2"), now);
+        buffer.flush();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Sensor>> cap = ArgumentCaptor.forClass(List.class);
+        then(sensorRepoService).should(times(1)).insertAllIfAbsent(cap.capture());
+        assertThat(cap.getValue()).extracting(Sensor::getSensorId).containsExactlyInAnyOrder("S-1", "S-2");
+        assertThat(count("sensor", "registered")).isEqualTo(2.0);
+        assertThat(count("sensor", "duplicate")).isEqualTo(1.0);
+        assertThat(meterRegistry.get("mqtt.shadow.registration.latency").tag("type", "sensor").timer().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("이미 등록된 센서는 저장하지 않고 중복으로 집계")
+    void offerSensor_knownIdIsNotInserted() {
+        given(sensorRepoService.findAllSensorIds()).willReturn(List.of("S-1"));
+        given(wearableRepoService.findAllWearableIds()).willReturn(List.of());
+
+        buffer.offerSensor(sensor("S-1"), now);
+        buffer.flush();
+        // 적재 이후에는 flush 전에 바로 걸러짐
+        buffer.offerSensor(sensor("S-1"), now);
+        buffer.flush();
+
+        then(sensorRepoService).should(never()).insertAllIfAbsent(anyList());
+        then(sensorRepoService).should(times(1)).findAllSensorIds();
+        assertThat(count("sensor", "duplicate")).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("공간/설비가 없어 저장되지 않은 센서는 다음 요청 때 다시 시도")
+    void offerSensor_failedIdIsRetried() {
+        given(sensorRepoService.findAllSensorIds()).willReturn(List.of());
+        given(wearableRepoService.findAllWearableIds()).willReturn(List.of());
+        given(sensorRepoService.insertAllIfAbsent(anyList())).willReturn(Set.of(), Set.of("S-1"));
+
+        buffer.offerSensor(sensor("S-1"), now);
+        buffer.flush();
+        buffer.offerSensor(sensor("S-1"), now);
+        buffer.flush();
+
+        then(sensorRepoService).should(times(2)).insertAllIfAbsent(anyList());
+        assertThat(count("sensor", "failed")).isEqualTo(1.0);
+        assertThat(count("sensor", "registered")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("알 수 없는 센서 종류는 버퍼에 넣지 않고 실패로 집계")
+    void offerSensor_unknownTypeIsFailed() {
+        buffer.offerSensor(new SensorCreateRequest("S-9", "plasma", "Z1", "Z1", null, null, 1), now);
+        buffer.flush();
+
+        then(sensorRepoService).should(never()).insertAllIfAbsent(anyList());
+        assertThat(count("sensor", "failed")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("웨어러블도 중복 제거 후 한 번에 저장")
+    void offerWearable_batchesNewIds() {
+        given(sensorRepoService.findAllSensorIds()).willReturn(List.of());
+        given(wearableRepoService.findAllWearableIds()).willReturn(List.of("W-0"));
+
+        buffer.offerWearable("W-0", now);
+        buffer.offerWearable("W-1", now);
+        buffer.offerWearable("W-1", now);
+        buffer.flush();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Wearable>> cap = ArgumentCaptor.forClass(List.class);
+        then(wearableRepoService).should(times(1)).insertAllIfAbsent(cap.capture());
+        assertThat(cap.getValue()).extracting(Wearable::getWearableId).containsExactly("W-1");
+        assertThat(cap.getValue().get(0).getCreatedAt()).isEqualTo(now);
+        assertThat(count("wearable", "registered")).isEqualTo(1.0);
+        assertThat(count("wearable", "duplicate")).isEqualTo(2.0);
+    }
+}
@@ -5,7 +5,6 @@ import com.factoreal.backend.domain.abnormalLog.entity.AbnormalLog;
 import com.factoreal.backend.domain.controlLog.entity.ControlLog;
 import com.factoreal.backend.domain.zone.entity.Zone;
 import com.factoreal.backend.messaging.common.dto.SystemLogDto;
-import com.factoreal.backend.messaging.common.dto.ZoneDangerDto;
 import com.factoreal.backend.messaging.kafka.strategy.enums.AlarmEventResponse;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -22,6 +21,7 @@ import java.util.Map;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 class WebSocketSenderTest {
@@ -29,6 +29,9 @@ class WebSocketSenderTest {
     @Mock
     SimpMessagingTemplate messagingTemplate;
 
+    @Mock
+    ZoneDangerPushBuffer zoneDangerPushBuffer;
+
     @Mock
     AlarmEventResponse alarmEventResponse;
     @InjectMocks
@@ -44,14 +47,9 @@ class WebSocketSenderTest {
         // When
         webSocketSender.sendDangerLevel(zoneId, sensorType, level);
 
-        // Then
-        ArgumentCaptor<ZoneDangerDto> captor = ArgumentCaptor.forClass(ZoneDangerDto.class);
-        verify(messagingTemplate).convertAndSend(eq("/topic/zone"), captor.capture());
-        ZoneDangerDto capturedDto = captor.getValue();
-
-        assertEquals(zoneId,        capturedDto.getZoneId());
-        assertEquals(sensorType,    capturedDto.getSensorType());
-        assertEquals(level,         capturedDto.getLevel());
+        // Then: 바로 전송하지 않고 공간별 버퍼에 등록
+        verify(zoneDangerPushBuffer).offer(zoneId, sensorType, level);
+        verifyNoInteractions(messagingTemplate);
     }
 
 
@@ -0,0 +1,78 @@
+package com.factoreal.backend.messaging.sender;
+
+import com.factoreal.backend.messaging.common.dto.ZoneDangerDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class ZoneDangerPushBufferTest {
+
+    private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+
+    @Test
+    @DisplayName("한 프레임 안의 같은 공간 값은 마지막 값만 /topic/zone-batch 에 하나의 배치 메시지로 전송된다")
+    void coalescesLatestValuePerZone() {
+        ZoneDangerPushBuffer buffer = new ZoneDangerPushBuffer(messagingTemplate, 0, true);
+
+        buffer.offer("Z1", "temp", 1);
+        buffer.offer("Z1", "temp", 2);
+        buffer.offer("Z2", "humid", 1);
+        buffer.flush();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ZoneDangerDto>> captor = ArgumentCaptor.forClass(List.class);
+        verify(messagingTemplate, times(1)).convertAndSend(eq("/topic/zone-batch"), captor.capture());
+        verify(messagingTemplate, never()).convertAndSend(eq("/topic/zone"), any(Object.class));
+        assertThat(captor.getValue())
+                .extracting(ZoneDangerDto::getZoneId, ZoneDangerDto::getSensorType, ZoneDangerDto::getLevel)
+                .containsExactlyInAnyOrder(tuple("Z1", "temp", 2), tuple("Z2", "humid", 1));
+    }
+
+    @Test
+    @DisplayName("직전에 보낸 값과 같으면 전송하지 않는다")
+    void suppressesUnchangedValue() {
+        ZoneDangerPushBuffer buffer = new ZoneDangerPushBuffer(messagingTemplate, 0, true);
+        buffer.offer("Z1", "temp", 1);
+        buffer.flush();
+
+        buffer.offer("Z1", "temp", 1);
+        buffer.flush();
+
+        verify(messagingTemplate, times(1)).convertAndSend(anyString(), any(Object.class));
+    }
+
+    @Test
+    @DisplayName("batch 비활성화 시 공간별로 개별 메시지를 전송한다")
+    void sendsIndividualFramesWhenBatchDisabled() {
+        ZoneDangerPushBuffer buffer = new ZoneDangerPushBuffer(messagingTemplate, 0, false);
+        buffer.offer("Z1", "temp", 1);
+        buffer.offer("Z2", "humid", 2);
+
+        buffer.flush();
+
+        verify(messagingTemplate, times(2)).convertAndSend(eq("/topic/zone"), any(ZoneDangerDto.class));
+    }
+
+    @Test
+    @DisplayName("등록된 값이 없으면 전송하지 않는다")
+    void noSendWhenEmpty() {
+        ZoneDangerPushBuffer buffer = new ZoneDangerPushBuffer(messagingTemplate, 0, true);
+
+        buffer.flush();
+
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+    }
+}
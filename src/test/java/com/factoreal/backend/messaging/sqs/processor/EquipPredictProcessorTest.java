@@ -16,18 +16,19 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.http.ResponseEntity;
 import org.springframework.test.util.ReflectionTestUtils;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponentsBuilder;
 
 import java.io.IOException;
 import java.time.LocalDate;
 import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.times;
 
@@ -44,16 +45,15 @@ public class EquipPredictProcessorTest {
     @Mock
     EquipRepoService equipRepoService;
     @Mock
-    RestTemplate restTemplate;
+    EquipPredictionClient equipPredictionClient;
     @Mock
     SlackEquipAlarmService slackEquipAlarmService;
     @Mock
     EquipMaintenanceService equipMaintenanceService;
     @Mock
     AbnormalLogService abnormalLogService;
-
-    private final String baseUrl = "http://localhost:8000";
-    private final String endpoint = "/predict";
+    @Mock
+    Executor alarmExecutor;
 
     // Zone : 생산라인A, 설비 : 로봇 암 1호기
     private String zoneId = "20250507165750-827";
@@ -64,8 +64,12 @@ public class EquipPredictProcessorTest {
     @BeforeEach
     void setUp() {
         // (MockitoExtension 썼으면 openMocks 불필요)
-        ReflectionTestUtils.setField(processor, "fastApiBaseUrl", baseUrl);
-        ReflectionTestUtils.setField(processor, "predictEndpoint", endpoint);
+        ReflectionTestUtils.setField(processor, "dedupWindowMs", 30_000L);
+        // 알람 채널 executor 는 호출 스레드에서 바로 실행
+        lenient().doAnswer(inv -> {
+            inv.<Runnable>getArgument(0).run();
+            return null;
+        }).when(alarmExecutor).execute(any(Runnable.class));
 
         zone = Zone.builder().zoneId(zoneId).zoneName("생산 라인 A").build();
         equip = Equip.builder().equipId(equipId).equipName("로봇 암 1호기").zone(zone).build();
@@ -76,34 +80,25 @@ public class EquipPredictProcessorTest {
     void whenFastApiReturns_validPrediction_thenProcessAndAlertAndLog() throws IOException {
         // given
         // 🚩 각 테스트 안에서만 필요한 스텁을 선언
-        given(zoneRepoService.findById(zoneId)).willReturn(zone);
-        given(equipRepoService.findById(equipId)).willReturn(equip);
+        given(zoneRepoService.findCachedById(zoneId)).willReturn(zone);
+        given(equipRepoService.findCachedById(equipId)).willReturn(equip);
 
         MaintenancePredictionResponse apiResp = new MaintenancePredictionResponse();
         apiResp.setStatus("ok");
         apiResp.setPredictions(Collections.singletonList(4.0));
 
-        given(zoneRepoService.findById(zoneId)).willReturn(zone);
-        given(equipRepoService.findById(equipId)).willReturn(equip);
-        String expectedUrl = UriComponentsBuilder
-                .fromUriString(baseUrl)
-                .path(endpoint)
-                .queryParam("equipId", equipId)
-                .queryParam("zoneId", zoneId)
-                .toUriString();
-
-        given(restTemplate.getForEntity(eq(expectedUrl),
-                eq(MaintenancePredictionResponse.class)))
-                .willReturn(ResponseEntity.ok(apiResp));
+        given(equipPredictionClient.predict(zoneId, equipId))
+                .willReturn(CompletableFuture.completedFuture(apiResp));
         given(equipMaintenanceService.calculateExpectedMaintenanceDate(4))
                 .willReturn(LocalDate.now().plusDays(4));
         given(slackEquipAlarmService.getDaysUntilMaintenance(any())).willReturn(4L);
         given(slackEquipAlarmService.shouldSendAlert(any())).willReturn(true);
 
         // when
-        processor.equipPredProcess(zoneId, equipId);
+        processor.equipPredProcess(zoneId, equipId).join();
 
         // then
+        then(alarmExecutor).should(times(1)).execute(any(Runnable.class)); // 결과 처리는 알람 채널에서 실행
         then(equipMaintenanceService).should(times(1))
                 .processMaintenancePrediction(eq(equipId), any(LocalDate.class));
         then(slackEquipAlarmService).should(times(1))
@@ -120,13 +115,13 @@ public class EquipPredictProcessorTest {
         apiResp.setStatus("ok");
         apiResp.setPredictions(Collections.emptyList());
 
-        given(zoneRepoService.findById(zoneId)).willReturn(zone);
-        given(equipRepoService.findById(equipId)).willReturn(equip);
-        given(restTemplate.getForEntity(anyString(), eq(MaintenancePredictionResponse.class)))
-                .willReturn(ResponseEntity.ok(apiResp));
+        given(zoneRepoService.findCachedById(zoneId)).willReturn(zone);
+        given(equipRepoService.findCachedById(equipId)).willReturn(equip);
+        given(equipPredictionClient.predict(anyString(), anyString()))
+                .willReturn(CompletableFuture.completedFuture(apiResp));
 
         // when
-        processor.equipPredProcess(zoneId, equipId);
+        processor.equipPredProcess(zoneId, equipId).join();
 
         // then
         then(equipMaintenanceService).shouldHaveNoInteractions();
@@ -138,14 +133,14 @@ public class EquipPredictProcessorTest {
     @DisplayName("존재하지 않는 zone/equip 들어오면 로그만 남기고 리턴")
     void whenInvalidZoneOrEquip_thenSkipSilently() {
         // given: zone 조회만 실패하게 override
-        given(zoneRepoService.findById(zoneId))
+        given(zoneRepoService.findCachedById(zoneId))
                 .willThrow(new RuntimeException("not found"));
 
         // when
-        processor.equipPredProcess(zoneId, equipId);
+        processor.equipPredProcess(zoneId, equipId).join();
 
         // then: 아무 interaction 도 없어야 함
-        then(restTemplate).shouldHaveNoInteractions();
+        then(equipPredictionClient).shouldHaveNoInteractions();
         then(equipMaintenanceService).shouldHaveNoInteractions();
         then(slackEquipAlarmService).shouldHaveNoInteractions();
         then(abnormalLogService).shouldHaveNoInteractions();
@@ -159,17 +154,10 @@ public class EquipPredictProcessorTest {
         apiResp.setStatus("ok");
         apiResp.setPredictions(Collections.singletonList(2.0));  // remainDays = 2
 
-        given(zoneRepoService.findById(zoneId)).willReturn(zone);
-        given(equipRepoService.findById(equipId)).willReturn(equip);
-
-        String expectedUrl = UriComponentsBuilder
-                .fromUriString(baseUrl)
-                .path(endpoint)
-                .queryParam("equipId", equipId)
-                .queryParam("zoneId", zoneId)
-                .toUriString();
-        given(restTemplate.getForEntity(eq(expectedUrl), eq(MaintenancePredictionResponse.class)))
-                .willReturn(ResponseEntity.ok(apiResp));
+        given(zoneRepoService.findCachedById(zoneId)).willReturn(zone);
+        given(equipRepoService.findCachedById(equipId)).willReturn(equip);
+        given(equipPredictionClient.predict(zoneId, equipId))
+                .willReturn(CompletableFuture.completedFuture(apiResp));
 
         // calculateExpectedMaintenanceDate, getDaysUntilMaintenance, shouldSendAlert 동작도 모킹
         LocalDate predictedDate = LocalDate.now().plusDays(2);
@@ -181,7 +169,7 @@ public class EquipPredictProcessorTest {
                 .willReturn(true);
 
         // when
-        processor.equipPredProcess(zoneId, equipId);
+        processor.equipPredProcess(zoneId, equipId).join();
 
         // then
         // 1) processMaintenancePrediction 호출
@@ -197,4 +185,76 @@ public class EquipPredictProcessorTest {
         then(abnormalLogService).should().saveEquipAbnormalLog(eq(zone), eq(equip), eq(2), eq(2));
     }
 
+    @Test
+    @DisplayName("같은 설비 요청이 dedup 창 안에 다시 들어오면 예측을 한 번만 호출")
+    void whenDuplicateRequestsWithinWindow_thenPredictOnce() throws IOException {
+        // given
+        MaintenancePredictionResponse apiResp = new MaintenancePredictionResponse();
+        apiResp.setStatus("ok");
+        apiResp.setPredictions(Collections.singletonList(10.0));
+        CompletableFuture<MaintenancePredictionResponse> pending = new CompletableFuture<>();
+
+        given(zoneRepoService.findCachedById(zoneId)).willReturn(zone);
+        given(equipRepoService.findCachedById(equipId)).willReturn(equip);
+        given(equipPredictionClient.predict(zoneId, equipId)).willReturn(pending);
+        given(equipMaintenanceService.calculateExpectedMaintenanceDate(10))
+                .willReturn(LocalDate.now().plusDays(10));
+        given(slackEquipAlarmService.shouldSendAlert(any())).willReturn(false);
+
+        // when : 진행 중 요청 + 완료 후 창 안의 요청
+        CompletableFuture<Void> first = processor.equipPredProcess(zoneId, equipId);
+        CompletableFuture<Void> second = processor.equipPredProcess(zoneId, equipId);
+        pending.complete(apiResp);
+        first.join();
+        CompletableFuture<Void> third = processor.equipPredProcess(zoneId, equipId);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(third).isSameAs(first);
+        then(equipPredictionClient).should(times(1)).predict(zoneId, equipId);
+        then(equipMaintenanceService).should(times(1))
+                .processMaintenancePrediction(eq(equipId), any(LocalDate.class));
+        then(abnormalLogService).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("dedup 창이 지나면 다시 예측")
+    void whenWindowElapsed_thenPredictAgain() {
+        // given
+        ReflectionTestUtils.setField(processor, "dedupWindowMs", 0L);
+        MaintenancePredictionResponse apiResp = new MaintenancePredictionResponse();
+        apiResp.setStatus("ok");
+        apiResp.setPredictions(Collections.emptyList());
+
+        given(zoneRepoService.findCachedById(zoneId)).willReturn(zone);
+        given(equipRepoService.findCachedById(equipId)).willReturn(equip);
+        given(equipPredictionClient.predict(zoneId, equipId))
+                .willReturn(CompletableFuture.completedFuture(apiResp));
+
+        // when
+        processor.equipPredProcess(zoneId, equipId).join();
+        processor.equipPredProcess(zoneId, equipId).join();
+
+        // then
+        then(equipPredictionClient).should(times(2)).predict(zoneId, equipId);
+    }
+
+    @Test
+    @DisplayName("예측 호출이 실패해도 예외 없이 완료")
+    void whenPredictionFails_thenCompleteWithoutSideEffects() {
+        // given
+        given(zoneRepoService.findCachedById(zoneId)).willReturn(zone);
+        given(equipRepoService.findCachedById(equipId)).willReturn(equip);
+        given(equipPredictionClient.predict(zoneId, equipId))
+                .willReturn(CompletableFuture.failedFuture(new IllegalStateException("timeout")));
+
+        // when
+        processor.equipPredProcess(zoneId, equipId).join();
+
+        // then
+        then(equipMaintenanceService).shouldHaveNoInteractions();
+        then(slackEquipAlarmService).shouldHaveNoInteractions();
+        then(abnormalLogService).shouldHaveNoInteractions();
+    }
+
 }
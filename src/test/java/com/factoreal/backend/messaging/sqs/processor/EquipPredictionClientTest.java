@@ -0,0 +1,107 @@
+package com.factoreal.backend.messaging.sqs.processor;
+
+import com.factoreal.backend.domain.equip.dto.response.MaintenancePredictionResponse;
+import com.factoreal.backend.global.config.http.CircuitOpenException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+/**
+ * FastAPI 예측 클라이언트 재시도 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class EquipPredictionClientTest {
+
+    @Mock
+    RestTemplate restTemplate;
+
+    private EquipPredictionClient client;
+
+    private final String url = "http://localhost:8000/predict?equipId=equip-1&zoneId=zone-1";
+
+    @BeforeEach
+    void setUp() {
+        client = new EquipPredictionClient(restTemplate, "http://localhost:8000", "/predict", 2, 10, 3, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.shutdown();
+    }
+
+    private MaintenancePredictionResponse response(double remainDays) {
+        MaintenancePredictionResponse resp = new MaintenancePredictionResponse();
+        resp.setStatus("ok");
+        resp.setPredictions(List.of(remainDays));
+        return resp;
+    }
+
+    @Test
+    @DisplayName("연결 실패·5xx 는 재시도 후 성공 응답 반환")
+    void predict_retriesTransientFailures() {
+        given(restTemplate.getForEntity(eq(url), eq(MaintenancePredictionResponse.class)))
+                .willThrow(new ResourceAccessException("read timed out"))
+                .willThrow(new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE))
+                .willReturn(ResponseEntity.ok(response(4.0)));
+
+        MaintenancePredictionResponse resp = client.predict("zone-1", "equip-1").join();
+
+        assertThat(resp.getPredictions()).containsExactly(4.0);
+        then(restTemplate).should(times(3)).getForEntity(url, MaintenancePredictionResponse.class);
+    }
+
+    @Test
+    @DisplayName("4xx 는 재시도하지 않고 실패")
+    void predict_doesNotRetryClientError() {
+        given(restTemplate.getForEntity(anyString(), eq(MaintenancePredictionResponse.class)))
+                .willThrow(new HttpClientErrorException(HttpStatus.BAD_REQUEST));
+
+        assertThatThrownBy(() -> client.predict("zone-1", "equip-1").join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(HttpClientErrorException.class);
+        then(restTemplate).should(times(1)).getForEntity(anyString(), eq(MaintenancePredictionResponse.class));
+    }
+
+    @Test
+    @DisplayName("max-attempts 까지 실패하면 마지막 오류로 실패")
+    void predict_failsAfterMaxAttempts() {
+        given(restTemplate.getForEntity(anyString(), eq(MaintenancePredictionResponse.class)))
+                .willThrow(new ResourceAccessException("connection refused"));
+
+        assertThatThrownBy(() -> client.predict("zone-1", "equip-1").join())
+                .hasCauseInstanceOf(ResourceAccessException.class);
+        then(restTemplate).should(times(3)).getForEntity(anyString(), eq(MaintenancePredictionResponse.class));
+    }
+
+    @Test
+    @DisplayName("circuit open 이면 재시도하지 않고 실패")
+    void predict_doesNotRetryWhenCircuitOpen() {
+        given(restTemplate.getForEntity(anyString(), eq(MaintenancePredictionResponse.class)))
+                .willThrow(new ResourceAccessException("circuit open", new CircuitOpenException("fastapi")));
+
+        assertThatThrownBy(() -> client.predict("zone-1", "equip-1").join())
+                .hasCauseInstanceOf(ResourceAccessException.class);
+        then(restTemplate).should(times(1)).getForEntity(anyString(), eq(MaintenancePredictionResponse.class));
+    }
+}